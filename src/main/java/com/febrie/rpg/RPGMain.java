@@ -8,10 +8,15 @@ import com.febrie.rpg.command.social.WhisperCommand;
 import com.febrie.rpg.command.system.MainMenuCommand;
 import com.febrie.rpg.command.system.SiteAccountCommand;
 import com.febrie.rpg.database.FirestoreManager;
+import com.febrie.rpg.database.cache.LocalDocumentStore;
+import com.febrie.rpg.database.journal.JournalReplayer;
+import com.febrie.rpg.database.journal.WriteAheadJournal;
 import com.febrie.rpg.database.service.impl.IslandFirestoreService;
 import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
 import com.febrie.rpg.database.service.impl.PlayerIslandDataService;
 import com.febrie.rpg.database.service.impl.QuestFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.economy.CurrencyLedger;
 import com.febrie.rpg.gui.listener.GuiListener;
 import com.febrie.rpg.gui.manager.GuiManager;
 import com.febrie.rpg.island.listener.IslandProtectionListener;
@@ -153,9 +158,18 @@ public final class RPGMain extends JavaPlugin {
             islandManager.clearCache();
         }
 
+        // 재화 원장 종료 (플레이어 저장 후 남은 항목 정산, 저널 종료 전)
+        CurrencyLedger.shutdown();
+
+        // 로컬 저널 종료 (플레이어 / 퀘스트 저장 확인 후)
+        WriteAheadJournal.shutdown();
+
+        // 로컬 문서 캐시 종료 (종료 저장 결과 기록 후)
+        LocalDocumentStore.shutdown();
+
         // Firestore 서비스들은 별도 정리 불필요 (GenericFirestoreService 사용)
 
-        // Firebase 종료
+        // 저장소 종료 (Firestore 연결 / 내장 저장소 파일)
         if (firestoreManager != null) {
             firestoreManager.shutdown();
         }
@@ -174,21 +188,33 @@ public final class RPGMain extends JavaPlugin {
         // GUI 시스템 초기화
         this.guiManager = new GuiManager(this);
 
-        // Firestore 초기화
+        // 저장소 초기화 (config.yml의 data.storage.backend - Firestore 또는 내장 저장소)
         this.firestoreManager = new FirestoreManager(this);
-        if (!firestoreManager.initialize()) {
-            LogUtil.error("Firestore 초기화 실패! 일부 기능이 제한될 수 있습니다.");
-            // Firestore 없이도 서버가 실행되도록 계속 진행
-        } else {
-            // Firestore 서비스 초기화
-            if (firestoreManager.getFirestore() != null) {
-                this.playerFirestoreService = new PlayerFirestoreService(this, firestoreManager.getFirestore());
-                this.questFirestoreService = new QuestFirestoreService(this, firestoreManager.getFirestore());
-                this.islandFirestoreService = new IslandFirestoreService(this, firestoreManager.getFirestore());
-                this.playerIslandDataService = new PlayerIslandDataService(this, firestoreManager.getFirestore());
-            }
+        // 실패해도 서버는 계속 실행 (FirestoreManager가 저장 비활성화를 경고)
+        firestoreManager.initialize();
+
+        // 저장소 서비스 초기화
+        DocumentStorage storage = firestoreManager.getStorage();
+        if (storage != null) {
+            this.playerFirestoreService = new PlayerFirestoreService(this, storage);
+            this.questFirestoreService = new QuestFirestoreService(this, storage);
+            this.islandFirestoreService = new IslandFirestoreService(this, storage);
+            this.playerIslandDataService = new PlayerIslandDataService(this, storage);
+        }
+
+        // 로컬 저널 초기화 및 이전 실행에서 반영되지 않은 변경 재적용 (플레이어 데이터 로드 전)
+        if (WriteAheadJournal.initialize(this) && storage != null) {
+            JournalReplayer.replay(storage);
         }
 
+        // 로컬 문서 캐시 초기화 (섬 사전 로드 / 플레이어 데이터 로드 전, Firestore 백엔드일 때만)
+        if (getFirestore() != null) {
+            LocalDocumentStore.initialize(this);
+        }
+
+        // 재화 원장 초기화 (저널 재적용 후, 플레이어 데이터 로드 전)
+        CurrencyLedger.initialize(this, storage);
+
         // 매니저 초기화
         this.rpgPlayerManager = RPGPlayerManager.create(this, playerFirestoreService);
         this.talentManager = new TalentManager(this);
@@ -256,6 +282,12 @@ public final class RPGMain extends JavaPlugin {
         getServer().getPluginManager()
                 .registerEvents(new QuestEventListener(this), this);
 
+        // 퀘스트 진행도 틱 버퍼 등록 (틱이 끝날 때 누적된 진행도 반영)
+        if (QuestManager.isInitialized()) {
+            getServer().getPluginManager()
+                    .registerEvents(QuestManager.getInstance().getProgressService().getProgressBuffer(), this);
+        }
+
         // 퀘스트 Trait 등록 아이템 리스너 등록
         getServer().getPluginManager()
                 .registerEvents(new QuestTraitRegistrationItem(this), this);
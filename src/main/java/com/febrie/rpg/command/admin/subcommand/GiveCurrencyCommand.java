@@ -108,7 +108,7 @@ public class GiveCurrencyCommand implements SubCommand {
         }
         
         // 재화 추가
-        boolean success = rpgPlayer.getWallet().add(currency, amount);
+        boolean success = rpgPlayer.getWallet().add(currency, amount, "admin_give");
         
         if (success) {
             sender.sendMessage(UnifiedColorUtil.parse(String.format(
@@ -1,6 +1,7 @@
 package com.febrie.rpg.command.system;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.FirestoreIoExecutor;
 import com.febrie.rpg.database.FirestoreManager;
 import com.febrie.rpg.util.UnifiedColorUtil;
 import com.febrie.rpg.util.FirestoreUtils;
@@ -60,6 +61,8 @@ public class SiteAccountCommand implements CommandExecutor {
 
     // HTTP 클라이언트
     private final HttpClient httpClient;
+    // 블로킹 HTTP / Firestore 호출 실행기
+    private final FirestoreIoExecutor.Channel io;
     private final Gson gson;
 
     // 비밀번호 생성용
@@ -72,6 +75,7 @@ public class SiteAccountCommand implements CommandExecutor {
 
     public SiteAccountCommand(@NotNull RPGMain plugin) {
         this.plugin = plugin;
+        this.io = plugin.getFirestoreManager().getIoExecutor().channel("SiteAccount");
         this.httpClient = HttpClient.newBuilder()
                 .connectTimeout(Duration.ofSeconds(10))
                 .build();
@@ -133,7 +137,7 @@ public class SiteAccountCommand implements CommandExecutor {
         player.sendMessage(Component.translatable("commands.siteaccount.processing"));
 
         // 비동기로 계정 생성 처리
-        CompletableFuture.runAsync(() -> {
+        io.runAsync(() -> {
             try {
                 // 환경 변수 확인
                 String apiKey = System.getenv(ENV_WEB_API_KEY);
@@ -274,7 +278,7 @@ public class SiteAccountCommand implements CommandExecutor {
      * 사이트 계정 존재 여부 확인
      */
     private CompletableFuture<Boolean> checkSiteAccountExists(String uuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return io.supplyAsync(() -> {
             try {
                 // Firestore 직접 접근
                 FirestoreManager firestoreManager = plugin.getFirestoreManager();
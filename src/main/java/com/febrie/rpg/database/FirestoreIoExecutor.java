@@ -0,0 +1,239 @@
+package com.febrie.rpg.database;
+
+import com.febrie.rpg.util.LogUtil;
+import com.google.api.core.ApiFuture;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Firestore 블로킹 I/O 전용 실행기
+ * ApiFuture.get() 등 네트워크 대기가 공용 ForkJoin 풀을 점유하지 않도록 가상 스레드에서 실행
+ * - 서비스별 채널({@link Channel})을 통해 작업을 제출하며, 채널마다 진행 중인 작업 수와 소요 시간 분포를 기록
+ * - 가상 스레드는 작업마다 새로 만들어지므로 대기열 없이 바로 시작되고, 소요 시간이 곧 I/O 대기 시간
+ *
+ * @author Febrie
+ */
+public final class FirestoreIoExecutor {
+
+    /**
+     * 서비스별 I/O 통계
+     *
+     * @param service   서비스 이름
+     * @param inFlight  진행 중인 작업 수
+     * @param completed 완료된 작업 수
+     * @param failed    예외로 끝난 작업 수
+     * @param averageMs 평균 소요 시간 (밀리초)
+     * @param p99Ms     99번째 백분위 소요 시간 (구간 상한, 밀리초)
+     * @param maxMs     최대 소요 시간 (밀리초)
+     */
+    public record IoStats(@NotNull String service, int inFlight, long completed, long failed,
+                          long averageMs, long p99Ms, long maxMs) {
+    }
+
+    // 소요 시간 구간 상한 (밀리초, 마지막 구간은 그 이상 전부)
+    private static final long[] LATENCY_BUCKETS_MS = {5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("RPG-Firestore-IO-", 0).factory());
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * 서비스 채널 가져오기 (같은 이름이면 같은 채널과 통계를 공유)
+     */
+    @NotNull
+    public Channel channel(@NotNull String service) {
+        return channels.computeIfAbsent(service, Channel::new);
+    }
+
+    /**
+     * 모든 서비스 통계 (서비스 이름 순)
+     */
+    @NotNull
+    public List<IoStats> getStats() {
+        List<IoStats> stats = new ArrayList<>();
+        for (Channel channel : channels.values()) {
+            stats.add(channel.getStats());
+        }
+        stats.sort((a, b) -> a.service().compareTo(b.service()));
+        return stats;
+    }
+
+    /**
+     * 실행기 종료 (진행 중인 작업은 제한 시간까지 기다림)
+     */
+    public void shutdown(long timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                LogUtil.warning("Firestore I/O 작업이 제한 시간 내에 끝나지 않아 중단합니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        for (IoStats stats : getStats()) {
+            if (stats.completed() + stats.failed() > 0) {
+                LogUtil.info(String.format("Firestore I/O [%s] 완료: %d, 실패: %d, 평균: %dms, p99: %dms, 최대: %dms",
+                        stats.service(), stats.completed(), stats.failed(),
+                        stats.averageMs(), stats.p99Ms(), stats.maxMs()));
+            }
+        }
+    }
+
+    /**
+     * 서비스별 작업 제출 채널
+     * Executor로도 사용할 수 있어 CompletableFuture 조합 시 그대로 넘길 수 있음
+     */
+    public final class Channel implements Executor {
+        private final String service;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder[] buckets = new LongAdder[LATENCY_BUCKETS_MS.length + 1];
+
+        private Channel(@NotNull String service) {
+            this.service = service;
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        /**
+         * 값을 반환하는 블로킹 작업 실행
+         */
+        @NotNull
+        public <T> CompletableFuture<T> supplyAsync(@NotNull Supplier<T> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            inFlight.incrementAndGet();
+            try {
+                executor.execute(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        T value = task.get();
+                        record(System.nanoTime() - start, true);
+                        result.complete(value);
+                    } catch (Throwable t) {
+                        record(System.nanoTime() - start, false);
+                        result.completeExceptionally(t);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 후 제출된 작업
+                inFlight.decrementAndGet();
+                result.completeExceptionally(e);
+            }
+            return result;
+        }
+
+        /**
+         * 반환값이 없는 블로킹 작업 실행
+         */
+        @NotNull
+        public CompletableFuture<Void> runAsync(@NotNull Runnable task) {
+            return supplyAsync(() -> {
+                task.run();
+                return null;
+            });
+        }
+
+        @Override
+        public void execute(@NotNull Runnable command) {
+            runAsync(command);
+        }
+
+        /**
+         * ApiFuture를 CompletableFuture로 변환 (스레드를 점유하지 않음)
+         * ApiFuture가 완료된 스레드에서 바로 완료되므로 이어지는 작업은 가볍게 유지해야 함
+         * 실패 시 ExecutionException을 벗긴 원인 예외로 완료
+         */
+        @NotNull
+        public <T> CompletableFuture<T> bridge(@NotNull ApiFuture<T> future) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            inFlight.incrementAndGet();
+            long start = System.nanoTime();
+            future.addListener(() -> {
+                try {
+                    T value = future.get();
+                    record(System.nanoTime() - start, true);
+                    result.complete(value);
+                } catch (ExecutionException e) {
+                    record(System.nanoTime() - start, false);
+                    result.completeExceptionally(e.getCause() != null ? e.getCause() : e);
+                } catch (Exception e) {
+                    record(System.nanoTime() - start, false);
+                    result.completeExceptionally(e);
+                }
+            }, Runnable::run);
+            return result;
+        }
+
+        /**
+         * 실행기를 거치지 않는 비동기 호출(ApiFuture) 기록
+         * 완료 즉시 호출되는 리스너에서 기록하므로 메인 스레드 대기 시간은 포함되지 않음
+         */
+        @NotNull
+        public <T> ApiFuture<T> track(@NotNull ApiFuture<T> future) {
+            bridge(future);
+            return future;
+        }
+
+        private void record(long elapsedNanos, boolean success) {
+            inFlight.decrementAndGet();
+            (success ? completed : failed).increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            int bucket = 0;
+            while (bucket < LATENCY_BUCKETS_MS.length && elapsedMs > LATENCY_BUCKETS_MS[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+        }
+
+        /**
+         * 채널 통계 (실패 수는 작업 밖으로 던져진 예외만 포함)
+         */
+        @NotNull
+        public IoStats getStats() {
+            long done = completed.sum();
+            long errors = failed.sum();
+            long total = done + errors;
+            long averageMs = total > 0 ? TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / total) : 0L;
+            long maxMs = TimeUnit.NANOSECONDS.toMillis(maxNanos.get());
+            return new IoStats(service, inFlight.get(), done, errors, averageMs, percentile(total, 0.99, maxMs), maxMs);
+        }
+
+        private long percentile(long total, double fraction, long maxMs) {
+            if (total == 0) return 0L;
+            long target = (long) Math.ceil(total * fraction);
+            long seen = 0;
+            for (int i = 0; i < LATENCY_BUCKETS_MS.length; i++) {
+                seen += buckets[i].sum();
+                if (seen >= target) {
+                    return Math.min(LATENCY_BUCKETS_MS[i], maxMs);
+                }
+            }
+            return maxMs;
+        }
+    }
+}
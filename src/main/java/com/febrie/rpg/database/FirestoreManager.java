@@ -1,6 +1,11 @@
 package com.febrie.rpg.database;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.EmbeddedDocumentStorage;
+import com.febrie.rpg.database.storage.FirestoreDocumentStorage;
+import com.febrie.rpg.database.storage.StorageBackend;
 import com.febrie.rpg.util.LogUtil;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.cloud.firestore.Firestore;
@@ -9,11 +14,13 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.nio.charset.StandardCharsets;
 
 /**
  * Firestore 초기화 및 관리자
- * Google Cloud Firestore 직접 연결
+ * config.yml의 data.storage.backend에 따라 Google Cloud Firestore에 직접 연결하거나 내장 저장소를 열어
+ * 서비스 계층이 사용하는 {@link DocumentStorage}를 제공
  *
  * @author Febrie, CoffeeTory
  */
@@ -21,7 +28,11 @@ public class FirestoreManager {
 
     private final RPGMain plugin;
     private Firestore firestore;
+    private DocumentStorage storage;
+    private StorageBackend backend = StorageBackend.FIRESTORE;
     private boolean initialized = false;
+    // 블로킹 Firestore 호출 전용 실행기 (모든 Firestore 서비스가 공유)
+    private final FirestoreIoExecutor ioExecutor = new FirestoreIoExecutor();
 
     // 환경 변수 키
     private static final String ENV_SERVICE_ACCOUNT_BASE64 = "FIREBASE_PRIVATE_KEY";  // Base64 인코딩된 JSON
@@ -31,7 +42,7 @@ public class FirestoreManager {
     }
 
     /**
-     * Firestore 초기화
+     * 저장소 초기화 (실패하면 저장소 없이 계속 - 서비스가 생성되지 않아 데이터가 저장되지 않음)
      *
      * @return 초기화 성공 여부
      */
@@ -41,6 +52,46 @@ public class FirestoreManager {
             return true;
         }
 
+        String backendId = plugin.getConfig().getString("data.storage.backend", StorageBackend.FIRESTORE.getId());
+        StorageBackend selected = StorageBackend.fromId(backendId);
+        if (selected == null) {
+            LogUtil.warning("알 수 없는 저장소 백엔드: " + backendId + " (firestore 사용)");
+            selected = StorageBackend.FIRESTORE;
+        }
+        backend = selected;
+
+        boolean success = backend == StorageBackend.EMBEDDED ? initializeEmbedded() : initializeFirestore();
+        if (!success) {
+            LogUtil.severe("저장소 초기화 실패! 플레이어 / 퀘스트 / 섬 데이터가 저장되지 않습니다. "
+                    + "Firestore 없이 실행하려면 config.yml의 data.storage.backend를 embedded로 설정하세요.");
+        }
+        return success;
+    }
+
+    /**
+     * 내장 저장소 열기 (플러그인 폴더의 storage 디렉터리)
+     */
+    private boolean initializeEmbedded() {
+        long segmentSizeMb = Math.max(1L, plugin.getConfig().getLong("data.storage.embedded.segment-size-mb",
+                DatabaseConstants.EMBEDDED_STORAGE_SEGMENT_SIZE_MB));
+        boolean syncWrites = plugin.getConfig().getBoolean("data.storage.embedded.sync-writes", true);
+
+        try {
+            storage = EmbeddedDocumentStorage.open(new File(plugin.getDataFolder(), "storage").toPath(),
+                    segmentSizeMb * 1024L * 1024L, syncWrites);
+            initialized = true;
+            LogUtil.info("내장 저장소가 성공적으로 초기화되었습니다. (Firestore 사용 안 함)");
+            return true;
+        } catch (Exception e) {
+            LogUtil.error("내장 저장소 초기화 실패", e);
+            return false;
+        }
+    }
+
+    /**
+     * Firestore 연결
+     */
+    private boolean initializeFirestore() {
         try {
             // 환경 변수에서 인증 정보 가져오기
             GoogleCredentials credentials = getCredentials();
@@ -56,6 +107,7 @@ public class FirestoreManager {
 
             // Firestore 인스턴스 생성
             firestore = options.getService();
+            storage = new FirestoreDocumentStorage(firestore, ioExecutor);
 
             initialized = true;
             LogUtil.info("Firestore가 성공적으로 초기화되었습니다.");
@@ -106,10 +158,13 @@ public class FirestoreManager {
     }
 
     /**
-     * Firestore 인스턴스 가져오기
+     * Firestore 인스턴스 가져오기 (내장 저장소 사용 시 null)
      */
     @Nullable
     public Firestore getFirestore() {
+        if (backend == StorageBackend.EMBEDDED) {
+            return null;
+        }
         if (!initialized || firestore == null) {
             LogUtil.error("Firestore가 초기화되지 않았습니다.");
             return null;
@@ -117,6 +172,30 @@ public class FirestoreManager {
         return firestore;
     }
 
+    /**
+     * 문서 저장소 가져오기 (초기화 실패 시 null)
+     */
+    @Nullable
+    public DocumentStorage getStorage() {
+        return initialized ? storage : null;
+    }
+
+    /**
+     * 설정된 저장소 백엔드
+     */
+    @NotNull
+    public StorageBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Firestore I/O 실행기 가져오기
+     */
+    @NotNull
+    public FirestoreIoExecutor getIoExecutor() {
+        return ioExecutor;
+    }
+
     /**
      * 초기화 여부 확인
      */
@@ -128,6 +207,13 @@ public class FirestoreManager {
      * Firestore 종료
      */
     public void shutdown() {
+        // 진행 중인 I/O가 끝난 뒤 연결 종료
+        ioExecutor.shutdown(DatabaseConstants.IO_SHUTDOWN_TIMEOUT_SECONDS);
+
+        if (storage != null) {
+            storage.close();
+        }
+
         if (firestore != null) {
             try {
                 firestore.close();
@@ -138,5 +224,6 @@ public class FirestoreManager {
         }
         initialized = false;
         firestore = null;
+        storage = null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,662 @@
+package com.febrie.rpg.database.cache;
+
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.FirestoreIoExecutor;
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.database.helper.DocumentCodec;
+import com.febrie.rpg.util.LogUtil;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldMask;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.QueryDocumentSnapshot;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 로컬 문서 캐시 (L2)
+ * Firestore에서 읽거나 이 서버가 전체 내용을 알고 기록한 문서를 Firestore 수정 시각(updateTime)과 함께
+ * 메모리 매핑된 세그먼트 파일에 보관하여, 재시작 직후 접속 / 섬 사전 로드 시 문서 본문을 네트워크로 다시 받지 않도록 함
+ * - 로컬 사본은 필드 없는 조회(문서 이름과 수정 시각만)로 수정 시각이 같은지 확인한 뒤에만 사용
+ *   (다르거나 삭제되었으면 그 문서만 전체 조회) - 다른 경로의 쓰기는 수정 시각이 바뀌므로 따로 무효화할 필요 없음
+ * - 최대 보관 시간이 지난 사본은 사용하지 않음
+ * - Firestore 조회는 I/O 실행기 채널(LocalDocumentStore)을 거쳐 I/O 통계에 포함
+ * - 세그먼트는 추가 전용이며, 세그먼트 수 상한을 넘으면 가장 오래된 세그먼트를 통째로 버림 (캐시이므로 유실 허용)
+ * <p>
+ * 세그먼트 형식: [int 매직][int 버전] 다음에 레코드 반복 (길이 0이면 끝)
+ * 레코드: [int 본문 길이][int CRC32][본문]
+ * 본문: [byte 종류][UTF 컬렉션][UTF 문서 ID][long 수정 초][int 수정 나노][long 보관 시각][값 (PUT만, {@link DocumentCodec})]
+ *
+ * @author Febrie
+ */
+public final class LocalDocumentStore {
+
+    /**
+     * 캐시 통계
+     *
+     * @param documents 보관 중인 문서 수
+     * @param segments  세그먼트 수
+     * @param hits      확인 후 로컬 사본을 사용한 횟수
+     * @param stale     수정 시각이 달라 다시 받은 횟수
+     * @param misses    로컬 사본이 없어 받은 횟수
+     */
+    public record CacheStats(int documents, int segments, long hits, long stale, long misses) {
+    }
+
+    /**
+     * 로컬 사본
+     */
+    private record CachedDocument(@NotNull Map<String, Object> data, @NotNull Timestamp updateTime) {
+    }
+
+    /**
+     * 레코드 위치
+     */
+    private record Location(@NotNull Segment segment, int offset, @NotNull Timestamp updateTime, long cachedAt) {
+    }
+
+    /**
+     * 세그먼트 파일
+     */
+    private static final class Segment {
+        private final long number;
+        private final Path file;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int position;
+
+        private Segment(long number, @NotNull Path file, @NotNull FileChannel channel, @NotNull MappedByteBuffer buffer) {
+            this.number = number;
+            this.file = file;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+
+    private static final int MAGIC = 0x53524C32; // "SRL2"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES * 2;
+    private static final String FILE_PREFIX = "segment-";
+    private static final String FILE_SUFFIX = ".l2";
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    // I/O 통계 채널 이름
+    private static final String IO_CHANNEL = "LocalDocumentStore";
+
+    private static volatile LocalDocumentStore instance;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final long maxAgeMs;
+    private final FirestoreIoExecutor.Channel ioChannel;
+
+    // 아래 상태는 모두 this로 동기화
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private final Map<String, Location> index = new HashMap<>();
+    private Segment active;
+    private long nextSegmentNumber;
+    private boolean closed;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private LocalDocumentStore(@NotNull Path directory, int segmentSize, int maxSegments, long maxAgeMs,
+                               @NotNull FirestoreIoExecutor.Channel ioChannel) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(2, maxSegments);
+        this.maxAgeMs = maxAgeMs;
+        this.ioChannel = ioChannel;
+        Files.createDirectories(directory);
+        load();
+    }
+
+    /**
+     * 로컬 문서 캐시 초기화 (config.yml의 data.local-cache 설정 사용)
+     *
+     * @return 초기화 성공 여부 (비활성화 또는 실패 시 false, 캐시 없이 동작)
+     */
+    public static boolean initialize(@NotNull RPGMain plugin) {
+        if (instance != null) return true;
+        if (!plugin.getConfig().getBoolean("data.local-cache.enabled", true)) {
+            LogUtil.info("로컬 문서 캐시 비활성화됨");
+            return false;
+        }
+
+        int segmentSizeMb = Math.max(1, plugin.getConfig().getInt("data.local-cache.segment-size-mb",
+                DatabaseConstants.LOCAL_CACHE_SEGMENT_SIZE_MB));
+        int maxSegments = plugin.getConfig().getInt("data.local-cache.max-segments",
+                DatabaseConstants.LOCAL_CACHE_MAX_SEGMENTS);
+        long maxAgeHours = Math.max(1L, plugin.getConfig().getLong("data.local-cache.max-age-hours",
+                DatabaseConstants.LOCAL_CACHE_MAX_AGE_HOURS));
+
+        try {
+            instance = new LocalDocumentStore(new File(plugin.getDataFolder(), "local-cache").toPath(),
+                    segmentSizeMb * 1024 * 1024, maxSegments, TimeUnit.HOURS.toMillis(maxAgeHours),
+                    plugin.getFirestoreManager().getIoExecutor().channel(IO_CHANNEL));
+            LogUtil.info("로컬 문서 캐시 초기화 완료 (보관 문서: " + instance.getStats().documents() + "개)");
+            return true;
+        } catch (IOException e) {
+            LogUtil.error("로컬 문서 캐시 초기화 실패! 캐시 없이 계속합니다.", e);
+            instance = null;
+            return false;
+        }
+    }
+
+    /**
+     * 캐시 인스턴스 (비활성화 / 초기화 전 / 종료 후이면 null)
+     */
+    @Nullable
+    public static LocalDocumentStore getInstance() {
+        return instance;
+    }
+
+    /**
+     * 캐시 종료 (세그먼트를 디스크에 기록하고 닫음)
+     * 종료 저장이 끝난 뒤 호출
+     */
+    public static void shutdown() {
+        LocalDocumentStore store = instance;
+        if (store == null) return;
+        instance = null;
+
+        CacheStats stats = store.getStats();
+        synchronized (store) {
+            store.closed = true;
+            for (Segment segment : store.segments) {
+                closeSegment(segment, true);
+            }
+            store.segments.clear();
+            store.index.clear();
+        }
+        LogUtil.info(String.format("로컬 문서 캐시 종료 (보관 문서: %d개, 사용: %d, 다시 받음: %d, 없음: %d)",
+                stats.documents(), stats.hits(), stats.stale(), stats.misses()));
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 문서 여러 개 조회 (로컬 사본 우선)
+     * 로컬 사본이 있는 문서는 수정 시각만 확인하고, 없는 문서는 동시에 전체 조회
+     *
+     * @return 요청 순서대로의 문서 데이터 (문서가 없으면 null)
+     */
+    @NotNull
+    public CompletableFuture<List<Map<String, Object>>> getAll(@NotNull Firestore firestore,
+                                                              @NotNull List<DocumentReference> references) {
+        Map<Integer, CachedDocument> cached = new HashMap<>();
+        List<Integer> uncached = new ArrayList<>();
+        for (int i = 0; i < references.size(); i++) {
+            CachedDocument document = get(references.get(i));
+            if (document != null) {
+                cached.put(i, document);
+            } else {
+                uncached.add(i);
+            }
+        }
+        misses.add(uncached.size());
+
+        CompletableFuture<Map<Integer, Map<String, Object>>> fresh = readFull(firestore, references, uncached);
+        CompletableFuture<Map<Integer, Map<String, Object>>> validated = validate(firestore, references, cached);
+
+        return fresh.thenCombine(validated, (loaded, checked) -> {
+            List<Map<String, Object>> results = new ArrayList<>(references.size());
+            for (int i = 0; i < references.size(); i++) {
+                results.add(loaded.containsKey(i) ? loaded.get(i) : checked.get(i));
+            }
+            return results;
+        });
+    }
+
+    /**
+     * 컬렉션 전체 조회 (로컬 사본 우선)
+     * 문서 이름과 수정 시각만 나열한 뒤, 로컬 사본이 없거나 수정 시각이 다른 문서만 전체 조회
+     *
+     * @return 컬렉션의 모든 문서 데이터 (순서 없음)
+     */
+    @NotNull
+    public CompletableFuture<List<Map<String, Object>>> listCollection(@NotNull Firestore firestore, @NotNull String collection) {
+        return ioChannel.bridge(firestore.collection(collection).select(FieldPath.documentId()).get()).thenCompose(snapshot -> {
+            List<Map<String, Object>> results = new ArrayList<>();
+            List<DocumentReference> toRead = new ArrayList<>();
+            Set<String> listed = new HashSet<>();
+            for (QueryDocumentSnapshot document : snapshot.getDocuments()) {
+                listed.add(document.getId());
+                CachedDocument cached = get(document.getReference());
+                if (cached != null && cached.updateTime().equals(document.getUpdateTime())) {
+                    hits.increment();
+                    results.add(cached.data());
+                } else {
+                    (cached != null ? stale : misses).increment();
+                    toRead.add(document.getReference());
+                }
+            }
+            invalidateUnlisted(collection, listed);
+
+            List<CompletableFuture<Map<Integer, Map<String, Object>>>> reads = new ArrayList<>();
+            for (int from = 0; from < toRead.size(); from += DatabaseConstants.BATCH_SIZE_LIMIT) {
+                List<DocumentReference> chunk = toRead.subList(from, Math.min(from + DatabaseConstants.BATCH_SIZE_LIMIT, toRead.size()));
+                List<Integer> indices = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    indices.add(i);
+                }
+                reads.add(readFull(firestore, chunk, indices));
+            }
+            return CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+                for (CompletableFuture<Map<Integer, Map<String, Object>>> read : reads) {
+                    for (Map<String, Object> data : read.join().values()) {
+                        if (data != null) {
+                            results.add(data);
+                        }
+                    }
+                }
+                return results;
+            });
+        });
+    }
+
+    /**
+     * 로컬 사본의 수정 시각 확인 (달라진 문서만 다시 받음)
+     */
+    @NotNull
+    private CompletableFuture<Map<Integer, Map<String, Object>>> validate(@NotNull Firestore firestore,
+                                                                          @NotNull List<DocumentReference> references,
+                                                                          @NotNull Map<Integer, CachedDocument> cached) {
+        if (cached.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        List<Integer> indices = new ArrayList<>(cached.keySet());
+        DocumentReference[] targets = new DocumentReference[indices.size()];
+        for (int i = 0; i < indices.size(); i++) {
+            targets[i] = references.get(indices.get(i));
+        }
+
+        // 필드를 하나도 지정하지 않으면 문서 이름과 수정 시각만 받음
+        return ioChannel.bridge(firestore.getAll(targets, FieldMask.of(new FieldPath[0]))).thenCompose(snapshots -> {
+            Map<Integer, Map<String, Object>> results = new HashMap<>();
+            List<Integer> changed = new ArrayList<>();
+            for (int i = 0; i < snapshots.size(); i++) {
+                DocumentSnapshot snapshot = snapshots.get(i);
+                int index = indices.get(i);
+                CachedDocument document = cached.get(index);
+                if (!snapshot.exists()) {
+                    invalidate(snapshot.getReference().getParent().getId(), snapshot.getId());
+                    results.put(index, null);
+                } else if (document.updateTime().equals(snapshot.getUpdateTime())) {
+                    hits.increment();
+                    results.put(index, document.data());
+                } else {
+                    stale.increment();
+                    changed.add(index);
+                }
+            }
+            return readFull(firestore, references, changed).thenApply(loaded -> {
+                results.putAll(loaded);
+                return results;
+            });
+        });
+    }
+
+    /**
+     * 문서 전체 조회 후 로컬 사본 갱신
+     */
+    @NotNull
+    private CompletableFuture<Map<Integer, Map<String, Object>>> readFull(@NotNull Firestore firestore,
+                                                                          @NotNull List<DocumentReference> references,
+                                                                          @NotNull List<Integer> indices) {
+        if (indices.isEmpty()) {
+            return CompletableFuture.completedFuture(new HashMap<>());
+        }
+
+        DocumentReference[] targets = new DocumentReference[indices.size()];
+        for (int i = 0; i < indices.size(); i++) {
+            targets[i] = references.get(indices.get(i));
+        }
+        return ioChannel.bridge(firestore.getAll(targets)).thenApply(snapshots -> {
+            Map<Integer, Map<String, Object>> results = new HashMap<>();
+            for (int i = 0; i < snapshots.size(); i++) {
+                DocumentSnapshot snapshot = snapshots.get(i);
+                String collection = snapshot.getReference().getParent().getId();
+                Map<String, Object> data = snapshot.getData();
+                if (snapshot.exists() && data != null) {
+                    put(collection, snapshot.getId(), data, snapshot.getUpdateTime());
+                    results.put(indices.get(i), data);
+                } else {
+                    invalidate(collection, snapshot.getId());
+                    results.put(indices.get(i), null);
+                }
+            }
+            return results;
+        });
+    }
+
+    // ===== 보관 =====
+
+    /**
+     * 문서 전체 보관 (전체 내용을 아는 경우에만 - 조회 결과 또는 전체 교체 저장 결과)
+     *
+     * @param updateTime Firestore 수정 시각 (null이면 보관하지 않고 기존 사본 제거)
+     */
+    public synchronized void put(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data,
+                                 @Nullable Timestamp updateTime) {
+        if (closed) return;
+        if (updateTime == null) {
+            invalidate(collection, documentId);
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        byte[] frame;
+        try {
+            frame = encode(OP_PUT, collection, documentId, updateTime, now, data);
+        } catch (IllegalArgumentException | IOException e) {
+            // 기록할 수 없는 값(GeoPoint 등)이 있는 문서는 보관하지 않음
+            LogUtil.debug("로컬 문서 캐시에 보관할 수 없는 문서 [" + collection + "/" + documentId + "]: " + e.getMessage());
+            invalidate(collection, documentId);
+            return;
+        }
+
+        int offset = append(frame);
+        if (offset < 0) {
+            invalidate(collection, documentId);
+            return;
+        }
+        index.put(key(collection, documentId), new Location(active, offset, updateTime, now));
+    }
+
+    /**
+     * 로컬 사본 제거
+     */
+    public synchronized void invalidate(@NotNull String collection, @NotNull String documentId) {
+        if (closed) return;
+        if (index.remove(key(collection, documentId)) == null) return;
+
+        try {
+            append(encode(OP_REMOVE, collection, documentId, Timestamp.MIN_VALUE, 0L, null));
+        } catch (IOException e) {
+            LogUtil.debug("로컬 문서 캐시 제거 기록 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    @NotNull
+    public synchronized CacheStats getStats() {
+        return new CacheStats(index.size(), segments.size(), hits.sum(), stale.sum(), misses.sum());
+    }
+
+    // ===== 내부 처리 =====
+
+    @Nullable
+    private CachedDocument get(@NotNull DocumentReference reference) {
+        return get(reference.getParent().getId(), reference.getId());
+    }
+
+    /**
+     * 로컬 사본 읽기 (없거나 최대 보관 시간이 지났으면 null)
+     */
+    @Nullable
+    private synchronized CachedDocument get(@NotNull String collection, @NotNull String documentId) {
+        if (closed) return null;
+        String key = key(collection, documentId);
+        Location location = index.get(key);
+        if (location == null) return null;
+        if (System.currentTimeMillis() - location.cachedAt() > maxAgeMs) {
+            invalidate(collection, documentId);
+            return null;
+        }
+
+        try {
+            ByteBuffer view = location.segment().buffer.duplicate();
+            view.position(location.offset());
+            int length = view.getInt();
+            view.getInt(); // CRC는 불러올 때 확인함
+            byte[] body = new byte[length];
+            view.get(body);
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+            in.readByte();
+            in.readUTF();
+            in.readUTF();
+            in.readLong();
+            in.readInt();
+            in.readLong();
+            if (DocumentCodec.readValue(in) instanceof Map<?, ?> map) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> data = (Map<String, Object>) map;
+                return new CachedDocument(data, location.updateTime());
+            }
+        } catch (IOException | RuntimeException e) {
+            LogUtil.debug("로컬 문서 캐시 읽기 실패 [" + key + "]: " + e.getMessage());
+        }
+        invalidate(collection, documentId);
+        return null;
+    }
+
+    /**
+     * 목록에 없는(원격에서 삭제된) 컬렉션 문서의 로컬 사본 제거
+     */
+    private synchronized void invalidateUnlisted(@NotNull String collection, @NotNull Set<String> listed) {
+        String prefix = collection + "/";
+        List<String> removed = new ArrayList<>();
+        for (String key : index.keySet()) {
+            if (key.startsWith(prefix) && !listed.contains(key.substring(prefix.length()))) {
+                removed.add(key.substring(prefix.length()));
+            }
+        }
+        for (String documentId : removed) {
+            invalidate(collection, documentId);
+        }
+    }
+
+    /**
+     * 현재 세그먼트에 레코드 추가 (공간이 부족하면 새 세그먼트로 넘어감)
+     *
+     * @return 레코드 위치 (세그먼트보다 큰 레코드이거나 기록 실패 시 -1)
+     */
+    private int append(byte[] frame) {
+        if (frame.length + Integer.BYTES > segmentSize - HEADER_SIZE) return -1;
+
+        try {
+            if (active == null || active.buffer.capacity() - active.position < frame.length + Integer.BYTES) {
+                roll();
+            }
+        } catch (IOException e) {
+            LogUtil.warning("로컬 문서 캐시 세그먼트 생성 실패: " + e.getMessage());
+            return -1;
+        }
+
+        int offset = active.position;
+        active.buffer.put(offset, frame);
+        active.position += frame.length;
+        // 끝 표시 (다음 레코드가 기록되기 전까지 불러오기가 여기서 멈추도록)
+        if (active.buffer.capacity() - active.position >= Integer.BYTES) {
+            active.buffer.putInt(active.position, 0);
+        }
+        return offset;
+    }
+
+    /**
+     * 새 세그먼트 시작 (상한을 넘으면 가장 오래된 세그먼트 버림)
+     */
+    private void roll() throws IOException {
+        Segment segment = openSegment(nextSegmentNumber++, segmentSize);
+        segment.buffer.putInt(0, MAGIC);
+        segment.buffer.putInt(Integer.BYTES, VERSION);
+        segment.buffer.putInt(HEADER_SIZE, 0);
+        segment.position = HEADER_SIZE;
+        segments.addLast(segment);
+        active = segment;
+
+        while (segments.size() > maxSegments) {
+            Segment oldest = segments.pollFirst();
+            index.values().removeIf(location -> location.segment() == oldest);
+            closeSegment(oldest, false);
+            try {
+                Files.deleteIfExists(oldest.file);
+            } catch (IOException e) {
+                LogUtil.warning("로컬 문서 캐시 세그먼트 삭제 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 세그먼트 파일을 번호 순서로 읽어 색인 구성 (손상된 레코드 이후는 무시)
+     */
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX)
+                            && path.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        long now = System.currentTimeMillis();
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long number;
+            try {
+                number = Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            long size = Files.size(file);
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                Files.deleteIfExists(file);
+                continue;
+            }
+            Segment segment = openSegment(number, (int) size);
+            if (segment.buffer.getInt(0) != MAGIC || segment.buffer.getInt(Integer.BYTES) != VERSION) {
+                closeSegment(segment, false);
+                Files.deleteIfExists(file);
+                continue;
+            }
+            scan(segment, now);
+            segments.addLast(segment);
+            nextSegmentNumber = Math.max(nextSegmentNumber, number + 1);
+        }
+        active = segments.peekLast();
+    }
+
+    private void scan(@NotNull Segment segment, long now) {
+        ByteBuffer view = segment.buffer.duplicate();
+        int position = HEADER_SIZE;
+        while (position + FRAME_HEADER_SIZE <= view.capacity()) {
+            int length = view.getInt(position);
+            int crc = view.getInt(position + Integer.BYTES);
+            if (length <= 0 || length > view.capacity() - position - FRAME_HEADER_SIZE) break;
+
+            byte[] body = new byte[length];
+            view.get(position + FRAME_HEADER_SIZE, body);
+            CRC32 checksum = new CRC32();
+            checksum.update(body);
+            if ((int) checksum.getValue() != crc) break;
+
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+                byte op = in.readByte();
+                String key = key(in.readUTF(), in.readUTF());
+                Timestamp updateTime = Timestamp.ofTimeSecondsAndNanos(in.readLong(), in.readInt());
+                long cachedAt = in.readLong();
+                if (op == OP_PUT && now - cachedAt <= maxAgeMs) {
+                    index.put(key, new Location(segment, position, updateTime, cachedAt));
+                } else {
+                    index.remove(key);
+                }
+            } catch (IOException e) {
+                break;
+            }
+            position += FRAME_HEADER_SIZE + length;
+        }
+        segment.position = position;
+    }
+
+    @NotNull
+    private Segment openSegment(long number, int size) throws IOException {
+        Path file = directory.resolve(String.format("%s%08d%s", FILE_PREFIX, number, FILE_SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            return new Segment(number, file, channel, buffer);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void closeSegment(@NotNull Segment segment, boolean force) {
+        try {
+            if (force) {
+                segment.buffer.force();
+            }
+            segment.channel.close();
+        } catch (IOException | RuntimeException e) {
+            LogUtil.warning("로컬 문서 캐시 세그먼트 닫기 실패 [" + segment.number + "]: " + e.getMessage());
+        }
+    }
+
+    @NotNull
+    private static String key(@NotNull String collection, @NotNull String documentId) {
+        return collection + "/" + documentId;
+    }
+
+    private static byte[] encode(byte op, @NotNull String collection, @NotNull String documentId, @NotNull Timestamp updateTime,
+                                 long cachedAt, @Nullable Map<String, Object> data) throws IOException {
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bodyBytes);
+        out.writeByte(op);
+        out.writeUTF(collection);
+        out.writeUTF(documentId);
+        out.writeLong(updateTime.getSeconds());
+        out.writeInt(updateTime.getNanos());
+        out.writeLong(cachedAt);
+        if (data != null) {
+            DocumentCodec.writeValue(out, data);
+        }
+        out.flush();
+
+        byte[] body = bodyBytes.toByteArray();
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+        return ByteBuffer.allocate(FRAME_HEADER_SIZE + body.length)
+                .putInt(body.length)
+                .putInt((int) checksum.getValue())
+                .put(body)
+                .array();
+    }
+}
@@ -29,6 +29,9 @@ public final class DatabaseConstants {
     public static final long TRANSACTION_TIMEOUT_SECONDS = 10; // 트랜잭션 타임아웃
     public static final long WRITE_TIMEOUT_SECONDS = 5; // 쓰기 타임아웃
     public static final long READ_TIMEOUT_SECONDS = 3; // 읽기 타임아웃
+    public static final long DOCUMENT_READ_TIMEOUT_SECONDS = 10; // 부분 로드 / 조건 쿼리 타임아웃
+    public static final long BULK_READ_TIMEOUT_SECONDS = 30; // 컬렉션 전체 읽기 타임아웃
+    public static final long BATCH_COMMIT_TIMEOUT_SECONDS = 30; // 배치 커밋 타임아웃
     
     // 저장 간격 관련 (밀리초)
     public static final long SAVE_INTERVAL_HIGH_PRIORITY = 60_000; // 1분
@@ -40,6 +43,39 @@ public final class DatabaseConstants {
     public static final long BATCH_SAVE_INTERVAL_TICKS = 600L; // 30초 (20틱 = 1초)
     public static final long BATCH_SAVE_INITIAL_DELAY_TICKS = 20L; // 1초 후 시작
     
+    // 로컬 저널 관련
+    public static final int JOURNAL_DEFAULT_SIZE_MB = 8; // 저널 파일 기본 크기 (MB)
+    public static final long JOURNAL_SYNC_INTERVAL_MS = 100; // 그룹 디스크 동기화 간격 (밀리초)
+    public static final long JOURNAL_REPLAY_TIMEOUT_SECONDS = 10; // 시작 시 재적용 문서당 타임아웃
+    
+    // 재화 원장 관련
+    public static final long LEDGER_SETTLE_INTERVAL_MS = 2000; // 원장 정산 간격 (밀리초)
+    public static final long LEDGER_IDEMPOTENCY_KEY_MINUTES = 60; // 멱등 키 보관 시간 (분)
+    public static final long LEDGER_COMMIT_TIMEOUT_SECONDS = 10; // 정산 배치 커밋 타임아웃
+    public static final int LEDGER_MAX_ENTRIES_PER_SETTLEMENT = 1000; // 플레이어 1명 정산 문서당 최대 항목 수
+    public static final int FIRESTORE_MAX_BATCH_OPERATIONS = 500; // Firestore WriteBatch 최대 작업 수
+    
+    // 저장 실패 보관소 관련
+    public static final int DEAD_LETTER_MAX_ENTRIES = 10_000; // 보관 문서 수 상한
+    public static final int DEAD_LETTER_REPLAY_PER_SECOND = 50; // 초당 재전송 문서 수
+    public static final long DEAD_LETTER_INITIAL_BACKOFF_MS = 5_000; // 첫 재시도 대기 시간 (밀리초)
+    public static final long DEAD_LETTER_MAX_BACKOFF_MS = 300_000; // 재시도 대기 시간 상한 (5분)
+    
+    // 종료 저장 관련
+    public static final long SHUTDOWN_FLUSH_DEADLINE_SECONDS = 15; // 종료 저장 전체 제한 시간
+    public static final int SHUTDOWN_FLUSH_MAX_CONCURRENT_BATCHES = 8; // 동시에 커밋할 배치 수
+    
+    // 로컬 문서 캐시 관련
+    public static final int LOCAL_CACHE_SEGMENT_SIZE_MB = 16; // 세그먼트 파일 크기
+    public static final int LOCAL_CACHE_MAX_SEGMENTS = 8; // 세그먼트 수 상한 (넘으면 가장 오래된 세그먼트 삭제)
+    public static final long LOCAL_CACHE_MAX_AGE_HOURS = 24; // 로컬 사본 최대 보관 시간
+    
+    // 내장 저장소 관련
+    public static final long EMBEDDED_STORAGE_SEGMENT_SIZE_MB = 64; // 세그먼트 파일 크기
+    
+    // Firestore I/O 실행기 관련
+    public static final long IO_SHUTDOWN_TIMEOUT_SECONDS = 10; // 종료 시 진행 중인 I/O 대기 시간
+    
     // 섬 관련
     public static final int ISLAND_INITIAL_SIZE = 85; // 섬 초기 크기
     public static final int ISLAND_MIN_BIOME_SIZE = 500; // 바이옴 최소 크기
@@ -47,6 +83,13 @@ public final class DatabaseConstants {
     public static final long ISLAND_DELETE_COOLDOWN_MS = 7L * 24 * 60 * 60 * 1000; // 7일
     public static final long ISLAND_INVITE_EXPIRES_MS = 60 * 1000; // 초대 만료 시간 (60초)
     
+    // 섬 캐시 관련
+    public static final int ISLAND_CACHE_MAX_ISLANDS = 500; // 고정되지 않은 섬 최대 보관 수
+    public static final int ISLAND_CACHE_MAX_PLAYER_DATA = 2000; // 고정되지 않은 플레이어 섬 데이터 최대 보관 수
+    public static final long ISLAND_CACHE_IDLE_MINUTES = 30; // 고정되지 않은 항목의 미사용 만료 시간
+    public static final int ISLAND_CACHE_PRELOAD_COUNT = 50; // 시작 시 사전 로드할 최근 활동 섬 수
+    public static final long ISLAND_CACHE_EMPTY_CELL_SECONDS = 60; // 섬이 없는 위치를 다시 조회하지 않는 시간
+    
     // 컬렉션 이름
     public static final String COLLECTION_PLAYERS = "players";
     public static final String COLLECTION_ISLANDS = "islands";
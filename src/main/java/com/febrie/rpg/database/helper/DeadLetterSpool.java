@@ -0,0 +1,487 @@
+package com.febrie.rpg.database.helper;
+
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.CRC32;
+
+/**
+ * 배치 저장 실패 문서 보관소 (dead-letter spool)
+ * Firestore 배치 커밋에 실패한 문서를 추가 전용 파일에 기록해 두고, 지수 백오프(지터 포함)로 다시 시도
+ * - 같은 문서의 실패는 하나로 병합 (나중 값 우선, 병합 저장과 같은 규칙, 전체 교체 문서는 교체로 유지)
+ * - 보관 개수 상한을 넘으면 가장 오래된 문서부터 버림
+ * - 재전송은 {@link FirestoreHelper}가 주기마다 정해진 개수만큼 {@link #pollDue}로 꺼내 수행
+ * - 파일이 없거나 열지 못하면 메모리에만 보관
+ * <p>
+ * 바이너리 형식: [int 본문 길이][int CRC32][본문]
+ * 본문: [byte 종류][short+bytes 컬렉션][short+bytes 문서 ID][값 (PUT / REPLACE만, {@link DocumentCodec})]
+ * PUT(병합 저장) / REPLACE(전체 교체)는 최신 상태 전체를 기록하므로 재생 시 마지막 레코드만 유효
+ *
+ * @author Febrie
+ */
+public final class DeadLetterSpool {
+
+    /**
+     * 보관소 통계
+     *
+     * @param depth    보관 중인 문서 수
+     * @param inFlight 재전송 중인 문서 수
+     * @param spooled  누적 보관 횟수 (병합 포함)
+     * @param replayed 재전송 성공 수
+     * @param dropped  상한 초과로 버린 문서 수
+     */
+    public record SpoolStats(int depth, int inFlight, long spooled, long replayed, long dropped) {
+    }
+
+    /**
+     * 재전송 대상 (꺼낸 시점의 스냅샷)
+     */
+    record ReplayItem(@NotNull String collection, @NotNull String documentId,
+                      @NotNull Map<String, Object> data, boolean replace, long version) {
+    }
+
+    /**
+     * 보관 중인 문서
+     */
+    private static final class Entry {
+        private final String collection;
+        private final String documentId;
+        private final Map<String, Object> data;
+        private final boolean replace;
+        private final long version;
+        private int attempts;
+        private long nextAttemptAt;
+        private boolean inFlight;
+
+        private Entry(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data,
+                      boolean replace, long version, int attempts, long nextAttemptAt) {
+            this.collection = collection;
+            this.documentId = documentId;
+            this.data = data;
+            this.replace = replace;
+            this.version = version;
+            this.attempts = attempts;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    private static final String FILE_NAME = "dead-letter.spool";
+    private static final byte OP_PUT = 1;
+    private static final byte OP_REMOVE = 2;
+    private static final byte OP_REPLACE = 3;
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES * 2;
+    // 본문 최대 크기 (손상된 길이 값 검출용, Firestore 문서 최대 크기보다 넉넉하게)
+    private static final int MAX_BODY_SIZE = 4 * 1024 * 1024;
+    // 파일 레코드 수가 보관 문서 수의 이 배수를 넘으면 압축
+    private static final int COMPACT_RATIO = 2;
+    private static final int COMPACT_MIN_RECORDS = 1024;
+
+    @Nullable
+    private final Path file;
+    private final int maxEntries;
+    // 컬렉션/문서 ID -> 보관 문서 (삽입 순서 = 오래된 순서)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    @Nullable
+    private FileChannel channel;
+    private int fileRecords;
+    private boolean unsynced;
+    private long versionCounter;
+    private long spooled;
+    private long replayed;
+    private long dropped;
+
+    private DeadLetterSpool(@Nullable Path file, int maxEntries) {
+        this.file = file;
+        this.maxEntries = Math.max(1, maxEntries);
+    }
+
+    /**
+     * 디렉터리의 보관 파일을 열고 이전 실행에서 남은 문서를 불러옴
+     * 파일을 열지 못하면 메모리에만 보관하는 보관소 반환
+     */
+    @NotNull
+    public static DeadLetterSpool open(@NotNull Path directory, int maxEntries) {
+        DeadLetterSpool spool = new DeadLetterSpool(directory.resolve(FILE_NAME), maxEntries);
+        try {
+            Files.createDirectories(directory);
+            spool.load();
+            spool.rewrite();
+            if (!spool.entries.isEmpty()) {
+                LogUtil.warning("이전 실행에서 저장하지 못한 문서 " + spool.entries.size() + "개를 다시 전송합니다.");
+            }
+        } catch (IOException e) {
+            LogUtil.error("저장 실패 보관 파일을 열 수 없습니다. 메모리에만 보관합니다.", e);
+            spool.closeChannel();
+        }
+        return spool;
+    }
+
+    /**
+     * 실패한 문서 보관 (같은 문서가 이미 있으면 병합)
+     */
+    public void add(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        add(collection, documentId, data, false);
+    }
+
+    /**
+     * 실패한 문서 보관
+     *
+     * @param replace 전체 교체 저장 여부 (true면 보관 중인 문서를 대체, false면 보관 중인 문서에 병합)
+     */
+    public synchronized void add(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data,
+                                 boolean replace) {
+        String key = key(collection, documentId);
+        long now = System.currentTimeMillis();
+        Entry existing = entries.remove(key);
+        Entry entry;
+        if (existing != null) {
+            Map<String, Object> merged = FirestoreHelper.deepCopy(replace ? data : existing.data);
+            if (!replace) {
+                FirestoreHelper.mergeInto(merged, data);
+            }
+            entry = new Entry(collection, documentId, merged, replace || existing.replace, ++versionCounter,
+                    existing.attempts, existing.nextAttemptAt);
+            entry.inFlight = existing.inFlight;
+        } else {
+            if (entries.isEmpty()) {
+                LogUtil.warning("Firestore 배치 저장 실패 - 실패한 문서를 보관하고 다시 시도합니다.");
+            }
+            evictIfFull();
+            entry = new Entry(collection, documentId, FirestoreHelper.deepCopy(data), replace, ++versionCounter,
+                    0, now + backoff(0));
+        }
+        entries.put(key, entry);
+        spooled++;
+        persistPut(entry);
+    }
+
+    /**
+     * 보관 중인 문서를 꺼냄 (새 쓰기에 합쳐서 함께 저장할 때)
+     *
+     * @return 보관 중이 아니면 null
+     */
+    @Nullable
+    public Map<String, Object> take(@NotNull String collection, @NotNull String documentId) {
+        ReplayItem item = takeItem(collection, documentId);
+        return item != null ? item.data() : null;
+    }
+
+    /**
+     * 보관 중인 문서를 저장 방식과 함께 꺼냄
+     *
+     * @return 보관 중이 아니면 null
+     */
+    @Nullable
+    synchronized ReplayItem takeItem(@NotNull String collection, @NotNull String documentId) {
+        Entry entry = entries.remove(key(collection, documentId));
+        if (entry == null) return null;
+
+        persistRemove(entry);
+        logIfDrained();
+        return new ReplayItem(entry.collection, entry.documentId, entry.data, entry.replace, entry.version);
+    }
+
+    /**
+     * 재시도 시각이 된 문서를 최대 limit개 꺼냄 (완료 시 {@link #complete} 호출 필요)
+     */
+    @NotNull
+    synchronized List<ReplayItem> pollDue(int limit, long now) {
+        List<ReplayItem> due = new ArrayList<>();
+        for (Entry entry : entries.values()) {
+            if (due.size() >= limit) break;
+            if (entry.inFlight || entry.nextAttemptAt > now) continue;
+
+            entry.inFlight = true;
+            due.add(new ReplayItem(entry.collection, entry.documentId, FirestoreHelper.deepCopy(entry.data),
+                    entry.replace, entry.version));
+        }
+        return due;
+    }
+
+    /**
+     * 재전송 결과 반영
+     * 성공해도 재전송 중에 새 실패가 병합된 문서는 남겨 두고 다시 전송
+     */
+    synchronized void complete(@NotNull List<ReplayItem> items, boolean success) {
+        long now = System.currentTimeMillis();
+        for (ReplayItem item : items) {
+            String key = key(item.collection(), item.documentId());
+            Entry entry = entries.get(key);
+            if (entry == null) continue; // 새 쓰기에 합쳐져 이미 꺼내짐
+
+            entry.inFlight = false;
+            if (success) {
+                if (entry.version == item.version()) {
+                    entries.remove(key);
+                    persistRemove(entry);
+                }
+                replayed++;
+            } else {
+                entry.attempts++;
+                entry.nextAttemptAt = now + backoff(entry.attempts);
+            }
+        }
+        if (success) {
+            logIfDrained();
+        }
+    }
+
+    /**
+     * 보관 중인 문서 수
+     */
+    public synchronized int getDepth() {
+        return entries.size();
+    }
+
+    /**
+     * 보관소 통계
+     */
+    @NotNull
+    public synchronized SpoolStats getStats() {
+        int inFlight = 0;
+        for (Entry entry : entries.values()) {
+            if (entry.inFlight) inFlight++;
+        }
+        return new SpoolStats(entries.size(), inFlight, spooled, replayed, dropped);
+    }
+
+    /**
+     * 디스크 동기화 및 필요 시 압축 (주기적으로 호출)
+     */
+    public synchronized void sync() {
+        if (channel == null) return;
+
+        try {
+            if (fileRecords > Math.max(COMPACT_MIN_RECORDS, entries.size() * COMPACT_RATIO)) {
+                rewrite();
+            } else if (unsynced) {
+                channel.force(false);
+                unsynced = false;
+            }
+        } catch (IOException e) {
+            LogUtil.error("저장 실패 보관 파일 동기화 실패! 메모리에만 보관합니다.", e);
+            closeChannel();
+        }
+    }
+
+    /**
+     * 보관소 종료 (남은 문서는 파일에 남아 다음 시작 시 다시 전송)
+     */
+    public synchronized void close() {
+        sync();
+        closeChannel();
+        if (!entries.isEmpty()) {
+            LogUtil.warning("저장하지 못한 문서 " + entries.size() + "개가 남아 다음 시작 시 다시 전송됩니다.");
+        }
+    }
+
+    // ===== 내부 처리 =====
+
+    private void evictIfFull() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            Entry oldest = iterator.next();
+            if (oldest.inFlight) continue;
+
+            iterator.remove();
+            persistRemove(oldest);
+            dropped++;
+            LogUtil.severe("저장 실패 보관소가 가득 차 가장 오래된 문서를 버립니다: " + oldest.collection + "/" + oldest.documentId);
+        }
+    }
+
+    private void logIfDrained() {
+        if (entries.isEmpty()) {
+            LogUtil.info("저장 실패 문서를 모두 다시 저장했습니다.");
+        }
+    }
+
+    /**
+     * 다음 시도까지의 대기 시간 (지수 증가, 상한 적용 후 절반~전체 구간에서 무작위)
+     */
+    private static long backoff(int attempts) {
+        long delay = DatabaseConstants.DEAD_LETTER_INITIAL_BACKOFF_MS << Math.min(attempts, 20);
+        delay = Math.min(delay, DatabaseConstants.DEAD_LETTER_MAX_BACKOFF_MS);
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    @NotNull
+    private static String key(@NotNull String collection, @NotNull String documentId) {
+        return collection + "/" + documentId;
+    }
+
+    private void persistPut(@NotNull Entry entry) {
+        if (channel == null) return;
+
+        byte[] frame;
+        try {
+            frame = encode(entry.replace ? OP_REPLACE : OP_PUT, entry.collection, entry.documentId, entry.data);
+        } catch (IllegalArgumentException | IOException e) {
+            // 기록할 수 없는 값은 메모리에만 보관
+            LogUtil.warning("저장 실패 문서를 파일에 기록할 수 없습니다 [" + entry.collection + "/" + entry.documentId + "]: " + e.getMessage());
+            return;
+        }
+        append(frame);
+    }
+
+    private void persistRemove(@NotNull Entry entry) {
+        if (channel == null) return;
+
+        try {
+            append(encode(OP_REMOVE, entry.collection, entry.documentId, null));
+        } catch (IOException e) {
+            LogUtil.warning("저장 실패 문서 제거 기록 실패: " + e.getMessage());
+        }
+    }
+
+    private void append(byte[] frame) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(frame);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            fileRecords++;
+            unsynced = true;
+        } catch (IOException e) {
+            LogUtil.error("저장 실패 보관 파일 기록 실패! 메모리에만 보관합니다.", e);
+            closeChannel();
+        }
+    }
+
+    /**
+     * 파일에서 문서 불러오기 (끝부분이 잘린 레코드는 무시)
+     */
+    private void load() throws IOException {
+        if (file == null || !Files.exists(file)) return;
+
+        byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long now = System.currentTimeMillis();
+        while (buffer.remaining() >= FRAME_HEADER_SIZE) {
+            int length = buffer.getInt();
+            int crc = buffer.getInt();
+            if (length <= 0 || length > MAX_BODY_SIZE || length > buffer.remaining()) break;
+
+            byte[] body = new byte[length];
+            buffer.get(body);
+            CRC32 checksum = new CRC32();
+            checksum.update(body);
+            if ((int) checksum.getValue() != crc) break;
+
+            try {
+                DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+                byte op = in.readByte();
+                String collection = in.readUTF();
+                String documentId = in.readUTF();
+                String key = key(collection, documentId);
+                entries.remove(key);
+                if ((op == OP_PUT || op == OP_REPLACE) && DocumentCodec.readValue(in) instanceof Map<?, ?> map) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> data = (Map<String, Object>) map;
+                    entries.put(key, new Entry(collection, documentId, data, op == OP_REPLACE, ++versionCounter,
+                            0, now + backoff(0)));
+                }
+            } catch (IOException e) {
+                LogUtil.warning("손상된 저장 실패 레코드 이후는 무시합니다: " + e.getMessage());
+                break;
+            }
+        }
+        // 상한이 줄었으면 오래된 문서부터 정리
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            dropped++;
+        }
+    }
+
+    /**
+     * 보관 중인 문서만 임시 파일에 다시 쓴 뒤 교체 (압축)
+     */
+    private void rewrite() throws IOException {
+        if (file == null) return;
+
+        closeChannel();
+        Path temp = file.resolveSibling(FILE_NAME + ".tmp");
+        int records = 0;
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Entry entry : entries.values()) {
+                byte[] frame;
+                try {
+                    frame = encode(entry.replace ? OP_REPLACE : OP_PUT, entry.collection, entry.documentId, entry.data);
+                } catch (IllegalArgumentException e) {
+                    continue;
+                }
+                ByteBuffer buffer = ByteBuffer.wrap(frame);
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                records++;
+            }
+            out.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileRecords = records;
+        unsynced = false;
+    }
+
+    private void closeChannel() {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        channel = null;
+    }
+
+    // ===== 직렬화 =====
+
+    private static byte[] encode(byte op, @NotNull String collection, @NotNull String documentId,
+                                 @Nullable Map<String, Object> data) throws IOException {
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bodyBytes);
+        out.writeByte(op);
+        out.writeUTF(collection);
+        out.writeUTF(documentId);
+        if (data != null) {
+            DocumentCodec.writeValue(out, data);
+        }
+        out.flush();
+
+        byte[] body = bodyBytes.toByteArray();
+        if (body.length > MAX_BODY_SIZE) {
+            throw new IllegalArgumentException("document too large: " + body.length + " bytes");
+        }
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+        return ByteBuffer.allocate(FRAME_HEADER_SIZE + body.length)
+                .putInt(body.length)
+                .putInt((int) checksum.getValue())
+                .put(body)
+                .array();
+    }
+}
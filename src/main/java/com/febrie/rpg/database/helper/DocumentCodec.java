@@ -0,0 +1,143 @@
+package com.febrie.rpg.database.helper;
+
+import com.google.cloud.Timestamp;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Firestore 문서 값 바이너리 인코딩
+ * 저장 실패 보관소와 로컬 문서 캐시가 문서(중첩 맵)를 파일에 기록할 때 사용
+ * - 지원 타입: null, 문자열, 정수(long), 실수(double), 불리언, Timestamp, 맵, 리스트
+ * - 그 외 타입(FieldValue 등)은 {@link IllegalArgumentException}
+ *
+ * @author Febrie
+ */
+public final class DocumentCodec {
+
+    // 문자열 최대 길이 (손상된 길이 값 검출용, Firestore 문서 최대 크기보다 넉넉하게)
+    private static final int MAX_STRING_SIZE = 4 * 1024 * 1024;
+
+    // 값 태그
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_LONG = 2;
+    private static final byte TAG_DOUBLE = 3;
+    private static final byte TAG_BOOLEAN = 4;
+    private static final byte TAG_MAP = 5;
+    private static final byte TAG_LIST = 6;
+    private static final byte TAG_TIMESTAMP = 7;
+
+    private DocumentCodec() {
+    }
+
+    /**
+     * 값 기록 (정수는 long / 실수는 double로 기록)
+     *
+     * @throws IllegalArgumentException 지원하지 않는 타입이 포함된 경우
+     */
+    public static void writeValue(@NotNull DataOutputStream out, @Nullable Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            writeString(out, string);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(TAG_BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof Timestamp timestamp) {
+            out.writeByte(TAG_TIMESTAMP);
+            out.writeLong(timestamp.getSeconds());
+            out.writeInt(timestamp.getNanos());
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, String.valueOf(entry.getKey()));
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else {
+            throw new IllegalArgumentException("unsupported value type: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * 값 읽기
+     *
+     * @throws IOException 알 수 없는 태그 / 잘못된 길이 등 손상된 데이터
+     */
+    @Nullable
+    public static Object readValue(@NotNull DataInputStream in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_BOOLEAN:
+                return in.readBoolean();
+            case TAG_TIMESTAMP:
+                return Timestamp.ofTimeSecondsAndNanos(in.readLong(), in.readInt());
+            case TAG_MAP: {
+                int size = in.readInt();
+                Map<String, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    String key = readString(in);
+                    map.put(key, readValue(in));
+                }
+                return map;
+            }
+            case TAG_LIST: {
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>();
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            }
+            default:
+                throw new IOException("unknown value tag: " + tag);
+        }
+    }
+
+    private static void writeString(@NotNull DataOutputStream out, @NotNull String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    @NotNull
+    private static String readString(@NotNull DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_SIZE) {
+            throw new IOException("invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
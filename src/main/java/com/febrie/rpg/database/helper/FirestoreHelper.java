@@ -1,5 +1,6 @@
 package com.febrie.rpg.database.helper;
 
+import com.febrie.rpg.database.FirestoreIoExecutor;
 import com.febrie.rpg.database.constants.DatabaseConstants;
 import com.febrie.rpg.util.LogUtil;
 import com.google.api.core.ApiFuture;
@@ -11,6 +12,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.*;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 /**
@@ -24,51 +26,65 @@ public class FirestoreHelper {
     private static final int MAX_RETRY_ATTEMPTS = DatabaseConstants.MAX_RETRY_ATTEMPTS;
     private static final long INITIAL_RETRY_DELAY_MS = DatabaseConstants.INITIAL_RETRY_DELAY_MS;
     private final Firestore firestore;
+    private final FirestoreIoExecutor.Channel io;
     private final ScheduledExecutorService scheduler;
     private final Map<String, BatchWriteQueue> batchQueues;
-    private final ConcurrentLinkedQueue<FailedOperation> failedOperations;
-    public FirestoreHelper(@NotNull Firestore firestore) {
+    private final DeadLetterSpool deadLetters;
+    private final int replayPerSecond;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    public FirestoreHelper(@NotNull Firestore firestore, @NotNull FirestoreIoExecutor.Channel io,
+                           @NotNull DeadLetterSpool deadLetters, int replayPerSecond) {
         this.firestore = firestore;
+        this.io = io;
+        this.deadLetters = deadLetters;
+        this.replayPerSecond = Math.max(1, replayPerSecond);
         this.scheduler = Executors.newScheduledThreadPool(2, r -> {
             Thread t = new Thread(r, "FirestoreHelper-Scheduler");
             t.setDaemon(true);
             return t;
         });
         this.batchQueues = new ConcurrentHashMap<>();
-        this.failedOperations = new ConcurrentLinkedQueue<>();
     }
     
     /**
      * FirestoreHelper 초기화 (생성 후 호출 필요)
      */
     public void initialize() {
-        // 실패한 작업 재시도 스케줄러 (5분마다)
-        scheduler.scheduleWithFixedDelay(this::retryFailedOperations, 5, 5, TimeUnit.MINUTES);
+        // 저장 실패 문서 재전송 (1초마다 초당 재전송 수만큼)
+        scheduler.scheduleWithFixedDelay(this::replayDeadLetters, 1, 1, TimeUnit.SECONDS);
     }
     
     /**
      * 즉시 저장 (중요 데이터용)
+     *
+     * @return 즉시 저장 성공 여부 (실패 시 배치 큐로 폴백되어 false)
      */
     @NotNull
-    public CompletableFuture<Void> saveImmediate(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                ApiFuture<WriteResult> future = firestore.collection(collection).document(documentId).set(data, SetOptions.merge());
-                future.get(DatabaseConstants.WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                return null;
-            } catch (Exception e) {
-                LogUtil.warning("즉시 저장 실패 [" + collection + "/" + documentId + "]: " + e.getMessage());
-                // 실패 시 배치 큐로 폴백
-                addToBatch(collection, documentId, data, DataPriority.HIGH);
-                return null;
-            }
-        });
+    public CompletableFuture<Boolean> saveImmediate(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        ApiFuture<WriteResult> future = firestore.collection(collection).document(documentId).set(data, SetOptions.merge());
+        return io.bridge(future)
+                .orTimeout(DatabaseConstants.WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .handle((result, e) -> {
+                    if (e == null) {
+                        return true;
+                    }
+                    LogUtil.warning("즉시 저장 실패 [" + collection + "/" + documentId + "]: " + e.getMessage());
+                    // 실패 시 배치 큐로 폴백
+                    addToBatch(collection, documentId, data, DataPriority.HIGH);
+                    return false;
+                });
     }
     
     /**
      * 배치 큐에 추가
      */
     public void addToBatch(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data, @NotNull DataPriority priority) {
+        // 저장에 실패해 보관 중인 문서가 있으면 아래에 깔고 함께 저장 (오래된 상태가 나중에 덮어쓰지 않도록)
+        Map<String, Object> spooled = deadLetters.take(collection, documentId);
+        if (spooled != null) {
+            mergeInto(spooled, data);
+            data = spooled;
+        }
         String queueKey = collection + ":" + priority.name();
         BatchWriteQueue queue = batchQueues.computeIfAbsent(queueKey, k -> new BatchWriteQueue(collection, priority, this::executeBatch));
         queue.add(documentId, data);
@@ -76,101 +92,144 @@ public class FirestoreHelper {
     
     /**
      * 트랜잭션 실행
+     * 실패 시 스케줄러로 지연 후 재시도 (대기하는 동안 스레드를 점유하지 않음)
      */
     public <T> CompletableFuture<T> runTransaction(@NotNull Function<Transaction, T> transactionFunction) {
-        return runTransactionWithRetry(transactionFunction, 0);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        runTransactionWithRetry(transactionFunction, 0, result);
+        return result;
     }
     
-    private <T> CompletableFuture<T> runTransactionWithRetry(@NotNull Function<Transaction, T> transactionFunction, int attemptNumber) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                ApiFuture<T> future = firestore.runTransaction(transactionFunction::apply);
-                return future.get(DatabaseConstants.TRANSACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-            } catch (Exception e) {
-                if (attemptNumber < MAX_RETRY_ATTEMPTS - 1) {
-                    long delayMs = INITIAL_RETRY_DELAY_MS * (long) Math.pow(DatabaseConstants.RETRY_BACKOFF_MULTIPLIER, attemptNumber);
-                    LogUtil.debug("트랜잭션 재시도 중... (시도 " + (attemptNumber + 1) + "/" + MAX_RETRY_ATTEMPTS + ")");
-                    try {
-                        Thread.sleep(delayMs);
-                    } catch (InterruptedException ie) {
-                        Thread.currentThread().interrupt();
+    private <T> void runTransactionWithRetry(@NotNull Function<Transaction, T> transactionFunction, int attemptNumber,
+                                             @NotNull CompletableFuture<T> result) {
+        ApiFuture<T> future = firestore.runTransaction(transactionFunction::apply);
+        io.bridge(future)
+                .orTimeout(DatabaseConstants.TRANSACTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .whenComplete((value, e) -> {
+                    if (e == null) {
+                        result.complete(value);
+                        return;
                     }
-                    return runTransactionWithRetry(transactionFunction, attemptNumber + 1).join();
-                }
-                LogUtil.severe("트랜잭션 실패 (최대 재시도 횟수 초과): " + e.getMessage());
-                throw new CompletionException(e);
-            }
-        });
+                    if (attemptNumber < MAX_RETRY_ATTEMPTS - 1) {
+                        long delayMs = INITIAL_RETRY_DELAY_MS * (long) Math.pow(DatabaseConstants.RETRY_BACKOFF_MULTIPLIER, attemptNumber);
+                        LogUtil.debug("트랜잭션 재시도 중... (시도 " + (attemptNumber + 1) + "/" + MAX_RETRY_ATTEMPTS + ")");
+                        try {
+                            scheduler.schedule(() -> runTransactionWithRetry(transactionFunction, attemptNumber + 1, result),
+                                    delayMs, TimeUnit.MILLISECONDS);
+                            return;
+                        } catch (RejectedExecutionException rejected) {
+                            // 종료 중이면 재시도하지 않음
+                        }
+                    }
+                    LogUtil.severe("트랜잭션 실패 (최대 재시도 횟수 초과): " + e.getMessage());
+                    result.completeExceptionally(new CompletionException(e));
+                });
     }
     
     /**
      * 부분 업데이트 (특정 필드만)
      */
     public CompletableFuture<Void> updateFields(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> fields) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                ApiFuture<WriteResult> future = firestore.collection(collection).document(documentId).update(fields);
-                future.get(DatabaseConstants.WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
-                return null;
-            } catch (Exception e) {
-                LogUtil.warning("필드 업데이트 실패 [" + collection + "/" + documentId + "]: " + e.getMessage());
-                // 실패 시 전체 데이터로 배치 큐에 추가
-                addToBatch(collection, documentId, fields, DataPriority.HIGH);
-                return null;
-            }
-        });
+        ApiFuture<WriteResult> future = firestore.collection(collection).document(documentId).update(fields);
+        return io.bridge(future)
+                .orTimeout(DatabaseConstants.WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        LogUtil.warning("필드 업데이트 실패 [" + collection + "/" + documentId + "]: " + e.getMessage());
+                        // 실패 시 전체 데이터로 배치 큐에 추가
+                        addToBatch(collection, documentId, fields, DataPriority.HIGH);
+                    }
+                    return null;
+                });
     }
     
     /**
      * 배치 실행
      */
     private CompletableFuture<Void> executeBatch(@NotNull String collection, @NotNull List<BatchWriteEntry> entries) {
-        return CompletableFuture.runAsync(() -> {
-            List<List<BatchWriteEntry>> chunks = partitionList(entries, BATCH_SIZE_LIMIT);
-            for (List<BatchWriteEntry> chunk : chunks) {
-                WriteBatch batch = firestore.batch();
-                for (BatchWriteEntry entry : chunk) {
-                    batch.set(firestore.collection(collection).document(entry.documentId), entry.data, SetOptions.merge());
-                }
-                try {
-                    ApiFuture<List<WriteResult>> future = batch.commit();
-                    future.get(30, TimeUnit.SECONDS);
-                    LogUtil.debug("배치 저장 성공: " + collection + " (" + chunk.size() + "개 문서)");
-                } catch (Exception e) {
-                    LogUtil.severe("배치 저장 실패 [" + collection + "]: " + e.getMessage());
-                    // 실패한 항목들을 재시도 큐에 추가
-                    for (BatchWriteEntry entry : chunk) {
-                        failedOperations.offer(new FailedOperation(collection, entry.documentId, entry.data, System.currentTimeMillis()));
-                    }
-                }
+        List<CompletableFuture<Void>> commits = new ArrayList<>();
+        for (List<BatchWriteEntry> chunk : partitionList(entries, BATCH_SIZE_LIMIT)) {
+            WriteBatch batch = firestore.batch();
+            for (BatchWriteEntry entry : chunk) {
+                batch.set(firestore.collection(collection).document(entry.documentId), entry.data, SetOptions.merge());
             }
-        });
+            // 청크끼리는 서로 다른 문서이므로 동시에 커밋
+            commits.add(io.bridge(batch.commit())
+                    .orTimeout(DatabaseConstants.BATCH_COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .handle((results, e) -> {
+                        if (e == null) {
+                            LogUtil.debug("배치 저장 성공: " + collection + " (" + chunk.size() + "개 문서)");
+                            return null;
+                        }
+                        LogUtil.severe("배치 저장 실패 [" + collection + "]: " + e.getMessage());
+                        // 실패한 항목들을 보관소에 기록 (백오프 후 재전송)
+                        for (BatchWriteEntry entry : chunk) {
+                            deadLetters.add(collection, entry.documentId, entry.data);
+                        }
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(commits.toArray(new CompletableFuture<?>[0]));
     }
     
     /**
-     * 실패한 작업 재시도
+     * 저장 실패 문서 재전송 (재시도 시각이 된 문서를 초당 재전송 수만큼, 이전 재전송이 끝난 뒤에만)
      */
-    private void retryFailedOperations() {
-        if (failedOperations.isEmpty()) return;
-        List<FailedOperation> toRetry = new ArrayList<>();
-        FailedOperation op;
-        long now = System.currentTimeMillis();
-        // 5분 이상 지난 실패 작업만 재시도
-        while ((op = failedOperations.poll()) != null) {
-            if (now - op.timestamp > 300000) { // 5분
-                toRetry.add(op);
-            } else {
-                failedOperations.offer(op); // 다시 큐에 넣기
-                break;
-            }
+    private void replayDeadLetters() {
+        deadLetters.sync();
+        if (!replaying.compareAndSet(false, true)) return;
+
+        List<DeadLetterSpool.ReplayItem> due = deadLetters.pollDue(replayPerSecond, System.currentTimeMillis());
+        if (due.isEmpty()) {
+            replaying.set(false);
+            return;
         }
-        for (FailedOperation failedOp : toRetry) {
-            addToBatch(failedOp.collection, failedOp.documentId, failedOp.data, DataPriority.LOW);
+
+        List<CompletableFuture<Void>> commits = new ArrayList<>();
+        for (List<DeadLetterSpool.ReplayItem> chunk : partitionList(due, BATCH_SIZE_LIMIT)) {
+            WriteBatch batch = firestore.batch();
+            for (DeadLetterSpool.ReplayItem item : chunk) {
+                DocumentReference document = firestore.collection(item.collection()).document(item.documentId());
+                if (item.replace()) {
+                    batch.set(document, item.data());
+                } else {
+                    batch.set(document, item.data(), SetOptions.merge());
+                }
+            }
+            commits.add(io.bridge(batch.commit())
+                    .orTimeout(DatabaseConstants.BATCH_COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .handle((results, e) -> {
+                        deadLetters.complete(chunk, e == null);
+                        if (e != null) {
+                            LogUtil.debug("저장 실패 문서 재전송 실패 (" + chunk.size() + "개): " + e.getMessage());
+                        }
+                        return null;
+                    }));
         }
-        
-        if (!toRetry.isEmpty()) {
-            LogUtil.info("실패한 작업 " + toRetry.size() + "개 재시도 시작");
+        CompletableFuture.allOf(commits.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, e) -> replaying.set(false));
+    }
+    
+    /**
+     * 저장 실패 보관소 통계
+     */
+    @NotNull
+    public DeadLetterSpool.SpoolStats getDeadLetterStats() {
+        return deadLetters.getStats();
+    }
+    
+    /**
+     * 종료 저장 시작 (대기 중인 배치 큐의 문서를 모두 넘겨받음)
+     *
+     * @param deadlineMillis 전체 제한 시각 (epoch 밀리초)
+     */
+    @NotNull
+    public ShutdownFlusher beginShutdownFlush(int maxConcurrentBatches, long deadlineMillis) {
+        ShutdownFlusher flusher = new ShutdownFlusher(firestore, io, deadLetters, maxConcurrentBatches, deadlineMillis);
+        for (BatchWriteQueue queue : batchQueues.values()) {
+            queue.drainTo(flusher);
         }
+        return flusher;
     }
     
     /**
@@ -200,8 +259,38 @@ public class FirestoreHelper {
             scheduler.shutdownNow();
             Thread.currentThread().interrupt();
         }
+        // 남은 실패 문서는 파일에 남아 다음 시작 시 재전송
+        deadLetters.close();
     }
     
+    /**
+     * 중첩 맵 병합 (source의 값이 우선, 양쪽 모두 맵이면 재귀 병합)
+     * 병합 저장(SetOptions.merge())은 중첩 맵을 필드 단위로 병합하므로 부분 문서끼리 합쳐도 결과가 같음
+     */
+    @SuppressWarnings("unchecked")
+    static void mergeInto(@NotNull Map<String, Object> target, @NotNull Map<String, Object> source) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object existing = target.get(entry.getKey());
+            if (existing instanceof Map && entry.getValue() instanceof Map) {
+                mergeInto((Map<String, Object>) existing, (Map<String, Object>) entry.getValue());
+            } else {
+                target.put(entry.getKey(), entry.getValue() instanceof Map
+                        ? deepCopy((Map<String, Object>) entry.getValue())
+                        : entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * 중첩 맵 복사 (병합 시 호출자의 맵을 수정하지 않도록)
+     */
+    @NotNull
+    static Map<String, Object> deepCopy(@NotNull Map<String, Object> source) {
+        Map<String, Object> copy = new HashMap<>();
+        mergeInto(copy, source);
+        return copy;
+    }
+
     /**
      * 리스트를 지정된 크기로 분할
      */
@@ -236,12 +325,6 @@ public class FirestoreHelper {
     private record BatchWriteEntry(String documentId, Map<String, Object> data) {
     }
     
-    /**
-     * 실패한 작업 정보
-     */
-    private record FailedOperation(String collection, String documentId, Map<String, Object> data, long timestamp) {
-    }
-    
     /**
      * 배치 쓰기 큐
      */
@@ -260,7 +343,14 @@ public class FirestoreHelper {
         }
         
         void add(String documentId, Map<String, Object> data) {
-            pendingWrites.put(documentId, data);
+            // 같은 문서의 대기 중인 부분 문서와 병합 (나중 값 우선)
+            pendingWrites.compute(documentId, (id, pending) -> {
+                if (pending == null) {
+                    return deepCopy(data);
+                }
+                mergeInto(pending, data);
+                return pending;
+            });
             // 배치 크기 제한에 도달하면 즉시 플러시
             if (pendingWrites.size() >= BATCH_SIZE_LIMIT) {
                 flush();
@@ -272,10 +362,14 @@ public class FirestoreHelper {
                 return CompletableFuture.completedFuture(null);
             }
             
-            // 현재 대기 중인 쓰기 작업들을 복사하고 클리어
+            // 현재 대기 중인 쓰기 작업들을 문서 단위로 꺼냄 (꺼내는 중 추가된 변경은 다음 플러시로)
             List<BatchWriteEntry> entries = new ArrayList<>();
-            pendingWrites.forEach((id, data) -> entries.add(new BatchWriteEntry(id, new HashMap<>(data))));
-            pendingWrites.clear();
+            for (String id : pendingWrites.keySet()) {
+                Map<String, Object> data = pendingWrites.remove(id);
+                if (data != null) {
+                    entries.add(new BatchWriteEntry(id, data));
+                }
+            }
             // 다음 플러시 재스케줄
             if (scheduledFlush != null) {
                 scheduledFlush.cancel(false);
@@ -285,6 +379,21 @@ public class FirestoreHelper {
             return batchExecutor.apply(collection, entries);
         }
         
+        /**
+         * 대기 중인 쓰기를 종료 저장으로 넘김 (예약된 플러시는 취소)
+         */
+        void drainTo(@NotNull ShutdownFlusher flusher) {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+            }
+            for (String id : pendingWrites.keySet()) {
+                Map<String, Object> data = pendingWrites.remove(id);
+                if (data != null) {
+                    flusher.stage(collection, id, data);
+                }
+            }
+        }
+        
         private void scheduleNextFlush() {
             // 3-5분 사이 랜덤 간격 (서버 부하 분산)
             long baseInterval = priority.getSaveIntervalMs();
@@ -0,0 +1,270 @@
+package com.febrie.rpg.database.helper;
+
+import com.febrie.rpg.database.FirestoreIoExecutor;
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.util.LogUtil;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.WriteBatch;
+import com.google.cloud.firestore.WriteResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 서버 종료 저장
+ * 종료 직전의 변경 상태(플레이어 프로필, 퀘스트, 배치 대기열)를 문서 단위로 모아 병합한 뒤
+ * {@link DatabaseConstants#BATCH_SIZE_LIMIT}개씩 WriteBatch로 묶어 병렬로 커밋
+ * - 동시에 커밋하는 배치 수를 제한하고, 하나가 끝나면 다음 배치를 시작
+ * - 전체 제한 시각이 지나면 새 커밋을 시작하지 않으며, 보내지 못했거나 실패한 문서는
+ *   저장 실패 보관소({@link DeadLetterSpool})에 기록되어 다음 시작 시 재전송
+ * - 문서는 병합 저장이 기본이며, 전체 교체로 모을 수도 있음
+ * - 한 번만 사용 ({@link #flush} 이후 모은 문서는 바로 보관소로 감)
+ *
+ * @author Febrie
+ */
+public final class ShutdownFlusher {
+
+    /**
+     * 종료 저장 결과
+     *
+     * @param documents 모은 문서 수
+     * @param written   저장된 문서 수
+     * @param spilled   보관소로 넘긴 문서 수
+     * @param batches   배치 수
+     * @param elapsedMs 소요 시간 (밀리초)
+     */
+    public record FlushResult(int documents, int written, int spilled, int batches, long elapsedMs) {
+    }
+
+    /**
+     * 모은 문서 (같은 문서는 하나로 병합)
+     */
+    private static final class PendingDocument {
+        private final String collection;
+        private final String documentId;
+        private Map<String, Object> data = new HashMap<>();
+        private boolean replace;
+        private final List<Consumer<Timestamp>> onCommitted = new ArrayList<>();
+
+        private PendingDocument(@NotNull String collection, @NotNull String documentId) {
+            this.collection = collection;
+            this.documentId = documentId;
+        }
+    }
+
+    private final Firestore firestore;
+    private final FirestoreIoExecutor.Channel io;
+    private final DeadLetterSpool deadLetters;
+    private final int maxConcurrentBatches;
+    private final long deadlineMillis;
+
+    // 컬렉션/문서 ID -> 모은 문서 (this로 동기화)
+    private final Map<String, PendingDocument> documents = new LinkedHashMap<>();
+    private boolean flushed;
+
+    // 배치 번호 -> 아직 결과가 정해지지 않은 배치 (먼저 제거한 쪽이 저장 / 보관을 결정)
+    private final Map<Integer, List<PendingDocument>> outstanding = new ConcurrentHashMap<>();
+    private final Queue<Integer> waiting = new ConcurrentLinkedQueue<>();
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger spilled = new AtomicInteger();
+
+    ShutdownFlusher(@NotNull Firestore firestore, @NotNull FirestoreIoExecutor.Channel io,
+                    @NotNull DeadLetterSpool deadLetters, int maxConcurrentBatches, long deadlineMillis) {
+        this.firestore = firestore;
+        this.io = io;
+        this.deadLetters = deadLetters;
+        this.maxConcurrentBatches = Math.max(1, maxConcurrentBatches);
+        this.deadlineMillis = deadlineMillis;
+    }
+
+    /**
+     * 전체 제한 시각 (epoch 밀리초)
+     */
+    public long getDeadlineMillis() {
+        return deadlineMillis;
+    }
+
+    /**
+     * 병합 저장할 문서 추가 (같은 문서가 이미 있으면 병합, 나중 값 우선)
+     */
+    public void stage(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        stage(collection, documentId, data, false, null);
+    }
+
+    /**
+     * 저장할 문서 추가
+     *
+     * @param replace     전체 교체 저장 여부 (true면 앞서 모은 내용을 대체)
+     * @param onCommitted 저장에 성공했을 때 문서 수정 시각을 받아 실행할 작업
+     *                    (커밋 완료 스레드에서 실행, 보관소로 넘어가면 실행되지 않음)
+     */
+    public synchronized void stage(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data,
+                                   boolean replace, @Nullable Consumer<Timestamp> onCommitted) {
+        if (flushed) {
+            // 저장이 이미 시작되었으면 바로 보관소로
+            deadLetters.add(collection, documentId, data, replace);
+            return;
+        }
+
+        String key = collection + "/" + documentId;
+        PendingDocument document = documents.get(key);
+        if (document == null) {
+            document = new PendingDocument(collection, documentId);
+            // 보관 중인 실패 문서가 있으면 아래에 깔고 함께 저장 (오래된 상태가 나중에 덮어쓰지 않도록)
+            DeadLetterSpool.ReplayItem spooled = deadLetters.takeItem(collection, documentId);
+            if (spooled != null) {
+                document.data = spooled.data();
+                document.replace = spooled.replace();
+            }
+            documents.put(key, document);
+        }
+
+        if (replace) {
+            document.data = FirestoreHelper.deepCopy(data);
+            document.replace = true;
+        } else {
+            FirestoreHelper.mergeInto(document.data, data);
+        }
+        if (onCommitted != null) {
+            document.onCommitted.add(onCommitted);
+        }
+    }
+
+    /**
+     * 모은 문서 저장 (제한 시각까지 대기)
+     * 제한 시각이 지나도 끝나지 않은 배치는 보관소로 넘기고 반환
+     */
+    @NotNull
+    public FlushResult flush() {
+        List<PendingDocument> pending;
+        synchronized (this) {
+            if (flushed) {
+                throw new IllegalStateException("ShutdownFlusher already flushed");
+            }
+            flushed = true;
+            pending = new ArrayList<>(documents.values());
+            documents.clear();
+        }
+
+        long start = System.currentTimeMillis();
+        if (pending.isEmpty()) {
+            return new FlushResult(0, 0, 0, 0, 0L);
+        }
+
+        int batches = 0;
+        for (int from = 0; from < pending.size(); from += DatabaseConstants.BATCH_SIZE_LIMIT) {
+            outstanding.put(batches, pending.subList(from, Math.min(from + DatabaseConstants.BATCH_SIZE_LIMIT, pending.size())));
+            waiting.add(batches);
+            batches++;
+        }
+        LogUtil.info("종료 저장 시작: 문서 " + pending.size() + "개, 배치 " + batches + "개 (동시 " + maxConcurrentBatches + "개)");
+
+        for (int i = 0; i < Math.min(maxConcurrentBatches, batches); i++) {
+            commitNext();
+        }
+
+        try {
+            completion.get(Math.max(0L, deadlineMillis - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            LogUtil.warning("종료 저장 제한 시간 초과 - 남은 배치 " + outstanding.size() + "개를 보관소로 넘깁니다.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // completion은 정상 완료만 함
+        }
+
+        // 시작하지 못했거나 끝나지 않은 배치 (늦게 끝난 커밋의 결과는 무시되며, 같은 내용을 다시 써도 결과가 같음)
+        for (Integer index : new ArrayList<>(outstanding.keySet())) {
+            List<PendingDocument> chunk = outstanding.remove(index);
+            if (chunk != null) {
+                spill(chunk);
+            }
+        }
+        deadLetters.sync();
+
+        FlushResult result = new FlushResult(pending.size(), written.get(), spilled.get(), batches,
+                System.currentTimeMillis() - start);
+        if (result.spilled() > 0) {
+            LogUtil.warning("종료 저장 완료: 저장 " + result.written() + "개, 보관소로 넘김 " + result.spilled()
+                    + "개 (다음 시작 시 재전송, " + result.elapsedMs() + "ms)");
+        } else {
+            LogUtil.info("종료 저장 완료: 문서 " + result.written() + "개 (" + result.elapsedMs() + "ms)");
+        }
+        return result;
+    }
+
+    /**
+     * 대기 중인 다음 배치 커밋 (제한 시각이 지났으면 시작하지 않음)
+     */
+    private void commitNext() {
+        Integer index = waiting.poll();
+        if (index == null) return;
+        List<PendingDocument> chunk = outstanding.get(index);
+        if (chunk == null) return;
+
+        long remainingMs = deadlineMillis - System.currentTimeMillis();
+        if (remainingMs <= 0) return;
+
+        CompletableFuture<List<WriteResult>> commit;
+        try {
+            WriteBatch batch = firestore.batch();
+            for (PendingDocument document : chunk) {
+                DocumentReference reference = firestore.collection(document.collection).document(document.documentId);
+                if (document.replace) {
+                    batch.set(reference, document.data);
+                } else {
+                    batch.set(reference, document.data, SetOptions.merge());
+                }
+            }
+            commit = io.bridge(batch.commit());
+        } catch (Exception e) {
+            commit = CompletableFuture.failedFuture(e);
+        }
+
+        commit.orTimeout(remainingMs, TimeUnit.MILLISECONDS).whenComplete((results, e) -> {
+            List<PendingDocument> done = outstanding.remove(index);
+            if (done != null) {
+                if (e == null) {
+                    written.addAndGet(done.size());
+                    // 커밋 결과는 배치에 추가한 순서와 같음
+                    for (int i = 0; i < done.size(); i++) {
+                        Timestamp updateTime = results.get(i).getUpdateTime();
+                        done.get(i).onCommitted.forEach(callback -> callback.accept(updateTime));
+                    }
+                } else {
+                    LogUtil.warning("종료 저장 배치 실패 (" + done.size() + "개 문서, 보관소로 넘김): " + e.getMessage());
+                    spill(done);
+                }
+            }
+            if (outstanding.isEmpty()) {
+                completion.complete(null);
+            }
+            commitNext();
+        });
+    }
+
+    private void spill(@NotNull List<PendingDocument> chunk) {
+        for (PendingDocument document : chunk) {
+            deadLetters.add(document.collection, document.documentId, document.data, document.replace);
+        }
+        spilled.addAndGet(chunk.size());
+    }
+}
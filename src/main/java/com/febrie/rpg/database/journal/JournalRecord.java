@@ -0,0 +1,158 @@
+package com.febrie.rpg.database.journal;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+/**
+ * 선기록 저널 레코드
+ * 변경 후의 절대값(목표 진행도, 재화 잔액)을 기록하므로 여러 번 재적용해도 결과가 같음
+ * <p>
+ * 바이너리 형식: [int 본문 길이][int CRC32][본문]
+ * 본문: [long 세대][byte 종류][long 시각][long UUID 상위][long UUID 하위][short+bytes 키][short+bytes 보조 키][long 값][byte 완료 여부]
+ *
+ * @param type      레코드 종류
+ * @param playerId  플레이어 UUID
+ * @param key       퀘스트 인스턴스 ID 또는 통화 ID
+ * @param subKey    목표 ID (재화 레코드는 빈 문자열)
+ * @param value     목표 진행도 또는 재화 잔액
+ * @param completed 목표 완료 여부 (재화 레코드는 false)
+ * @param timestamp 변경 시각
+ * @author Febrie
+ */
+public record JournalRecord(@NotNull Type type, @NotNull UUID playerId, @NotNull String key, @NotNull String subKey,
+                            long value, boolean completed, long timestamp) {
+
+    /**
+     * 레코드 종류
+     */
+    public enum Type {
+        QUEST_PROGRESS,
+        WALLET_BALANCE;
+
+        private static final Type[] VALUES = values();
+    }
+
+    /**
+     * 레코드 머리 크기 (본문 길이 + CRC32)
+     */
+    static final int FRAME_HEADER_SIZE = Integer.BYTES * 2;
+
+    /**
+     * 본문 최대 크기 (손상된 길이 값 검출용)
+     */
+    static final int MAX_BODY_SIZE = 4096;
+
+    /**
+     * 퀘스트 목표 진행도 레코드
+     */
+    @NotNull
+    public static JournalRecord questProgress(@NotNull UUID playerId, @NotNull String instanceId,
+                                              @NotNull String objectiveId, int progress, boolean completed) {
+        return new JournalRecord(Type.QUEST_PROGRESS, playerId, instanceId, objectiveId, progress, completed,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 재화 잔액 레코드
+     */
+    @NotNull
+    public static JournalRecord walletBalance(@NotNull UUID playerId, @NotNull String currencyId, long balance) {
+        return new JournalRecord(Type.WALLET_BALANCE, playerId, currencyId, "", balance, false,
+                System.currentTimeMillis());
+    }
+
+    /**
+     * 같은 대상의 이전 레코드를 대체하는 슬롯 키 (플레이어 내 고유)
+     */
+    @NotNull
+    String slot() {
+        return type.ordinal() + ":" + key + "/" + subKey;
+    }
+
+    /**
+     * 프레임(머리 + 본문)으로 인코딩
+     */
+    @NotNull
+    byte[] encode(long epoch) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] subKeyBytes = subKey.getBytes(StandardCharsets.UTF_8);
+
+        // 세대, 시각, UUID(2), 값 + 종류, 완료 여부 + 키 길이(2) + 키
+        int bodySize = Long.BYTES * 5 + 2 + Short.BYTES * 2 + keyBytes.length + subKeyBytes.length;
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + bodySize);
+        frame.putInt(bodySize);
+        frame.putInt(0); // CRC32 자리
+
+        frame.putLong(epoch);
+        frame.put((byte) type.ordinal());
+        frame.putLong(timestamp);
+        frame.putLong(playerId.getMostSignificantBits());
+        frame.putLong(playerId.getLeastSignificantBits());
+        frame.putShort((short) keyBytes.length);
+        frame.put(keyBytes);
+        frame.putShort((short) subKeyBytes.length);
+        frame.put(subKeyBytes);
+        frame.putLong(value);
+        frame.put((byte) (completed ? 1 : 0));
+
+        CRC32 crc = new CRC32();
+        crc.update(frame.array(), FRAME_HEADER_SIZE, bodySize);
+        frame.putInt(Integer.BYTES, (int) crc.getValue());
+        return frame.array();
+    }
+
+    /**
+     * 현재 위치의 프레임 디코딩
+     * 길이/CRC가 맞지 않거나 다른 세대의 레코드이면 (기록 중 중단 / 이전 세대의 잔여 데이터) null 반환하고
+     * 위치는 변경하지 않음
+     */
+    @Nullable
+    static JournalRecord decode(@NotNull ByteBuffer buffer, long epoch) {
+        int start = buffer.position();
+        if (buffer.remaining() < FRAME_HEADER_SIZE) return null;
+
+        int bodySize = buffer.getInt(start);
+        int checksum = buffer.getInt(start + Integer.BYTES);
+        if (bodySize <= 0 || bodySize > MAX_BODY_SIZE || bodySize > buffer.remaining() - FRAME_HEADER_SIZE) {
+            return null;
+        }
+
+        byte[] body = new byte[bodySize];
+        buffer.get(start + FRAME_HEADER_SIZE, body);
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        if ((int) crc.getValue() != checksum) return null;
+
+        try {
+            ByteBuffer in = ByteBuffer.wrap(body);
+            if (in.getLong() != epoch) return null;
+
+            int typeOrdinal = in.get();
+            if (typeOrdinal < 0 || typeOrdinal >= Type.VALUES.length) return null;
+
+            long timestamp = in.getLong();
+            UUID playerId = new UUID(in.getLong(), in.getLong());
+            String key = readString(in);
+            String subKey = readString(in);
+            long value = in.getLong();
+            boolean completed = in.get() != 0;
+
+            buffer.position(start + FRAME_HEADER_SIZE + bodySize);
+            return new JournalRecord(Type.VALUES[typeOrdinal], playerId, key, subKey, value, completed, timestamp);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @NotNull
+    private static String readString(@NotNull ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,155 @@
+package com.febrie.rpg.database.journal;
+
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.database.journal.JournalRecord.Type;
+import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
+import com.febrie.rpg.database.service.impl.QuestFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StorageFieldPath;
+import com.febrie.rpg.database.storage.StoredDocument;
+import com.febrie.rpg.dto.quest.ActiveQuestDTO;
+import com.febrie.rpg.dto.quest.ObjectiveProgressDTO;
+import com.febrie.rpg.dto.quest.PlayerQuestDTO;
+import com.febrie.rpg.util.FirestoreUtils;
+import com.febrie.rpg.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널 재적용기
+ * 이전 실행에서 저장소 저장이 확인되지 않은 저널 레코드를 서버 시작 시(플레이어 접속 전) 문서에 반영
+ * - 문서에 이미 더 최신 값이 저장되어 있으면 건너뜀 (저장 시각 비교)
+ * - 레코드가 가리키는 활성 퀘스트 / 문서가 없으면 건너뜀 (퀘스트 시작 자체가 저장되지 않은 경우)
+ * - 반영에 실패한 플레이어의 레코드는 저널에 남겨 다음 시작 시 다시 시도
+ *
+ * @author Febrie
+ */
+public final class JournalReplayer {
+
+    private JournalReplayer() {
+    }
+
+    /**
+     * 미확인 레코드 재적용 (메인 스레드에서 블로킹 실행)
+     */
+    public static void replay(@NotNull DocumentStorage storage) {
+        WriteAheadJournal journal = WriteAheadJournal.getInstance();
+        if (journal == null) return;
+
+        List<JournalRecord> records = journal.getOutstandingRecords();
+        if (records.isEmpty()) return;
+
+        long upToSequence = journal.currentSequence();
+
+        // 플레이어 -> 종류 -> 레코드
+        Map<UUID, Map<Type, List<JournalRecord>>> byPlayer = new HashMap<>();
+        for (JournalRecord record : records) {
+            byPlayer.computeIfAbsent(record.playerId(), id -> new EnumMap<>(Type.class))
+                    .computeIfAbsent(record.type(), type -> new ArrayList<>())
+                    .add(record);
+        }
+
+        LogUtil.info("로컬 저널 재적용 시작 (플레이어 " + byPlayer.size() + "명, 레코드 " + records.size() + "개)");
+        int applied = 0;
+        int failed = 0;
+
+        for (Map.Entry<UUID, Map<Type, List<JournalRecord>>> entry : byPlayer.entrySet()) {
+            UUID playerId = entry.getKey();
+            for (Map.Entry<Type, List<JournalRecord>> typed : entry.getValue().entrySet()) {
+                try {
+                    applied += switch (typed.getKey()) {
+                        case QUEST_PROGRESS -> replayQuestProgress(storage, playerId, typed.getValue());
+                        case WALLET_BALANCE -> replayWalletBalance(storage, playerId, typed.getValue());
+                    };
+                    journal.acknowledge(playerId, typed.getKey(), upToSequence);
+                } catch (Exception e) {
+                    failed += typed.getValue().size();
+                    LogUtil.severe("저널 재적용 실패 [" + playerId + "/" + typed.getKey() + "]: " + e.getMessage());
+                }
+            }
+        }
+
+        if (failed > 0) {
+            LogUtil.severe("로컬 저널 재적용 완료 (반영: " + applied + ", 실패: " + failed + " - 다음 시작 시 재시도)");
+        } else {
+            LogUtil.info("로컬 저널 재적용 완료 (반영: " + applied + "개)");
+        }
+    }
+
+    /**
+     * 퀘스트 목표 진행도 재적용
+     *
+     * @return 반영된 목표 수
+     */
+    private static int replayQuestProgress(@NotNull DocumentStorage storage, @NotNull UUID playerId,
+                                           @NotNull List<JournalRecord> records) throws Exception {
+        String documentId = playerId.toString();
+        StoredDocument snapshot = storage.get(QuestFirestoreService.COLLECTION_NAME, documentId)
+                .get(DatabaseConstants.JOURNAL_REPLAY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (snapshot == null) return 0;
+
+        Map<String, ActiveQuestDTO> activeQuests = PlayerQuestDTO.fromMap(snapshot.data()).activeQuests();
+        Map<StorageFieldPath, Object> fields = new HashMap<>();
+        int applied = 0;
+
+        for (JournalRecord record : records) {
+            ActiveQuestDTO quest = activeQuests.get(record.key());
+            if (quest == null) continue;
+
+            ObjectiveProgressDTO stored = quest.progress().get(record.subKey());
+            if (stored == null || stored.lastUpdated() > record.timestamp()) continue;
+
+            fields.put(QuestFirestoreService.objectiveField(record.key(), record.subKey(), "progress"), (int) record.value());
+            fields.put(QuestFirestoreService.objectiveField(record.key(), record.subKey(), "completed"), record.completed());
+            fields.put(QuestFirestoreService.objectiveField(record.key(), record.subKey(), "lastUpdated"), record.timestamp());
+            applied++;
+        }
+
+        if (applied > 0) {
+            fields.put(QuestFirestoreService.lastUpdatedField(), System.currentTimeMillis());
+            storage.update(QuestFirestoreService.COLLECTION_NAME, documentId, fields)
+                    .get(DatabaseConstants.JOURNAL_REPLAY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        return applied;
+    }
+
+    /**
+     * 재화 잔액 재적용
+     *
+     * @return 반영된 통화 수
+     */
+    private static int replayWalletBalance(@NotNull DocumentStorage storage, @NotNull UUID playerId,
+                                           @NotNull List<JournalRecord> records) throws Exception {
+        String documentId = playerId.toString();
+        StoredDocument snapshot = storage.get(PlayerFirestoreService.COLLECTION_NAME, documentId)
+                .get(DatabaseConstants.JOURNAL_REPLAY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (snapshot == null) return 0;
+
+        Map<String, Object> wallet = FirestoreUtils.getMap(snapshot.data(), "wallet", new HashMap<>());
+        long storedUpdated = FirestoreUtils.getLong(wallet, "lastUpdated", 0L);
+
+        Map<StorageFieldPath, Object> fields = new HashMap<>();
+        long latest = storedUpdated;
+        for (JournalRecord record : records) {
+            if (storedUpdated >= record.timestamp()) continue;
+
+            fields.put(StorageFieldPath.of("wallet", record.key()), record.value());
+            latest = Math.max(latest, record.timestamp());
+        }
+
+        if (fields.isEmpty()) return 0;
+
+        int applied = fields.size();
+        fields.put(StorageFieldPath.of("wallet", "lastUpdated"), latest);
+        storage.update(PlayerFirestoreService.COLLECTION_NAME, documentId, fields)
+                .get(DatabaseConstants.JOURNAL_REPLAY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return applied;
+    }
+}
@@ -0,0 +1,357 @@
+package com.febrie.rpg.database.journal;
+
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.database.journal.JournalRecord.Type;
+import com.febrie.rpg.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 선기록(write-ahead) 저널
+ * 퀘스트 목표 진행도와 재화 잔액 변경을 메모리 매핑된 추가 전용 파일에 바이너리 레코드로 기록하여,
+ * Firestore 자동 저장 사이에 서버가 비정상 종료되어도 다음 시작 시 재적용할 수 있도록 함
+ * - 레코드는 변경 후의 절대값이므로 재적용은 멱등
+ * - 디스크 동기화(force)는 일정 간격으로 묶어서 수행 (그룹 동기화)
+ * - Firestore 저장 성공 시 해당 플레이어의 레코드를 확인 처리하고, 미확인 레코드가 없으면 파일을 비움
+ * <p>
+ * 파일은 두 개를 번갈아 사용하며, 각 파일 머리에 세대 번호를 기록함
+ * 비우기는 세대 번호만 올리고(이전 세대 레코드는 재생 시 무시), 공간이 부족하면 미확인 레코드만
+ * 다른 파일에 다시 쓴 뒤 머리를 마지막에 기록하여 압축 도중 중단되어도 이전 파일이 유효하게 남도록 함
+ *
+ * @author Febrie
+ */
+public final class WriteAheadJournal {
+
+    private static final int MAGIC = 0x53524A4C; // "SRJL"
+    private static final int VERSION = 1;
+    // 머리: [int 매직][int 버전][long 세대]
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+    private static final String[] FILE_NAMES = {"journal-0.wal", "journal-1.wal"};
+
+    private static WriteAheadJournal instance;
+
+    /**
+     * 미확인 레코드 (같은 슬롯의 최신 레코드만 유지)
+     */
+    private record PendingRecord(long sequence, @NotNull JournalRecord record) {
+    }
+
+    private final Path directory;
+    private final FileChannel[] channels = new FileChannel[FILE_NAMES.length];
+    private final ScheduledExecutorService syncExecutor;
+
+    private MappedByteBuffer buffer;
+    private int active;
+    private int capacity;
+    private long epoch;
+    private long sequence;
+    private volatile boolean unsynced;
+    private boolean closed;
+
+    // 플레이어 -> 슬롯 -> Firestore에 아직 반영되지 않은 최신 레코드
+    private final Map<UUID, Map<String, PendingRecord>> outstanding = new HashMap<>();
+
+    private WriteAheadJournal(@NotNull Path directory, int capacity, long syncIntervalMs) throws IOException {
+        this.directory = directory;
+        this.capacity = capacity;
+        Files.createDirectories(directory);
+        open();
+
+        this.syncExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "RPG-Journal-Sync");
+            t.setDaemon(true);
+            return t;
+        });
+        syncExecutor.scheduleWithFixedDelay(this::sync, syncIntervalMs, syncIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 저널 초기화 (config.yml의 data.journal 설정 사용)
+     * 이전 실행에서 확인되지 않은 레코드는 {@link #getOutstandingRecords()}로 조회하여 재적용
+     *
+     * @return 초기화 성공 여부 (비활성화 또는 실패 시 false, 저널 없이 동작)
+     */
+    public static boolean initialize(@NotNull RPGMain plugin) {
+        if (instance != null) return true;
+        if (!plugin.getConfig().getBoolean("data.journal.enabled", true)) {
+            LogUtil.info("로컬 저널 비활성화됨");
+            return false;
+        }
+
+        int sizeMb = Math.max(1, plugin.getConfig().getInt("data.journal.size-mb", DatabaseConstants.JOURNAL_DEFAULT_SIZE_MB));
+        long syncIntervalMs = Math.max(10L, plugin.getConfig().getLong("data.journal.sync-interval-ms",
+                DatabaseConstants.JOURNAL_SYNC_INTERVAL_MS));
+
+        try {
+            instance = new WriteAheadJournal(new File(plugin.getDataFolder(), "journal").toPath(),
+                    sizeMb * 1024 * 1024, syncIntervalMs);
+            LogUtil.info("로컬 저널 초기화 완료 (미확인 레코드: " + instance.getOutstandingCount() + "개)");
+            return true;
+        } catch (IOException e) {
+            LogUtil.error("로컬 저널 초기화 실패! 저널 없이 계속합니다.", e);
+            instance = null;
+            return false;
+        }
+    }
+
+    /**
+     * 저널 인스턴스 (비활성화 / 초기화 전이면 null)
+     * {@link #initialize}가 true를 반환한 직후에는 null이 아님
+     */
+    @Nullable
+    public static WriteAheadJournal getInstance() {
+        return instance;
+    }
+
+    /**
+     * 레코드 추가
+     * 같은 플레이어의 같은 대상(목표 / 통화)에 대한 이전 미확인 레코드를 대체
+     */
+    public synchronized void append(@NotNull JournalRecord record) {
+        if (closed) return;
+
+        long seq = ++sequence;
+        outstanding.computeIfAbsent(record.playerId(), id -> new LinkedHashMap<>())
+                .put(record.slot(), new PendingRecord(seq, record));
+
+        byte[] frame = record.encode(epoch);
+        if (buffer.remaining() < frame.length) {
+            // 미확인 레코드만 다른 파일에 다시 씀 (방금 추가한 레코드 포함)
+            compact();
+            return;
+        }
+
+        buffer.put(frame);
+        unsynced = true;
+    }
+
+    /**
+     * 현재 순번 (저장 스냅샷 생성 직전에 조회하여 저장 성공 시 {@link #acknowledge}에 전달)
+     */
+    public synchronized long currentSequence() {
+        return sequence;
+    }
+
+    /**
+     * Firestore 저장 성공 확인
+     * 해당 플레이어의 지정 종류 레코드 중 순번 이하의 레코드를 제거하고, 미확인 레코드가 없으면 파일을 비움
+     *
+     * @param upToSequence 저장 스냅샷 생성 직전의 {@link #currentSequence()}
+     */
+    public synchronized void acknowledge(@NotNull UUID playerId, @NotNull Type type, long upToSequence) {
+        if (closed) return;
+
+        Map<String, PendingRecord> records = outstanding.get(playerId);
+        if (records == null) return;
+
+        Iterator<PendingRecord> iterator = records.values().iterator();
+        while (iterator.hasNext()) {
+            PendingRecord pending = iterator.next();
+            if (pending.record().type() == type && pending.sequence() <= upToSequence) {
+                iterator.remove();
+            }
+        }
+        if (records.isEmpty()) {
+            outstanding.remove(playerId);
+        }
+
+        if (outstanding.isEmpty() && buffer.position() > HEADER_SIZE) {
+            truncate();
+        }
+    }
+
+    /**
+     * 확인되지 않은 모든 레코드 (시작 시 재적용용)
+     */
+    @NotNull
+    public synchronized List<JournalRecord> getOutstandingRecords() {
+        List<JournalRecord> records = new ArrayList<>();
+        outstanding.values().forEach(slots -> slots.values().forEach(pending -> records.add(pending.record())));
+        return records;
+    }
+
+    /**
+     * 확인되지 않은 레코드 수
+     */
+    public synchronized int getOutstandingCount() {
+        int count = 0;
+        for (Map<String, PendingRecord> slots : outstanding.values()) {
+            count += slots.size();
+        }
+        return count;
+    }
+
+    /**
+     * 저널 종료 (남은 변경 동기화)
+     * 정상 종료 시 Firestore 저장이 모두 확인되었다면 파일은 이미 비어 있음
+     */
+    public static void shutdown() {
+        WriteAheadJournal journal = instance;
+        if (journal == null) return;
+
+        journal.syncExecutor.shutdown();
+        synchronized (journal) {
+            journal.buffer.force();
+            journal.closed = true;
+            LogUtil.info("로컬 저널 종료 (미확인 레코드: " + journal.getOutstandingCount() + "개)");
+            for (FileChannel channel : journal.channels) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    LogUtil.warning("저널 파일 닫기 실패: " + e.getMessage());
+                }
+            }
+        }
+        instance = null;
+    }
+
+    /**
+     * 그룹 동기화 (동기화 스레드에서 주기적으로 호출)
+     */
+    private void sync() {
+        if (!unsynced) return;
+        MappedByteBuffer target;
+        synchronized (this) {
+            if (closed) return;
+            unsynced = false;
+            target = buffer;
+        }
+        // 추가 기록과 겹쳐도 되며, 그 사이 기록된 변경은 다음 주기에 동기화됨
+        target.force();
+    }
+
+    /**
+     * 두 파일을 열고 유효한 최신 세대의 레코드를 복원
+     */
+    private void open() throws IOException {
+        long[] epochs = new long[FILE_NAMES.length];
+        for (int i = 0; i < FILE_NAMES.length; i++) {
+            channels[i] = FileChannel.open(directory.resolve(FILE_NAMES[i]),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            epochs[i] = readEpoch(channels[i]);
+        }
+
+        active = epochs[1] > epochs[0] ? 1 : 0;
+        epoch = Math.max(epochs[active], 0L);
+        capacity = (int) Math.max(capacity, channels[active].size());
+        buffer = channels[active].map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        if (epoch == 0) {
+            // 새 저널
+            epoch = 1;
+            writeHeader(buffer, epoch);
+            buffer.force();
+            buffer.position(HEADER_SIZE);
+            return;
+        }
+
+        buffer.position(HEADER_SIZE);
+        JournalRecord record;
+        int recovered = 0;
+        while ((record = JournalRecord.decode(buffer, epoch)) != null) {
+            outstanding.computeIfAbsent(record.playerId(), id -> new LinkedHashMap<>())
+                    .put(record.slot(), new PendingRecord(++sequence, record));
+            recovered++;
+        }
+        if (recovered > 0) {
+            LogUtil.warning("로컬 저널에서 확인되지 않은 레코드 " + recovered + "개 발견 (이전 실행이 비정상 종료됨)");
+        }
+    }
+
+    /**
+     * 파일 머리의 세대 번호 (유효하지 않으면 -1)
+     */
+    private static long readEpoch(@NotNull FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) return -1L;
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.getInt() != MAGIC || header.getInt() != VERSION) return -1L;
+        return header.getLong();
+    }
+
+    private static void writeHeader(@NotNull MappedByteBuffer target, long epoch) {
+        target.putInt(0, MAGIC);
+        target.putInt(Integer.BYTES, VERSION);
+        target.putLong(Integer.BYTES * 2, epoch);
+    }
+
+    /**
+     * 파일 비우기 (세대 번호만 올려 이전 레코드를 무효화)
+     */
+    private void truncate() {
+        epoch++;
+        writeHeader(buffer, epoch);
+        buffer.force();
+        buffer.position(HEADER_SIZE);
+        unsynced = false;
+    }
+
+    /**
+     * 미확인 레코드만 다른 파일에 새 세대로 다시 쓰고 활성 파일 전환
+     * 레코드를 먼저 쓰고 동기화한 뒤 머리를 기록하므로, 중단되면 기존 파일이 그대로 유효함
+     */
+    private void compact() {
+        long nextEpoch = epoch + 1;
+        List<byte[]> frames = new ArrayList<>();
+        long required = HEADER_SIZE;
+        for (Map<String, PendingRecord> slots : outstanding.values()) {
+            for (PendingRecord pending : slots.values()) {
+                byte[] frame = pending.record().encode(nextEpoch);
+                frames.add(frame);
+                required += frame.length;
+            }
+        }
+
+        // 다시 쓴 뒤에도 절반 이상 여유가 있도록 필요 시 확장
+        int nextCapacity = capacity;
+        while (nextCapacity < required * 2 && nextCapacity < Integer.MAX_VALUE / 2) {
+            nextCapacity *= 2;
+        }
+
+        int next = 1 - active;
+        try {
+            MappedByteBuffer target = channels[next].map(FileChannel.MapMode.READ_WRITE, 0, nextCapacity);
+            target.position(HEADER_SIZE);
+            for (byte[] frame : frames) {
+                target.put(frame);
+            }
+            target.force();
+            writeHeader(target, nextEpoch);
+            target.force();
+
+            if (nextCapacity != capacity) {
+                LogUtil.info("로컬 저널 확장: " + (capacity >> 20) + "MB -> " + (nextCapacity >> 20) + "MB");
+            }
+            active = next;
+            buffer = target;
+            capacity = nextCapacity;
+            epoch = nextEpoch;
+            unsynced = false;
+        } catch (IOException e) {
+            // 레코드는 메모리에 남아 있으므로 다음 저장 확인 또는 압축 시 다시 시도
+            LogUtil.error("로컬 저널 압축 실패", e);
+        }
+    }
+}
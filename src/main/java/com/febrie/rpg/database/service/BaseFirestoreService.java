@@ -1,29 +1,34 @@
 package com.febrie.rpg.database.service;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.cache.LocalDocumentStore;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StorageFieldPath;
+import com.febrie.rpg.database.storage.StorageFieldValue;
+import com.febrie.rpg.database.storage.StorageQuery;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.util.LogUtil;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.google.api.core.ApiFuture;
-import com.google.cloud.firestore.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 /**
  * Firestore 서비스 기본 구현체
- * 캐싱, 에러 처리, 공통 로직 제공
+ * 캐싱, 에러 처리, 공통 로직 제공 (실제 저장은 설정된 저장소 백엔드 - Firestore 또는 내장 저장소)
  *
  * @param <T> DTO 타입
  * @author Febrie, CoffeeTory
  */
 public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
     protected final RPGMain plugin;
-    protected final Firestore firestore;
+    protected final DocumentStorage storage;
     protected final String collectionName;
     protected final Class<T> dtoClass;
     // 캐시 설정 (5분 만료, 최대 1000개)
@@ -34,13 +39,13 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
      * 생성자
      *
      * @param plugin         플러그인 인스턴스
-     * @param firestore      Firestore 인스턴스
+     * @param storage        문서 저장소
      * @param collectionName 컬렉션 이름
      * @param dtoClass       DTO 클래스
      */
-    protected BaseFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore, @NotNull String collectionName, @NotNull Class<T> dtoClass) {
+    protected BaseFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage, @NotNull String collectionName, @NotNull Class<T> dtoClass) {
         this.plugin = plugin;
-        this.firestore = firestore;
+        this.storage = storage;
         this.collectionName = collectionName;
         this.dtoClass = dtoClass;
     }
@@ -52,10 +57,10 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
     protected abstract Map<String, Object> toMap(@NotNull T dto);
     
     /**
-     * DocumentSnapshot을 DTO로 변환
+     * 저장된 문서를 DTO로 변환
      */
     @Nullable
-    protected abstract T fromDocument(@NotNull DocumentSnapshot document);
+    protected abstract T fromDocument(@NotNull StoredDocument document);
     @Override
     @NotNull
     public CompletableFuture<@Nullable T> get(@NotNull String documentId) {
@@ -66,10 +71,9 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
                 return CompletableFuture.completedFuture(cached);
             }
         }
-        // Firestore에서 조회
-        ApiFuture<DocumentSnapshot> future = firestore.collection(collectionName).document(documentId).get();
-        return toCompletableFuture(future).thenApply(document -> {
-            if (document.exists()) {
+        // 저장소에서 조회
+        return onMainThread(storage.get(collectionName, documentId)).thenApply(document -> {
+            if (document != null) {
                 T data = fromDocument(document);
                 if (data != null && cacheEnabled) {
                     cache.put(documentId, data);
@@ -86,25 +90,53 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
     @Override
     @NotNull
     public CompletableFuture<Void> save(@NotNull String documentId, @NotNull T data) {
+        return saveOrFail(documentId, data).exceptionally(ex -> {
+            LogUtil.error(String.format("%s 저장 실패 [%s]", collectionName, documentId), ex);
+            return null;
+        });
+    }
+    
+    /**
+     * 데이터 저장 (실패 시 예외 전파)
+     * 실패 여부에 따라 재시도 예약이나 로컬 저널 유지가 필요한 호출자용
+     */
+    @NotNull
+    public CompletableFuture<Void> saveOrFail(@NotNull String documentId, @NotNull T data) {
         Map<String, Object> map = toMap(data);
-        ApiFuture<WriteResult> future = firestore.collection(collectionName).document(documentId).set(map);
-        return toCompletableFuture(future).thenAccept(result -> {
+        return onMainThread(storage.set(collectionName, documentId, map)).thenAccept(updateTime -> {
             if (cacheEnabled) {
                 cache.put(documentId, data);
             }
+            // 전체 교체 저장이므로 문서 전체를 로컬 문서 캐시에도 기록
+            LocalDocumentStore store = LocalDocumentStore.getInstance();
+            if (store != null) {
+                store.put(collectionName, documentId, map, updateTime);
+            }
             LogUtil.info(String.format("%s 저장 성공 [%s]", collectionName, documentId));
-        }).exceptionally(ex -> {
-            LogUtil.error(String.format("%s 저장 실패 [%s]", collectionName, documentId), ex);
-            return null;
+        });
+    }
+
+    /**
+     * 일부 필드만 병합 저장 (실패 시 예외 전파)
+     * 전체 DTO가 아니므로 캐시는 무효화
+     */
+    @NotNull
+    public CompletableFuture<Void> mergeOrFail(@NotNull String documentId, @NotNull Map<String, Object> fields) {
+        return onMainThread(storage.merge(collectionName, documentId, fields)).thenAccept(updateTime -> {
+            cache.invalidate(documentId);
+            LogUtil.info(String.format("%s 병합 저장 성공 [%s]", collectionName, documentId));
         });
     }
     
     @Override
     @NotNull
     public CompletableFuture<Void> delete(@NotNull String documentId) {
-        ApiFuture<WriteResult> future = firestore.collection(collectionName).document(documentId).delete();
-        return toCompletableFuture(future).thenAccept(result -> {
+        return onMainThread(storage.delete(collectionName, documentId)).thenAccept(ignored -> {
             cache.invalidate(documentId);
+            LocalDocumentStore store = LocalDocumentStore.getInstance();
+            if (store != null) {
+                store.invalidate(collectionName, documentId);
+            }
             LogUtil.info(String.format("%s 삭제 성공 [%s]", collectionName, documentId));
         }).exceptionally(ex -> {
             LogUtil.warning(String.format("%s 삭제 실혨 [%s]: %s", collectionName, documentId, ex.getMessage()));
@@ -115,14 +147,13 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
     @Override
     @NotNull
     public CompletableFuture<List<T>> query(@NotNull String field, @NotNull Object value) {
-        Query query = firestore.collection(collectionName).whereEqualTo(field, value);
-        return executeQuery(query);
+        return executeQuery(StorageQuery.collection(collectionName).whereEqualTo(field, value));
     }
     
     @Override
     @NotNull
     public CompletableFuture<List<T>> queryMultiple(@NotNull Map<String, Object> filters) {
-        Query query = firestore.collection(collectionName);
+        StorageQuery query = StorageQuery.collection(collectionName);
         for (Map.Entry<String, Object> entry : filters.entrySet()) {
             query = query.whereEqualTo(entry.getKey(), entry.getValue());
         }
@@ -132,13 +163,19 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
     @Override
     @NotNull
     public CompletableFuture<Boolean> exists(@NotNull String documentId) {
-        ApiFuture<DocumentSnapshot> future = firestore.collection(collectionName).document(documentId).get();
-        return toCompletableFuture(future).thenApply(DocumentSnapshot::exists).exceptionally(ex -> {
+        return onMainThread(storage.get(collectionName, documentId)).thenApply(Objects::nonNull).exceptionally(ex -> {
             LogUtil.warning(String.format("%s 존재 확인 실패 [%s]: %s", collectionName, documentId, ex.getMessage()));
             return false;
         });
     }
     
+    /**
+     * 문서 캐시 무효화
+     */
+    public void invalidate(@NotNull String documentId) {
+        cache.invalidate(documentId);
+    }
+    
     /**
      * 캐시 비우기
      */
@@ -188,8 +225,7 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
      * 특정 필드 업데이트
      */
     public CompletableFuture<Void> updateField(@NotNull String documentId, @NotNull String field, @NotNull Object value) {
-        ApiFuture<WriteResult> future = firestore.collection(collectionName).document(documentId).update(field, value);
-        return toCompletableFuture(future).thenAccept(result -> {
+        return onMainThread(storage.update(collectionName, documentId, Map.of(StorageFieldPath.of(field.split("\\.")), value))).thenAccept(updateTime -> {
             cache.invalidate(documentId); // 캐시 무효화
             LogUtil.info(String.format("%s 필드 업데이트 성공 [%s.%s]", collectionName, documentId, field));
         }).exceptionally(ex -> {
@@ -202,8 +238,8 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
      * 숫자 필드 증가
      */
     public CompletableFuture<Void> incrementField(@NotNull String documentId, @NotNull String field, long amount) {
-        ApiFuture<WriteResult> future = firestore.collection(collectionName).document(documentId).update(field, FieldValue.increment(amount));
-        return toCompletableFuture(future).thenAccept(result -> {
+        Map<StorageFieldPath, Object> fields = Map.of(StorageFieldPath.of(field.split("\\.")), StorageFieldValue.increment(amount));
+        return onMainThread(storage.update(collectionName, documentId, fields)).thenAccept(updateTime -> {
             cache.invalidate(documentId); // 캐시 무효화
             LogUtil.info(String.format("%s 필드 증가 성공 [%s.%s += %d]", collectionName, documentId, field, amount));
         }).exceptionally(ex -> {
@@ -216,31 +252,28 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
      * 제한된 쿼리
      */
     public CompletableFuture<List<T>> queryWithLimit(@NotNull String field, @NotNull Object value, int limit) {
-        Query query = firestore.collection(collectionName).whereEqualTo(field, value).limit(limit);
-        return executeQuery(query);
+        return executeQuery(StorageQuery.collection(collectionName).whereEqualTo(field, value).limit(limit));
     }
     
     /**
      * 정렬된 쿼리
      */
-    public CompletableFuture<List<T>> queryOrdered(@NotNull String orderByField, @NotNull Query.Direction direction, int limit) {
-        Query query = firestore.collection(collectionName).orderBy(orderByField, direction).limit(limit);
-        return executeQuery(query);
+    public CompletableFuture<List<T>> queryOrdered(@NotNull String orderByField, boolean descending, int limit) {
+        return executeQuery(StorageQuery.collection(collectionName).orderBy(orderByField, descending).limit(limit));
     }
     
     /**
      * 쿼리 실행 헬퍼 메소드
      */
-    protected CompletableFuture<List<T>> executeQuery(@NotNull Query query) {
-        ApiFuture<QuerySnapshot> future = query.get();
-        return toCompletableFuture(future).thenApply(snapshot -> {
+    protected CompletableFuture<List<T>> executeQuery(@NotNull StorageQuery query) {
+        return onMainThread(storage.query(query)).thenApply(documents -> {
             List<T> results = new ArrayList<>();
-            for (DocumentSnapshot document : snapshot.getDocuments()) {
+            for (StoredDocument document : documents) {
                 T data = fromDocument(document);
                 if (data != null) {
                     results.add(data);
                     if (cacheEnabled) {
-                        cache.put(document.getId(), data);
+                        cache.put(document.id(), data);
                     }
                 }
             }
@@ -252,17 +285,18 @@ public abstract class BaseFirestoreService<T> implements FirestoreService<T> {
     }
     
     /**
-     * ApiFuture를 CompletableFuture로 변환
+     * 저장소 결과를 메인 스레드에서 완료되는 Future로 변환
      */
-    protected <V> CompletableFuture<V> toCompletableFuture(ApiFuture<V> apiFuture) {
+    protected <V> CompletableFuture<V> onMainThread(@NotNull CompletableFuture<V> future) {
         CompletableFuture<V> completableFuture = new CompletableFuture<>();
-        apiFuture.addListener(() -> {
-            try {
-                completableFuture.complete(apiFuture.get());
-            } catch (Exception e) {
-                completableFuture.completeExceptionally(e);
-            }
-        }, command -> {
+        future.whenComplete((value, ex) -> {
+            Runnable command = () -> {
+                if (ex != null) {
+                    completableFuture.completeExceptionally(ex);
+                } else {
+                    completableFuture.complete(value);
+                }
+            };
             // 플러그인이 활성화되어 있을 때만 스케줄러 사용
             if (plugin.isEnabled()) {
                 plugin.getServer().getScheduler().runTask(plugin, command);
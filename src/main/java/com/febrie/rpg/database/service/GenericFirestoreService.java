@@ -1,8 +1,9 @@
 package com.febrie.rpg.database.service;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.util.LogUtil;
-import com.google.cloud.firestore.Firestore;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -26,7 +27,7 @@ public class GenericFirestoreService<T> extends BaseFirestoreService<T> {
      * 생성자
      *
      * @param plugin          플러그인 인스턴스
-     * @param firestore       Firestore 인스턴스
+     * @param storage         문서 저장소
      * @param collectionName  컬렉션 이름
      * @param dtoClass        DTO 클래스
      * @param toMapFunction   DTO를 Map으로 변환하는 함수
@@ -34,13 +35,13 @@ public class GenericFirestoreService<T> extends BaseFirestoreService<T> {
      * @param defaultSupplier 기본값 생성 함수
      */
     public GenericFirestoreService(@NotNull RPGMain plugin,
-                                    @NotNull Firestore firestore,
+                                    @NotNull DocumentStorage storage,
                                     @NotNull String collectionName,
                                     @NotNull Class<T> dtoClass,
                                     @NotNull Function<T, Map<String, Object>> toMapFunction,
                                     @NotNull Function<Map<String, Object>, T> fromMapFunction,
                                     @NotNull Function<String, T> defaultSupplier) {
-        super(plugin, firestore, collectionName, dtoClass);
+        super(plugin, storage, collectionName, dtoClass);
         this.toMapFunction = toMapFunction;
         this.fromMapFunction = fromMapFunction;
         this.defaultSupplier = defaultSupplier;
@@ -53,21 +54,13 @@ public class GenericFirestoreService<T> extends BaseFirestoreService<T> {
 
     @Override
     @Nullable
-    protected T fromDocument(@NotNull com.google.cloud.firestore.DocumentSnapshot document) {
-        if (!document.exists()) {
-            return null;
-        }
-
+    protected T fromDocument(@NotNull StoredDocument document) {
         try {
-            Map<String, Object> data = document.getData();
-            if (data != null) {
-                return fromMapFunction.apply(data);
-            }
-            return defaultSupplier.apply(document.getId());
+            return fromMapFunction.apply(document.data());
         } catch (Exception e) {
             LogUtil.warning(String.format("%s 데이터 파싱 실패 [%s]: %s", 
-                collectionName, document.getId(), e.getMessage()));
-            return defaultSupplier.apply(document.getId());
+                collectionName, document.id(), e.getMessage()));
+            return defaultSupplier.apply(document.id());
         }
     }
 
@@ -76,14 +69,14 @@ public class GenericFirestoreService<T> extends BaseFirestoreService<T> {
      */
     public static <T> GenericFirestoreService<T> create(
             @NotNull RPGMain plugin,
-            @NotNull Firestore firestore,
+            @NotNull DocumentStorage storage,
             @NotNull String collectionName,
             @NotNull Class<T> dtoClass,
             @NotNull Function<T, Map<String, Object>> toMapFunction,
             @NotNull Function<Map<String, Object>, T> fromMapFunction,
             @NotNull Function<String, T> defaultSupplier) {
         return new GenericFirestoreService<>(
-            plugin, firestore, collectionName, dtoClass,
+            plugin, storage, collectionName, dtoClass,
             toMapFunction, fromMapFunction, defaultSupplier
         );
     }
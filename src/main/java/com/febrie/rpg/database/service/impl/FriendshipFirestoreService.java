@@ -2,8 +2,8 @@ package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.database.service.GenericFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
 import com.febrie.rpg.dto.social.FriendshipDTO;
-import com.google.cloud.firestore.Firestore;
 import org.jetbrains.annotations.NotNull;
 import java.util.List;
 import java.util.ArrayList;
@@ -19,10 +19,10 @@ public class FriendshipFirestoreService {
     
     private static final String COLLECTION_NAME = "Friendship";
     private final GenericFirestoreService<FriendshipDTO> service;
-    public FriendshipFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
+    public FriendshipFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
         this.service = GenericFirestoreService.create(
             plugin,
-            firestore,
+            storage,
             COLLECTION_NAME,
             FriendshipDTO.class,
             FriendshipDTO::toMap,
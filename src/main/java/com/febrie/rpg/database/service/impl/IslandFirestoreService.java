@@ -1,17 +1,27 @@
 package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.cache.LocalDocumentStore;
+import com.febrie.rpg.database.constants.DatabaseConstants;
 import com.febrie.rpg.database.service.GenericFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.FirestoreDocumentStorage;
+import com.febrie.rpg.database.storage.StorageQuery;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.dto.island.*;
 import com.febrie.rpg.util.LogUtil;
 import com.google.cloud.firestore.Firestore;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -24,11 +34,15 @@ public class IslandFirestoreService {
 
     private static final String COLLECTION_NAME = "Island";
     private final GenericFirestoreService<IslandDTO> service;
+    private final DocumentStorage storage;
+    // 로컬 문서 캐시 검증용 (Firestore 백엔드일 때만)
+    @Nullable
     private final Firestore firestore;
 
-    public IslandFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
-        this.firestore = firestore;
-        this.service = GenericFirestoreService.create(plugin, firestore, COLLECTION_NAME, IslandDTO.class, IslandDTO::toMap, IslandDTO::fromMap, id -> null // 섬은 기본값이 없음
+    public IslandFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
+        this.storage = storage;
+        this.firestore = storage instanceof FirestoreDocumentStorage firestoreStorage ? firestoreStorage.getFirestore() : null;
+        this.service = GenericFirestoreService.create(plugin, storage, COLLECTION_NAME, IslandDTO.class, IslandDTO::toMap, IslandDTO::fromMap, id -> null // 섬은 기본값이 없음
         );
     }
 
@@ -61,22 +75,7 @@ public class IslandFirestoreService {
      */
     @NotNull
     public CompletableFuture<IslandCoreDTO> getCore(@NotNull String id) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                var docRef = firestore.collection(COLLECTION_NAME)
-                        .document(id);
-                var future = docRef.get();
-                var document = future.get(10, java.util.concurrent.TimeUnit.SECONDS);
-
-                if (document.exists()) {
-                    return IslandCoreDTO.fromMap(document.getData());
-                }
-                return null;
-            } catch (Exception e) {
-                LogUtil.error("섬 기본 정보 조회 실패: " + id, e);
-                return null;
-            }
-        });
+        return readDocument(id, "섬 기본 정보", IslandCoreDTO::fromMap);
     }
 
     /**
@@ -84,60 +83,7 @@ public class IslandFirestoreService {
      */
     @NotNull
     public CompletableFuture<IslandMembershipDTO> getMembership(@NotNull String id) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                var docRef = firestore.collection(COLLECTION_NAME)
-                        .document(id);
-                var future = docRef.get();
-                var document = future.get(10, java.util.concurrent.TimeUnit.SECONDS);
-
-                if (document.exists()) {
-                    Map<String, Object> data = document.getData();
-
-                    // 멤버십 관련 필드만 추출
-                    List<IslandMemberDTO> members = new ArrayList<>();
-                    Object membersObj = data.get("members");
-                    if (membersObj instanceof List) {
-                        for (Object obj : (List<?>) membersObj) {
-                            if (obj instanceof Map<?, ?>) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> memberMap = (Map<String, Object>) obj;
-                                members.add(IslandMemberDTO.fromMap(memberMap));
-                            }
-                        }
-                    }
-
-                    List<IslandWorkerDTO> workers = new ArrayList<>();
-                    Object workersObj = data.get("workers");
-                    if (workersObj instanceof List) {
-                        for (Object obj : (List<?>) workersObj) {
-                            if (obj instanceof Map<?, ?>) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> workerMap = (Map<String, Object>) obj;
-                                workers.add(IslandWorkerDTO.fromMap(workerMap));
-                            }
-                        }
-                    }
-
-                    Map<String, Long> contributions = new HashMap<>();
-                    Object contribObj = data.get("contributions");
-                    if (contribObj instanceof Map) {
-                        Map<?, ?> contribMap = (Map<?, ?>) contribObj;
-                        for (Map.Entry<?, ?> entry : contribMap.entrySet()) {
-                            if (entry.getKey() instanceof String && entry.getValue() instanceof Number) {
-                                contributions.put((String) entry.getKey(), ((Number) entry.getValue()).longValue());
-                            }
-                        }
-                    }
-
-                    return new IslandMembershipDTO(id, members, workers, contributions);
-                }
-                return null;
-            } catch (Exception e) {
-                LogUtil.error("섬 멤버십 정보 조회 실패: " + id, e);
-                return null;
-            }
-        });
+        return readDocument(id, "섬 멤버십 정보", data -> parseMembership(id, data));
     }
 
     /**
@@ -145,52 +91,7 @@ public class IslandFirestoreService {
      */
     @NotNull
     public CompletableFuture<IslandSocialDTO> getSocial(@NotNull String id) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                var docRef = firestore.collection(COLLECTION_NAME)
-                        .document(id);
-                var future = docRef.get();
-                var document = future.get(10, java.util.concurrent.TimeUnit.SECONDS);
-
-                if (document.exists()) {
-                    Map<String, Object> data = document.getData();
-
-                    // 소셜 관련 필드만 추출
-                    List<IslandInviteDTO> invites = new ArrayList<>();
-                    Object invitesObj = data.get("pendingInvites");
-                    if (invitesObj instanceof List) {
-                        for (Object obj : (List<?>) invitesObj) {
-                            if (obj instanceof Map<?, ?>) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> inviteMap = (Map<String, Object>) obj;
-                                IslandInviteDTO invite = IslandInviteDTO.fromMap(inviteMap);
-                                if (!invite.isExpired()) {
-                                    invites.add(invite);
-                                }
-                            }
-                        }
-                    }
-
-                    List<IslandVisitDTO> visits = new ArrayList<>();
-                    Object visitsObj = data.get("recentVisits");
-                    if (visitsObj instanceof List) {
-                        for (Object obj : (List<?>) visitsObj) {
-                            if (obj instanceof Map<?, ?>) {
-                                @SuppressWarnings("unchecked")
-                                Map<String, Object> visitMap = (Map<String, Object>) obj;
-                                visits.add(IslandVisitDTO.fromMap(visitMap));
-                            }
-                        }
-                    }
-
-                    return new IslandSocialDTO(id, invites, visits);
-                }
-                return null;
-            } catch (Exception e) {
-                LogUtil.error("섬 소셜 정보 조회 실패: " + id, e);
-                return null;
-            }
-        });
+        return readDocument(id, "섬 소셜 정보", data -> parseSocial(id, data));
     }
 
     /**
@@ -198,57 +99,7 @@ public class IslandFirestoreService {
      */
     @NotNull
     public CompletableFuture<IslandConfigurationDTO> getConfiguration(@NotNull String id) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                var docRef = firestore.collection(COLLECTION_NAME)
-                        .document(id);
-                var future = docRef.get();
-                var document = future.get(10, java.util.concurrent.TimeUnit.SECONDS);
-
-                if (document.exists()) {
-                    Map<String, Object> data = document.getData();
-
-                    // 설정 관련 필드만 추출
-                    IslandSpawnDTO spawnData = IslandSpawnDTO.createDefault();
-                    Object spawnObj = data.get("spawnData");
-                    if (spawnObj instanceof Map<?, ?>) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> spawnMap = (Map<String, Object>) spawnObj;
-                        spawnData = IslandSpawnDTO.fromMap(spawnMap);
-                    }
-
-                    IslandUpgradeDTO upgradeData = IslandUpgradeDTO.createDefault();
-                    Object upgradeObj = data.get("upgradeData");
-                    if (upgradeObj instanceof Map<?, ?>) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> upgradeMap = (Map<String, Object>) upgradeObj;
-                        upgradeData = IslandUpgradeDTO.fromMap(upgradeMap);
-                    }
-
-                    IslandPermissionDTO permissions = IslandPermissionDTO.createDefault();
-                    Object permissionsObj = data.get("permissions");
-                    if (permissionsObj instanceof Map<?, ?>) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> permissionsMap = (Map<String, Object>) permissionsObj;
-                        permissions = IslandPermissionDTO.fromMap(permissionsMap);
-                    }
-
-                    IslandSettingsDTO settings = IslandSettingsDTO.createDefault();
-                    Object settingsObj = data.get("settings");
-                    if (settingsObj instanceof Map<?, ?>) {
-                        @SuppressWarnings("unchecked")
-                        Map<String, Object> settingsMap = (Map<String, Object>) settingsObj;
-                        settings = IslandSettingsDTO.fromMap(settingsMap);
-                    }
-
-                    return new IslandConfigurationDTO(id, spawnData, upgradeData, permissions, settings);
-                }
-                return null;
-            } catch (Exception e) {
-                LogUtil.error("섬 설정 정보 조회 실패: " + id, e);
-                return null;
-            }
-        });
+        return readDocument(id, "섬 설정 정보", data -> parseConfiguration(id, data));
     }
 
     // ===== 기존 기능 메소드들 =====
@@ -272,58 +123,46 @@ public class IslandFirestoreService {
      * 공개 섬 목록 조회 (기본 정보만)
      */
     public CompletableFuture<List<IslandCoreDTO>> getPublicIslandCores() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                List<IslandCoreDTO> islands = new ArrayList<>();
-
-                var future = firestore.collection(COLLECTION_NAME)
-                        .whereEqualTo("isPublic", true)
-                        .orderBy("lastActivity", com.google.cloud.firestore.Query.Direction.DESCENDING)
-                        .get();
-                var querySnapshot = future.get(10, java.util.concurrent.TimeUnit.SECONDS);
-
-                for (var doc : querySnapshot.getDocuments()) {
-                    IslandCoreDTO island = IslandCoreDTO.fromMap(doc.getData());
-                    if (island != null) {
-                        islands.add(island);
-                    }
-                }
-
-                return islands;
-            } catch (Exception e) {
-                LogUtil.error("공개 섬 목록 조회 실패", e);
-                return new ArrayList<>();
-            }
-        });
+        StorageQuery query = StorageQuery.collection(COLLECTION_NAME)
+                .whereEqualTo("isPublic", true)
+                .orderBy("lastActivity", true);
+        return readQuery(query, DatabaseConstants.DOCUMENT_READ_TIMEOUT_SECONDS, "공개 섬 목록 조회 실패", IslandCoreDTO::fromMap);
     }
 
     /**
      * 모든 섬 기본 정보 조회 (캐시용)
      */
     public CompletableFuture<List<IslandCoreDTO>> getAllIslandCores() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                List<IslandCoreDTO> islands = new ArrayList<>();
-
-                var future = firestore.collection(COLLECTION_NAME)
-                        .orderBy("lastActivity", com.google.cloud.firestore.Query.Direction.DESCENDING)
-                        .get();
-                var querySnapshot = future.get(30, java.util.concurrent.TimeUnit.SECONDS);
-
-                for (var doc : querySnapshot.getDocuments()) {
-                    IslandCoreDTO island = IslandCoreDTO.fromMap(doc.getData());
-                    if (island != null) {
-                        islands.add(island);
-                    }
-                }
+        StorageQuery query = StorageQuery.collection(COLLECTION_NAME)
+                .orderBy("lastActivity", true);
+        return readQuery(query, DatabaseConstants.BULK_READ_TIMEOUT_SECONDS, "모든 섬 기본 데이터 로드 실패", IslandCoreDTO::fromMap)
+                .thenApply(islands -> {
+                    LogUtil.debug("저장소에서 " + islands.size() + "개 섬 기본 데이터 로드");
+                    return islands;
+                });
+    }
 
-                LogUtil.debug("Firestore에서 " + islands.size() + "개 섬 기본 데이터 로드");
-                return islands;
-            } catch (Exception e) {
-                LogUtil.error("모든 섬 기본 데이터 로드 실패", e);
-                return new ArrayList<>();
-            }
-        });
+    /**
+     * 최근 활동 순으로 섬 데이터 조회 (시작 시 사전 로드용)
+     */
+    public CompletableFuture<List<IslandDTO>> getRecentIslands(int limit) {
+        StorageQuery query = StorageQuery.collection(COLLECTION_NAME)
+                .orderBy("lastActivity", true)
+                .limit(limit);
+        return readQuery(query, DatabaseConstants.BULK_READ_TIMEOUT_SECONDS, "최근 활동 섬 데이터 로드 실패", IslandDTO::fromMap);
+    }
+
+    /**
+     * 중심 좌표로 섬 찾기 (위치 정보가 저장된 섬만)
+     */
+    public CompletableFuture<IslandDTO> findByLocation(int centerX, int centerZ) {
+        StorageQuery query = StorageQuery.collection(COLLECTION_NAME)
+                .whereEqualTo("location.centerX", centerX)
+                .whereEqualTo("location.centerZ", centerZ)
+                .limit(1);
+        return readQuery(query, DatabaseConstants.DOCUMENT_READ_TIMEOUT_SECONDS,
+                "위치로 섬 조회 실패: (" + centerX + ", " + centerZ + ")", IslandDTO::fromMap)
+                .thenApply(islands -> islands.isEmpty() ? null : islands.get(0));
     }
 
     /**
@@ -342,27 +181,216 @@ public class IslandFirestoreService {
     }
 
     /**
-     * 모든 섬 데이터 로드 (사전 로드용)
-     * 서버 시작 시 모든 섬 데이터를 캐시에 로드하기 위해 사용
+     * 모든 섬 데이터 로드 (전체 점검용)
+     * 섬 수에 비례해 느려지므로 시작 시 캐시 적재에는 getRecentIslands 사용
      */
     public CompletableFuture<List<IslandDTO>> getAllIslands() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                List<IslandDTO> islands = new ArrayList<>();
-
-                // 모든 섬 데이터를 가져옴
-                var future = firestore.collection(COLLECTION_NAME)
-                        .orderBy("lastActivity", com.google.cloud.firestore.Query.Direction.DESCENDING)
-                        .get();
-                var querySnapshot = future.get(30, java.util.concurrent.TimeUnit.SECONDS);
-                for (var doc : querySnapshot.getDocuments())
-                    islands.add(IslandDTO.fromMap(doc.getData()));
-                LogUtil.debug("Firestore에서 " + islands.size() + "개 섬 데이터 로드");
-                return islands;
-            } catch (Exception e) {
-                LogUtil.error("모든 섬 데이터 로드 실패", e);
-                return new ArrayList<>();
+        // 로컬 문서 캐시가 있으면 수정 시각을 비교해 바뀐 섬만 받음
+        LocalDocumentStore store = LocalDocumentStore.getInstance();
+        if (store != null && firestore != null) {
+            return readCached(store, firestore, DatabaseConstants.BULK_READ_TIMEOUT_SECONDS, "모든 섬 데이터 로드 실패",
+                    data -> data.containsKey("lastActivity") ? IslandDTO.fromMap(data) : null)
+                    .thenApply(islands -> {
+                        islands.sort(Comparator.comparingLong((IslandDTO island) -> island.core().lastActivity()).reversed());
+                        LogUtil.debug("로컬 문서 캐시를 거쳐 " + islands.size() + "개 섬 데이터 로드");
+                        return islands;
+                    });
+        }
+
+        // 모든 섬 데이터를 가져옴
+        StorageQuery query = StorageQuery.collection(COLLECTION_NAME)
+                .orderBy("lastActivity", true);
+        return readQuery(query, DatabaseConstants.BULK_READ_TIMEOUT_SECONDS, "모든 섬 데이터 로드 실패", IslandDTO::fromMap)
+                .thenApply(islands -> {
+                    LogUtil.debug("저장소에서 " + islands.size() + "개 섬 데이터 로드");
+                    return islands;
+                });
+    }
+
+    // ===== 내부 조회 =====
+
+    /**
+     * 섬 문서 하나를 읽어 변환 (문서가 없거나 실패하면 null)
+     */
+    @NotNull
+    private <T> CompletableFuture<T> readDocument(@NotNull String id, @NotNull String description,
+                                                  @NotNull Function<Map<String, Object>, T> parser) {
+        return storage.get(COLLECTION_NAME, id)
+                .orTimeout(DatabaseConstants.DOCUMENT_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .thenApply(document -> document != null ? parser.apply(document.data()) : null)
+                .exceptionally(e -> {
+                    LogUtil.error(description + " 조회 실패: " + id, e);
+                    return null;
+                });
+    }
+
+    /**
+     * 쿼리 결과를 변환 (변환 결과가 null인 문서는 제외, 실패하면 빈 목록)
+     */
+    @NotNull
+    private <T> CompletableFuture<List<T>> readQuery(@NotNull StorageQuery query, long timeoutSeconds, @NotNull String failureMessage,
+                                                     @NotNull Function<Map<String, Object>, T> parser) {
+        return storage.query(query)
+                .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .thenApply(documents -> {
+                    List<T> results = new ArrayList<>();
+                    for (StoredDocument document : documents) {
+                        T result = parser.apply(document.data());
+                        if (result != null) {
+                            results.add(result);
+                        }
+                    }
+                    return results;
+                })
+                .exceptionally(e -> {
+                    LogUtil.error(failureMessage, e);
+                    return new ArrayList<>();
+                });
+    }
+
+    /**
+     * 로컬 문서 캐시를 거쳐 컬렉션 전체를 변환 (변환 결과가 null인 문서는 제외, 실패하면 빈 목록)
+     */
+    @NotNull
+    private <T> CompletableFuture<List<T>> readCached(@NotNull LocalDocumentStore store, @NotNull Firestore firestore, long timeoutSeconds,
+                                                      @NotNull String failureMessage,
+                                                      @NotNull Function<Map<String, Object>, T> parser) {
+        return store.listCollection(firestore, COLLECTION_NAME)
+                .orTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .thenApply(documents -> {
+                    List<T> results = new ArrayList<>();
+                    for (Map<String, Object> data : documents) {
+                        T result = parser.apply(data);
+                        if (result != null) {
+                            results.add(result);
+                        }
+                    }
+                    return results;
+                })
+                .exceptionally(e -> {
+                    LogUtil.error(failureMessage, e);
+                    return new ArrayList<>();
+                });
+    }
+
+    /**
+     * 섬 문서에서 멤버십 정보 필드만 추출
+     */
+    @NotNull
+    private static IslandMembershipDTO parseMembership(@NotNull String id, @NotNull Map<String, Object> data) {
+        // 멤버십 관련 필드만 추출
+        List<IslandMemberDTO> members = new ArrayList<>();
+        Object membersObj = data.get("members");
+        if (membersObj instanceof List) {
+            for (Object obj : (List<?>) membersObj) {
+                if (obj instanceof Map<?, ?>) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> memberMap = (Map<String, Object>) obj;
+                    members.add(IslandMemberDTO.fromMap(memberMap));
+                }
+            }
+        }
+
+        List<IslandWorkerDTO> workers = new ArrayList<>();
+        Object workersObj = data.get("workers");
+        if (workersObj instanceof List) {
+            for (Object obj : (List<?>) workersObj) {
+                if (obj instanceof Map<?, ?>) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> workerMap = (Map<String, Object>) obj;
+                    workers.add(IslandWorkerDTO.fromMap(workerMap));
+                }
+            }
+        }
+
+        Map<String, Long> contributions = new HashMap<>();
+        Object contribObj = data.get("contributions");
+        if (contribObj instanceof Map) {
+            Map<?, ?> contribMap = (Map<?, ?>) contribObj;
+            for (Map.Entry<?, ?> entry : contribMap.entrySet()) {
+                if (entry.getKey() instanceof String && entry.getValue() instanceof Number) {
+                    contributions.put((String) entry.getKey(), ((Number) entry.getValue()).longValue());
+                }
             }
-        });
+        }
+
+        return new IslandMembershipDTO(id, members, workers, contributions);
+    }
+
+    /**
+     * 섬 문서에서 소셜 정보 필드만 추출
+     */
+    @NotNull
+    private static IslandSocialDTO parseSocial(@NotNull String id, @NotNull Map<String, Object> data) {
+        // 소셜 관련 필드만 추출
+        List<IslandInviteDTO> invites = new ArrayList<>();
+        Object invitesObj = data.get("pendingInvites");
+        if (invitesObj instanceof List) {
+            for (Object obj : (List<?>) invitesObj) {
+                if (obj instanceof Map<?, ?>) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> inviteMap = (Map<String, Object>) obj;
+                    IslandInviteDTO invite = IslandInviteDTO.fromMap(inviteMap);
+                    if (!invite.isExpired()) {
+                        invites.add(invite);
+                    }
+                }
+            }
+        }
+
+        List<IslandVisitDTO> visits = new ArrayList<>();
+        Object visitsObj = data.get("recentVisits");
+        if (visitsObj instanceof List) {
+            for (Object obj : (List<?>) visitsObj) {
+                if (obj instanceof Map<?, ?>) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> visitMap = (Map<String, Object>) obj;
+                    visits.add(IslandVisitDTO.fromMap(visitMap));
+                }
+            }
+        }
+
+        return new IslandSocialDTO(id, invites, visits);
+    }
+
+    /**
+     * 섬 문서에서 설정 정보 필드만 추출
+     */
+    @NotNull
+    private static IslandConfigurationDTO parseConfiguration(@NotNull String id, @NotNull Map<String, Object> data) {
+        // 설정 관련 필드만 추출
+        IslandSpawnDTO spawnData = IslandSpawnDTO.createDefault();
+        Object spawnObj = data.get("spawnData");
+        if (spawnObj instanceof Map<?, ?>) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> spawnMap = (Map<String, Object>) spawnObj;
+            spawnData = IslandSpawnDTO.fromMap(spawnMap);
+        }
+
+        IslandUpgradeDTO upgradeData = IslandUpgradeDTO.createDefault();
+        Object upgradeObj = data.get("upgradeData");
+        if (upgradeObj instanceof Map<?, ?>) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> upgradeMap = (Map<String, Object>) upgradeObj;
+            upgradeData = IslandUpgradeDTO.fromMap(upgradeMap);
+        }
+
+        IslandPermissionDTO permissions = IslandPermissionDTO.createDefault();
+        Object permissionsObj = data.get("permissions");
+        if (permissionsObj instanceof Map<?, ?>) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> permissionsMap = (Map<String, Object>) permissionsObj;
+            permissions = IslandPermissionDTO.fromMap(permissionsMap);
+        }
+
+        IslandSettingsDTO settings = IslandSettingsDTO.createDefault();
+        Object settingsObj = data.get("settings");
+        if (settingsObj instanceof Map<?, ?>) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> settingsMap = (Map<String, Object>) settingsObj;
+            settings = IslandSettingsDTO.fromMap(settingsMap);
+        }
+
+        return new IslandConfigurationDTO(id, spawnData, upgradeData, permissions, settings);
     }
 }
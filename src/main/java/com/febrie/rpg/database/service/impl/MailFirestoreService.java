@@ -2,8 +2,8 @@ package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.database.service.GenericFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
 import com.febrie.rpg.dto.social.MailDTO;
-import com.google.cloud.firestore.Firestore;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -22,10 +22,10 @@ public class MailFirestoreService {
     private static final String COLLECTION_NAME = "Mail";
     private final GenericFirestoreService<MailDTO> service;
 
-    public MailFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
+    public MailFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
         this.service = GenericFirestoreService.create(
             plugin,
-            firestore,
+            storage,
             COLLECTION_NAME,
             MailDTO.class,
             MailDTO::toMap,
@@ -155,7 +155,7 @@ public class MailFirestoreService {
     @NotNull
     public CompletableFuture<Void> deleteOldMails(int daysOld) {
         long cutoffTime = System.currentTimeMillis() - (daysOld * 24L * 60L * 60L * 1000L);
-        return service.queryOrdered("sentTime", com.google.cloud.firestore.Query.Direction.ASCENDING, 1000).thenCompose(mails -> {
+        return service.queryOrdered("sentTime", false, 1000).thenCompose(mails -> {
             CompletableFuture<?>[] deleteFutures = mails.stream().filter(mail -> mail.sentAt() < cutoffTime).map(mail -> delete(mail.mailId())).toArray(CompletableFuture[]::new);
             return CompletableFuture.allOf(deleteFutures);
         });
@@ -2,10 +2,12 @@ package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.database.service.GenericFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
 import com.febrie.rpg.dto.player.PlayerDataDTO;
-import com.google.cloud.firestore.Firestore;
+import com.febrie.rpg.dto.player.PlayerProfileDTO;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -18,13 +20,13 @@ import java.util.concurrent.CompletableFuture;
  */
 public class PlayerFirestoreService {
 
-    private static final String COLLECTION_NAME = "Player";
+    public static final String COLLECTION_NAME = "Player";
     private final GenericFirestoreService<PlayerDataDTO> service;
 
-    public PlayerFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
+    public PlayerFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
         this.service = GenericFirestoreService.create(
             plugin, 
-            firestore, 
+            storage, 
             COLLECTION_NAME, 
             PlayerDataDTO.class,
             PlayerDataDTO::toMap,
@@ -56,6 +58,40 @@ public class PlayerFirestoreService {
         return service.save(id, data);
     }
 
+    /**
+     * 데이터 저장 (실패 시 예외 전파)
+     */
+    @NotNull
+    public CompletableFuture<Void> saveOrFail(@NotNull String id, @NotNull PlayerDataDTO data) {
+        return service.saveOrFail(id, data);
+    }
+
+    /**
+     * 프로필만 병합 저장 (실패 시 예외 전파)
+     * 재화는 CurrencyLedger가 증감으로 정산하므로 덮어쓰지 않음
+     */
+    @NotNull
+    public CompletableFuture<Void> saveProfileOrFail(@NotNull UUID uuid, @NotNull PlayerProfileDTO profile) {
+        return service.mergeOrFail(uuid.toString(), Map.of("profile", profile.toMap()));
+    }
+
+    /**
+     * 프로필의 일부 필드만 병합 저장 (실패 시 예외 전파)
+     *
+     * @param fields 프로필 필드 이름 -> 값
+     */
+    @NotNull
+    public CompletableFuture<Void> mergeProfileFieldsOrFail(@NotNull UUID uuid, @NotNull Map<String, Object> fields) {
+        return service.mergeOrFail(uuid.toString(), Map.of("profile", fields));
+    }
+
+    /**
+     * 문서 캐시 무효화 (다른 경로로 문서가 바뀐 경우)
+     */
+    public void invalidateCache(@NotNull UUID uuid) {
+        service.invalidate(uuid.toString());
+    }
+
     /**
      * 데이터 삭제
      */
@@ -82,7 +118,7 @@ public class PlayerFirestoreService {
     }
 
     // 중복 메소드 제거 - DataSyncManager를 사용하세요
-    // - 재화 관련: DataSyncManager.modifyCurrency()
+    // - 재화 관련: Wallet (CurrencyLedger가 정산)
     // - 프로필 업데이트: DataSyncManager.updateNickname() 또는 savePlayerData()
     // - 레벨/경험치: RPGPlayer 메소드 + DataSyncManager.savePlayerData()
 }
\ No newline at end of file
@@ -1,15 +1,24 @@
 package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.cache.LocalDocumentStore;
+import com.febrie.rpg.database.constants.DatabaseConstants;
 import com.febrie.rpg.database.service.GenericFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.FirestoreDocumentStorage;
+import com.febrie.rpg.database.storage.StorageQuery;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.dto.island.PlayerIslandDataDTO;
 import com.febrie.rpg.util.LogUtil;
 import com.google.cloud.firestore.Firestore;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 플레이어 섬 데이터 Firestore 서비스
@@ -19,15 +28,19 @@ import java.util.concurrent.CompletableFuture;
  */
 public class PlayerIslandDataService {
     
-    private static final String COLLECTION_NAME = "PlayerIslandData";
+    public static final String COLLECTION_NAME = "PlayerIslandData";
     private final GenericFirestoreService<PlayerIslandDataDTO> service;
+    private final DocumentStorage storage;
+    // 로컬 문서 캐시 검증용 (Firestore 백엔드일 때만)
+    @Nullable
     private final Firestore firestore;
     
-    public PlayerIslandDataService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
-        this.firestore = firestore;
+    public PlayerIslandDataService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
+        this.storage = storage;
+        this.firestore = storage instanceof FirestoreDocumentStorage firestoreStorage ? firestoreStorage.getFirestore() : null;
         this.service = GenericFirestoreService.create(
             plugin,
-            firestore,
+            storage,
             COLLECTION_NAME,
             PlayerIslandDataDTO.class,
             PlayerIslandDataDTO::toMap,
@@ -66,32 +79,53 @@ public class PlayerIslandDataService {
      */
     @NotNull
     public CompletableFuture<List<PlayerIslandDataDTO>> getAllPlayerData() {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                List<PlayerIslandDataDTO> players = new ArrayList<>();
-                
-                // 모든 플레이어 데이터를 가져온 후 필터링
-                var future = firestore.collection(COLLECTION_NAME).get();
-                
-                var querySnapshot = future.get(30, java.util.concurrent.TimeUnit.SECONDS);
-                
-                for (var doc : querySnapshot.getDocuments()) {
-                    // currentIslandId가 null이 아닌 경우만 추가
-                    if (doc.get("currentIslandId") != null) {
-                        PlayerIslandDataDTO player = PlayerIslandDataDTO.fromMap(doc.getData());
-                        if (player != null) {
-                            players.add(player);
+        // 로컬 문서 캐시가 있으면 수정 시각을 비교해 바뀐 문서만 받음
+        LocalDocumentStore store = LocalDocumentStore.getInstance();
+        if (store != null && firestore != null) {
+            return store.listCollection(firestore, COLLECTION_NAME)
+                    .orTimeout(DatabaseConstants.BULK_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .thenApply(documents -> {
+                        List<PlayerIslandDataDTO> players = new ArrayList<>();
+                        for (Map<String, Object> data : documents) {
+                            // currentIslandId가 null이 아닌 경우만 추가
+                            if (data.get("currentIslandId") != null) {
+                                PlayerIslandDataDTO player = PlayerIslandDataDTO.fromMap(data);
+                                if (player != null) {
+                                    players.add(player);
+                                }
+                            }
+                        }
+
+                        LogUtil.debug("로컬 문서 캐시를 거쳐 " + players.size() + "명 플레이어 섬 데이터 로드");
+                        return players;
+                    })
+                    .exceptionally(e -> {
+                        LogUtil.error("모든 플레이어 섬 데이터 로드 실패", e);
+                        return new ArrayList<>();
+                    });
+        }
+
+        // 모든 플레이어 데이터를 가져온 후 필터링
+        return storage.query(StorageQuery.collection(COLLECTION_NAME))
+                .orTimeout(DatabaseConstants.BULK_READ_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .thenApply(documents -> {
+                    List<PlayerIslandDataDTO> players = new ArrayList<>();
+                    for (StoredDocument document : documents) {
+                        // currentIslandId가 null이 아닌 경우만 추가
+                        if (document.data().get("currentIslandId") != null) {
+                            PlayerIslandDataDTO player = PlayerIslandDataDTO.fromMap(document.data());
+                            if (player != null) {
+                                players.add(player);
+                            }
                         }
                     }
-                }
-                
-                LogUtil.debug("Firestore에서 " + players.size() + "명 플레이어 섬 데이터 로드");
-                return players;
-                
-            } catch (Exception e) {
-                LogUtil.error("모든 플레이어 섬 데이터 로드 실패", e);
-                return new ArrayList<>();
-            }
-        });
+                    
+                    LogUtil.debug("저장소에서 " + players.size() + "명 플레이어 섬 데이터 로드");
+                    return players;
+                })
+                .exceptionally(e -> {
+                    LogUtil.error("모든 플레이어 섬 데이터 로드 실패", e);
+                    return new ArrayList<>();
+                });
     }
 }
\ No newline at end of file
@@ -2,14 +2,17 @@ package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.database.service.BaseFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StorageFieldPath;
+import com.febrie.rpg.database.storage.StorageFieldValue;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.dto.quest.PlayerQuestDTO;
 import com.febrie.rpg.dto.quest.ActiveQuestDTO;
 import com.febrie.rpg.dto.quest.CompletedQuestDTO;
-import com.google.cloud.firestore.Firestore;
+import com.febrie.rpg.dto.quest.ObjectiveProgressDTO;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import com.febrie.rpg.util.LogUtil;
-import com.google.cloud.firestore.DocumentSnapshot;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -23,10 +26,16 @@ import java.util.concurrent.CompletableFuture;
  */
 public class QuestFirestoreService extends BaseFirestoreService<PlayerQuestDTO> {
 
-    private static final String COLLECTION_NAME = "PlayerQuest";
+    public static final String COLLECTION_NAME = "PlayerQuest";
 
-    public QuestFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
-        super(plugin, firestore, COLLECTION_NAME, PlayerQuestDTO.class);
+    // 문서 필드 이름 (PlayerQuestDTO / ActiveQuestDTO.toMap과 동일)
+    private static final String ACTIVE_QUESTS = "activeQuests";
+    private static final String COMPLETED_QUESTS = "completedQuests";
+    private static final String PROGRESS = "progress";
+    private static final String LAST_UPDATED = "lastUpdated";
+
+    public QuestFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
+        super(plugin, storage, COLLECTION_NAME, PlayerQuestDTO.class);
     }
 
     @Override
@@ -37,22 +46,13 @@ public class QuestFirestoreService extends BaseFirestoreService<PlayerQuestDTO>
 
     @Override
     @Nullable
-    protected PlayerQuestDTO fromDocument(@NotNull DocumentSnapshot document) {
-        if (!document.exists()) {
-            return null;
-        }
-
+    protected PlayerQuestDTO fromDocument(@NotNull StoredDocument document) {
         try {
-            Map<String, Object> data = document.getData();
-            if (data == null) {
-                return null;
-            }
-            
             // Use the DTO's built-in fromMap method directly
-            return PlayerQuestDTO.fromMap(data);
+            return PlayerQuestDTO.fromMap(document.data());
 
         } catch (Exception e) {
-            LogUtil.warning("퀘스트 데이터 파싱 실패 [" + document.getId() + "]: " + e.getMessage());
+            LogUtil.warning("퀘스트 데이터 파싱 실패 [" + document.id() + "]: " + e.getMessage());
             return null;
         }
     }
@@ -72,66 +72,107 @@ public class QuestFirestoreService extends BaseFirestoreService<PlayerQuestDTO>
     }
 
     /**
-     * 플레이어의 퀘스트 데이터 저장
+     * 플레이어의 퀘스트 데이터 저장 (실패 시 예외 전파 - 호출자가 재시도 예약)
      */
     @NotNull
     public CompletableFuture<Void> savePlayerQuests(@NotNull UUID playerId, @NotNull PlayerQuestDTO data) {
-        return save(playerId.toString(), data);
+        return saveOrFail(playerId.toString(), data);
+    }
+
+    /**
+     * 문서의 일부 필드만 갱신 (문서가 존재해야 함)
+     * 전달된 필드 외의 활성/완료/수령 퀘스트는 다시 쓰지 않음
+     *
+     * @param fields 필드 경로 -> 값 (삭제는 StorageFieldValue.delete())
+     */
+    @NotNull
+    public CompletableFuture<Void> updateFields(@NotNull UUID playerId, @NotNull Map<StorageFieldPath, Object> fields) {
+        if (fields.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        String documentId = playerId.toString();
+        // 캐시된 DTO는 더 이상 문서와 같지 않으므로 무효화 (실패 시에도 호출자가 처리하도록 예외 전파)
+        return onMainThread(storage.update(collectionName, documentId, fields)).whenComplete((result, ex) -> cache.invalidate(documentId))
+                .thenAccept(result -> {});
     }
 
     /**
-     * 퀘스트 진행도 업데이트
+     * 활성 퀘스트 목표 필드 경로
+     * activeQuests.<instanceId>.progress.<objectiveId>.<field>
      */
     @NotNull
-    public CompletableFuture<Void> updateActiveQuest(@NotNull UUID playerId, @NotNull String instanceId, 
+    public static StorageFieldPath objectiveField(@NotNull String instanceId, @NotNull String objectiveId, @NotNull String field) {
+        return StorageFieldPath.of(ACTIVE_QUESTS, instanceId, PROGRESS, objectiveId, field);
+    }
+
+    /**
+     * 활성 퀘스트 목표 진행도를 병합 저장용 중첩 맵에 추가
+     * activeQuests.<instanceId>.progress.<objectiveId>.{progress, completed, lastUpdated}
+     */
+    @SuppressWarnings("unchecked")
+    public static void putObjective(@NotNull Map<String, Object> document, @NotNull String instanceId,
+                                    @NotNull ObjectiveProgressDTO objective) {
+        Map<String, Object> activeQuests = (Map<String, Object>) document.computeIfAbsent(ACTIVE_QUESTS, k -> new HashMap<>());
+        Map<String, Object> activeQuest = (Map<String, Object>) activeQuests.computeIfAbsent(instanceId, k -> new HashMap<>());
+        Map<String, Object> progress = (Map<String, Object>) activeQuest.computeIfAbsent(PROGRESS, k -> new HashMap<>());
+
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("progress", objective.progress());
+        fields.put("completed", objective.completed());
+        fields.put(LAST_UPDATED, objective.lastUpdated());
+        progress.put(objective.objectiveId(), fields);
+    }
+
+    /**
+     * 병합 저장용 중첩 맵에 문서 최종 수정 시간 추가
+     */
+    public static void putLastUpdated(@NotNull Map<String, Object> document, long lastUpdated) {
+        document.put(LAST_UPDATED, lastUpdated);
+    }
+
+    /**
+     * 문서 최종 수정 시간 필드 경로
+     */
+    @NotNull
+    public static StorageFieldPath lastUpdatedField() {
+        return StorageFieldPath.of(LAST_UPDATED);
+    }
+
+    /**
+     * 퀘스트 진행도 업데이트 (해당 활성 퀘스트 필드만 교체)
+     */
+    @NotNull
+    public CompletableFuture<Void> updateActiveQuest(@NotNull UUID playerId, @NotNull String instanceId,
                                                     @NotNull ActiveQuestDTO activeData) {
-        return getPlayerQuests(playerId).thenCompose(data -> {
-            Map<String, ActiveQuestDTO> updatedActiveQuests = new HashMap<>(data.activeQuests());
-            updatedActiveQuests.put(instanceId, activeData);
-            return savePlayerQuests(playerId, new PlayerQuestDTO(
-                    data.playerId(), 
-                    updatedActiveQuests, 
-                    data.completedQuests(), 
-                    data.claimedQuests(),
-                    System.currentTimeMillis()));
-        });
+        Map<StorageFieldPath, Object> fields = new HashMap<>();
+        fields.put(StorageFieldPath.of(ACTIVE_QUESTS, instanceId), activeData.toMap());
+        fields.put(lastUpdatedField(), System.currentTimeMillis());
+        return updateFields(playerId, fields);
     }
 
     /**
-     * 퀘스트 완료 처리
+     * 퀘스트 완료 처리 (활성 퀘스트 필드 삭제 + 완료 퀘스트 필드 추가)
      */
     @NotNull
-    public CompletableFuture<Void> completeQuest(@NotNull UUID playerId, @NotNull String instanceId, 
+    public CompletableFuture<Void> completeQuest(@NotNull UUID playerId, @NotNull String instanceId,
                                                  @NotNull CompletedQuestDTO completed) {
-        return getPlayerQuests(playerId).thenCompose(data -> {
-            Map<String, ActiveQuestDTO> updatedActiveQuests = new HashMap<>(data.activeQuests());
-            Map<String, CompletedQuestDTO> updatedCompletedQuests = new HashMap<>(data.completedQuests());
-            updatedActiveQuests.remove(instanceId);
-            updatedCompletedQuests.put(instanceId, completed);
-            return savePlayerQuests(playerId, new PlayerQuestDTO(
-                    data.playerId(), 
-                    updatedActiveQuests, 
-                    updatedCompletedQuests, 
-                    data.claimedQuests(),
-                    System.currentTimeMillis()));
-        });
+        Map<StorageFieldPath, Object> fields = new HashMap<>();
+        fields.put(StorageFieldPath.of(ACTIVE_QUESTS, instanceId), StorageFieldValue.delete());
+        fields.put(StorageFieldPath.of(COMPLETED_QUESTS, instanceId), completed.toMap());
+        fields.put(lastUpdatedField(), System.currentTimeMillis());
+        return updateFields(playerId, fields);
     }
 
     /**
-     * 활성 퀘스트 제거
+     * 활성 퀘스트 제거 (해당 활성 퀘스트 필드만 삭제)
      */
     @NotNull
     public CompletableFuture<Void> removeActiveQuest(@NotNull UUID playerId, @NotNull String instanceId) {
-        return getPlayerQuests(playerId).thenCompose(data -> {
-            Map<String, ActiveQuestDTO> updatedActiveQuests = new HashMap<>(data.activeQuests());
-            updatedActiveQuests.remove(instanceId);
-            return savePlayerQuests(playerId, new PlayerQuestDTO(
-                    data.playerId(), 
-                    updatedActiveQuests, 
-                    data.completedQuests(), 
-                    data.claimedQuests(),
-                    System.currentTimeMillis()));
-        });
+        Map<StorageFieldPath, Object> fields = new HashMap<>();
+        fields.put(StorageFieldPath.of(ACTIVE_QUESTS, instanceId), StorageFieldValue.delete());
+        fields.put(lastUpdatedField(), System.currentTimeMillis());
+        return updateFields(playerId, fields);
     }
 
     /**
@@ -2,11 +2,13 @@ package com.febrie.rpg.database.service.impl;
 
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.database.service.BaseFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StorageQuery;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.dto.system.LeaderboardEntryDTO;
 import com.febrie.rpg.dto.system.ServerStatsDTO;
 import com.febrie.rpg.util.FirestoreUtils;
 import com.febrie.rpg.util.LogUtil;
-import com.google.cloud.firestore.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import java.util.List;
@@ -45,8 +47,8 @@ public class SystemFirestoreService extends BaseFirestoreService<ServerStatsDTO>
         }
     }
     
-    public SystemFirestoreService(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
-        super(plugin, firestore, "ServerStat", ServerStatsDTO.class);
+    public SystemFirestoreService(@NotNull RPGMain plugin, @NotNull DocumentStorage storage) {
+        super(plugin, storage, "ServerStat", ServerStatsDTO.class);
     }
     
     @Override
@@ -65,11 +67,9 @@ public class SystemFirestoreService extends BaseFirestoreService<ServerStatsDTO>
     
     @Override
     @Nullable
-    protected ServerStatsDTO fromDocument(@NotNull DocumentSnapshot doc) {
+    protected ServerStatsDTO fromDocument(@NotNull StoredDocument document) {
         try {
-            if (!doc.exists()) {
-                return null;
-            }
+            Map<String, Object> doc = document.data();
             int onlinePlayers = FirestoreUtils.getInt(doc, "onlinePlayers");
             int maxPlayers = FirestoreUtils.getInt(doc, "maxPlayers", 100);
             int totalPlayers = FirestoreUtils.getInt(doc, "totalPlayers");
@@ -111,21 +111,15 @@ public class SystemFirestoreService extends BaseFirestoreService<ServerStatsDTO>
      */
     public CompletableFuture<Void> saveDailyStats(@NotNull String date, @NotNull ServerStatsDTO stats) {
         Map<String, Object> data = toMap(stats);
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // ServerStat/Daily/날짜 경로에 저장
-                firestore.collection("ServerStat")
-                        .document("Daily")
-                        .collection(date.substring(0, 7)) // yyyy-MM 형식으로 월별 분류
-                        .document(date)
-                        .set(data)
-                        .get();
-                LogUtil.info("일일 서버 통계 저장 성공 [" + date + "]");
-            } catch (Exception e) {
-                LogUtil.error("일일 서버 통계 저장 실패 [" + date + "]", e);
-                throw new RuntimeException(e);
-            }
-        });
+        // ServerStat/Daily/yyyy-MM/날짜 경로에 저장 (월별 분류)
+        String monthly = "ServerStat/Daily/" + date.substring(0, 7);
+        return storage.set(monthly, date, data)
+                .thenAccept(result -> LogUtil.info("일일 서버 통계 저장 성공 [" + date + "]"))
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        LogUtil.error("일일 서버 통계 저장 실패 [" + date + "]", e);
+                    }
+                });
     }
     
     /**
@@ -141,30 +135,25 @@ public class SystemFirestoreService extends BaseFirestoreService<ServerStatsDTO>
      * 리더보드 조회
      */
     public CompletableFuture<List<LeaderboardEntryDTO>> getLeaderboard(@NotNull LeaderboardType type, int limit) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                QuerySnapshot snapshot = firestore.collection("Leaderboard")
-                        .document(type.getId())
-                        .collection("Entry")
-                        .orderBy("value", Query.Direction.DESCENDING)
-                        .limit(limit)
-                        .get()
-                        .get();
-                
-                List<LeaderboardEntryDTO> entries = new ArrayList<>();
-                int rank = 1;
-                for (DocumentSnapshot doc : snapshot.getDocuments()) {
-                    LeaderboardEntryDTO entry = fromLeaderboardDocument(doc, rank++);
-                    if (entry != null) {
-                        entries.add(entry);
+        StorageQuery query = StorageQuery.collection(leaderboardEntries(type))
+                .orderBy("value", true)
+                .limit(limit);
+        return storage.query(query)
+                .thenApply(documents -> {
+                    List<LeaderboardEntryDTO> entries = new ArrayList<>();
+                    int rank = 1;
+                    for (StoredDocument doc : documents) {
+                        LeaderboardEntryDTO entry = fromLeaderboardDocument(doc.data(), rank++);
+                        if (entry != null) {
+                            entries.add(entry);
+                        }
                     }
-                }
-                return entries;
-            } catch (Exception e) {
-                LogUtil.warning("리더보드 조회 실패 [" + type.getId() + "]: " + e.getMessage());
-                return new ArrayList<>();
-            }
-        });
+                    return entries;
+                })
+                .exceptionally(e -> {
+                    LogUtil.warning("리더보드 조회 실패 [" + type.getId() + "]: " + e.getMessage());
+                    return new ArrayList<>();
+                });
     }
     
     /**
@@ -174,85 +163,73 @@ public class SystemFirestoreService extends BaseFirestoreService<ServerStatsDTO>
         LeaderboardEntryDTO entry = new LeaderboardEntryDTO(playerUuid, playerName, 0, value, type.getId());
         Map<String, Object> data = leaderboardEntryToMap(entry);
         
-        return CompletableFuture.runAsync(() -> {
-            try {
-                firestore.collection("Leaderboard")
-                        .document(type.getId())
-                        .collection("Entry")
-                        .document(playerUuid)
-                        .set(data)
-                        .get();
-            } catch (Exception e) {
-                LogUtil.warning("리더보드 업데이트 실패 [" + type.getId() + "]: " + e.getMessage());
-            }
-        });
+        return storage.set(leaderboardEntries(type), playerUuid, data)
+                .handle((result, e) -> {
+                    if (e != null) {
+                        LogUtil.warning("리더보드 업데이트 실패 [" + type.getId() + "]: " + e.getMessage());
+                    }
+                    return null;
+                });
     }
     
     /**
      * 플레이어의 리더보드 순위 조회
      */
     public CompletableFuture<Integer> getPlayerRank(@NotNull LeaderboardType type, @NotNull String playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                // 먼저 플레이어의 값 조회
-                DocumentSnapshot playerDoc = firestore.collection("Leaderboard")
-                        .document(type.getId())
-                        .collection("Entry")
-                        .document(playerUuid)
-                        .get()
-                        .get();
-                
-                if (!playerDoc.exists()) {
-                    return -1; // 순위 없음
-                }
-                
-                long playerValue = FirestoreUtils.getLong(playerDoc, "value", -1L);
-                if (playerValue == -1L) {
+        // 먼저 플레이어의 값 조회
+        return storage.get(leaderboardEntries(type), playerUuid)
+                .thenCompose(playerDoc -> {
+                    if (playerDoc == null) {
+                        return CompletableFuture.completedFuture(-1); // 순위 없음
+                    }
+                    
+                    long playerValue = FirestoreUtils.getLong(playerDoc.data(), "value", -1L);
+                    if (playerValue == -1L) {
+                        return CompletableFuture.completedFuture(-1);
+                    }
+                    
+                    // 플레이어보다 높은 값을 가진 엔트리 수 계산
+                    StorageQuery higher = StorageQuery.collection(leaderboardEntries(type)).whereGreaterThan("value", playerValue);
+                    return storage.query(higher)
+                            .thenApply(higherEntries -> higherEntries.size() + 1);
+                })
+                .exceptionally(e -> {
+                    LogUtil.warning("플레이어 순위 조회 실패: " + e.getMessage());
                     return -1;
-                }
-                
-                // 플레이어보다 높은 값을 가진 엔트리 수 계산
-                QuerySnapshot higherEntries = firestore.collection("Leaderboard")
-                        .document(type.getId())
-                        .collection("Entry")
-                        .whereGreaterThan("value", playerValue)
-                        .get()
-                        .get();
-                
-                return higherEntries.size() + 1;
-            } catch (Exception e) {
-                LogUtil.warning("플레이어 순위 조회 실패: " + e.getMessage());
-                return -1;
-            }
-        });
+                });
     }
     
     /**
      * 리더보드 초기화
      */
     public CompletableFuture<Void> resetLeaderboard(@NotNull LeaderboardType type) {
-        return CompletableFuture.runAsync(() -> {
-            try {
-                // 모든 엔트리 삭제
-                QuerySnapshot entries = firestore.collection("Leaderboard")
-                        .document(type.getId())
-                        .collection("Entry")
-                        .get()
-                        .get();
-                
-                for (DocumentSnapshot doc : entries.getDocuments()) {
-                    doc.getReference().delete().get();
-                }
-                
-                LogUtil.info("리더보드 초기화 완료: " + type.getId());
-            } catch (Exception e) {
-                LogUtil.warning("리더보드 초기화 실패: " + e.getMessage());
-            }
-        });
+        // 모든 엔트리 삭제 (조회 후 동시에 삭제)
+        String collection = leaderboardEntries(type);
+        return storage.query(StorageQuery.collection(collection))
+                .thenCompose(entries -> {
+                    List<CompletableFuture<Void>> deletes = new ArrayList<>();
+                    for (StoredDocument doc : entries) {
+                        deletes.add(storage.delete(collection, doc.id()));
+                    }
+                    return CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0]));
+                })
+                .thenRun(() -> LogUtil.info("리더보드 초기화 완료: " + type.getId()))
+                .exceptionally(e -> {
+                    LogUtil.warning("리더보드 초기화 실패: " + e.getMessage());
+                    return null;
+                });
     }
     
     // ===== 헬퍼 메소드들 =====
     
+    /**
+     * 리더보드 타입별 엔트리 컬렉션 경로 (Leaderboard/타입/Entry)
+     */
+    @NotNull
+    private static String leaderboardEntries(@NotNull LeaderboardType type) {
+        return "Leaderboard/" + type.getId() + "/Entry";
+    }
+    
     private Map<String, Object> leaderboardEntryToMap(@NotNull LeaderboardEntryDTO entry) {
         Map<String, Object> map = new HashMap<>();
         map.put("playerUuid", entry.playerUuid());
@@ -264,7 +241,7 @@ public class SystemFirestoreService extends BaseFirestoreService<ServerStatsDTO>
         return map;
     }
     
-    private LeaderboardEntryDTO fromLeaderboardDocument(@NotNull DocumentSnapshot doc, int rank) {
+    private LeaderboardEntryDTO fromLeaderboardDocument(@NotNull Map<String, Object> doc, int rank) {
         try {
             return new LeaderboardEntryDTO(
                     FirestoreUtils.getString(doc, "playerUuid", ""),
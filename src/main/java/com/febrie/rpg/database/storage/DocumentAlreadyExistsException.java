@@ -0,0 +1,30 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 생성하려는 문서가 이미 존재함 ({@link StorageBatch#create} 조건 위반)
+ * 배치 전체가 반영되지 않은 상태로 실패함
+ *
+ * @author Febrie
+ */
+public final class DocumentAlreadyExistsException extends IllegalStateException {
+
+    public DocumentAlreadyExistsException(@NotNull String message, @Nullable Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * 예외 원인 사슬에 문서 중복 생성 실패가 포함되어 있는지 확인
+     * (CompletableFuture가 ExecutionException / CompletionException으로 감싸므로 원인을 따라감)
+     */
+    public static boolean isCause(@Nullable Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof DocumentAlreadyExistsException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
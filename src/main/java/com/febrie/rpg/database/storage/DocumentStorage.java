@@ -0,0 +1,101 @@
+package com.febrie.rpg.database.storage;
+
+import com.google.cloud.Timestamp;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 문서 저장소 SPI
+ * 서비스 계층이 Firestore 클라이언트에 직접 의존하지 않도록 문서 조회 / 저장 / 배치 / 트랜잭션 / 쿼리를 추상화
+ * - 구현체: {@link FirestoreDocumentStorage} (Google Cloud Firestore), {@link EmbeddedDocumentStorage} (서버 로컬 파일)
+ * - 컬렉션은 경로로 지정 (하위 컬렉션은 "Leaderboard/level/Entry"처럼 슬래시로 구분)
+ * - 값은 Firestore 문서와 같은 타입(문자열, long, double, 불리언, Timestamp, 맵, 리스트)만 사용하며,
+ *   필드 삭제 / 증가는 {@link StorageFieldValue}로 지정
+ * - 반환되는 Future는 저장소 스레드에서 완료되므로 이어지는 작업은 가볍게 유지해야 함
+ *
+ * @author Febrie
+ */
+public interface DocumentStorage {
+
+    /**
+     * 저장소 종류
+     */
+    @NotNull
+    StorageBackend getBackend();
+
+    /**
+     * 문서 조회
+     *
+     * @return 문서 (없으면 null)
+     */
+    @NotNull
+    CompletableFuture<@Nullable StoredDocument> get(@NotNull String collection, @NotNull String documentId);
+
+    /**
+     * 같은 컬렉션의 문서 여러 개 조회
+     *
+     * @return 요청 순서대로의 문서 (없는 문서는 null)
+     */
+    @NotNull
+    CompletableFuture<List<@Nullable StoredDocument>> getAll(@NotNull String collection, @NotNull List<String> documentIds);
+
+    /**
+     * 문서 전체 교체 저장
+     *
+     * @return 저장된 문서의 수정 시각
+     */
+    @NotNull
+    CompletableFuture<Timestamp> set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    /**
+     * 문서 병합 저장 (중첩 맵은 재귀적으로 병합, 문서가 없으면 생성)
+     *
+     * @return 저장된 문서의 수정 시각
+     */
+    @NotNull
+    CompletableFuture<Timestamp> merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    /**
+     * 필드 단위 갱신 (문서가 존재해야 함, 없으면 예외로 완료)
+     *
+     * @param fields 필드 경로 -> 값
+     * @return 저장된 문서의 수정 시각
+     */
+    @NotNull
+    CompletableFuture<Timestamp> update(@NotNull String collection, @NotNull String documentId,
+                                        @NotNull Map<StorageFieldPath, Object> fields);
+
+    /**
+     * 문서 삭제 (없어도 성공)
+     */
+    @NotNull
+    CompletableFuture<Void> delete(@NotNull String collection, @NotNull String documentId);
+
+    /**
+     * 쿼리 실행
+     */
+    @NotNull
+    CompletableFuture<List<StoredDocument>> query(@NotNull StorageQuery query);
+
+    /**
+     * 원자적으로 커밋할 배치 시작
+     */
+    @NotNull
+    StorageBatch batch();
+
+    /**
+     * 트랜잭션 실행 (충돌 시 저장소가 함수를 다시 실행할 수 있으므로 부수 효과가 없어야 함)
+     */
+    @NotNull
+    <T> CompletableFuture<T> runTransaction(@NotNull Function<StorageTransaction, T> function);
+
+    /**
+     * 저장소 종료 (진행 중인 쓰기를 기록한 뒤 닫음)
+     */
+    void close();
+}
@@ -0,0 +1,949 @@
+package com.febrie.rpg.database.storage;
+
+import com.febrie.rpg.database.helper.DocumentCodec;
+import com.febrie.rpg.util.LogUtil;
+import com.google.cloud.Timestamp;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 내장 문서 저장소 (서버 로컬 파일)
+ * Firestore 없이 단일 서버에서 동작하는 로그 구조 저장소 - 개발 / 스테이징 / 이벤트 서버와 네트워크 지연 없는 벤치마크용
+ * - 모든 쓰기는 세그먼트 파일 끝에 추가하고, 메모리 색인(컬렉션 -> 문서 ID -> 값 위치)만 갱신
+ * - 조회는 색인이 가리키는 위치에서 값 하나만 읽음 (운영체제 페이지 캐시 활용)
+ * - 배치 / 트랜잭션 / 단일 쓰기는 레코드 하나로 기록되므로 중간에 끊겨도 일부만 반영되지 않음
+ * - 모든 작업은 전용 스레드 하나에서 순서대로 실행되어 결과가 결정적이며, 트랜잭션 충돌이 없음
+ * - 죽은 데이터가 살아 있는 데이터보다 많아지면 살아 있는 문서만 새 세그먼트로 옮기고 이전 세그먼트 삭제
+ * <p>
+ * 세그먼트 형식: [int 매직][int 버전] 다음에 레코드 반복
+ * 레코드: [int 본문 길이][int CRC32][본문]
+ * 본문: [long 수정 초][int 수정 나노][int 항목 수] 다음에 항목 반복
+ * 항목: [byte 종류][UTF 컬렉션][UTF 문서 ID][int 값 길이][값 ({@link DocumentCodec}, PUT만)]
+ *
+ * @author Febrie
+ */
+public final class EmbeddedDocumentStorage implements DocumentStorage {
+
+    /**
+     * 값 위치
+     *
+     * @param segment    세그먼트 번호
+     * @param offset     세그먼트 안의 값 시작 위치
+     * @param length     값 길이
+     * @param updateTime 수정 시각
+     */
+    private record Location(long segment, long offset, int length, @NotNull Timestamp updateTime) {
+    }
+
+    /**
+     * 세그먼트 파일
+     */
+    private static final class Segment {
+        private final long number;
+        private final Path file;
+        private final FileChannel channel;
+        private long size;
+
+        private Segment(long number, @NotNull Path file, @NotNull FileChannel channel, long size) {
+            this.number = number;
+            this.file = file;
+            this.channel = channel;
+            this.size = size;
+        }
+    }
+
+    /**
+     * 쓰기 종류
+     */
+    private enum Operation {
+        SET, CREATE, MERGE, UPDATE, DELETE
+    }
+
+    /**
+     * 반영 전 쓰기
+     */
+    private record Mutation(@NotNull Operation operation, @NotNull String collection, @NotNull String documentId,
+                            @Nullable Map<String, Object> data, @Nullable Map<StorageFieldPath, Object> fields) {
+    }
+
+    /**
+     * 저장소 스레드에서 실행할 작업
+     */
+    @FunctionalInterface
+    private interface StorageTask<T> {
+        T run() throws IOException;
+    }
+
+    private static final int MAGIC = 0x53524442; // "SRDB"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = Integer.BYTES * 2;
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES * 2;
+    private static final String FILE_PREFIX = "segment-";
+    private static final String FILE_SUFFIX = ".log";
+    private static final byte ENTRY_PUT = 1;
+    private static final byte ENTRY_DELETE = 2;
+    // 레코드 본문 최대 길이 (손상된 길이 값 검출용)
+    private static final int MAX_FRAME_SIZE = 256 * 1024 * 1024;
+    // 종료 시 진행 중인 작업 대기 시간
+    private static final long CLOSE_TIMEOUT_SECONDS = 10;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean syncWrites;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("RPG-EmbeddedStorage").daemon(true).factory());
+
+    // 아래 상태는 불러오기 이후 저장소 스레드에서만 접근
+    private final Map<String, TreeMap<String, Location>> index = new HashMap<>();
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private Segment active;
+    private long liveBytes;
+    private long totalBytes;
+    private long lastUpdateMicros;
+
+    private EmbeddedDocumentStorage(@NotNull Path directory, long segmentSize, boolean syncWrites) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.syncWrites = syncWrites;
+    }
+
+    /**
+     * 저장소 열기 (기존 세그먼트를 읽어 색인 구성)
+     *
+     * @param segmentSize 세그먼트 파일 크기 (넘으면 새 세그먼트 시작)
+     * @param syncWrites  쓰기마다 디스크 동기화 여부 (끄면 빠르지만 운영체제 장애 시 마지막 쓰기가 유실될 수 있음)
+     */
+    @NotNull
+    public static EmbeddedDocumentStorage open(@NotNull Path directory, long segmentSize, boolean syncWrites) throws IOException {
+        EmbeddedDocumentStorage storage = new EmbeddedDocumentStorage(directory, Math.max(1024L * 1024L, segmentSize), syncWrites);
+        Files.createDirectories(directory);
+        try {
+            storage.load();
+        } catch (IOException e) {
+            storage.closeSegments();
+            storage.executor.shutdownNow();
+            throw e;
+        }
+        LogUtil.info(String.format("내장 저장소 열림 (문서: %d개, 세그먼트: %d개, %.1fMB)",
+                storage.countDocuments(), storage.segments.size(), storage.totalBytes / (1024.0 * 1024.0)));
+        return storage;
+    }
+
+    @Override
+    @NotNull
+    public StorageBackend getBackend() {
+        return StorageBackend.EMBEDDED;
+    }
+
+    // ===== 조회 =====
+
+    @Override
+    @NotNull
+    public CompletableFuture<@Nullable StoredDocument> get(@NotNull String collection, @NotNull String documentId) {
+        return submit(() -> read(collection, documentId));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<List<@Nullable StoredDocument>> getAll(@NotNull String collection, @NotNull List<String> documentIds) {
+        return submit(() -> {
+            List<StoredDocument> documents = new ArrayList<>(documentIds.size());
+            for (String documentId : documentIds) {
+                documents.add(read(collection, documentId));
+            }
+            return documents;
+        });
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<List<StoredDocument>> query(@NotNull StorageQuery query) {
+        return submit(() -> {
+            TreeMap<String, Location> documents = index.get(query.getCollection());
+            List<StoredDocument> results = new ArrayList<>();
+            if (documents == null) return results;
+
+            String orderBy = query.getOrderBy();
+            for (Map.Entry<String, Location> entry : documents.entrySet()) {
+                StoredDocument document = decode(entry.getKey(), entry.getValue());
+                if (matches(document.data(), query.getFilters())
+                        && (orderBy == null || resolveField(document.data(), orderBy) != null)) {
+                    results.add(document);
+                }
+            }
+
+            if (orderBy != null) {
+                Comparator<StoredDocument> comparator = (a, b) ->
+                        compareValues(resolveField(a.data(), orderBy), resolveField(b.data(), orderBy));
+                results.sort(query.isDescending() ? comparator.reversed() : comparator);
+            }
+            if (query.getLimit() > 0 && results.size() > query.getLimit()) {
+                return new ArrayList<>(results.subList(0, query.getLimit()));
+            }
+            return results;
+        });
+    }
+
+    // ===== 쓰기 =====
+
+    @Override
+    @NotNull
+    public CompletableFuture<Timestamp> set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        return submit(() -> apply(List.of(new Mutation(Operation.SET, collection, documentId, data, null))));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Timestamp> merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        return submit(() -> apply(List.of(new Mutation(Operation.MERGE, collection, documentId, data, null))));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Timestamp> update(@NotNull String collection, @NotNull String documentId,
+                                               @NotNull Map<StorageFieldPath, Object> fields) {
+        return submit(() -> apply(List.of(new Mutation(Operation.UPDATE, collection, documentId, null, fields))));
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> delete(@NotNull String collection, @NotNull String documentId) {
+        return submit(() -> {
+            apply(List.of(new Mutation(Operation.DELETE, collection, documentId, null, null)));
+            return null;
+        });
+    }
+
+    @Override
+    @NotNull
+    public StorageBatch batch() {
+        return new EmbeddedBatch();
+    }
+
+    /**
+     * 트랜잭션 실행 (저장소 스레드에서 실행되므로 함수 안에서 이 저장소의 Future를 기다리면 안 됨)
+     */
+    @Override
+    @NotNull
+    public <T> CompletableFuture<T> runTransaction(@NotNull Function<StorageTransaction, T> function) {
+        return submit(() -> {
+            EmbeddedTransaction transaction = new EmbeddedTransaction();
+            T result = function.apply(transaction);
+            if (!transaction.mutations.isEmpty()) {
+                apply(transaction.mutations);
+            }
+            return result;
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LogUtil.warning("내장 저장소 작업이 제한 시간 내에 끝나지 않아 중단합니다.");
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        int documents = countDocuments();
+        closeSegments();
+        LogUtil.info("내장 저장소 종료 (문서: " + documents + "개)");
+    }
+
+    // ===== 내부 처리 (저장소 스레드) =====
+
+    @NotNull
+    private <T> CompletableFuture<T> submit(@NotNull StorageTask<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    result.complete(task.run());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 종료 후 제출된 작업
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    @Nullable
+    private StoredDocument read(@NotNull String collection, @NotNull String documentId) throws IOException {
+        TreeMap<String, Location> documents = index.get(collection);
+        Location location = documents != null ? documents.get(documentId) : null;
+        return location != null ? decode(documentId, location) : null;
+    }
+
+    @NotNull
+    private StoredDocument decode(@NotNull String documentId, @NotNull Location location) throws IOException {
+        Segment segment = segments.get(location.segment());
+        if (segment == null) {
+            throw new IOException("Missing segment " + location.segment() + " for document " + documentId);
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        long position = location.offset();
+        while (buffer.hasRemaining()) {
+            int read = segment.channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Truncated value for document " + documentId);
+            }
+            position += read;
+        }
+
+        Object value = DocumentCodec.readValue(new DataInputStream(new ByteArrayInputStream(buffer.array())));
+        if (!(value instanceof Map<?, ?> map)) {
+            throw new IOException("Corrupt document " + documentId);
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> data = (Map<String, Object>) map;
+        return new StoredDocument(documentId, data, location.updateTime());
+    }
+
+    /**
+     * 쓰기 묶음 반영 (모두 계산한 뒤 레코드 하나로 기록 - 하나라도 실패하면 아무것도 반영하지 않음)
+     *
+     * @return 수정 시각
+     */
+    @NotNull
+    private Timestamp apply(@NotNull List<Mutation> mutations) throws IOException {
+        // 컬렉션/문서 ID -> 반영 후 상태 (삭제는 null)
+        Map<String, Map<String, Object>> results = new HashMap<>();
+        Map<String, Mutation> targets = new HashMap<>();
+        for (Mutation mutation : mutations) {
+            String key = mutation.collection() + "/" + mutation.documentId();
+            Map<String, Object> current = results.containsKey(key)
+                    ? results.get(key)
+                    : readData(mutation.collection(), mutation.documentId());
+
+            Map<String, Object> next = switch (mutation.operation()) {
+                case SET -> mergeValues(new HashMap<>(), Objects.requireNonNull(mutation.data()));
+                case CREATE -> {
+                    if (current != null) {
+                        throw new DocumentAlreadyExistsException("Document already exists: " + key, null);
+                    }
+                    yield mergeValues(new HashMap<>(), Objects.requireNonNull(mutation.data()));
+                }
+                case MERGE -> mergeValues(current != null ? current : new HashMap<>(), Objects.requireNonNull(mutation.data()));
+                case UPDATE -> {
+                    if (current == null) {
+                        throw new IllegalStateException("No document to update: " + key);
+                    }
+                    yield updateValues(current, Objects.requireNonNull(mutation.fields()));
+                }
+                case DELETE -> null;
+            };
+            results.put(key, next);
+            targets.put(key, mutation);
+        }
+
+        Timestamp updateTime = nextUpdateTime();
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bodyBytes);
+        out.writeLong(updateTime.getSeconds());
+        out.writeInt(updateTime.getNanos());
+        out.writeInt(results.size());
+
+        // 값 위치는 본문 안의 위치로 먼저 계산하고, 기록 후 세그먼트 위치로 바꿈
+        List<String> keys = new ArrayList<>(results.keySet());
+        long[] valueOffsets = new long[keys.size()];
+        int[] valueLengths = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            Mutation target = targets.get(keys.get(i));
+            Map<String, Object> data = results.get(keys.get(i));
+            out.writeByte(data != null ? ENTRY_PUT : ENTRY_DELETE);
+            out.writeUTF(target.collection());
+            out.writeUTF(target.documentId());
+            if (data != null) {
+                byte[] value = encodeValue(data);
+                out.writeInt(value.length);
+                out.flush();
+                valueOffsets[i] = bodyBytes.size();
+                valueLengths[i] = value.length;
+                out.write(value);
+            } else {
+                out.writeInt(0);
+            }
+        }
+        out.flush();
+
+        long bodyStart = append(bodyBytes.toByteArray());
+        for (int i = 0; i < keys.size(); i++) {
+            Mutation target = targets.get(keys.get(i));
+            if (results.get(keys.get(i)) != null) {
+                put(target.collection(), target.documentId(),
+                        new Location(active.number, bodyStart + valueOffsets[i], valueLengths[i], updateTime));
+            } else {
+                remove(target.collection(), target.documentId());
+            }
+        }
+
+        compactIfNeeded();
+        return updateTime;
+    }
+
+    @Nullable
+    private Map<String, Object> readData(@NotNull String collection, @NotNull String documentId) throws IOException {
+        StoredDocument document = read(collection, documentId);
+        return document != null ? document.data() : null;
+    }
+
+    /**
+     * 레코드 하나를 현재 세그먼트 끝에 기록 (공간이 부족하면 새 세그먼트로 넘어감)
+     *
+     * @return 세그먼트 안의 본문 시작 위치
+     */
+    private long append(byte[] body) throws IOException {
+        if (active == null || (active.size > HEADER_SIZE && active.size + FRAME_HEADER_SIZE + body.length > segmentSize)) {
+            roll();
+        }
+
+        CRC32 checksum = new CRC32();
+        checksum.update(body);
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + body.length)
+                .putInt(body.length)
+                .putInt((int) checksum.getValue())
+                .put(body)
+                .flip();
+
+        long position = active.size;
+        while (frame.hasRemaining()) {
+            position += active.channel.write(frame, position);
+        }
+        if (syncWrites) {
+            active.channel.force(false);
+        }
+
+        long bodyStart = active.size + FRAME_HEADER_SIZE;
+        active.size = position;
+        totalBytes += FRAME_HEADER_SIZE + body.length;
+        return bodyStart;
+    }
+
+    private void roll() throws IOException {
+        if (active != null) {
+            active.channel.force(false);
+        }
+        long number = segments.isEmpty() ? 1L : segments.lastKey() + 1L;
+        Path file = directory.resolve(String.format("%s%08d%s", FILE_PREFIX, number, FILE_SUFFIX));
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header, HEADER_SIZE - header.remaining());
+        }
+
+        Segment segment = new Segment(number, file, channel, HEADER_SIZE);
+        segments.put(number, segment);
+        active = segment;
+        totalBytes += HEADER_SIZE;
+    }
+
+    /**
+     * 죽은 데이터가 살아 있는 데이터보다 많으면 살아 있는 문서만 새 세그먼트로 옮김
+     * 옮긴 뒤 이전 세그먼트를 번호 순서로 삭제하므로, 도중에 끊겨도 다시 불러올 때 최신 상태가 유지됨
+     */
+    private void compactIfNeeded() throws IOException {
+        if (totalBytes < segmentSize || totalBytes < liveBytes * 2) return;
+
+        long start = System.currentTimeMillis();
+        long before = totalBytes;
+        long firstNewSegment = segments.lastKey() + 1L;
+        roll();
+
+        for (Map.Entry<String, TreeMap<String, Location>> collection : index.entrySet()) {
+            for (Map.Entry<String, Location> document : collection.getValue().entrySet()) {
+                Location location = document.getValue();
+                byte[] value = readRaw(location);
+
+                ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+                DataOutputStream out = new DataOutputStream(bodyBytes);
+                out.writeLong(location.updateTime().getSeconds());
+                out.writeInt(location.updateTime().getNanos());
+                out.writeInt(1);
+                out.writeByte(ENTRY_PUT);
+                out.writeUTF(collection.getKey());
+                out.writeUTF(document.getKey());
+                out.writeInt(value.length);
+                out.flush();
+                int valueOffset = bodyBytes.size();
+                out.write(value);
+                out.flush();
+
+                long bodyStart = append(bodyBytes.toByteArray());
+                document.setValue(new Location(active.number, bodyStart + valueOffset, value.length, location.updateTime()));
+            }
+        }
+        active.channel.force(false);
+
+        // 이전 세그먼트 삭제 (번호 순서 - 삭제 기록보다 그 대상 기록이 먼저 지워지도록)
+        for (Long number : new ArrayList<>(segments.headMap(firstNewSegment).keySet())) {
+            Segment segment = segments.remove(number);
+            totalBytes -= segment.size;
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        }
+
+        LogUtil.info(String.format("내장 저장소 압축 완료 (%.1fMB -> %.1fMB, %dms)",
+                before / (1024.0 * 1024.0), totalBytes / (1024.0 * 1024.0), System.currentTimeMillis() - start));
+    }
+
+    private byte[] readRaw(@NotNull Location location) throws IOException {
+        Segment segment = segments.get(location.segment());
+        ByteBuffer buffer = ByteBuffer.allocate(location.length());
+        long position = location.offset();
+        while (buffer.hasRemaining()) {
+            int read = segment.channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("Truncated value in segment " + location.segment());
+            }
+            position += read;
+        }
+        return buffer.array();
+    }
+
+    private void put(@NotNull String collection, @NotNull String documentId, @NotNull Location location) {
+        Location previous = index.computeIfAbsent(collection, c -> new TreeMap<>()).put(documentId, location);
+        liveBytes += footprint(collection, documentId, location.length());
+        if (previous != null) {
+            liveBytes -= footprint(collection, documentId, previous.length());
+        }
+    }
+
+    private void remove(@NotNull String collection, @NotNull String documentId) {
+        TreeMap<String, Location> documents = index.get(collection);
+        if (documents == null) return;
+        Location previous = documents.remove(documentId);
+        if (previous != null) {
+            liveBytes -= footprint(collection, documentId, previous.length());
+        }
+        if (documents.isEmpty()) {
+            index.remove(collection);
+        }
+    }
+
+    /**
+     * 문서 하나를 단독 레코드로 기록할 때의 크기 (압축 후 크기 - 압축 시점 판단 기준)
+     */
+    private static long footprint(@NotNull String collection, @NotNull String documentId, int valueLength) {
+        // 레코드 머리 + 수정 시각 / 항목 수 + 종류 + 컬렉션 / ID (UTF 길이 포함) + 값 길이 + 값
+        return FRAME_HEADER_SIZE + Long.BYTES + Integer.BYTES * 2 + 1
+                + 2 + collection.length() + 2 + documentId.length() + Integer.BYTES + valueLength;
+    }
+
+    @NotNull
+    private Timestamp nextUpdateTime() {
+        long micros = Math.max(TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis()), lastUpdateMicros + 1);
+        lastUpdateMicros = micros;
+        return Timestamp.ofTimeMicroseconds(micros);
+    }
+
+    private int countDocuments() {
+        int count = 0;
+        for (TreeMap<String, Location> documents : index.values()) {
+            count += documents.size();
+        }
+        return count;
+    }
+
+    private void closeSegments() {
+        for (Segment segment : segments.values()) {
+            try {
+                segment.channel.force(false);
+                segment.channel.close();
+            } catch (IOException e) {
+                LogUtil.warning("내장 저장소 세그먼트 닫기 실패 [" + segment.number + "]: " + e.getMessage());
+            }
+        }
+        segments.clear();
+        active = null;
+    }
+
+    // ===== 불러오기 =====
+
+    /**
+     * 세그먼트를 번호 순서로 읽어 색인 구성
+     * 손상되거나 끝이 잘린 레코드를 만나면 그 세그먼트를 그 위치에서 잘라냄 (마지막 쓰기 도중 종료된 경우)
+     */
+    private void load() throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(path -> path.getFileName().toString().startsWith(FILE_PREFIX)
+                            && path.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long number;
+            try {
+                number = Long.parseLong(name.substring(FILE_PREFIX.length(), name.length() - FILE_SUFFIX.length()));
+            } catch (NumberFormatException e) {
+                continue;
+            }
+
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                channel.close();
+                throw new IOException("Unrecognized storage segment: " + file);
+            }
+
+            Segment segment = new Segment(number, file, channel, HEADER_SIZE);
+            segments.put(number, segment);
+            scan(segment);
+            totalBytes += segment.size;
+        }
+        active = segments.isEmpty() ? null : segments.lastEntry().getValue();
+    }
+
+    private void scan(@NotNull Segment segment) throws IOException {
+        long fileSize = segment.channel.size();
+        long position = HEADER_SIZE;
+        ByteBuffer frameHeader = ByteBuffer.allocate(FRAME_HEADER_SIZE);
+
+        while (position + FRAME_HEADER_SIZE <= fileSize) {
+            frameHeader.clear();
+            segment.channel.read(frameHeader, position);
+            frameHeader.flip();
+            int length = frameHeader.getInt();
+            int crc = frameHeader.getInt();
+            if (length <= 0 || length > MAX_FRAME_SIZE || position + FRAME_HEADER_SIZE + length > fileSize) break;
+
+            ByteBuffer body = ByteBuffer.allocate(length);
+            long bodyStart = position + FRAME_HEADER_SIZE;
+            while (body.hasRemaining()) {
+                if (segment.channel.read(body, bodyStart + body.position()) < 0) break;
+            }
+            CRC32 checksum = new CRC32();
+            checksum.update(body.array());
+            if ((int) checksum.getValue() != crc) break;
+
+            try {
+                replayFrame(segment.number, bodyStart, body.array());
+            } catch (IOException e) {
+                break;
+            }
+            position = bodyStart + length;
+        }
+
+        if (position < fileSize) {
+            LogUtil.warning("내장 저장소 세그먼트 " + segment.number + "의 손상된 끝부분 제거 ("
+                    + (fileSize - position) + "바이트)");
+            segment.channel.truncate(position);
+        }
+        segment.size = position;
+    }
+
+    private void replayFrame(long segment, long bodyStart, byte[] body) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+        Timestamp updateTime = Timestamp.ofTimeSecondsAndNanos(in.readLong(), in.readInt());
+        lastUpdateMicros = Math.max(lastUpdateMicros,
+                TimeUnit.SECONDS.toMicros(updateTime.getSeconds()) + TimeUnit.NANOSECONDS.toMicros(updateTime.getNanos()));
+
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            byte type = in.readByte();
+            String collection = in.readUTF();
+            String documentId = in.readUTF();
+            int length = in.readInt();
+            if (type == ENTRY_PUT) {
+                long valueOffset = body.length - in.available();
+                if (in.skipBytes(length) != length) {
+                    throw new EOFException("Truncated entry");
+                }
+                put(collection, documentId, new Location(segment, bodyStart + valueOffset, length, updateTime));
+            } else if (type == ENTRY_DELETE) {
+                remove(collection, documentId);
+            } else {
+                throw new IOException("Unknown entry type: " + type);
+            }
+        }
+    }
+
+    // ===== 값 처리 =====
+
+    private static byte[] encodeValue(@NotNull Map<String, Object> data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        DocumentCodec.writeValue(out, data);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 병합 (중첩 맵은 재귀 병합, 특수 값 적용)
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> mergeValues(@NotNull Map<String, Object> target, @NotNull Map<String, Object> source) {
+        for (Map.Entry<String, Object> entry : source.entrySet()) {
+            Object value = entry.getValue();
+            Object existing = target.get(entry.getKey());
+            if (value instanceof Map<?, ?> map) {
+                Map<String, Object> nested = existing instanceof Map<?, ?> existingMap
+                        ? (Map<String, Object>) existingMap
+                        : new HashMap<>();
+                target.put(entry.getKey(), mergeValues(nested, (Map<String, Object>) map));
+            } else {
+                applyValue(target, entry.getKey(), value);
+            }
+        }
+        return target;
+    }
+
+    /**
+     * 필드 경로 단위 갱신 (중간 맵이 없으면 생성, 값이 맵이면 통째로 교체)
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> updateValues(@NotNull Map<String, Object> target, @NotNull Map<StorageFieldPath, Object> fields) {
+        for (Map.Entry<StorageFieldPath, Object> entry : fields.entrySet()) {
+            List<String> segments = entry.getKey().segments();
+            Map<String, Object> parent = target;
+            for (int i = 0; i < segments.size() - 1; i++) {
+                Object child = parent.get(segments.get(i));
+                if (!(child instanceof Map<?, ?>)) {
+                    child = new HashMap<String, Object>();
+                    parent.put(segments.get(i), child);
+                }
+                parent = (Map<String, Object>) child;
+            }
+
+            String field = segments.getLast();
+            Object value = entry.getValue();
+            if (value instanceof Map<?, ?> map) {
+                parent.put(field, mergeValues(new HashMap<>(), (Map<String, Object>) map));
+            } else {
+                applyValue(parent, field, value);
+            }
+        }
+        return target;
+    }
+
+    private static void applyValue(@NotNull Map<String, Object> target, @NotNull String field, @Nullable Object value) {
+        if (value instanceof StorageFieldValue special) {
+            switch (special.getKind()) {
+                case DELETE -> target.remove(field);
+                case INCREMENT -> {
+                    Object existing = target.get(field);
+                    if (existing instanceof Double || existing instanceof Float) {
+                        target.put(field, ((Number) existing).doubleValue() + special.getAmount());
+                    } else if (existing instanceof Number number) {
+                        target.put(field, number.longValue() + special.getAmount());
+                    } else {
+                        target.put(field, special.getAmount());
+                    }
+                }
+            }
+        } else {
+            target.put(field, value);
+        }
+    }
+
+    // ===== 쿼리 평가 =====
+
+    private static boolean matches(@NotNull Map<String, Object> data, @NotNull List<StorageQuery.Filter> filters) {
+        for (StorageQuery.Filter filter : filters) {
+            Object value = resolveField(data, filter.field());
+            boolean matched = switch (filter.operator()) {
+                case EQUAL -> valuesEqual(value, filter.value());
+                case GREATER_THAN -> value != null && typeRank(value) == typeRank(filter.value())
+                        && compareValues(value, filter.value()) > 0;
+            };
+            if (!matched) return false;
+        }
+        return true;
+    }
+
+    @Nullable
+    private static Object resolveField(@NotNull Map<String, Object> data, @NotNull String field) {
+        Object current = data;
+        for (String segment : field.split("\\.")) {
+            if (!(current instanceof Map<?, ?> map)) return null;
+            current = map.get(segment);
+        }
+        return current;
+    }
+
+    private static boolean valuesEqual(@Nullable Object a, @Nullable Object b) {
+        if (a instanceof Number x && b instanceof Number y) {
+            return compareNumbers(x, y) == 0;
+        }
+        return Objects.equals(a, b);
+    }
+
+    /**
+     * 값 비교 (타입이 다르면 Firestore 타입 순서: null, 불리언, 숫자, 시각, 문자열, 그 외)
+     */
+    private static int compareValues(@Nullable Object a, @Nullable Object b) {
+        int rankA = typeRank(a);
+        int rankB = typeRank(b);
+        if (rankA != rankB) return Integer.compare(rankA, rankB);
+
+        if (a instanceof Boolean x && b instanceof Boolean y) return x.compareTo(y);
+        if (a instanceof Number x && b instanceof Number y) return compareNumbers(x, y);
+        if (a instanceof Timestamp x && b instanceof Timestamp y) return x.compareTo(y);
+        if (a instanceof String x && b instanceof String y) return x.compareTo(y);
+        return 0;
+    }
+
+    private static int compareNumbers(@NotNull Number a, @NotNull Number b) {
+        boolean integral = !(a instanceof Double || a instanceof Float || b instanceof Double || b instanceof Float);
+        return integral ? Long.compare(a.longValue(), b.longValue()) : Double.compare(a.doubleValue(), b.doubleValue());
+    }
+
+    private static int typeRank(@Nullable Object value) {
+        if (value == null) return 0;
+        if (value instanceof Boolean) return 1;
+        if (value instanceof Number) return 2;
+        if (value instanceof Timestamp) return 3;
+        if (value instanceof String) return 4;
+        return 5;
+    }
+
+    // ===== 배치 / 트랜잭션 =====
+
+    /**
+     * 커밋 시 레코드 하나로 기록되는 배치
+     */
+    private final class EmbeddedBatch implements StorageBatch {
+        private final List<Mutation> mutations = new ArrayList<>();
+        private boolean committed;
+
+        @Override
+        @NotNull
+        public StorageBatch set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            mutations.add(new Mutation(Operation.SET, collection, documentId, data, null));
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch create(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            mutations.add(new Mutation(Operation.CREATE, collection, documentId, data, null));
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            mutations.add(new Mutation(Operation.MERGE, collection, documentId, data, null));
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch update(@NotNull String collection, @NotNull String documentId,
+                                   @NotNull Map<StorageFieldPath, Object> fields) {
+            mutations.add(new Mutation(Operation.UPDATE, collection, documentId, null, fields));
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch delete(@NotNull String collection, @NotNull String documentId) {
+            mutations.add(new Mutation(Operation.DELETE, collection, documentId, null, null));
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return mutations.size();
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> commit() {
+            if (committed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Batch already committed"));
+            }
+            committed = true;
+            if (mutations.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+
+            List<Mutation> snapshot = List.copyOf(mutations);
+            return submit(() -> {
+                apply(snapshot);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * 저장소 스레드에서 실행되는 트랜잭션 (조회는 커밋된 상태, 쓰기는 함수가 끝난 뒤 한꺼번에 반영)
+     */
+    private final class EmbeddedTransaction implements StorageTransaction {
+        private final List<Mutation> mutations = new ArrayList<>();
+
+        @Override
+        @Nullable
+        public StoredDocument get(@NotNull String collection, @NotNull String documentId) {
+            if (!mutations.isEmpty()) {
+                throw new IllegalStateException("Transaction reads must come before writes");
+            }
+            try {
+                return read(collection, documentId);
+            } catch (IOException e) {
+                throw new IllegalStateException("Transaction read failed: " + collection + "/" + documentId, e);
+            }
+        }
+
+        @Override
+        public void set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            mutations.add(new Mutation(Operation.SET, collection, documentId, data, null));
+        }
+
+        @Override
+        public void merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            mutations.add(new Mutation(Operation.MERGE, collection, documentId, data, null));
+        }
+
+        @Override
+        public void update(@NotNull String collection, @NotNull String documentId, @NotNull Map<StorageFieldPath, Object> fields) {
+            mutations.add(new Mutation(Operation.UPDATE, collection, documentId, null, fields));
+        }
+
+        @Override
+        public void delete(@NotNull String collection, @NotNull String documentId) {
+            mutations.add(new Mutation(Operation.DELETE, collection, documentId, null, null));
+        }
+    }
+}
@@ -0,0 +1,402 @@
+package com.febrie.rpg.database.storage;
+
+import com.febrie.rpg.database.FirestoreIoExecutor;
+import com.google.api.gax.rpc.ApiException;
+import com.google.api.gax.rpc.StatusCode;
+import com.google.cloud.Timestamp;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.FieldPath;
+import com.google.cloud.firestore.FieldValue;
+import com.google.cloud.firestore.Firestore;
+import com.google.cloud.firestore.FirestoreException;
+import com.google.cloud.firestore.Query;
+import com.google.cloud.firestore.SetOptions;
+import com.google.cloud.firestore.Transaction;
+import com.google.cloud.firestore.WriteBatch;
+import io.grpc.Status;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+/**
+ * Firestore 문서 저장소
+ * 모든 호출은 ApiFuture를 {@link FirestoreIoExecutor.Channel#bridge}로 변환하므로 스레드를 점유하지 않으며,
+ * I/O 통계는 컬렉션(경로 첫 부분) 단위 채널에 기록
+ *
+ * @author Febrie
+ */
+public final class FirestoreDocumentStorage implements DocumentStorage {
+
+    private final Firestore firestore;
+    private final FirestoreIoExecutor ioExecutor;
+
+    public FirestoreDocumentStorage(@NotNull Firestore firestore, @NotNull FirestoreIoExecutor ioExecutor) {
+        this.firestore = firestore;
+        this.ioExecutor = ioExecutor;
+    }
+
+    @Override
+    @NotNull
+    public StorageBackend getBackend() {
+        return StorageBackend.FIRESTORE;
+    }
+
+    /**
+     * 내부 Firestore 인스턴스 (Firestore 전용 기능용)
+     */
+    @NotNull
+    public Firestore getFirestore() {
+        return firestore;
+    }
+
+    /**
+     * I/O 실행기 (저장소를 거치지 않는 Firestore 전용 호출도 같은 통계에 기록하기 위함)
+     */
+    @NotNull
+    public FirestoreIoExecutor getIoExecutor() {
+        return ioExecutor;
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<@Nullable StoredDocument> get(@NotNull String collection, @NotNull String documentId) {
+        return channel(collection).bridge(document(collection, documentId).get())
+                .thenApply(FirestoreDocumentStorage::toStored);
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<List<@Nullable StoredDocument>> getAll(@NotNull String collection, @NotNull List<String> documentIds) {
+        if (documentIds.isEmpty()) {
+            return CompletableFuture.completedFuture(new ArrayList<>());
+        }
+
+        DocumentReference[] references = new DocumentReference[documentIds.size()];
+        for (int i = 0; i < references.length; i++) {
+            references[i] = document(collection, documentIds.get(i));
+        }
+        return channel(collection).bridge(firestore.getAll(references)).thenApply(snapshots -> {
+            List<StoredDocument> documents = new ArrayList<>(snapshots.size());
+            for (DocumentSnapshot snapshot : snapshots) {
+                documents.add(toStored(snapshot));
+            }
+            return documents;
+        });
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Timestamp> set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        return channel(collection).bridge(document(collection, documentId).set(toFirestoreMap(data)))
+                .thenApply(result -> result.getUpdateTime());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Timestamp> merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+        return channel(collection).bridge(document(collection, documentId).set(toFirestoreMap(data), SetOptions.merge()))
+                .thenApply(result -> result.getUpdateTime());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Timestamp> update(@NotNull String collection, @NotNull String documentId,
+                                               @NotNull Map<StorageFieldPath, Object> fields) {
+        UpdateArguments arguments = UpdateArguments.of(collection, documentId, fields);
+        return channel(collection).bridge(document(collection, documentId)
+                        .update(arguments.firstPath, arguments.firstValue, arguments.moreFieldsAndValues))
+                .thenApply(result -> result.getUpdateTime());
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<Void> delete(@NotNull String collection, @NotNull String documentId) {
+        return channel(collection).bridge(document(collection, documentId).delete()).thenAccept(result -> {});
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<List<StoredDocument>> query(@NotNull StorageQuery query) {
+        Query target = firestore.collection(query.getCollection());
+        for (StorageQuery.Filter filter : query.getFilters()) {
+            target = switch (filter.operator()) {
+                case EQUAL -> target.whereEqualTo(filter.field(), filter.value());
+                case GREATER_THAN -> target.whereGreaterThan(filter.field(), filter.value());
+            };
+        }
+        if (query.getOrderBy() != null) {
+            target = target.orderBy(query.getOrderBy(), query.isDescending() ? Query.Direction.DESCENDING : Query.Direction.ASCENDING);
+        }
+        if (query.getLimit() > 0) {
+            target = target.limit(query.getLimit());
+        }
+
+        return channel(query.getCollection()).bridge(target.get()).thenApply(snapshot -> {
+            List<StoredDocument> documents = new ArrayList<>(snapshot.size());
+            for (DocumentSnapshot document : snapshot.getDocuments()) {
+                StoredDocument stored = toStored(document);
+                if (stored != null) {
+                    documents.add(stored);
+                }
+            }
+            return documents;
+        });
+    }
+
+    @Override
+    @NotNull
+    public StorageBatch batch() {
+        return new FirestoreBatch(firestore.batch());
+    }
+
+    @Override
+    @NotNull
+    public <T> CompletableFuture<T> runTransaction(@NotNull Function<StorageTransaction, T> function) {
+        return ioExecutor.channel("Transaction").bridge(
+                firestore.runTransaction(transaction -> function.apply(new FirestoreTransaction(transaction))));
+    }
+
+    @Override
+    public void close() {
+        // Firestore 연결은 FirestoreManager가 닫음
+    }
+
+    // ===== 변환 =====
+
+    @NotNull
+    private FirestoreIoExecutor.Channel channel(@NotNull String collection) {
+        int slash = collection.indexOf('/');
+        return ioExecutor.channel(slash < 0 ? collection : collection.substring(0, slash));
+    }
+
+    @NotNull
+    private DocumentReference document(@NotNull String collection, @NotNull String documentId) {
+        return firestore.collection(collection).document(documentId);
+    }
+
+    @Nullable
+    private static StoredDocument toStored(@NotNull DocumentSnapshot snapshot) {
+        Map<String, Object> data = snapshot.getData();
+        if (!snapshot.exists() || data == null) return null;
+        Timestamp updateTime = snapshot.getUpdateTime();
+        return new StoredDocument(snapshot.getId(), data, updateTime != null ? updateTime : Timestamp.now());
+    }
+
+    /**
+     * 중첩 맵 안의 {@link StorageFieldValue}를 Firestore FieldValue로 바꾼 사본
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> toFirestoreMap(@NotNull Map<String, Object> data) {
+        Map<String, Object> converted = new HashMap<>(data.size());
+        for (Map.Entry<String, Object> entry : data.entrySet()) {
+            Object value = entry.getValue();
+            converted.put(entry.getKey(), value instanceof Map<?, ?> map
+                    ? toFirestoreMap((Map<String, Object>) map)
+                    : toFirestoreValue(value));
+        }
+        return converted;
+    }
+
+    @Nullable
+    private static Object toFirestoreValue(@Nullable Object value) {
+        if (value instanceof StorageFieldValue special) {
+            return switch (special.getKind()) {
+                case DELETE -> FieldValue.delete();
+                case INCREMENT -> FieldValue.increment(special.getAmount());
+            };
+        }
+        return value;
+    }
+
+    @NotNull
+    private static FieldPath toFieldPath(@NotNull StorageFieldPath path) {
+        return FieldPath.of(path.segments().toArray(new String[0]));
+    }
+
+    /**
+     * 배치 커밋 실패 변환 (create 조건 위반은 {@link DocumentAlreadyExistsException}으로)
+     */
+    @NotNull
+    private static Throwable translateCommitFailure(@NotNull Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            boolean alreadyExists = current instanceof ApiException apiException
+                    ? apiException.getStatusCode().getCode() == StatusCode.Code.ALREADY_EXISTS
+                    : current instanceof FirestoreException firestoreException
+                    && firestoreException.getStatus() != null
+                    && firestoreException.getStatus().getCode() == Status.Code.ALREADY_EXISTS;
+            if (alreadyExists) {
+                return new DocumentAlreadyExistsException("Batch create target already exists", failure);
+            }
+        }
+        return failure;
+    }
+
+    /**
+     * DocumentReference.update(FieldPath, Object, Object...) 인자
+     */
+    private record UpdateArguments(@NotNull FieldPath firstPath, @Nullable Object firstValue, @NotNull Object[] moreFieldsAndValues) {
+
+        @NotNull
+        private static UpdateArguments of(@NotNull String collection, @NotNull String documentId,
+                                          @NotNull Map<StorageFieldPath, Object> fields) {
+            if (fields.isEmpty()) {
+                throw new IllegalArgumentException("No fields to update: " + collection + "/" + documentId);
+            }
+
+            FieldPath firstPath = null;
+            Object firstValue = null;
+            List<Object> more = new ArrayList<>((fields.size() - 1) * 2);
+            for (Map.Entry<StorageFieldPath, Object> entry : fields.entrySet()) {
+                Object value = entry.getValue() instanceof Map<?, ?> map
+                        ? toFirestoreMap(castMap(map))
+                        : toFirestoreValue(entry.getValue());
+                if (firstPath == null) {
+                    firstPath = toFieldPath(entry.getKey());
+                    firstValue = value;
+                } else {
+                    more.add(toFieldPath(entry.getKey()));
+                    more.add(value);
+                }
+            }
+            return new UpdateArguments(firstPath, firstValue, more.toArray());
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Map<String, Object> castMap(@NotNull Map<?, ?> map) {
+            return (Map<String, Object>) map;
+        }
+    }
+
+    /**
+     * WriteBatch 감싸기
+     */
+    private final class FirestoreBatch implements StorageBatch {
+        private final WriteBatch batch;
+        private String firstCollection;
+        private int size;
+
+        private FirestoreBatch(@NotNull WriteBatch batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            track(collection);
+            batch.set(document(collection, documentId), toFirestoreMap(data));
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch create(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            track(collection);
+            batch.create(document(collection, documentId), toFirestoreMap(data));
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            track(collection);
+            batch.set(document(collection, documentId), toFirestoreMap(data), SetOptions.merge());
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch update(@NotNull String collection, @NotNull String documentId,
+                                   @NotNull Map<StorageFieldPath, Object> fields) {
+            track(collection);
+            UpdateArguments arguments = UpdateArguments.of(collection, documentId, fields);
+            batch.update(document(collection, documentId), arguments.firstPath, arguments.firstValue, arguments.moreFieldsAndValues);
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public StorageBatch delete(@NotNull String collection, @NotNull String documentId) {
+            track(collection);
+            batch.delete(document(collection, documentId));
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        @NotNull
+        public CompletableFuture<Void> commit() {
+            if (firstCollection == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            return channel(firstCollection).bridge(batch.commit())
+                    .<Void>thenApply(results -> null)
+                    .exceptionallyCompose(e -> CompletableFuture.failedFuture(translateCommitFailure(e)));
+        }
+
+        private void track(@NotNull String collection) {
+            size++;
+            if (firstCollection == null) {
+                firstCollection = collection;
+            }
+        }
+    }
+
+    /**
+     * Transaction 감싸기 (조회는 트랜잭션 스레드에서 블로킹)
+     */
+    private final class FirestoreTransaction implements StorageTransaction {
+        private final Transaction transaction;
+
+        private FirestoreTransaction(@NotNull Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+        @Override
+        @Nullable
+        public StoredDocument get(@NotNull String collection, @NotNull String documentId) {
+            try {
+                return toStored(transaction.get(document(collection, documentId)).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Transaction read interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Transaction read failed: " + collection + "/" + documentId,
+                        e.getCause() != null ? e.getCause() : e);
+            }
+        }
+
+        @Override
+        public void set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            transaction.set(document(collection, documentId), toFirestoreMap(data));
+        }
+
+        @Override
+        public void merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data) {
+            transaction.set(document(collection, documentId), toFirestoreMap(data), SetOptions.merge());
+        }
+
+        @Override
+        public void update(@NotNull String collection, @NotNull String documentId, @NotNull Map<StorageFieldPath, Object> fields) {
+            UpdateArguments arguments = UpdateArguments.of(collection, documentId, fields);
+            transaction.update(document(collection, documentId), arguments.firstPath, arguments.firstValue, arguments.moreFieldsAndValues);
+        }
+
+        @Override
+        public void delete(@NotNull String collection, @NotNull String documentId) {
+            transaction.delete(document(collection, documentId));
+        }
+    }
+}
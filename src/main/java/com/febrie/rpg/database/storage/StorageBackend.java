@@ -0,0 +1,47 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * 문서 저장소 종류 (config.yml의 data.storage.backend)
+ *
+ * @author Febrie
+ */
+public enum StorageBackend {
+
+    /**
+     * Google Cloud Firestore (운영 서버)
+     */
+    FIRESTORE("firestore"),
+
+    /**
+     * 서버 로컬 파일 (단일 서버 / 개발 / 이벤트 서버 / 벤치마크)
+     */
+    EMBEDDED("embedded");
+
+    private final String id;
+
+    StorageBackend(@NotNull String id) {
+        this.id = id;
+    }
+
+    @NotNull
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * 설정 값으로 찾기 (대소문자 무시, 알 수 없으면 null)
+     */
+    @Nullable
+    public static StorageBackend fromId(@Nullable String id) {
+        if (id == null) return null;
+        for (StorageBackend backend : values()) {
+            if (backend.id.equalsIgnoreCase(id.trim())) {
+                return backend;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 원자적으로 커밋되는 쓰기 묶음
+ * 전부 반영되거나 전부 반영되지 않음 (Firestore는 배치당 최대 500개)
+ *
+ * @author Febrie
+ */
+public interface StorageBatch {
+
+    @NotNull
+    StorageBatch set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    /**
+     * 문서 생성 (이미 있으면 배치 전체가 {@link DocumentAlreadyExistsException}으로 실패)
+     */
+    @NotNull
+    StorageBatch create(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    @NotNull
+    StorageBatch merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    @NotNull
+    StorageBatch update(@NotNull String collection, @NotNull String documentId, @NotNull Map<StorageFieldPath, Object> fields);
+
+    @NotNull
+    StorageBatch delete(@NotNull String collection, @NotNull String documentId);
+
+    /**
+     * 추가된 쓰기 수
+     */
+    int size();
+
+    /**
+     * 커밋 (한 번만)
+     */
+    @NotNull
+    CompletableFuture<Void> commit();
+}
@@ -0,0 +1,32 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * 문서 필드 경로 (중첩 맵의 키 목록)
+ * 키에 점(.)이 들어가도 그대로 한 단계로 취급
+ *
+ * @param segments 경로 구성 키 (1개 이상)
+ * @author Febrie
+ */
+public record StorageFieldPath(@NotNull List<String> segments) {
+
+    public StorageFieldPath {
+        if (segments.isEmpty()) {
+            throw new IllegalArgumentException("Field path must not be empty");
+        }
+        segments = List.copyOf(segments);
+    }
+
+    @NotNull
+    public static StorageFieldPath of(@NotNull String... segments) {
+        return new StorageFieldPath(List.of(segments));
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", segments);
+    }
+}
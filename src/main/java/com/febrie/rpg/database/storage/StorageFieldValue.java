@@ -0,0 +1,60 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 저장 시 특수 처리되는 필드 값 (Firestore FieldValue 대응)
+ * set / merge의 중첩 맵 안이나 update 값으로 사용
+ *
+ * @author Febrie
+ */
+public final class StorageFieldValue {
+
+    /**
+     * 특수 값 종류
+     */
+    public enum Kind {
+        DELETE,
+        INCREMENT
+    }
+
+    private static final StorageFieldValue DELETE = new StorageFieldValue(Kind.DELETE, 0L);
+
+    private final Kind kind;
+    private final long amount;
+
+    private StorageFieldValue(@NotNull Kind kind, long amount) {
+        this.kind = kind;
+        this.amount = amount;
+    }
+
+    /**
+     * 필드 삭제
+     */
+    @NotNull
+    public static StorageFieldValue delete() {
+        return DELETE;
+    }
+
+    /**
+     * 숫자 필드 증가 (필드가 없거나 숫자가 아니면 amount로 설정)
+     */
+    @NotNull
+    public static StorageFieldValue increment(long amount) {
+        return new StorageFieldValue(Kind.INCREMENT, amount);
+    }
+
+    @NotNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    @Override
+    public String toString() {
+        return kind == Kind.DELETE ? "delete()" : "increment(" + amount + ")";
+    }
+}
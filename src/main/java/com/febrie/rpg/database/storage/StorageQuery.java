@@ -0,0 +1,120 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장소 쿼리 (불변, 조건을 추가할 때마다 새 쿼리 반환)
+ * 지원 범위는 서비스 계층이 실제로 사용하는 것만: 필드 동등 / 초과 조건, 필드 하나 정렬, 개수 제한
+ * - 정렬 필드가 없는 문서는 결과에서 제외 (Firestore와 동일)
+ *
+ * @author Febrie
+ */
+public final class StorageQuery {
+
+    /**
+     * 비교 연산
+     */
+    public enum Operator {
+        EQUAL,
+        GREATER_THAN
+    }
+
+    /**
+     * 필드 조건
+     *
+     * @param field    필드 (점으로 구분된 경로)
+     * @param operator 비교 연산
+     * @param value    비교 값
+     */
+    public record Filter(@NotNull String field, @NotNull Operator operator, @NotNull Object value) {
+    }
+
+    private final String collection;
+    private final List<Filter> filters;
+    private final String orderBy;
+    private final boolean descending;
+    private final int limit;
+
+    private StorageQuery(@NotNull String collection, @NotNull List<Filter> filters, @Nullable String orderBy,
+                         boolean descending, int limit) {
+        this.collection = collection;
+        this.filters = List.copyOf(filters);
+        this.orderBy = orderBy;
+        this.descending = descending;
+        this.limit = limit;
+    }
+
+    /**
+     * 컬렉션 전체 쿼리
+     */
+    @NotNull
+    public static StorageQuery collection(@NotNull String collection) {
+        return new StorageQuery(collection, List.of(), null, false, 0);
+    }
+
+    @NotNull
+    public StorageQuery whereEqualTo(@NotNull String field, @NotNull Object value) {
+        return where(new Filter(field, Operator.EQUAL, value));
+    }
+
+    @NotNull
+    public StorageQuery whereGreaterThan(@NotNull String field, @NotNull Object value) {
+        return where(new Filter(field, Operator.GREATER_THAN, value));
+    }
+
+    /**
+     * 정렬 (필드 하나만, 다시 호출하면 교체)
+     */
+    @NotNull
+    public StorageQuery orderBy(@NotNull String field, boolean descending) {
+        return new StorageQuery(collection, filters, field, descending, limit);
+    }
+
+    /**
+     * 최대 결과 수 (0이면 제한 없음)
+     */
+    @NotNull
+    public StorageQuery limit(int limit) {
+        return new StorageQuery(collection, filters, orderBy, descending, Math.max(0, limit));
+    }
+
+    @NotNull
+    private StorageQuery where(@NotNull Filter filter) {
+        List<Filter> next = new ArrayList<>(filters);
+        next.add(filter);
+        return new StorageQuery(collection, next, orderBy, descending, limit);
+    }
+
+    @NotNull
+    public String getCollection() {
+        return collection;
+    }
+
+    @NotNull
+    public List<Filter> getFilters() {
+        return filters;
+    }
+
+    @Nullable
+    public String getOrderBy() {
+        return orderBy;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public String toString() {
+        return collection + filters + (orderBy != null ? " orderBy " + orderBy + (descending ? " desc" : "") : "")
+                + (limit > 0 ? " limit " + limit : "");
+    }
+}
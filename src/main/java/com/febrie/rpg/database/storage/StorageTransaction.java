@@ -0,0 +1,29 @@
+package com.febrie.rpg.database.storage;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * 트랜잭션 안의 조회 / 쓰기
+ * 조회는 블로킹이며 모든 조회가 쓰기보다 먼저 와야 함 (쓰기는 함수가 끝난 뒤 한꺼번에 반영)
+ *
+ * @author Febrie
+ */
+public interface StorageTransaction {
+
+    /**
+     * 문서 조회 (없으면 null)
+     */
+    @Nullable
+    StoredDocument get(@NotNull String collection, @NotNull String documentId);
+
+    void set(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    void merge(@NotNull String collection, @NotNull String documentId, @NotNull Map<String, Object> data);
+
+    void update(@NotNull String collection, @NotNull String documentId, @NotNull Map<StorageFieldPath, Object> fields);
+
+    void delete(@NotNull String collection, @NotNull String documentId);
+}
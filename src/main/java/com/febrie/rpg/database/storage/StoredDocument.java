@@ -0,0 +1,17 @@
+package com.febrie.rpg.database.storage;
+
+import com.google.cloud.Timestamp;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * 저장소에서 읽은 문서
+ *
+ * @param id         문서 ID
+ * @param data       문서 데이터
+ * @param updateTime 마지막 수정 시각 (저장소 기준)
+ * @author Febrie
+ */
+public record StoredDocument(@NotNull String id, @NotNull Map<String, Object> data, @NotNull Timestamp updateTime) {
+}
@@ -1,16 +1,28 @@
 package com.febrie.rpg.database.sync;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.FirestoreIoExecutor;
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.database.helper.DeadLetterSpool;
 import com.febrie.rpg.database.helper.FirestoreHelper;
 import com.febrie.rpg.database.helper.FirestoreHelper.DataPriority;
+import com.febrie.rpg.database.helper.ShutdownFlusher;
+import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StorageFieldPath;
+import com.febrie.rpg.database.storage.StorageFieldValue;
+import com.febrie.rpg.database.storage.StoredDocument;
 import com.febrie.rpg.dto.player.PlayerDataDTO;
-import com.febrie.rpg.dto.player.WalletDTO;
+import com.febrie.rpg.economy.CurrencyLedger;
 import com.febrie.rpg.economy.CurrencyType;
+import com.febrie.rpg.economy.Wallet;
 import com.febrie.rpg.player.RPGPlayer;
 import com.febrie.rpg.util.LogUtil;
 import com.google.cloud.firestore.Firestore;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
+import java.io.File;
+import java.util.Collection;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.UUID;
@@ -27,7 +39,9 @@ public class DataSyncManager {
     
     private final RPGMain plugin;
     private final Firestore firestore;
+    private final DocumentStorage storage;
     private final FirestoreHelper firestoreHelper;
+    private final FirestoreIoExecutor.Channel io;
     private final PlayerDataCache cache;
     // 플레이어별 마지막 저장 시간 추적
     private final Map<UUID, Long> lastSaveTimes = new ConcurrentHashMap<>();
@@ -35,69 +49,52 @@ public class DataSyncManager {
     private static final long CURRENCY_SAVE_INTERVAL = 60_000;     // 1분
     private static final long PROFILE_SAVE_INTERVAL = 180_000;     // 3분
     private static final long STATS_SAVE_INTERVAL = 300_000;       // 5분
+    // 거래 원장 사유
+    private static final String TRANSFER_REASON = "transfer";
+    private static final String TRANSFER_REFUND_REASON = "transfer_refund";
+    // I/O 통계 채널 이름
+    private static final String IO_CHANNEL = "DataSync";
+    // 플레이어 데이터 로드 타임아웃 (초)
+    private static final long PLAYER_LOAD_TIMEOUT_SECONDS = 5;
     public DataSyncManager(@NotNull RPGMain plugin, @NotNull Firestore firestore) {
         this.plugin = plugin;
         this.firestore = firestore;
-        this.firestoreHelper = new FirestoreHelper(firestore);
+        DocumentStorage storage = plugin.getFirestoreManager().getStorage();
+        if (storage == null) {
+            throw new IllegalStateException("Document storage is not initialized");
+        }
+        this.storage = storage;
+        this.io = plugin.getFirestoreManager().getIoExecutor().channel(IO_CHANNEL);
+        DeadLetterSpool deadLetters = DeadLetterSpool.open(new File(plugin.getDataFolder(), "dead-letter").toPath(),
+                plugin.getConfig().getInt("data.dead-letter.max-entries", DatabaseConstants.DEAD_LETTER_MAX_ENTRIES));
+        this.firestoreHelper = new FirestoreHelper(firestore, io, deadLetters,
+                plugin.getConfig().getInt("data.dead-letter.replay-per-second", DatabaseConstants.DEAD_LETTER_REPLAY_PER_SECOND));
         this.firestoreHelper.initialize(); // 초기화
         this.cache = new PlayerDataCache(); // 5분 TTL (기본값)
     }
     /**
-     * 재화 변경 - 즉시 저장 (트랜잭션)
+     * 재화 변경 - 메모리 지갑에 즉시 반영 (CurrencyLedger가 묶어서 정산)
      */
     @NotNull
     public CompletableFuture<Boolean> modifyCurrency(@NotNull RPGPlayer player, 
                                                      @NotNull CurrencyType currency, 
                                                      long amount) {
-        UUID playerId = player.getPlayerId();
-        String currencyId = currency.getId();
-        
-        // 트랜잭션으로 원자적 업데이트
-        return firestoreHelper.runTransaction(transaction -> {
-            try {
-                // 현재 재화 읽기
-                var docRef = firestore.collection("Player").document(playerId.toString());
-                var snapshot = transaction.get(docRef).get();
-            
-            PlayerDataDTO currentData = null;
-            if (snapshot.exists() && snapshot.getData() != null) {
-                currentData = PlayerDataDTO.fromMap(snapshot.getData());
-            }
-            if (currentData == null) {
-                currentData = PlayerDataDTO.createNew(playerId, player.getPlayer().getName());
-            }
-            
-            // 재화 계산
-            Map<String, Long> currencies = new HashMap<>(currentData.wallet().currencies());
-            long currentAmount = currencies.getOrDefault(currencyId, 0L);
-            long newAmount = currentAmount + amount;
-            if (newAmount < 0) {
-                return false; // 잔액 부족
-            }
-            
-            // 최대값 체크
-            if (newAmount > currency.getMaxAmount()) {
-                newAmount = currency.getMaxAmount();
-            }
-            
-            // 업데이트
-            currencies.put(currencyId, newAmount);
-            WalletDTO newWallet = new WalletDTO(currencies, System.currentTimeMillis());
-            PlayerDataDTO updatedData = new PlayerDataDTO(currentData.profile(), newWallet);
-            // Firestore에 저장
-            transaction.set(docRef, updatedData.toMap());
-            // 메모리 업데이트
-            player.getWallet().setBalance(currency, newAmount);
-            // 캐시 업데이트
-            cache.put(playerId, updatedData);
-            return true;
-        } catch (Exception e) {
-            throw new RuntimeException("재화 변경 실패", e);
-        }
-        }).exceptionally(ex -> {
-            LogUtil.severe("재화 트랜잭션 실패 [" + playerId + "]: " + ex.getMessage());
-            return false;
-        });
+        return modifyCurrency(player, currency, amount, Wallet.UNSPECIFIED_REASON);
+    }
+    
+    /**
+     * 재화 변경 - 메모리 지갑에 즉시 반영 (변경 사유 기록)
+     */
+    @NotNull
+    public CompletableFuture<Boolean> modifyCurrency(@NotNull RPGPlayer player, 
+                                                     @NotNull CurrencyType currency, 
+                                                     long amount,
+                                                     @NotNull String reason) {
+        Wallet wallet = player.getWallet();
+        boolean success = amount >= 0
+                ? wallet.add(currency, amount, reason)
+                : wallet.subtract(currency, -amount, reason);
+        return CompletableFuture.completedFuture(success);
     }
     
     /**
@@ -117,7 +114,7 @@ public class DataSyncManager {
     }
     
     /**
-     * 플레이어 데이터 저장 (배치)
+     * 플레이어 데이터 저장 (배치, 마지막 저장 이후 변경된 필드만)
      */
     public void savePlayerData(@NotNull RPGPlayer player, @NotNull DataPriority priority) {
         UUID playerId = player.getPlayerId();
@@ -126,13 +123,15 @@ public class DataSyncManager {
         if (!shouldSave(playerId, priority)) {
             return;
         }
-        // DTO 변환
-        PlayerDataDTO dto = player.toDTO();
-        Map<String, Object> data = dto.toMap();
+        // 변경된 필드만 담은 부분 문서 (병합 저장)
+        Map<String, Object> data = player.drainDirtyData();
+        if (data.isEmpty()) {
+            return;
+        }
         // 배치 큐에 추가
         firestoreHelper.addToBatch("Player", playerId.toString(), data, priority);
         // 캐시 업데이트
-        cache.put(playerId, dto);
+        cache.put(playerId, player.toDTO());
         // 저장 시간 기록
         lastSaveTimes.put(playerId, System.currentTimeMillis());
     }
@@ -148,100 +147,90 @@ public class DataSyncManager {
         }
         
         // Firestore에서 로드
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                var future = firestore.collection("Player")
-                    .document(playerId.toString())
-                    .get();
-                    
-                var snapshot = future.get(5, TimeUnit.SECONDS);
-                
+        return io.bridge(firestore.collection("Player").document(playerId.toString()).get())
+            .orTimeout(PLAYER_LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+            .thenApply(snapshot -> {
                 if (snapshot.exists() && snapshot.getData() != null) {
                     PlayerDataDTO data = PlayerDataDTO.fromMap(snapshot.getData());
                     cache.put(playerId, data);
                     return data;
                 }
                 return null;
-            } catch (Exception e) {
+            })
+            .exceptionally(e -> {
                 LogUtil.severe("플레이어 데이터 로드 실패 [" + playerId + "]: " + e.getMessage());
                 return null;
-            }
-        });
+            });
     }
     
     /**
-     * 플레이어 간 거래 (트랜잭션)
+     * 플레이어 간 거래 (두 플레이어 모두 접속 중, 메모리 지갑에서 즉시 이동)
+     * 받는 쪽 최대 보유량을 넘는 만큼은 이동하지 않음
      */
     public CompletableFuture<Boolean> transferCurrency(@NotNull RPGPlayer from, 
                                                        @NotNull RPGPlayer to,
                                                        @NotNull CurrencyType currency, 
                                                        long amount) {
-        if (amount <= 0) {
+        long moved = Wallet.transfer(from.getWallet(), to.getWallet(), currency, amount, TRANSFER_REASON);
+        return CompletableFuture.completedFuture(moved > 0);
+    }
+    
+    /**
+     * 플레이어 간 거래 (받는 플레이어 UUID 지정)
+     * 받는 플레이어가 접속 중이면 메모리 지갑끼리 이동하고, 접속 중이 아니면
+     * 보내는 쪽에서 먼저 차감한 뒤 트랜잭션으로 받는 쪽 문서에 더함 (실패 / 최대치 초과분은 환불)
+     */
+    public CompletableFuture<Boolean> transferCurrency(@NotNull RPGPlayer from, 
+                                                       @NotNull UUID toId,
+                                                       @NotNull CurrencyType currency, 
+                                                       long amount) {
+        RPGPlayer to = plugin.getRPGPlayerManager() != null ? plugin.getRPGPlayerManager().getPlayer(toId) : null;
+        if (to != null) {
+            return transferCurrency(from, to, currency, amount);
+        }
+        if (amount <= 0 || from.getPlayerId().equals(toId)) {
             return CompletableFuture.completedFuture(false);
         }
+        if (!from.getWallet().subtract(currency, amount, TRANSFER_REASON)) {
+            return CompletableFuture.completedFuture(false); // 잔액 부족
+        }
         
-        return firestoreHelper.runTransaction(transaction -> {
-            try {
-                String fromId = from.getPlayerId().toString();
-                String toId = to.getPlayerId().toString();
-                String currencyId = currency.getId();
-                
-                // 두 플레이어 데이터 읽기
-                var fromRef = firestore.collection("Player").document(fromId);
-                var toRef = firestore.collection("Player").document(toId);
-                var fromSnapshot = transaction.get(fromRef).get();
-                var toSnapshot = transaction.get(toRef).get();
-                
-                PlayerDataDTO fromData = null;
-                if (fromSnapshot.exists() && fromSnapshot.getData() != null) {
-                    fromData = PlayerDataDTO.fromMap(fromSnapshot.getData());
-                }
-                PlayerDataDTO toData = null;
-                if (toSnapshot.exists() && toSnapshot.getData() != null) {
-                    toData = PlayerDataDTO.fromMap(toSnapshot.getData());
-                }
-                    
-                if (fromData == null || toData == null) {
-                    return false;
-                }
-                
-                Map<String, Long> fromCurrencies = new HashMap<>(fromData.wallet().currencies());
-                Map<String, Long> toCurrencies = new HashMap<>(toData.wallet().currencies());
-                
-                long fromAmount = fromCurrencies.getOrDefault(currencyId, 0L);
-                if (fromAmount < amount) {
-                    return false; // 잔액 부족
-                }
-                
-                long toAmount = toCurrencies.getOrDefault(currencyId, 0L);
-                long newToAmount = Math.min(toAmount + amount, currency.getMaxAmount());
-                long actualTransferred = newToAmount - toAmount;
-                
-                fromCurrencies.put(currencyId, fromAmount - actualTransferred);
-                toCurrencies.put(currencyId, newToAmount);
-                
-                WalletDTO fromWallet = new WalletDTO(fromCurrencies, System.currentTimeMillis());
-                WalletDTO toWallet = new WalletDTO(toCurrencies, System.currentTimeMillis());
-                
-                PlayerDataDTO updatedFromData = new PlayerDataDTO(fromData.profile(), fromWallet);
-                PlayerDataDTO updatedToData = new PlayerDataDTO(toData.profile(), toWallet);
-                
-                transaction.set(fromRef, updatedFromData.toMap());
-                transaction.set(toRef, updatedToData.toMap());
-                
-                from.getWallet().setBalance(currency, fromAmount - actualTransferred);
-                to.getWallet().setBalance(currency, newToAmount);
-                
-                cache.put(from.getPlayerId(), updatedFromData);
-                cache.put(to.getPlayerId(), updatedToData);
-                
-                return true;
-            } catch (Exception e) {
-                throw new RuntimeException("거래 실패", e);
+        String currencyId = currency.getId();
+        String toDocumentId = toId.toString();
+        return storage.runTransaction(transaction -> {
+            StoredDocument toDocument = transaction.get(PlayerFirestoreService.COLLECTION_NAME, toDocumentId);
+            if (toDocument == null) {
+                return 0L;
+            }
+            
+            long toAmount = PlayerDataDTO.fromMap(toDocument.data()).wallet().currencies().getOrDefault(currencyId, 0L);
+            long credited = Math.min(amount, currency.getMaxAmount() - toAmount);
+            if (credited <= 0) {
+                return 0L;
             }
+            
+            // 원장 정산과 같은 방식으로 증감 기록 (다른 정산과 겹쳐도 값이 덮어써지지 않음)
+            Map<StorageFieldPath, Object> updates = new HashMap<>();
+            updates.put(StorageFieldPath.of("wallet", currencyId), StorageFieldValue.increment(credited));
+            updates.put(StorageFieldPath.of("wallet", "lastUpdated"), System.currentTimeMillis());
+            transaction.update(PlayerFirestoreService.COLLECTION_NAME, toDocumentId, updates);
+            return credited;
         }).exceptionally(ex -> {
             LogUtil.severe("거래 트랜잭션 실패: " + ex.getMessage());
-            return false;
+            return 0L;
+        }).thenApply(credited -> {
+            long refund = amount - credited;
+            if (refund > 0) {
+                from.getWallet().add(currency, refund, TRANSFER_REFUND_REASON);
+            }
+            if (credited > 0) {
+                cache.invalidate(toId);
+                PlayerFirestoreService playerService = plugin.getPlayerFirestoreService();
+                if (playerService != null) {
+                    playerService.invalidateCache(toId);
+                }
+            }
+            return credited > 0;
         });
     }
     
@@ -250,19 +239,60 @@ public class DataSyncManager {
      */
     public CompletableFuture<Void> saveOnLogout(@NotNull RPGPlayer player) {
         UUID playerId = player.getPlayerId();
-        PlayerDataDTO dto = player.toDTO();
-        Map<String, Object> data = dto.toMap();
+        // 재화는 원장 정산으로만 저장하고 (정산 성공 시 재화 저널 확인), 여기서는 프로필만 병합 저장
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        CompletableFuture<Boolean> settled = ledger != null
+                ? ledger.settle(playerId)
+                : CompletableFuture.completedFuture(true);
+        Map<String, Object> data = new HashMap<>();
+        data.put("profile", player.toDTO().profile().toMap());
         
         // 즉시 저장
-        return firestoreHelper.saveImmediate("Player", playerId.toString(), data)
-            .thenRun(() -> {
-                // 캐시 제거
+        return settled.thenCompose(ignored -> firestoreHelper.saveImmediate("Player", playerId.toString(), data))
+            .thenAccept(saved -> {
+                // 캐시 제거 (재접속 시 정산된 재화를 다시 읽도록)
                 cache.invalidate(playerId);
+                PlayerFirestoreService playerService = plugin.getPlayerFirestoreService();
+                if (playerService != null) {
+                    playerService.invalidateCache(playerId);
+                }
                 lastSaveTimes.remove(playerId);
                 LogUtil.debug("플레이어 로그아웃 저장 완료: " + playerId);
             });
     }
     
+    /**
+     * 종료 저장 시작 (서버 종료 시)
+     * 접속 중인 플레이어 프로필과 대기 중인 배치 큐를 모아 둔 종료 저장을 반환 (재화는 CurrencyLedger가 정산)
+     * 제한 시간은 config.yml의 data.shutdown 설정 사용
+     */
+    @NotNull
+    public ShutdownFlusher beginShutdownFlush(@NotNull Collection<RPGPlayer> players) {
+        long deadlineSeconds = Math.max(1L, plugin.getConfig().getLong("data.shutdown.deadline-seconds",
+                DatabaseConstants.SHUTDOWN_FLUSH_DEADLINE_SECONDS));
+        int maxConcurrentBatches = plugin.getConfig().getInt("data.shutdown.max-concurrent-batches",
+                DatabaseConstants.SHUTDOWN_FLUSH_MAX_CONCURRENT_BATCHES);
+        ShutdownFlusher flusher = firestoreHelper.beginShutdownFlush(maxConcurrentBatches,
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(deadlineSeconds));
+
+        PlayerFirestoreService playerService = plugin.getPlayerFirestoreService();
+        for (RPGPlayer player : players) {
+            UUID playerId = player.getPlayerId();
+            // 로그아웃 저장과 같이 프로필 전체를 병합 저장하므로 변경 표시는 비움
+            player.clearDirtyData();
+            Map<String, Object> data = new HashMap<>();
+            data.put("profile", player.toDTO().profile().toMap());
+            flusher.stage("Player", playerId.toString(), data);
+
+            cache.invalidate(playerId);
+            if (playerService != null) {
+                playerService.invalidateCache(playerId);
+            }
+            lastSaveTimes.remove(playerId);
+        }
+        return flusher;
+    }
+    
     /**
      * 전체 배치 플러시 (서버 종료 시)
      */
@@ -270,6 +300,14 @@ public class DataSyncManager {
         return firestoreHelper.flushAll();
     }
     
+    /**
+     * 저장 실패 보관소 통계 (보관 중인 문서 수 등)
+     */
+    @NotNull
+    public DeadLetterSpool.SpoolStats getDeadLetterStats() {
+        return firestoreHelper.getDeadLetterStats();
+    }
+    
     /**
      * 리소스 정리
      */
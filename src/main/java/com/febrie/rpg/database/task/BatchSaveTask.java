@@ -14,8 +14,10 @@ import java.util.Map;
 import java.util.Set;
 import java.util.ArrayList;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.HashSet;
 /**
  * 배치 저장 작업 스케줄러
@@ -80,7 +82,7 @@ public class BatchSaveTask extends BukkitRunnable {
      */
     private void savePlayerData(@NotNull RPGPlayer player, @NotNull DataPriority priority) {
         // 데이터가 수정되지 않았으면 저장하지 않음
-        if (!player.isDataModified()) {
+        if (!player.hasDirtyData()) {
             return;
         }
         try {
@@ -126,22 +128,24 @@ public class BatchSaveTask extends BukkitRunnable {
     }
     
     /**
-     * 강제 저장 (모든 플레이어)
+     * 강제 저장 (모든 플레이어, 동시에 저장)
      */
-    public void forceSaveAll() {
+    @NotNull
+    public CompletableFuture<Void> forceSaveAll() {
         LogUtil.info("모든 플레이어 데이터 강제 저장 시작...");
         List<RPGPlayer> players = new ArrayList<>(playerManager.getAllPlayers());
-        int saved = 0;
+        AtomicInteger saved = new AtomicInteger();
+        List<CompletableFuture<Void>> saves = new ArrayList<>(players.size());
         for (RPGPlayer player : players) {
-            try {
-                // 즉시 저장
-                player.saveImmediate().join();
-                saved++;
-            } catch (Exception e) {
-                LogUtil.severe("강제 저장 실패 [" + player.getPlayerId() + "]: " + e.getMessage());
-            }
+            saves.add(player.saveImmediate()
+                .thenRun(saved::incrementAndGet)
+                .exceptionally(ex -> {
+                    LogUtil.severe("강제 저장 실패 [" + player.getPlayerId() + "]: " + ex.getMessage());
+                    return null;
+                }));
         }
-        LogUtil.info("강제 저장 완료: " + saved + "/" + players.size() + "명");
+        return CompletableFuture.allOf(saves.toArray(new CompletableFuture<?>[0]))
+            .thenRun(() -> LogUtil.info("강제 저장 완료: " + saved.get() + "/" + players.size() + "명"));
     }
     
     /**
@@ -171,11 +175,10 @@ public class BatchSaveTask extends BukkitRunnable {
     }
     
     /**
-     * 작업 종료
+     * 작업 종료 (남은 변경은 RPGPlayerManager의 종료 저장이 모아서 저장)
      */
     public void stop() {
         this.cancel();
-        forceSaveAll();
         LogUtil.info("배치 저장 작업 종료됨 (총 저장: " + totalSaves + ", 실패: " + failedSaves + ")");
     }
     
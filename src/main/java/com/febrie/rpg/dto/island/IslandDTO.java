@@ -41,6 +41,20 @@ public record IslandDTO(@NotNull IslandCoreDTO core,                // 기본 
         return core.canDelete();
     }
 
+    /**
+     * 섬 중심 X 좌표 (저장된 위치가 없으면 기본 스폰 기준)
+     */
+    public int getCenterX() {
+        return core.location() != null ? core.location().centerX() : (int) configuration.spawnData().defaultSpawn().x();
+    }
+
+    /**
+     * 섬 중심 Z 좌표 (저장된 위치가 없으면 기본 스폰 기준)
+     */
+    public int getCenterZ() {
+        return core.location() != null ? core.location().centerZ() : (int) configuration.spawnData().defaultSpawn().z();
+    }
+
     /**
      * 현재 섬원 수 (섬장 포함)
      */
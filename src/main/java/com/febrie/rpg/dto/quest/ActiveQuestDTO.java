@@ -75,6 +75,14 @@ public record ActiveQuestDTO(
             .count();
     }
     
+    /**
+     * 특정 목표 완료 여부 (복사 없이 조회)
+     */
+    public boolean isObjectiveCompleted(@NotNull String objectiveId) {
+        ObjectiveProgressDTO objective = progress.get(objectiveId);
+        return objective != null && objective.completed();
+    }
+
     /**
      * 필요한 진행도 (전체 목표 개수)
      */
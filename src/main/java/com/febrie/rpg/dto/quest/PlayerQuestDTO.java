@@ -1,6 +1,7 @@
 package com.febrie.rpg.dto.quest;
 
 import com.febrie.rpg.util.FirestoreUtils;
+import com.febrie.rpg.util.UnifiedTimeUtil;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -17,12 +18,17 @@ public record PlayerQuestDTO(String playerId,
                              Map<String, ActiveQuestDTO> activeQuests,
                              Map<String, CompletedQuestDTO> completedQuests,
                              Map<String, ClaimedQuestDTO> claimedQuests,
+                             Map<String, QuestHistoryDTO> questHistory,
+                             long dailyResetEpoch,
+                             long weeklyResetEpoch,
                              long lastUpdated) {
     /**
      * 기본 생성자 - 신규 플레이어용
      */
     public PlayerQuestDTO(String playerId) {
-        this(playerId, new HashMap<>(), new HashMap<>(), new HashMap<>(), System.currentTimeMillis());
+        this(playerId, new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>(),
+                UnifiedTimeUtil.dailyEpoch(System.currentTimeMillis()), UnifiedTimeUtil.weeklyEpoch(System.currentTimeMillis()),
+                System.currentTimeMillis());
     }
 
     /**
@@ -32,11 +38,17 @@ public record PlayerQuestDTO(String playerId,
                          Map<String, ActiveQuestDTO> activeQuests,
                          Map<String, CompletedQuestDTO> completedQuests,
                          Map<String, ClaimedQuestDTO> claimedQuests,
+                         Map<String, QuestHistoryDTO> questHistory,
+                         long dailyResetEpoch,
+                         long weeklyResetEpoch,
                          long lastUpdated) {
         this.playerId = playerId;
         this.activeQuests = new HashMap<>(activeQuests);
         this.completedQuests = new HashMap<>(completedQuests);
         this.claimedQuests = new HashMap<>(claimedQuests);
+        this.questHistory = new HashMap<>(questHistory);
+        this.dailyResetEpoch = dailyResetEpoch;
+        this.weeklyResetEpoch = weeklyResetEpoch;
         this.lastUpdated = lastUpdated;
     }
 
@@ -67,6 +79,15 @@ public record PlayerQuestDTO(String playerId,
         return new HashMap<>(claimedQuests);
     }
 
+    /**
+     * 퀘스트별 완료 기록 집계 맵의 불변 뷰 반환 (키: QuestID 이름)
+     */
+    @Contract(value = " -> new", pure = true)
+    @Override
+    public @NotNull Map<String, QuestHistoryDTO> questHistory() {
+        return new HashMap<>(questHistory);
+    }
+
     /**
      * Map으로 변환 (Firestore SDK용)
      */
@@ -89,6 +110,14 @@ public record PlayerQuestDTO(String playerId,
         Map<String, Object> claimedQuestsMap = new HashMap<>();
         claimedQuests.forEach((key, value) -> claimedQuestsMap.put(key, value.toMap()));
         map.put("claimedQuests", claimedQuestsMap);
+
+        // questHistory
+        Map<String, Object> questHistoryMap = new HashMap<>();
+        questHistory.forEach((key, value) -> questHistoryMap.put(key, value.toMap()));
+        map.put("questHistory", questHistoryMap);
+
+        map.put("dailyResetEpoch", dailyResetEpoch);
+        map.put("weeklyResetEpoch", weeklyResetEpoch);
         
         map.put("lastUpdated", lastUpdated);
         return map;
@@ -138,8 +167,24 @@ public record PlayerQuestDTO(String playerId,
             });
         }
         
+        // questHistory
+        Map<String, QuestHistoryDTO> questHistory = new HashMap<>();
+        Object historyObj = map.get("questHistory");
+        if (historyObj instanceof Map) {
+            Map<String, Object> historyMap = (Map<String, Object>) historyObj;
+            historyMap.forEach((key, value) -> {
+                if (value instanceof Map) {
+                    questHistory.put(key, QuestHistoryDTO.fromMap((Map<String, Object>) value));
+                }
+            });
+        }
+        
+        // 초기화 세대 (없으면 0 - 로드 시 초기화 적용 대상)
+        long dailyResetEpoch = FirestoreUtils.getLong(map, "dailyResetEpoch", 0L);
+        long weeklyResetEpoch = FirestoreUtils.getLong(map, "weeklyResetEpoch", 0L);
         long lastUpdated = FirestoreUtils.getLong(map, "lastUpdated", System.currentTimeMillis());
         
-        return new PlayerQuestDTO(playerId, activeQuests, completedQuests, claimedQuests, lastUpdated);
+        return new PlayerQuestDTO(playerId, activeQuests, completedQuests, claimedQuests, questHistory,
+                dailyResetEpoch, weeklyResetEpoch, lastUpdated);
     }
 }
\ No newline at end of file
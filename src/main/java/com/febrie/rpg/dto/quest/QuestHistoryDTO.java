@@ -0,0 +1,67 @@
+package com.febrie.rpg.dto.quest;
+
+import com.febrie.rpg.util.FirestoreUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 퀘스트별 완료 기록 집계 DTO
+ * 오래된 보상 수령 기록(ClaimedQuestDTO)을 개별 인스턴스 대신 횟수와 최초/최근 완료 시각으로 보관
+ *
+ * @author Febrie
+ */
+public record QuestHistoryDTO(
+        @NotNull String questId,
+        int count,
+        long firstCompletedAt,
+        long lastCompletedAt
+) {
+    /**
+     * 보상 수령 기록 하나를 합친 새 인스턴스 반환
+     */
+    @NotNull
+    public QuestHistoryDTO merge(@NotNull ClaimedQuestDTO claimed) {
+        return new QuestHistoryDTO(
+                questId,
+                count + 1,
+                Math.min(firstCompletedAt, claimed.completedAt()),
+                Math.max(lastCompletedAt, claimed.completedAt())
+        );
+    }
+
+    /**
+     * 보상 수령 기록 하나로 생성
+     */
+    @NotNull
+    public static QuestHistoryDTO from(@NotNull ClaimedQuestDTO claimed) {
+        return new QuestHistoryDTO(claimed.questId(), 1, claimed.completedAt(), claimed.completedAt());
+    }
+
+    /**
+     * Map으로 변환 (Firestore 저장용)
+     */
+    @NotNull
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("questId", questId);
+        map.put("count", count);
+        map.put("firstCompletedAt", firstCompletedAt);
+        map.put("lastCompletedAt", lastCompletedAt);
+        return map;
+    }
+
+    /**
+     * Map에서 생성 (Firestore 로드용)
+     */
+    @NotNull
+    public static QuestHistoryDTO fromMap(@NotNull Map<String, Object> map) {
+        String questId = (String) map.getOrDefault("questId", "");
+        int count = FirestoreUtils.getInt(map, "count", 0);
+        long firstCompletedAt = FirestoreUtils.getLong(map, "firstCompletedAt", 0L);
+        long lastCompletedAt = FirestoreUtils.getLong(map, "lastCompletedAt", 0L);
+
+        return new QuestHistoryDTO(questId, count, firstCompletedAt, lastCompletedAt);
+    }
+}
@@ -0,0 +1,444 @@
+package com.febrie.rpg.economy;
+
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.constants.DatabaseConstants;
+import com.febrie.rpg.database.journal.JournalRecord;
+import com.febrie.rpg.database.journal.WriteAheadJournal;
+import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
+import com.febrie.rpg.database.storage.DocumentAlreadyExistsException;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.StorageBatch;
+import com.febrie.rpg.database.storage.StorageFieldValue;
+import com.febrie.rpg.util.LogUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * 재화 원장
+ * 접속 중인 플레이어의 지갑은 메모리 값이 기준이며, 잔액 변경은 원장 항목으로 쌓였다가
+ * 일정 간격으로 묶어서 저장소에 증감(StorageFieldValue.increment)으로 정산됨
+ * - 정산 한 번에 플레이어마다 지갑 증감 1건 + 감사용 원장 문서 1건 기록 (배치 500건 이하로 분할)
+ * - 대기 중인 항목은 해당 플레이어의 지갑 잠금({@link Wallet#lockFor})을 잡은 상태에서만 접근
+ * - 정산에 성공하면 그 시점까지의 재화 저널 레코드를 확인 처리, 실패하면 같은 정산 단위 그대로 재시도 대기
+ * - 원장 문서는 정산 ID(첫 항목 ID)로 생성 조건을 걸어 기록하므로, 이미 반영된 정산을 재시도하면 배치 전체가 거부됨
+ * - 정산은 전용 스레드 하나에서만 실행되어 같은 플레이어의 정산이 겹치지 않음
+ *
+ * @author Febrie
+ */
+public final class CurrencyLedger {
+
+    public static final String COLLECTION_NAME = "CurrencyLedger";
+
+    private static volatile CurrencyLedger instance;
+
+    /**
+     * 정산 대상 (플레이어 1명분 항목)
+     *
+     * @param complete 대기 중이던 항목을 모두 꺼냈는지 여부 (저널 확인 처리 가능 여부)
+     */
+    private record Settlement(@NotNull UUID playerId, @NotNull List<LedgerEntry> entries,
+                              long journalSequence, boolean complete) {
+
+        /**
+         * 정산 ID (첫 항목 ID, 원장 문서 ID로 사용)
+         */
+        @NotNull
+        String id() {
+            return entries.getFirst().id();
+        }
+    }
+
+    private final DocumentStorage storage;
+    private final ScheduledExecutorService executor;
+
+    // 플레이어 -> 정산 대기 항목 (지갑 잠금 안에서만 접근)
+    private final Map<UUID, Deque<LedgerEntry>> pending = new ConcurrentHashMap<>();
+    // 플레이어 -> 커밋 결과를 알 수 없어 같은 항목 그대로 재시도할 정산 (지갑 잠금 안에서만 접근)
+    private final Map<UUID, Settlement> retrying = new ConcurrentHashMap<>();
+    // 처리된 멱등 키
+    private final Cache<String, Boolean> idempotencyKeys;
+
+    // 항목 ID 접두사 (서버 시작 시각) + 순번
+    private final String entryPrefix = Long.toString(System.currentTimeMillis(), 36) + "-";
+    private final AtomicLong entrySequence = new AtomicLong();
+
+    private CurrencyLedger(@NotNull DocumentStorage storage, long settleIntervalMs, long idempotencyKeyMinutes) {
+        this.storage = storage;
+        this.idempotencyKeys = Caffeine.newBuilder()
+                .expireAfterWrite(idempotencyKeyMinutes, TimeUnit.MINUTES)
+                .build();
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "RPG-Ledger-Settle");
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleWithFixedDelay(() -> settlePlayers(List.copyOf(pending.keySet())),
+                settleIntervalMs, settleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 원장 초기화 (config.yml의 data.ledger 설정 사용)
+     *
+     * @return 초기화 성공 여부 (저장소가 없으면 false, 지갑은 메모리와 저널에만 기록)
+     */
+    public static boolean initialize(@NotNull RPGMain plugin, @Nullable DocumentStorage storage) {
+        if (instance != null) return true;
+        if (storage == null) {
+            LogUtil.warning("저장소가 없어 재화 원장을 사용하지 않습니다.");
+            return false;
+        }
+
+        long settleIntervalMs = Math.max(100L, plugin.getConfig().getLong("data.ledger.settle-interval-ms",
+                DatabaseConstants.LEDGER_SETTLE_INTERVAL_MS));
+        long idempotencyKeyMinutes = Math.max(1L, plugin.getConfig().getLong("data.ledger.idempotency-key-minutes",
+                DatabaseConstants.LEDGER_IDEMPOTENCY_KEY_MINUTES));
+
+        instance = new CurrencyLedger(storage, settleIntervalMs, idempotencyKeyMinutes);
+        LogUtil.info("재화 원장 초기화 완료 (정산 간격: " + settleIntervalMs + "ms)");
+        return true;
+    }
+
+    /**
+     * 원장 인스턴스 (저장소 없음 / 초기화 전 / 종료 후이면 null)
+     */
+    @Nullable
+    public static CurrencyLedger getInstance() {
+        return instance;
+    }
+
+    /**
+     * 원장 종료 (남은 항목 모두 정산 후 스레드 종료)
+     * 플레이어 저장 후, 저널 / 저장소 종료 전에 호출
+     */
+    public static void shutdown() {
+        CurrencyLedger ledger = instance;
+        if (ledger == null) return;
+        instance = null;
+
+        try {
+            ledger.settleAll().get(DatabaseConstants.LEDGER_COMMIT_TIMEOUT_SECONDS * 2, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            LogUtil.error("재화 원장 종료 정산 실패 (저널에 남은 잔액은 다음 시작 시 재적용)", e);
+        }
+
+        ledger.executor.shutdownNow();
+        int remaining = ledger.getPendingCount();
+        if (remaining > 0) {
+            LogUtil.severe("정산되지 않은 재화 원장 항목 " + remaining + "개 (저널에서 복구 예정)");
+        }
+    }
+
+    /**
+     * 멱등 키 선점
+     * 지갑 잠금 안에서 호출
+     *
+     * @return 처음 사용된 키이면 true, 이미 처리된 키이면 false
+     */
+    boolean claimKey(@NotNull String key) {
+        return idempotencyKeys.asMap().putIfAbsent(key, Boolean.TRUE) == null;
+    }
+
+    /**
+     * 선점한 멱등 키 반환 (변경이 적용되지 않은 경우)
+     */
+    void releaseKey(@NotNull String key) {
+        idempotencyKeys.invalidate(key);
+    }
+
+    /**
+     * 잔액 변경 기록
+     * 지갑 잠금 안에서 호출
+     */
+    void record(@NotNull UUID playerId, @NotNull CurrencyType currency, long delta, long balanceAfter,
+                @NotNull String reason, @Nullable String idempotencyKey, long timestamp) {
+        String id = entryPrefix + entrySequence.incrementAndGet();
+        pending.computeIfAbsent(playerId, uuid -> new ArrayDeque<>())
+                .addLast(new LedgerEntry(id, idempotencyKey, playerId, currency, delta, balanceAfter, reason, timestamp));
+    }
+
+    /**
+     * 아직 정산되지 않은 증감량 합계
+     * 정산 실패로 항목이 남아 있는 상태에서 다시 접속한 플레이어의 지갑 보정용 (지갑 잠금 안에서 호출)
+     */
+    long getPendingDelta(@NotNull UUID playerId, @NotNull CurrencyType currency) {
+        long sum = 0L;
+        Settlement retry = retrying.get(playerId);
+        if (retry != null) {
+            sum += sumDelta(retry.entries(), currency);
+        }
+        Deque<LedgerEntry> entries = pending.get(playerId);
+        if (entries != null) {
+            sum += sumDelta(entries, currency);
+        }
+        return sum;
+    }
+
+    private static long sumDelta(@NotNull Collection<LedgerEntry> entries, @NotNull CurrencyType currency) {
+        long sum = 0L;
+        for (LedgerEntry entry : entries) {
+            if (entry.currency() == currency) {
+                sum += entry.delta();
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 특정 플레이어의 대기 항목 즉시 정산 (로그아웃 시)
+     *
+     * @return 정산 성공 여부 (대기 항목이 없으면 true)
+     */
+    @NotNull
+    public CompletableFuture<Boolean> settle(@NotNull UUID playerId) {
+        return submit(List.of(playerId));
+    }
+
+    /**
+     * 플레이어의 정산이 끝날 때까지 대기 (재접속 시 Player 문서를 읽기 전에 사용)
+     * 정산 스레드가 하나이므로 이미 꺼내서 커밋 중인 정산이 끝난 뒤에 완료되며,
+     * 그 시점에는 꺼낸 항목이 모두 저장소에 반영되었거나 재시도 대기로 돌아가 {@link #getPendingDelta}에 포함됨
+     * (꺼낸 뒤 커밋 전인 항목은 어느 쪽에도 보이지 않으므로 그 사이에 문서를 읽으면 증감량이 빠짐)
+     */
+    @NotNull
+    public CompletableFuture<Void> awaitSettled(@NotNull UUID playerId) {
+        return settle(playerId).handle((success, e) -> null);
+    }
+
+    /**
+     * 모든 대기 항목 즉시 정산
+     *
+     * @return 정산 성공 여부
+     */
+    @NotNull
+    public CompletableFuture<Boolean> settleAll() {
+        return submit(null);
+    }
+
+    /**
+     * 정산 대기 항목 수
+     */
+    public int getPendingCount() {
+        int count = 0;
+        for (Deque<LedgerEntry> entries : pending.values()) {
+            count += entries.size();
+        }
+        for (Settlement settlement : retrying.values()) {
+            count += settlement.entries().size();
+        }
+        return count;
+    }
+
+    /**
+     * 정산 스레드에 작업 제출
+     *
+     * @param playerIds 대상 플레이어 (null이면 대기 항목이 있는 모든 플레이어)
+     */
+    @NotNull
+    private CompletableFuture<Boolean> submit(@Nullable Collection<UUID> playerIds) {
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> settlePlayers(playerIds != null ? playerIds : List.copyOf(pending.keySet())), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * 정산 실행 (정산 스레드 전용)
+     *
+     * @return 모든 배치가 커밋되었는지 여부
+     */
+    private boolean settlePlayers(@NotNull Collection<UUID> playerIds) {
+        List<Settlement> settlements = new ArrayList<>();
+        for (UUID playerId : playerIds) {
+            Settlement settlement = drain(playerId);
+            if (settlement != null) {
+                settlements.add(settlement);
+            }
+        }
+        if (settlements.isEmpty()) return true;
+
+        // 플레이어당 2건 (지갑 증감 + 원장 문서)
+        int perBatch = DatabaseConstants.FIRESTORE_MAX_BATCH_OPERATIONS / 2;
+        boolean success = true;
+        for (int from = 0; from < settlements.size(); from += perBatch) {
+            List<Settlement> chunk = settlements.subList(from, Math.min(from + perBatch, settlements.size()));
+            success &= commit(chunk);
+        }
+        return success;
+    }
+
+    /**
+     * 배치 하나 커밋
+     * 시간 초과 등으로 결과를 알 수 없으면 같은 정산 그대로 재시도하며,
+     * 이미 반영된 정산은 원장 문서 생성 조건에 걸려 배치 전체가 거부되므로 지갑 증감이 두 번 반영되지 않음
+     */
+    private boolean commit(@NotNull List<Settlement> chunk) {
+        StorageBatch batch = storage.batch();
+        for (Settlement settlement : chunk) {
+            addToBatch(batch, settlement);
+        }
+
+        try {
+            batch.commit().get(DatabaseConstants.LEDGER_COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            if (DocumentAlreadyExistsException.isCause(e)) {
+                return resolveAlreadySettled(chunk);
+            }
+            LogUtil.severe("재화 원장 정산 실패 (플레이어 " + chunk.size() + "명, 다음 정산 시 재시도): " + e.getMessage());
+            for (Settlement settlement : chunk) {
+                requeue(settlement);
+            }
+            return false;
+        }
+
+        acknowledge(chunk);
+        return true;
+    }
+
+    /**
+     * 원장 문서가 이미 있어 거부된 배치 처리
+     * 여러 명이 묶인 배치는 어느 정산이 이미 반영되었는지 알 수 없으므로 한 명씩 다시 커밋
+     */
+    private boolean resolveAlreadySettled(@NotNull List<Settlement> chunk) {
+        if (chunk.size() > 1) {
+            boolean success = true;
+            for (Settlement settlement : chunk) {
+                success &= commit(List.of(settlement));
+            }
+            return success;
+        }
+
+        Settlement settlement = chunk.getFirst();
+        LogUtil.warning("이미 정산된 재화 원장 항목을 대기열에서 제거 (플레이어 " + settlement.playerId()
+                + ", 정산 ID " + settlement.id() + ")");
+        acknowledge(chunk);
+        return true;
+    }
+
+    /**
+     * 반영된 정산의 재화 저널 레코드 확인 처리
+     */
+    private void acknowledge(@NotNull List<Settlement> chunk) {
+        WriteAheadJournal journal = WriteAheadJournal.getInstance();
+        if (journal != null) {
+            for (Settlement settlement : chunk) {
+                if (settlement.complete()) {
+                    journal.acknowledge(settlement.playerId(), JournalRecord.Type.WALLET_BALANCE, settlement.journalSequence());
+                }
+            }
+        }
+    }
+
+    /**
+     * 플레이어 1명분 정산 내용을 배치에 추가
+     */
+    private void addToBatch(@NotNull StorageBatch batch, @NotNull Settlement settlement) {
+        Map<CurrencyType, Long> sums = new EnumMap<>(CurrencyType.class);
+        long latest = 0L;
+        List<Map<String, Object>> entries = new ArrayList<>(settlement.entries().size());
+        for (LedgerEntry entry : settlement.entries()) {
+            sums.merge(entry.currency(), entry.delta(), Long::sum);
+            latest = Math.max(latest, entry.timestamp());
+            entries.add(entry.toMap());
+        }
+
+        Map<String, Object> wallet = new HashMap<>();
+        sums.forEach((currency, sum) -> {
+            if (sum != 0) {
+                wallet.put(currency.getId(), StorageFieldValue.increment(sum));
+            }
+        });
+        // 저널 재적용 시 비교 기준이 되므로 정산 시각이 아닌 마지막 항목 시각 기록
+        wallet.put("lastUpdated", latest);
+
+        String playerId = settlement.playerId().toString();
+        batch.merge(PlayerFirestoreService.COLLECTION_NAME, playerId, Map.of("wallet", wallet));
+
+        Map<String, Object> audit = new HashMap<>();
+        audit.put("playerId", playerId);
+        audit.put("entries", entries);
+        audit.put("settledAt", System.currentTimeMillis());
+        // 정산 ID로 생성하여 이미 반영된 정산의 재시도는 지갑 증감과 함께 거부됨
+        batch.create(COLLECTION_NAME, settlement.id(), audit);
+    }
+
+    /**
+     * 대기 항목 꺼내기 (지갑 잠금 안에서 저널 순번과 함께 캡처)
+     */
+    @Nullable
+    private Settlement drain(@NotNull UUID playerId) {
+        Lock lock = Wallet.lockFor(playerId);
+        lock.lock();
+        try {
+            WriteAheadJournal journal = WriteAheadJournal.getInstance();
+            long journalSequence = journal != null ? journal.currentSequence() : 0L;
+            Deque<LedgerEntry> entries = pending.get(playerId);
+
+            // 재시도 정산은 항목을 합치거나 나누지 않아야 정산 ID가 같은 내용을 가리킴
+            Settlement retry = retrying.remove(playerId);
+            if (retry != null) {
+                boolean complete = entries == null || entries.isEmpty();
+                if (complete) {
+                    pending.remove(playerId);
+                }
+                return new Settlement(playerId, retry.entries(), journalSequence, complete);
+            }
+
+            if (entries == null || entries.isEmpty()) {
+                pending.remove(playerId);
+                return null;
+            }
+
+            int count = Math.min(entries.size(), DatabaseConstants.LEDGER_MAX_ENTRIES_PER_SETTLEMENT);
+            List<LedgerEntry> drained = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                drained.add(entries.pollFirst());
+            }
+
+            boolean complete = entries.isEmpty();
+            if (complete) {
+                pending.remove(playerId);
+            }
+            return new Settlement(playerId, drained, journalSequence, complete);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 정산 실패 항목을 재시도 대기에 되돌림 (다음 정산에서 같은 항목 그대로 먼저 커밋)
+     */
+    private void requeue(@NotNull Settlement settlement) {
+        Lock lock = Wallet.lockFor(settlement.playerId());
+        lock.lock();
+        try {
+            retrying.put(settlement.playerId(), settlement);
+            // 주기 정산이 대기 항목이 있는 플레이어만 훑으므로 키를 남겨 둠
+            pending.computeIfAbsent(settlement.playerId(), uuid -> new ArrayDeque<>());
+        } finally {
+            lock.unlock();
+        }
+    }
+}
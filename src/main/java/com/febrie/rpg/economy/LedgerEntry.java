@@ -0,0 +1,51 @@
+package com.febrie.rpg.economy;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 재화 원장 항목 (Record)
+ * 지갑 잔액 변경 한 건을 증감량과 변경 후 잔액, 사유와 함께 기록
+ *
+ * @param id             항목 ID (서버 내 고유)
+ * @param idempotencyKey 멱등 키 (없으면 null)
+ * @param playerId       지갑 소유자
+ * @param currency       통화
+ * @param delta          증감량
+ * @param balanceAfter   변경 후 잔액
+ * @param reason         변경 사유 (예: quest_reward, shop_buy)
+ * @param timestamp      변경 시각
+ * @author Febrie
+ */
+public record LedgerEntry(
+        @NotNull String id,
+        @Nullable String idempotencyKey,
+        @NotNull UUID playerId,
+        @NotNull CurrencyType currency,
+        long delta,
+        long balanceAfter,
+        @NotNull String reason,
+        long timestamp
+) {
+    /**
+     * Map으로 변환 (Firestore 저장용)
+     */
+    @NotNull
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", id);
+        if (idempotencyKey != null) {
+            map.put("idempotencyKey", idempotencyKey);
+        }
+        map.put("currency", currency.getId());
+        map.put("delta", delta);
+        map.put("balanceAfter", balanceAfter);
+        map.put("reason", reason);
+        map.put("timestamp", timestamp);
+        return map;
+    }
+}
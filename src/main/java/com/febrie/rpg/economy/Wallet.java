@@ -1,32 +1,123 @@
 package com.febrie.rpg.economy;
 
+import com.febrie.rpg.database.journal.JournalRecord;
+import com.febrie.rpg.database.journal.WriteAheadJournal;
 import com.febrie.rpg.dto.player.WalletDTO;
 import com.febrie.rpg.util.LogUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * 플레이어의 재화 관리 시스템
  * 다양한 통화를 통합 관리
  * 모든 데이터는 Firebase를 통해서만 저장됨
+ * 소유자가 있는 지갑의 잔액 변경은 로컬 저널에 기록되어 비정상 종료 시 복구됨
+ * <p>
+ * 접속 중인 플레이어의 지갑은 메모리 값이 기준이며, 잔액 변경은 플레이어별 잠금(스트라이프) 안에서
+ * 적용된 뒤 재화 원장({@link CurrencyLedger})에 증감량과 사유가 기록되어 묶음으로 정산됨
  *
  * @author Febrie, CoffeeTory
  */
 public class Wallet {
 
+    // 변경 사유를 지정하지 않은 경우
+    public static final String UNSPECIFIED_REASON = "unspecified";
+
+    // 플레이어별 잠금 스트라이프 수 (2의 거듭제곱)
+    private static final int LOCK_STRIPES = 64;
+    private static final Lock[] LOCKS = new Lock[LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            LOCKS[i] = new ReentrantLock();
+        }
+    }
+
     // 각 통화별 잔액
     private final Map<CurrencyType, Long> balances = new EnumMap<>(CurrencyType.class);
 
+    // 지갑 소유자 (저널 기록용, 없으면 기록하지 않음)
+    @Nullable
+    private final UUID ownerId;
+
+    // 잔액 변경 잠금 (소유자가 있으면 소유자의 스트라이프 잠금)
+    private final Lock lock;
+
     public Wallet() {
+        this(null);
+    }
+
+    public Wallet(@Nullable UUID ownerId) {
+        this.ownerId = ownerId;
+        this.lock = ownerId != null ? lockFor(ownerId) : new ReentrantLock();
         // 모든 통화를 0으로 초기화
         for (CurrencyType type : CurrencyType.values()) {
             balances.put(type, 0L);
         }
     }
 
+    /**
+     * 플레이어의 지갑 잠금
+     * 같은 플레이어의 잔액 변경과 원장 정산은 이 잠금으로 직렬화됨
+     * (두 지갑을 함께 잠글 때는 교착 방지를 위해 순서를 정해서 잠가야 함)
+     */
+    @NotNull
+    public static Lock lockFor(@NotNull UUID playerId) {
+        return LOCKS[stripeOf(playerId)];
+    }
+
+    /**
+     * 두 지갑 사이 재화 이동 (원자적)
+     * 두 소유자의 잠금을 스트라이프 번호 순서로 잡아 교착 없이 한 번에 차감 / 추가하고,
+     * 원장에는 차감 / 추가 항목 한 쌍이 기록되어 같은 정산에서 함께 저장됨
+     * 받는 쪽 최대 보유량을 넘는 만큼은 이동하지 않음
+     *
+     * @return 실제로 이동한 양 (잔액 부족, 받는 쪽 최대치, 같은 지갑이면 0)
+     * @throws IllegalArgumentException 소유자가 없는 지갑인 경우
+     */
+    public static long transfer(@NotNull Wallet from, @NotNull Wallet to, @NotNull CurrencyType type,
+                                long amount, @NotNull String reason) {
+        if (from.ownerId == null || to.ownerId == null) {
+            throw new IllegalArgumentException("소유자가 없는 지갑은 이체할 수 없습니다.");
+        }
+        if (amount <= 0 || from == to || from.ownerId.equals(to.ownerId)) {
+            return 0L;
+        }
+
+        int fromStripe = stripeOf(from.ownerId);
+        int toStripe = stripeOf(to.ownerId);
+        Lock first = LOCKS[Math.min(fromStripe, toStripe)];
+        Lock second = LOCKS[Math.max(fromStripe, toStripe)];
+
+        first.lock();
+        try {
+            second.lock(); // 같은 스트라이프면 재진입
+            try {
+                long fromBalance = from.getBalance(type);
+                long toBalance = to.getBalance(type);
+                long moved = Math.min(amount, type.getMaxAmount() - toBalance);
+                if (moved <= 0 || fromBalance < moved) {
+                    return 0L;
+                }
+
+                from.update(type, fromBalance - moved, reason, null);
+                to.update(type, toBalance + moved, reason, null);
+                return moved;
+            } finally {
+                second.unlock();
+            }
+        } finally {
+            first.unlock();
+        }
+    }
+
     /**
      * DTO로 변환
      */
@@ -34,7 +125,7 @@ public class Wallet {
     public WalletDTO toDTO() {
         // 재화 정보를 Map<String, Long>으로 변환
         Map<String, Long> currencies = new HashMap<>();
-        for (Map.Entry<CurrencyType, Long> entry : balances.entrySet()) {
+        for (Map.Entry<CurrencyType, Long> entry : getAllBalances().entrySet()) {
             currencies.put(entry.getKey().getId(), entry.getValue());
         }
 
@@ -48,14 +139,23 @@ public class Wallet {
     public void applyFromDTO(@NotNull WalletDTO dto) {
         // record의 accessor 메소드 사용
         Map<String, Long> currencies = dto.currencies();
+        CurrencyLedger ledger = ownerId != null ? CurrencyLedger.getInstance() : null;
 
-        for (Map.Entry<String, Long> entry : currencies.entrySet()) {
-            try {
-                CurrencyType type = CurrencyType.getById(entry.getKey());
-                setBalance(type, entry.getValue());
-            } catch (IllegalArgumentException e) {
-                LogUtil.warning("Unknown currency type: " + entry.getKey());
+        lock.lock();
+        try {
+            for (Map.Entry<String, Long> entry : currencies.entrySet()) {
+                try {
+                    CurrencyType type = CurrencyType.getById(entry.getKey());
+                    // 저장된 값을 불러오는 것이므로 저널 / 원장에 기록하지 않음
+                    // 이전 접속에서 아직 정산되지 않은 증감량이 있으면 함께 반영
+                    long pendingDelta = ledger != null ? ledger.getPendingDelta(ownerId, type) : 0L;
+                    balances.put(type, clamp(type, entry.getValue() + pendingDelta));
+                } catch (IllegalArgumentException e) {
+                    LogUtil.warning("Unknown currency type: " + entry.getKey());
+                }
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -70,48 +170,106 @@ public class Wallet {
      * 특정 통화의 잔액 설정
      */
     public void setBalance(@NotNull CurrencyType type, long amount) {
-        if (amount < 0) {
-            LogUtil.warning("Attempted to set negative balance: " + type + " = " + amount);
-            amount = 0;
-        }
+        setBalance(type, amount, UNSPECIFIED_REASON);
+    }
 
-        balances.put(type, Math.min(amount, type.getMaxAmount()));
+    /**
+     * 특정 통화의 잔액 설정 (변경 사유 기록)
+     */
+    public void setBalance(@NotNull CurrencyType type, long amount, @NotNull String reason) {
+        lock.lock();
+        try {
+            update(type, clamp(type, amount), reason, null);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * 통화 추가
      */
     public boolean add(@NotNull CurrencyType type, long amount) {
+        return add(type, amount, UNSPECIFIED_REASON, null);
+    }
+
+    /**
+     * 통화 추가 (변경 사유 기록)
+     */
+    public boolean add(@NotNull CurrencyType type, long amount, @NotNull String reason) {
+        return add(type, amount, reason, null);
+    }
+
+    /**
+     * 통화 추가 (변경 사유 기록, 멱등)
+     * 같은 멱등 키로 이미 적용된 변경이면 잔액을 바꾸지 않고 true 반환
+     * (멱등 키는 재화 원장이 있을 때만 확인)
+     */
+    public boolean add(@NotNull CurrencyType type, long amount, @NotNull String reason, @Nullable String idempotencyKey) {
         if (amount <= 0) {
             return false;
         }
 
-        long current = getBalance(type);
-        long newAmount = Math.min(current + amount, type.getMaxAmount());
+        lock.lock();
+        try {
+            if (!claimKey(idempotencyKey)) {
+                return true; // 이미 적용됨
+            }
 
-        if (newAmount == current) {
-            return false; // 최대치 도달
-        }
+            long current = getBalance(type);
+            long newAmount = Math.min(current + amount, type.getMaxAmount());
 
-        balances.put(type, newAmount);
-        return true;
+            if (newAmount == current) {
+                releaseKey(idempotencyKey);
+                return false; // 최대치 도달
+            }
+
+            update(type, newAmount, reason, idempotencyKey);
+            return true;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * 통화 차감 (충분한 잔액이 있을 경우에만)
      */
     public boolean subtract(@NotNull CurrencyType type, long amount) {
+        return subtract(type, amount, UNSPECIFIED_REASON, null);
+    }
+
+    /**
+     * 통화 차감 (변경 사유 기록)
+     */
+    public boolean subtract(@NotNull CurrencyType type, long amount, @NotNull String reason) {
+        return subtract(type, amount, reason, null);
+    }
+
+    /**
+     * 통화 차감 (변경 사유 기록, 멱등)
+     * 같은 멱등 키로 이미 적용된 변경이면 잔액을 바꾸지 않고 true 반환
+     */
+    public boolean subtract(@NotNull CurrencyType type, long amount, @NotNull String reason, @Nullable String idempotencyKey) {
         if (amount <= 0) {
             return false;
         }
 
-        long current = getBalance(type);
-        if (current < amount) {
-            return false; // 잔액 부족
-        }
+        lock.lock();
+        try {
+            if (!claimKey(idempotencyKey)) {
+                return true; // 이미 적용됨
+            }
 
-        balances.put(type, current - amount);
-        return true;
+            long current = getBalance(type);
+            if (current < amount) {
+                releaseKey(idempotencyKey);
+                return false; // 잔액 부족
+            }
+
+            update(type, current - amount, reason, idempotencyKey);
+            return true;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -126,7 +284,12 @@ public class Wallet {
      */
     @NotNull
     public Map<CurrencyType, Long> getAllBalances() {
-        return new EnumMap<>(balances);
+        lock.lock();
+        try {
+            return new EnumMap<>(balances);
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -144,4 +307,61 @@ public class Wallet {
 
         return total;
     }
+
+    /**
+     * 잔액 변경 및 저널 / 원장 기록 (잠금 안에서 호출)
+     */
+    private void update(@NotNull CurrencyType type, long amount, @NotNull String reason, @Nullable String idempotencyKey) {
+        long previous = getBalance(type);
+        balances.put(type, amount);
+        if (ownerId == null || previous == amount) return;
+
+        WriteAheadJournal journal = WriteAheadJournal.getInstance();
+        if (journal != null) {
+            journal.append(JournalRecord.walletBalance(ownerId, type.getId(), amount));
+        }
+
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        if (ledger != null) {
+            ledger.record(ownerId, type, amount - previous, amount, reason, idempotencyKey, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 멱등 키 선점 (키가 없거나 원장이 없으면 항상 true)
+     */
+    private boolean claimKey(@Nullable String idempotencyKey) {
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        return idempotencyKey == null || ledger == null || ledger.claimKey(idempotencyKey);
+    }
+
+    /**
+     * 적용되지 않은 변경의 멱등 키 반환
+     */
+    private void releaseKey(@Nullable String idempotencyKey) {
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        if (idempotencyKey != null && ledger != null) {
+            ledger.releaseKey(idempotencyKey);
+        }
+    }
+
+    /**
+     * 플레이어의 잠금 스트라이프 번호
+     */
+    private static int stripeOf(@NotNull UUID playerId) {
+        int hash = playerId.hashCode();
+        hash ^= hash >>> 16;
+        return hash & (LOCK_STRIPES - 1);
+    }
+
+    /**
+     * 잔액 범위 보정 (0 ~ 최대 보유량)
+     */
+    private static long clamp(@NotNull CurrencyType type, long amount) {
+        if (amount < 0) {
+            LogUtil.warning("Attempted to set negative balance: " + type + " = " + amount);
+            amount = 0;
+        }
+        return Math.min(amount, type.getMaxAmount());
+    }
 }
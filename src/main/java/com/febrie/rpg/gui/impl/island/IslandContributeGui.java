@@ -192,7 +192,7 @@ public class IslandContributeGui extends BaseGui {
         }
         
         // 골드 차감
-        rpgPlayer.getWallet().subtract(CurrencyType.GOLD, amount);
+        rpgPlayer.getWallet().subtract(CurrencyType.GOLD, amount, "island_contribute");
         // 기여도 업데이트
         Map<String, Long> newContributions = new HashMap<>(island.membership().contributions());
         String playerUuid = player.getUniqueId().toString();
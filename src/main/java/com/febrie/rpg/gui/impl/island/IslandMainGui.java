@@ -12,6 +12,7 @@ import com.febrie.rpg.gui.framework.BaseGui;
 import com.febrie.rpg.gui.framework.GuiFramework;
 import com.febrie.rpg.gui.manager.GuiManager;
 import com.febrie.rpg.island.manager.IslandManager;
+import com.febrie.rpg.island.permission.IslandPermission;
 import com.febrie.rpg.island.permission.IslandPermissionHandler;
 import com.febrie.rpg.util.DateFormatUtil;
 import com.febrie.rpg.util.GuiHandlerUtil;
@@ -177,7 +178,7 @@ public class IslandMainGui extends BaseGui {
         setItem(24, createSpawnSettingsItem());
         setItem(30, createIslandSettingsItem());
         // 방문??목록?� 권한 체크 ???�시
-        if (IslandPermissionHandler.hasPermission(island, viewer, "VIEW_VISITORS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.VIEW_VISITORS)) {
             setItem(31, createVisitorListItem());
         }
         setItem(32, createWarpItem());
@@ -194,7 +195,7 @@ public class IslandMainGui extends BaseGui {
         setItem(23, createContributionItem());
         setItem(24, createSpawnSettingsItem());
         // 방문??목록?� 권한 체크 ???�시
-        if (IslandPermissionHandler.hasPermission(island, viewer, "VIEW_VISITORS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.VIEW_VISITORS)) {
             setItem(31, createVisitorListItem());
         }
         setItem(32, createWarpItem());
@@ -211,12 +212,12 @@ public class IslandMainGui extends BaseGui {
     private void setupMemberMenu() {
         setItem(13, createIslandInfoItem());
         // ?�그?�이?�는 권한 체크 ???�시
-        if (IslandPermissionHandler.hasPermission(island, viewer, "UPGRADE_ISLAND")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.UPGRADE_ISLAND)) {
             setItem(22, createUpgradeItem());
         }
         setItem(23, createContributionItem());
         // 방문??목록?� 권한 체크 ???�시
-        if (IslandPermissionHandler.hasPermission(island, viewer, "VIEW_VISITORS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.VIEW_VISITORS)) {
             setItem(31, createVisitorListItem());
         }
         setItem(32, createWarpItem());
@@ -229,7 +230,7 @@ public class IslandMainGui extends BaseGui {
         setItem(13, createIslandInfoItem());
         setItem(23, createContributionItem());
         // 방문??목록?� 권한 체크 ???�시
-        if (IslandPermissionHandler.hasPermission(island, viewer, "VIEW_VISITORS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.VIEW_VISITORS)) {
             setItem(31, createVisitorListItem());
         }
         setItem(32, createWarpItem());
@@ -242,7 +243,7 @@ public class IslandMainGui extends BaseGui {
         setItem(13, createIslandInfoItem());
         setItem(23, createContributionItem()); // 방문?�도 기여???�위�?�????�도�?추�?
         // 방문??목록?� 권한 체크 ???�시 (방문?�는 기본?�으�?권한 ?�음)
-        if (IslandPermissionHandler.hasPermission(island, viewer, "VIEW_VISITORS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.VIEW_VISITORS)) {
             setItem(31, createVisitorListItem());
         }
         setItem(32, createWarpItem());
@@ -12,6 +12,7 @@ import com.febrie.rpg.gui.manager.GuiManager;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
 import com.febrie.rpg.island.manager.IslandManager;
+import com.febrie.rpg.island.permission.IslandPermission;
 import com.febrie.rpg.island.permission.IslandPermissionHandler;
 import com.febrie.rpg.util.UnifiedColorUtil;
 import com.febrie.rpg.util.ItemBuilder;
@@ -94,7 +95,7 @@ public class IslandMemberGui extends BaseGui {
         }
         
         // 멤버 초대 버튼 (권한이 있는 경우)
-        if (IslandPermissionHandler.hasPermission(island, viewer, "INVITE_MEMBERS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.INVITE_MEMBERS)) {
             setItem(49, GuiItem.clickable(createInviteButton(), player -> {
                 player.closeInventory();
                 player.sendMessage(LangManager.text(GuiLangKey.GUI_ISLAND_MEMBER_INVITE_PROMPT, viewer.locale()).color(UnifiedColorUtil.GREEN));
@@ -214,7 +215,7 @@ public class IslandMemberGui extends BaseGui {
                 .addLore(LangManager.text(GuiLangKey.GUI_ISLAND_MEMBER_LIMITED_PERMISSIONS, viewer.locale()).color(UnifiedColorUtil.GRAY));
         
         // 관리 옵션 (권한이 있는 경우)
-        if (IslandPermissionHandler.hasPermission(island, viewer, "MANAGE_WORKERS")) {
+        if (IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.MANAGE_WORKERS)) {
             builder.addLore(Component.empty())
                    .addLore(LangManager.text(GuiLangKey.GUI_ISLAND_MEMBER_LEFT_CLICK_EXTEND, viewer.locale()).color(UnifiedColorUtil.YELLOW))
                    .addLore(LangManager.text(GuiLangKey.GUI_ISLAND_MEMBER_RIGHT_CLICK_FIRE, viewer.locale()).color(UnifiedColorUtil.RED));
@@ -326,10 +327,10 @@ public class IslandMemberGui extends BaseGui {
                 return IslandPermissionHandler.isOwner(island, viewer);
             }
             // 섬장과 부섬장은 일반 멤버 관리 가능
-            return IslandPermissionHandler.hasPermission(island, viewer, "KICK_MEMBERS");
+            return IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.KICK_MEMBERS);
         } else {
             // 알바 관리 권한
-            return IslandPermissionHandler.hasPermission(island, viewer, "MANAGE_WORKERS");
+            return IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.MANAGE_WORKERS);
         }
     }
     
@@ -343,7 +344,7 @@ public class IslandMemberGui extends BaseGui {
         }
         
         // 섬장과 부섬장은 일반 멤버 관리 가능
-        return IslandPermissionHandler.hasPermission(island, viewer, "KICK_MEMBERS");
+        return IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.KICK_MEMBERS);
     }
     
     /**
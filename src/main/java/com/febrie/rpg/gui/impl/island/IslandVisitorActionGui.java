@@ -7,6 +7,7 @@ import com.febrie.rpg.gui.framework.BaseGui;
 import com.febrie.rpg.gui.framework.GuiFramework;
 import com.febrie.rpg.gui.manager.GuiManager;
 import com.febrie.rpg.island.listener.IslandVisitListener;
+import com.febrie.rpg.island.permission.IslandPermission;
 import com.febrie.rpg.island.permission.IslandPermissionHandler;
 import com.febrie.rpg.util.LangManager;
 import com.febrie.rpg.util.UnifiedColorUtil;
@@ -118,7 +119,7 @@ public class IslandVisitorActionGui extends BaseGui {
      * 추방 아이템 생성
      */
     private GuiItem createKickItem() {
-        boolean hasPermission = IslandPermissionHandler.hasPermission(island, viewer, "KICK_MEMBERS");
+        boolean hasPermission = IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.KICK_MEMBERS);
         
         Component displayName;
         List<Component> lore;
@@ -164,7 +165,7 @@ public class IslandVisitorActionGui extends BaseGui {
      */
     private GuiItem createBanItem() {
         // 차단 기능은 현재 구현되지 않았으므로 canKick 권한을 재사용
-        boolean hasPermission = IslandPermissionHandler.hasPermission(island, viewer, "KICK_MEMBERS");
+        boolean hasPermission = IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.KICK_MEMBERS);
         
         Component displayName;
         List<Component> lore;
@@ -254,7 +255,7 @@ public class IslandVisitorActionGui extends BaseGui {
      * 초대 아이템 생성
      */
     private GuiItem createInviteItem() {
-        boolean hasPermission = IslandPermissionHandler.hasPermission(island, viewer, "INVITE_MEMBERS");
+        boolean hasPermission = IslandPermissionHandler.hasPermission(island, viewer, IslandPermission.INVITE_MEMBERS);
         
         Component displayName;
         List<Component> lore;
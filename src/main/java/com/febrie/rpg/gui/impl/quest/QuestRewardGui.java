@@ -388,7 +388,7 @@ public class QuestRewardGui extends BaseGui {
         
         // 돈 지급
         if (moneyReward > 0) {
-            rpgPlayer.getWallet().add(CurrencyType.GOLD, moneyReward);
+            rpgPlayer.getWallet().add(CurrencyType.GOLD, moneyReward, "quest_reward");
             viewer.sendMessage(LangManager.text(GuiLangKey.GUI_QUEST_REWARD_MONEY_RECEIVED, viewer, Component.text(String.valueOf(moneyReward))).color(UnifiedColorUtil.SUCCESS));
         }
         
@@ -157,7 +157,7 @@ public class NPCShopGui extends BaseGui {
         }
         
         // 구매 처리
-        rpgPlayer.getWallet().subtract(CurrencyType.GOLD, shopItem.getBuyPrice());
+        rpgPlayer.getWallet().subtract(CurrencyType.GOLD, shopItem.getBuyPrice(), "shop_buy");
         player.getInventory().addItem(shopItem.getItem().clone());
         
         sendMessage(player, "gui.shop.message.item_bought", 
@@ -177,7 +177,7 @@ public class NPCShopGui extends BaseGui {
         
         // 판매 처리
         removeItem(player, shopItem.getItem());
-        rpgPlayer.getWallet().add(CurrencyType.GOLD, shopItem.getSellPrice());
+        rpgPlayer.getWallet().add(CurrencyType.GOLD, shopItem.getSellPrice(), "shop_sell");
         
         sendMessage(player, "gui.shop.message.item_sold", 
                 shopItem.getItem().getType().name(), String.format("%,d", shopItem.getSellPrice()));
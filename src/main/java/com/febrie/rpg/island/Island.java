@@ -67,7 +67,7 @@ public class Island {
             );
             
             IslandDTO islandWithLocation = new IslandDTO(
-                    baseIsland.core(),
+                    IslandCoreDTO.createWithLocation(islandId, ownerUuid, ownerName, islandName, location),
                     baseIsland.membership(),
                     baseIsland.social(),
                     newConfiguration
@@ -137,7 +137,8 @@ public class Island {
                             System.currentTimeMillis(),
                             islandData.core().totalResets() + 1,
                             null,
-                            null
+                            // 위치는 유지 (스폰이 초기화되어도 섬 칸 색인이 같은 칸을 가리키도록)
+                            new IslandLocationDTO(islandData.getCenterX(), islandData.getCenterZ(), 85)
                     );
                     
                     IslandMembershipDTO newMembership = new IslandMembershipDTO(
@@ -175,14 +176,10 @@ public class Island {
             return false;
         }
         
-        IslandSpawnPointDTO center = islandData.configuration().spawnData().defaultSpawn();
-        IslandLocationDTO islandLoc = new IslandLocationDTO(
-                (int) center.x(),
-                (int) center.z(),
-                islandData.core().size()
-        );
-        
-        return islandLoc.contains(location);
+        // 보호 검사마다 호출되므로 객체 생성 없이 범위 비교
+        int halfSize = islandData.core().size() / 2;
+        return Math.abs(location.getBlockX() - islandData.getCenterX()) <= halfSize
+                && Math.abs(location.getBlockZ() - islandData.getCenterZ()) <= halfSize;
     }
     
     /**
@@ -2,37 +2,83 @@ package com.febrie.rpg.island;
 
 import com.febrie.rpg.dto.island.IslandDTO;
 import com.febrie.rpg.dto.island.PlayerIslandDataDTO;
+import com.febrie.rpg.island.world.IslandWorldManager;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 섬 캐시 관리 클래스
- * 메모리 캐싱을 통한 성능 최적화
+ * 필요할 때 불러온 섬 / 플레이어 섬 데이터만 보관
+ * - 고정(pin)된 항목: 플레이어가 접속해 있거나 섬 안에 있는 동안 보관 (크기 제한 / 만료 대상 아님)
+ * - 그 외 항목: 크기 상한과 미사용 만료 시간 안에서 자주 / 최근 쓰인 것 위주로 보관 (Caffeine)
+ * - 캐시에 있는 섬은 섬 칸 키로도 색인 (위치 -> 섬 조회를 해시 조회 한 번으로)
  *
  * @author Febrie, CoffeeTory
  */
 public class IslandCache {
-    
+
     // 캐시
-    private final Map<String, IslandDTO> islandCache = new ConcurrentHashMap<>(); // islandId -> IslandDTO
-    private final Map<String, String> playerIslandMap = new ConcurrentHashMap<>(); // playerUuid -> islandId
-    private final Map<String, PlayerIslandDataDTO> playerDataCache = new ConcurrentHashMap<>();
-    
+    private final PinnableCache<IslandDTO> islandCache; // islandId -> IslandDTO
+    private final Map<Long, String> cellIndex = new ConcurrentHashMap<>(); // 섬 칸 키 -> islandId
+    private final Map<String, String> playerIslandMap = new ConcurrentHashMap<>(); // playerUuid -> islandId (불러온 섬 / 데이터만)
+    private final PinnableCache<PlayerIslandDataDTO> playerDataCache; // playerUuid -> PlayerIslandDataDTO
+
     // 캐시 통계
     private final AtomicLong cacheHits = new AtomicLong(0);
     private final AtomicLong cacheMisses = new AtomicLong(0);
-    
+
+    /**
+     * @param maxIslands    고정되지 않은 섬 최대 보관 수
+     * @param maxPlayerData 고정되지 않은 플레이어 섬 데이터 최대 보관 수
+     * @param idleTimeout   고정되지 않은 항목의 미사용 만료 시간
+     */
+    public IslandCache(long maxIslands, long maxPlayerData, @NotNull Duration idleTimeout) {
+        this.islandCache = new PinnableCache<>(Caffeine.newBuilder()
+                .maximumSize(maxIslands)
+                .expireAfterAccess(idleTimeout)
+                .<String, IslandDTO>evictionListener((islandId, island, cause) -> {
+                    // 밀려난 섬의 멤버 매핑 / 칸 색인도 함께 정리
+                    if (island != null) {
+                        removeIslandMembers(island);
+                        cellIndex.remove(cellKeyOf(island), island.core().islandId());
+                    }
+                })
+                .build());
+        this.playerDataCache = new PinnableCache<>(Caffeine.newBuilder()
+                .maximumSize(maxPlayerData)
+                .expireAfterAccess(idleTimeout)
+                .<String, PlayerIslandDataDTO>evictionListener((playerUuid, data, cause) -> {
+                    // 섬이 캐시에 없으면 매핑도 정리
+                    if (playerUuid != null && data != null && data.currentIslandId() != null
+                            && islandCache.get(data.currentIslandId()) == null) {
+                        playerIslandMap.remove(playerUuid, data.currentIslandId());
+                    }
+                })
+                .build());
+    }
+
     /**
      * 섬 캐시에 추가
      */
     public void putIsland(@NotNull String islandId, @NotNull IslandDTO island) {
+        // 위치가 바뀐 경우 이전 칸 색인 제거
+        IslandDTO previous = islandCache.get(islandId);
+        long cellKey = cellKeyOf(island);
+        if (previous != null && cellKeyOf(previous) != cellKey) {
+            cellIndex.remove(cellKeyOf(previous), islandId);
+        }
+
         islandCache.put(islandId, island);
+        cellIndex.put(cellKey, islandId);
     }
-    
+
     /**
      * 섬 캐시에서 가져오기
      */
@@ -46,20 +92,57 @@ public class IslandCache {
         }
         return island;
     }
-    
+
     /**
      * 섬 캐시에서 제거
      */
     public void removeIsland(@NotNull String islandId) {
+        IslandDTO island = islandCache.get(islandId);
+        if (island != null) {
+            cellIndex.remove(cellKeyOf(island), islandId);
+        }
         islandCache.remove(islandId);
     }
-    
+
+    /**
+     * 섬 칸 키로 캐시된 섬 가져오기 (통계에 포함하지 않음)
+     *
+     * @param cellKey IslandWorldManager.toCellKey 값
+     */
+    @Nullable
+    public IslandDTO getIslandAtCell(long cellKey) {
+        String islandId = cellIndex.get(cellKey);
+        return islandId != null ? islandCache.get(islandId) : null;
+    }
+
+    /**
+     * 섬 고정 (같은 보유자가 여러 번 고정하면 그만큼 해제해야 풀림)
+     * 아직 불러오지 않은 섬도 고정할 수 있으며, 이후 추가되면 고정 상태로 보관
+     */
+    public void pinIsland(@NotNull String islandId, @NotNull String holder) {
+        islandCache.pin(islandId, holder);
+    }
+
+    /**
+     * 섬 고정 한 번 해제 (보유자가 모두 사라지면 일반 캐시로 이동)
+     */
+    public void unpinIsland(@NotNull String islandId, @NotNull String holder) {
+        islandCache.unpin(islandId, holder);
+    }
+
+    /**
+     * 보유자가 가진 모든 섬 고정 해제 (플레이어 퇴장 시)
+     */
+    public void releaseIslandPins(@NotNull String holder) {
+        islandCache.release(holder);
+    }
+
     /**
      * 플레이어 데이터 캐시에 추가
      */
     public void putPlayerData(@NotNull String playerUuid, @NotNull PlayerIslandDataDTO data) {
         playerDataCache.put(playerUuid, data);
-        
+
         // 플레이어-섬 매핑 업데이트
         if (data.currentIslandId() != null) {
             playerIslandMap.put(playerUuid, data.currentIslandId());
@@ -67,7 +150,7 @@ public class IslandCache {
             playerIslandMap.remove(playerUuid);
         }
     }
-    
+
     /**
      * 플레이어 데이터 캐시에서 가져오기
      */
@@ -81,7 +164,7 @@ public class IslandCache {
         }
         return data;
     }
-    
+
     /**
      * 플레이어 데이터 캐시에서 제거
      */
@@ -89,7 +172,28 @@ public class IslandCache {
         playerDataCache.remove(playerUuid);
         playerIslandMap.remove(playerUuid);
     }
-    
+
+    /**
+     * 플레이어 데이터 고정 (접속 중)
+     */
+    public void pinPlayerData(@NotNull String playerUuid) {
+        playerDataCache.pin(playerUuid, playerUuid);
+    }
+
+    /**
+     * 플레이어 데이터 고정 해제 (퇴장)
+     */
+    public void unpinPlayerData(@NotNull String playerUuid) {
+        playerDataCache.release(playerUuid);
+    }
+
+    /**
+     * 플레이어 데이터가 고정되어 있는지 (접속 중인지) 확인
+     */
+    public boolean isPlayerDataPinned(@NotNull String playerUuid) {
+        return playerDataCache.isPinned(playerUuid);
+    }
+
     /**
      * 플레이어의 섬 ID 가져오기
      */
@@ -97,105 +201,118 @@ public class IslandCache {
     public String getPlayerIslandId(@NotNull String playerUuid) {
         return playerIslandMap.get(playerUuid);
     }
-    
+
     /**
      * 섬 멤버 매핑 업데이트
      */
     public void updateIslandMembers(@NotNull IslandDTO island) {
         // 소유자
         playerIslandMap.put(island.core().ownerUuid(), island.core().islandId());
-        
+
         // 멤버들
-        island.membership().members().forEach(member -> 
+        island.membership().members().forEach(member ->
             playerIslandMap.put(member.uuid(), island.core().islandId())
         );
-        
+
         // 알바생들
         island.membership().workers().forEach(worker ->
             playerIslandMap.put(worker.uuid(), island.core().islandId())
         );
     }
-    
+
     /**
-     * 섬 멤버 매핑 제거
+     * 섬 멤버 매핑 제거 (다른 섬을 가리키도록 바뀐 매핑은 유지)
      */
     public void removeIslandMembers(@NotNull IslandDTO island) {
+        String islandId = island.core().islandId();
+
         // 소유자
-        playerIslandMap.remove(island.core().ownerUuid());
-        
+        playerIslandMap.remove(island.core().ownerUuid(), islandId);
+
         // 멤버들
-        island.membership().members().forEach(member -> 
-            playerIslandMap.remove(member.uuid())
+        island.membership().members().forEach(member ->
+            playerIslandMap.remove(member.uuid(), islandId)
         );
-        
+
         // 알바생들
         island.membership().workers().forEach(worker ->
-            playerIslandMap.remove(worker.uuid())
+            playerIslandMap.remove(worker.uuid(), islandId)
         );
     }
-    
+
     /**
-     * 모든 캐시된 섬 가져오기
+     * 모든 캐시된 섬 가져오기 (고정된 섬 포함)
      */
     public Collection<IslandDTO> getAllIslands() {
-        return new ArrayList<>(islandCache.values());
+        return islandCache.values();
     }
-    
+
     /**
      * 캐시 초기화
      */
     public void clear() {
         islandCache.clear();
+        cellIndex.clear();
         playerIslandMap.clear();
         playerDataCache.clear();
     }
-    
+
     /**
      * 섬 개수 반환
      */
     public int getIslandCount() {
         return islandCache.size();
     }
-    
+
+    /**
+     * 고정된 섬 개수 반환
+     */
+    public int getPinnedIslandCount() {
+        return islandCache.pinnedSize();
+    }
+
     /**
      * 플레이어 데이터 개수 반환
      */
     public int getPlayerCount() {
         return playerDataCache.size();
     }
-    
+
     /**
      * 예상 메모리 사용량 (KB)
      */
     public long getEstimatedMemoryUsage() {
         // 예상 메모리 사용량 계산
-        long islandMemory = islandCache.size() * 3L; // 3KB per island
-        long playerMemory = playerDataCache.size() / 5; // ~200 bytes per player
+        long islandMemory = getIslandCount() * 3L; // 3KB per island
+        long playerMemory = getPlayerCount() / 5; // ~200 bytes per player
         return islandMemory + playerMemory;
     }
-    
+
     /**
      * 캐시 통계
      */
     public String getStats() {
-        return String.format("섬 캐시: %d개, 플레이어 데이터: %d개, 플레이어-섬 매핑: %d개",
-                islandCache.size(),
-                playerDataCache.size(),
+        return String.format("섬 캐시: %d개 (고정 %d개), 플레이어 데이터: %d개 (고정 %d개), 플레이어-섬 매핑: %d개",
+                getIslandCount(),
+                getPinnedIslandCount(),
+                getPlayerCount(),
+                playerDataCache.pinnedSize(),
                 playerIslandMap.size()
         );
     }
-    
+
     /**
      * 캐시 상세 통계
      */
     public String getCacheStats() {
         long totalRequests = cacheHits.get() + cacheMisses.get();
-        double hitRate = totalRequests > 0 ? 
+        double hitRate = totalRequests > 0 ?
             (cacheHits.get() / (double)totalRequests * 100) : 0;
-        
+
         return String.format(
-            "캐시 통계: 섬 %d개, 플레이어 %d개, 메모리 ~%d KB, 적중률 %.1f%% (%d/%d)",
+            "캐시 통계: 섬 %d개 (고정 %d개), 플레이어 %d개, 메모리 ~%d KB, 적중률 %.1f%% (%d/%d)",
             getIslandCount(),
+            getPinnedIslandCount(),
             getPlayerCount(),
             getEstimatedMemoryUsage(),
             hitRate,
@@ -203,7 +320,7 @@ public class IslandCache {
             totalRequests
         );
     }
-    
+
     /**
      * 캐시 통계 리셋
      */
@@ -211,4 +328,122 @@ public class IslandCache {
         cacheHits.set(0);
         cacheMisses.set(0);
     }
-}
\ No newline at end of file
+
+    /**
+     * 섬이 속한 칸 키
+     */
+    private static long cellKeyOf(@NotNull IslandDTO island) {
+        return IslandWorldManager.toCellKey(island.getCenterX(), island.getCenterZ());
+    }
+
+    /**
+     * 고정 영역 + 크기 제한 영역으로 나뉜 캐시
+     * 고정 상태 전환은 키별 compute 안에서 처리하고, 값은 새 영역에 먼저 넣은 뒤 이전 영역에서 빼서
+     * 전환 중에도 조회가 항상 값을 찾도록 함
+     */
+    private static final class PinnableCache<V> {
+
+        private final Cache<String, V> bounded;
+        private final Map<String, V> pinned = new ConcurrentHashMap<>();
+        // 키 -> (보유자 -> 고정 횟수), 내부 맵은 해당 키의 compute 안에서만 접근
+        private final Map<String, Map<String, Integer>> holders = new ConcurrentHashMap<>();
+
+        private PinnableCache(@NotNull Cache<String, V> bounded) {
+            this.bounded = bounded;
+        }
+
+        @Nullable
+        V get(@NotNull String key) {
+            V value = pinned.get(key);
+            return value != null ? value : bounded.getIfPresent(key);
+        }
+
+        void put(@NotNull String key, @NotNull V value) {
+            holders.compute(key, (k, keyHolders) -> {
+                if (keyHolders != null) {
+                    pinned.put(k, value);
+                } else {
+                    bounded.put(k, value);
+                }
+                return keyHolders;
+            });
+        }
+
+        void remove(@NotNull String key) {
+            holders.compute(key, (k, keyHolders) -> {
+                pinned.remove(k);
+                bounded.invalidate(k);
+                return keyHolders;
+            });
+        }
+
+        void pin(@NotNull String key, @NotNull String holder) {
+            holders.compute(key, (k, keyHolders) -> {
+                if (keyHolders == null) {
+                    keyHolders = new HashMap<>();
+                    V value = bounded.getIfPresent(k);
+                    if (value != null) {
+                        pinned.put(k, value);
+                        bounded.invalidate(k);
+                    }
+                }
+                keyHolders.merge(holder, 1, Integer::sum);
+                return keyHolders;
+            });
+        }
+
+        void unpin(@NotNull String key, @NotNull String holder) {
+            holders.computeIfPresent(key, (k, keyHolders) -> {
+                keyHolders.computeIfPresent(holder, (h, count) -> count > 1 ? count - 1 : null);
+                return keyHolders.isEmpty() ? demote(k) : keyHolders;
+            });
+        }
+
+        void release(@NotNull String holder) {
+            for (String key : holders.keySet()) {
+                holders.computeIfPresent(key, (k, keyHolders) -> {
+                    keyHolders.remove(holder);
+                    return keyHolders.isEmpty() ? demote(k) : keyHolders;
+                });
+            }
+        }
+
+        boolean isPinned(@NotNull String key) {
+            return holders.containsKey(key);
+        }
+
+        /**
+         * 고정 영역의 값을 크기 제한 영역으로 이동 (compute 안에서 호출, 항상 null 반환)
+         */
+        @Nullable
+        private Map<String, Integer> demote(@NotNull String key) {
+            V value = pinned.get(key);
+            if (value != null) {
+                bounded.put(key, value);
+                pinned.remove(key);
+            }
+            return null;
+        }
+
+        @NotNull
+        Collection<V> values() {
+            List<V> values = new ArrayList<>(pinned.values());
+            values.addAll(bounded.asMap().values());
+            return values;
+        }
+
+        int size() {
+            return pinned.size() + (int) bounded.estimatedSize();
+        }
+
+        int pinnedSize() {
+            return pinned.size();
+        }
+
+        void clear() {
+            holders.clear();
+            pinned.clear();
+            bounded.invalidateAll();
+        }
+    }
+}
@@ -131,29 +131,26 @@ public class IslandService {
     }
     
     /**
-     * 모든 섬 데이터 로드
+     * 최근 활동 섬 데이터 로드 (시작 시 사전 로드용)
      */
-    public CompletableFuture<List<IslandDTO>> loadAllIslands() {
+    public CompletableFuture<List<IslandDTO>> loadRecentIslands(int limit) {
         if (isOfflineMode || firestoreService == null) {
             LogUtil.info("오프라인 모드: 섬 데이터를 로드하지 않습니다.");
             return CompletableFuture.completedFuture(new ArrayList<>());
         }
         
-        // getAllIslands()가 이미 CompletableFuture<List<IslandDTO>>를 반환하므로 직접 반환
-        return firestoreService.getAllIslands();
+        return firestoreService.getRecentIslands(limit);
     }
     
     /**
-     * 모든 플레이어 섬 데이터 로드
+     * 중심 좌표로 섬 로드
      */
-    public CompletableFuture<List<PlayerIslandDataDTO>> loadAllPlayerData() {
-        if (isOfflineMode || playerDataService == null) {
-            LogUtil.info("오프라인 모드: 플레이어 데이터를 로드하지 않습니다.");
-            return CompletableFuture.completedFuture(new ArrayList<>());
+    public CompletableFuture<IslandDTO> loadIslandAt(int centerX, int centerZ) {
+        if (isOfflineMode || firestoreService == null) {
+            return CompletableFuture.completedFuture(null);
         }
         
-        // getAllPlayerData()가 이미 CompletableFuture<List<PlayerIslandDataDTO>>를 반환하므로 직접 반환
-        return playerDataService.getAllPlayerData();
+        return firestoreService.findByLocation(centerX, centerZ);
     }
     
     /**
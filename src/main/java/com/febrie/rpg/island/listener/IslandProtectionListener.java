@@ -4,6 +4,7 @@ import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.dto.island.*;
 import com.febrie.rpg.island.Island;
 import com.febrie.rpg.island.manager.IslandManager;
+import com.febrie.rpg.island.permission.IslandPermission;
 import com.febrie.rpg.island.permission.IslandPermissionHandler;
 import com.febrie.rpg.util.UnifiedColorUtil;
 import net.kyori.adventure.text.Component;
@@ -52,7 +53,7 @@ public class IslandProtectionListener implements Listener {
         Player player = event.getPlayer();
         Block block = event.getBlock();
         
-        if (!checkPermission(player, block.getLocation(), "BUILD")) {
+        if (!checkPermission(player, block.getLocation(), IslandPermission.BUILD)) {
             event.setCancelled(true);
             player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 블록을 설치할 권한이 없습니다."));
         }
@@ -66,7 +67,7 @@ public class IslandProtectionListener implements Listener {
         Player player = event.getPlayer();
         Block block = event.getBlock();
         
-        if (!checkPermission(player, block.getLocation(), "BUILD")) {
+        if (!checkPermission(player, block.getLocation(), IslandPermission.BUILD)) {
             event.setCancelled(true);
             player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 블록을 파괴할 권한이 없습니다."));
         }
@@ -89,7 +90,7 @@ public class IslandProtectionListener implements Listener {
         
         // 컨테이너 확인
         if (block.getState() instanceof Container) {
-            if (!checkPermission(player, block.getLocation(), "OPEN_CONTAINERS")) {
+            if (!checkPermission(player, block.getLocation(), IslandPermission.OPEN_CONTAINERS)) {
                 event.setCancelled(true);
                 player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 상자를 열 권한이 없습니다."));
                 return;
@@ -98,7 +99,7 @@ public class IslandProtectionListener implements Listener {
         
         // 상호작용 가능한 블록들
         if (isInteractableBlock(type)) {
-            if (!checkPermission(player, block.getLocation(), "USE_ITEMS")) {
+            if (!checkPermission(player, block.getLocation(), IslandPermission.USE_ITEMS)) {
                 event.setCancelled(true);
                 player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 이 아이템을 사용할 권한이 없습니다."));
             }
@@ -113,7 +114,7 @@ public class IslandProtectionListener implements Listener {
         Player player = event.getPlayer();
         Block block = event.getBlock();
         
-        if (!checkPermission(player, block.getLocation(), "USE_ITEMS")) {
+        if (!checkPermission(player, block.getLocation(), IslandPermission.USE_ITEMS)) {
             event.setCancelled(true);
             player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 양동이를 사용할 권한이 없습니다."));
         }
@@ -127,7 +128,7 @@ public class IslandProtectionListener implements Listener {
         Player player = event.getPlayer();
         Block block = event.getBlock();
         
-        if (!checkPermission(player, block.getLocation(), "USE_ITEMS")) {
+        if (!checkPermission(player, block.getLocation(), IslandPermission.USE_ITEMS)) {
             event.setCancelled(true);
             player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 양동이를 사용할 권한이 없습니다."));
         }
@@ -144,7 +145,7 @@ public class IslandProtectionListener implements Listener {
         // 아이템 프레임, 그림 등
         if (event.getRightClicked().getType().name().contains("FRAME") || 
             event.getRightClicked().getType().name().contains("PAINTING")) {
-            if (!checkPermission(player, location, "USE_ITEMS")) {
+            if (!checkPermission(player, location, IslandPermission.USE_ITEMS)) {
                 event.setCancelled(true);
                 player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 이 아이템을 사용할 권한이 없습니다."));
             }
@@ -222,7 +223,7 @@ public class IslandProtectionListener implements Listener {
         
         Location location = event.getEntity().getLocation();
         
-        if (!checkPermission(player, location, "BUILD")) {
+        if (!checkPermission(player, location, IslandPermission.BUILD)) {
             event.setCancelled(true);
             player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 이 아이템을 파괴할 권한이 없습니다."));
         }
@@ -245,7 +246,7 @@ public class IslandProtectionListener implements Listener {
             
             Location location = event.getEntity().getLocation();
             
-            if (!checkPermission(player, location, "BUILD")) {
+            if (!checkPermission(player, location, IslandPermission.BUILD)) {
                 event.setCancelled(true);
                 player.sendMessage(UnifiedColorUtil.parse("&c이 섬에서 이 엔티티를 파괴할 권한이 없습니다."));
             }
@@ -255,7 +256,7 @@ public class IslandProtectionListener implements Listener {
     /**
      * 권한 확인
      */
-    private boolean checkPermission(@NotNull Player player, @NotNull Location location, @NotNull String permission) {
+    private boolean checkPermission(@NotNull Player player, @NotNull Location location, @NotNull IslandPermission permission) {
         // OP는 모든 권한 보유
         if (player.isOp()) {
             return true;
@@ -147,8 +147,8 @@ public class IslandVisitListener implements Listener {
         // 마지막 위치 정보도 제거
         lastKnownIslands.remove(playerUuid);
         
-        // Visit tracker에서도 제거
-        islandManager.getVisitTracker().handlePlayerQuit(event.getPlayer());
+        // Visit tracker에서도 제거하고 섬 캐시 고정 해제
+        islandManager.handlePlayerQuit(event.getPlayer());
     }
     
     /**
@@ -1,6 +1,7 @@
 package com.febrie.rpg.island.manager;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.constants.DatabaseConstants;
 import com.febrie.rpg.database.service.impl.IslandFirestoreService;
 import com.febrie.rpg.database.service.impl.PlayerIslandDataService;
 import com.febrie.rpg.dto.island.*;
@@ -8,9 +9,12 @@ import com.febrie.rpg.island.Island;
 import com.febrie.rpg.island.IslandCache;
 import com.febrie.rpg.island.IslandPlayer;
 import com.febrie.rpg.island.IslandService;
+import com.febrie.rpg.island.permission.IslandPermissionHandler;
 import com.febrie.rpg.island.world.IslandWorldManager;
 import com.febrie.rpg.util.UnifiedColorUtil;
 import com.febrie.rpg.util.LogUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -20,11 +24,15 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 섬 시스템 관리자
@@ -38,6 +46,13 @@ public class IslandManager {
     private final IslandWorldManager worldManager;
     private final IslandService islandService;
     private final IslandCache cache;
+    private final int preloadCount;
+    // 위치 기반 로드 상태 (칸 키: 섬 칸 중심 좌표)
+    private final Set<Long> pendingCells = ConcurrentHashMap.newKeySet();
+    private final Cache<Long, Boolean> emptyCells = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(DatabaseConstants.ISLAND_CACHE_EMPTY_CELL_SECONDS, TimeUnit.SECONDS)
+            .build();
     private IslandVisitTracker visitTracker;
 
     public IslandManager(@NotNull RPGMain plugin, @Nullable IslandFirestoreService firestoreService, @Nullable PlayerIslandDataService playerDataService) {
@@ -45,7 +60,11 @@ public class IslandManager {
         this.worldManager = new IslandWorldManager(plugin);
 
         this.islandService = new IslandService(firestoreService, playerDataService);
-        this.cache = new IslandCache();
+        this.cache = new IslandCache(
+                Math.max(1, plugin.getConfig().getLong("data.island-cache.max-islands", DatabaseConstants.ISLAND_CACHE_MAX_ISLANDS)),
+                Math.max(1, plugin.getConfig().getLong("data.island-cache.max-player-data", DatabaseConstants.ISLAND_CACHE_MAX_PLAYER_DATA)),
+                Duration.ofMinutes(Math.max(1, plugin.getConfig().getLong("data.island-cache.idle-minutes", DatabaseConstants.ISLAND_CACHE_IDLE_MINUTES))));
+        this.preloadCount = Math.max(0, plugin.getConfig().getInt("data.island-cache.preload-count", DatabaseConstants.ISLAND_CACHE_PRELOAD_COUNT));
         // this escape 경고 방지 - initialize()에서 생성
         this.visitTracker = null;
     }
@@ -59,25 +78,29 @@ public class IslandManager {
         this.visitTracker = new IslandVisitTracker(plugin, this);
         visitTracker.startTracking();
 
-        // 모든 섬과 플레이어 데이터 사전 로드
-        preloadAllData();
+        // 최근 활동 섬만 사전 로드 (나머지는 필요할 때 로드)
+        preloadRecentIslands();
+
+        // 리로드 등으로 이미 접속해 있는 플레이어
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            handlePlayerJoin(player);
+        }
     }
 
     /**
-     * 모든 데이터 사전 로드
+     * 최근 활동 섬 사전 로드
      */
-    private void preloadAllData() {
-        LogUtil.info("섬 시스템 데이터 사전 로드 시작...");
-        long startTime = System.currentTimeMillis();
-
-        // 병렬 로드로 속도 향상
-        CompletableFuture<Void> islandsFuture = preloadAllIslands();
-        CompletableFuture<Void> playersFuture = preloadAllPlayerData();
+    private void preloadRecentIslands() {
+        if (preloadCount == 0) {
+            return;
+        }
 
-        CompletableFuture.allOf(islandsFuture, playersFuture)
-                .thenRun(() -> {
+        long startTime = System.currentTimeMillis();
+        islandService.loadRecentIslands(preloadCount)
+                .thenAccept(islands -> {
+                    islands.forEach(this::cacheIsland);
                     long elapsed = System.currentTimeMillis() - startTime;
-                    LogUtil.info(String.format("섬 데이터 로드 완료: %d개 섬, %d명 플레이어 데이터 (%d ms)", cache.getIslandCount(), cache.getPlayerCount(), elapsed));
+                    LogUtil.info(String.format("최근 활동 섬 사전 로드 완료: %d개 섬 (%d ms)", islands.size(), elapsed));
                     LogUtil.info("캐시 상태: " + cache.getCacheStats());
                 })
                 .exceptionally(ex -> {
@@ -86,33 +109,6 @@ public class IslandManager {
                 });
     }
 
-    /**
-     * 모든 섬 데이터 사전 로드
-     */
-    private @NotNull CompletableFuture<Void> preloadAllIslands() {
-        return islandService.loadAllIslands()
-                .thenAccept(islands -> {
-                    for (IslandDTO island : islands) {
-                        cache.putIsland(island.core().islandId(), island);
-                        cache.updateIslandMembers(island);
-                    }
-                    LogUtil.debug("섬 " + islands.size() + "개 캐시 로드 완료");
-                });
-    }
-
-    /**
-     * 모든 플레이어 섬 데이터 사전 로드
-     */
-    private @NotNull CompletableFuture<Void> preloadAllPlayerData() {
-        return islandService.loadAllPlayerData()
-                .thenAccept(players -> {
-                    for (PlayerIslandDataDTO player : players) {
-                        cache.putPlayerData(player.playerUuid(), player);
-                    }
-                    LogUtil.debug("플레이어 " + players.size() + "명 데이터 캐시 로드 완료");
-                });
-    }
-
     /**
      * 종료 처리
      */
@@ -169,6 +165,7 @@ public class IslandManager {
                                                                 cache.putIsland(island.getId(), island.getData());
                                                                 cache.putPlayerData(ownerUuid, islandPlayer.getData());
                                                                 cache.updateIslandMembers(island.getData());
+                                                                holdIslandFor(island.getId(), ownerUuid);
 
                                                                 // 플레이어를 섬으로 텔레포트
                                                                 Bukkit.getScheduler()
@@ -234,7 +231,7 @@ public class IslandManager {
                 );
                 
                 IslandDTO islandData = new IslandDTO(
-                        baseIsland.core(),
+                        IslandCoreDTO.createWithLocation(islandId, ownerUuid, ownerName, islandName, location),
                         baseIsland.membership(),
                         baseIsland.social(),
                         newConfiguration
@@ -261,8 +258,9 @@ public class IslandManager {
                                         }
 
                                         // 캐시 업데이트
-                                        cache.putIsland(islandId, islandData);
+                                        cacheIsland(islandData);
                                         cache.putPlayerData(ownerUuid, playerData);
+                                        holdIslandFor(islandId, ownerUuid);
 
                                         // 바이옴 설정 적용
                                         return applyBiomeToIsland(location.centerX(), location.centerZ(), baseIsland.core().size(), biome).thenApply(biomeApplied -> {
@@ -293,8 +291,7 @@ public class IslandManager {
         return islandService.loadIsland(islandId)
                 .thenApply(islandData -> {
                     if (islandData != null) {
-                        cache.putIsland(islandId, islandData);
-                        cache.updateIslandMembers(islandData);
+                        cacheIsland(islandData);
                         return new Island(getWorldManagerForIsland(), islandData);
                     }
                     return null;
@@ -382,6 +379,7 @@ public class IslandManager {
                                         // 캐시 제거
                                         cache.removeIslandMembers(island.getData());
                                         cache.removeIsland(islandId);
+                                        IslandPermissionHandler.invalidate(islandId);
                                     } else {
                                         LogUtil.error("Firestore에서 섬 삭제 실패: " + islandId);
                                     }
@@ -448,8 +446,7 @@ public class IslandManager {
         return islandService.saveIsland(island)
                 .thenApply(saved -> {
                     if (saved) {
-                        cache.putIsland(island.core().islandId(), island);
-                        cache.updateIslandMembers(island);
+                        cacheIsland(island);
                     }
                     return saved;
                 });
@@ -464,17 +461,40 @@ public class IslandManager {
             return null;
         }
 
-        // 캐시된 모든 섬 확인
-        for (IslandDTO islandData : cache.getAllIslands()) {
+        // 섬 칸 색인 조회 (섬은 ISLAND_SPACING 격자에 하나씩 배치)
+        long cellKey = IslandWorldManager.toCellKey(location.getBlockX(), location.getBlockZ());
+        IslandDTO islandData = cache.getIslandAtCell(cellKey);
+        if (islandData != null) {
             Island island = new Island(getWorldManagerForIsland(), islandData);
-            if (island.contains(location)) {
-                return island;
-            }
+            return island.contains(location) ? island : null;
         }
 
+        // 캐시에 없으면 백그라운드에서 로드 (다음 조회부터 반영)
+        requestIslandAt(location, cellKey);
         return null;
     }
 
+    /**
+     * 위치가 속한 섬 칸의 섬을 비동기 로드 (칸마다 동시에 한 번만, 섬이 없는 칸은 잠시 다시 조회하지 않음)
+     */
+    private void requestIslandAt(@NotNull Location location, long cellKey) {
+        if (emptyCells.getIfPresent(cellKey) != null || !pendingCells.add(cellKey)) {
+            return;
+        }
+
+        int centerX = IslandWorldManager.toGridCenter(location.getBlockX());
+        int centerZ = IslandWorldManager.toGridCenter(location.getBlockZ());
+        islandService.loadIslandAt(centerX, centerZ)
+                .whenComplete((islandData, ex) -> {
+                    pendingCells.remove(cellKey);
+                    if (islandData != null) {
+                        cacheIsland(islandData);
+                    } else {
+                        emptyCells.put(cellKey, Boolean.TRUE);
+                    }
+                });
+    }
+
     /**
      * 섬 월드 관리자 가져오기
      */
@@ -506,9 +526,82 @@ public class IslandManager {
 
     /**
      * 플레이어 캐시 업데이트
+     * 접속 중인 플레이어면 소속 섬도 불러와 고정
      */
     public void updatePlayerCache(@NotNull String playerUuid, @NotNull PlayerIslandDataDTO data) {
         cache.putPlayerData(playerUuid, data);
+
+        String islandId = data.currentIslandId();
+        if (islandId != null && cache.isPlayerDataPinned(playerUuid)) {
+            holdIslandFor(islandId, playerUuid);
+            loadIsland(islandId);
+        }
+    }
+
+    /**
+     * 플레이어 접속 처리 - 플레이어 섬 데이터와 소속 섬을 불러와 퇴장할 때까지 고정
+     */
+    public void handlePlayerJoin(@NotNull Player player) {
+        String playerUuid = player.getUniqueId()
+                .toString();
+        cache.pinPlayerData(playerUuid);
+
+        getPlayerIsland(playerUuid, player.getName())
+                .thenAccept(island -> {
+                    if (island != null) {
+                        holdIslandFor(island.getId(), playerUuid);
+                    }
+                })
+                .exceptionally(ex -> {
+                    LogUtil.error("플레이어 섬 데이터 로드 실패: " + player.getName(), ex);
+                    return null;
+                });
+    }
+
+    /**
+     * 플레이어 퇴장 처리 - 플레이어가 잡고 있던 고정을 모두 해제 (이후 크기 제한 / 만료에 따라 정리)
+     */
+    public void handlePlayerQuit(@NotNull Player player) {
+        String playerUuid = player.getUniqueId()
+                .toString();
+        if (visitTracker != null) {
+            visitTracker.handlePlayerQuit(player);
+        }
+        cache.unpinPlayerData(playerUuid);
+        cache.releaseIslandPins(playerUuid);
+    }
+
+    /**
+     * 섬 고정 (플레이어가 섬 안에 들어옴)
+     */
+    public void pinIsland(@NotNull String islandId, @NotNull UUID playerUuid) {
+        cache.pinIsland(islandId, playerUuid.toString());
+    }
+
+    /**
+     * 섬 고정 해제 (플레이어가 섬에서 나감)
+     */
+    public void unpinIsland(@NotNull String islandId, @NotNull UUID playerUuid) {
+        cache.unpinIsland(islandId, playerUuid.toString());
+    }
+
+    /**
+     * 접속 중인 플레이어의 소속 섬 고정
+     * 고정 후 접속 상태를 다시 확인해 로드 도중 퇴장한 경우 되돌림 (퇴장 처리는 데이터 고정 해제 후 섬 고정 해제 순)
+     */
+    private void holdIslandFor(@NotNull String islandId, @NotNull String playerUuid) {
+        cache.pinIsland(islandId, playerUuid);
+        if (!cache.isPlayerDataPinned(playerUuid)) {
+            cache.unpinIsland(islandId, playerUuid);
+        }
+    }
+
+    /**
+     * 섬 데이터와 멤버 매핑을 캐시에 반영
+     */
+    private void cacheIsland(@NotNull IslandDTO islandData) {
+        cache.putIsland(islandData.core().islandId(), islandData);
+        cache.updateIslandMembers(islandData);
     }
 
     /**
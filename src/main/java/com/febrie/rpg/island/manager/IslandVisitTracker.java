@@ -84,6 +84,7 @@ public class IslandVisitTracker {
                 if (previousIsland != null) {
                     protectionListener.handleIslandExit(player, previousIsland);
                 }
+                islandManager.unpinIsland(previousIslandId, player.getUniqueId());
             }
             return;
         }
@@ -103,11 +104,13 @@ public class IslandVisitTracker {
                 if (previousIsland != null) {
                     protectionListener.handleIslandExit(player, previousIsland);
                 }
+                islandManager.unpinIsland(previousIslandId, player.getUniqueId());
             }
             
-            // 새로운 섬에 입장
+            // 새로운 섬에 입장 (머무는 동안 캐시에 고정)
             if (currentIslandId != null) {
                 playerCurrentIsland.put(player.getUniqueId(), currentIslandId);
+                islandManager.pinIsland(currentIslandId, player.getUniqueId());
                 protectionListener.handleIslandEntry(player, currentIsland.getData());
             } else {
                 playerCurrentIsland.remove(player.getUniqueId());
@@ -0,0 +1,109 @@
+package com.febrie.rpg.island.permission;
+
+import com.febrie.rpg.dto.island.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 섬 하나의 접근 권한을 미리 계산한 불변 구조
+ * - 플레이어 UUID -> 역할 (목록에 없으면 방문자)
+ * - 역할별 권한 비트 (섬장은 전체)
+ * 섬장 / 멤버십 / 권한 설정 객체가 바뀌었을 때만 다시 만듦 (IslandDTO는 불변이라 참조 비교로 충분)
+ *
+ * @author Febrie
+ */
+public final class IslandAccess {
+
+    private static final IslandRole[] ROLES = IslandRole.values();
+
+    private final String ownerUuid;
+    private final IslandMembershipDTO membership;
+    private final IslandPermissionDTO permissions;
+    private final Map<UUID, IslandRole> roles;
+    private final int[] roleMasks;
+
+    private IslandAccess(@NotNull IslandDTO island, @NotNull Map<UUID, IslandRole> roles, int[] roleMasks) {
+        this.ownerUuid = island.core().ownerUuid();
+        this.membership = island.membership();
+        this.permissions = island.configuration().permissions();
+        this.roles = roles;
+        this.roleMasks = roleMasks;
+    }
+
+    /**
+     * 섬 데이터로부터 접근 구조 생성
+     */
+    @NotNull
+    public static IslandAccess compile(@NotNull IslandDTO island) {
+        Map<UUID, IslandRole> roles = new HashMap<>();
+
+        // 우선순위가 낮은 역할부터 넣어 겹치면 높은 역할이 남도록 (섬장 > 섬원 > 알바)
+        for (IslandWorkerDTO worker : island.membership().workers()) {
+            putRole(roles, worker.uuid(), IslandRole.WORKER);
+        }
+        for (IslandMemberDTO member : island.membership().members()) {
+            putRole(roles, member.uuid(), member.isCoOwner() ? IslandRole.CO_OWNER : IslandRole.MEMBER);
+        }
+        putRole(roles, island.core().ownerUuid(), IslandRole.OWNER);
+
+        int[] roleMasks = new int[ROLES.length];
+        IslandPermissionDTO permissions = island.configuration().permissions();
+        for (IslandRole role : ROLES) {
+            roleMasks[role.ordinal()] = role == IslandRole.OWNER
+                    ? IslandPermission.ALL
+                    : IslandPermission.toMask(permissions.getPermissions(role));
+        }
+
+        return new IslandAccess(island, Map.copyOf(roles), roleMasks);
+    }
+
+    /**
+     * 이 구조가 주어진 섬 데이터의 섬장 / 멤버십 / 권한 설정으로 만들어졌는지 확인
+     */
+    public boolean isCompiledFrom(@NotNull IslandDTO island) {
+        return membership == island.membership()
+                && permissions == island.configuration().permissions()
+                && ownerUuid.equals(island.core().ownerUuid());
+    }
+
+    /**
+     * 플레이어 역할 (목록에 없으면 방문자)
+     */
+    @NotNull
+    public IslandRole getRole(@NotNull UUID playerUuid) {
+        return roles.getOrDefault(playerUuid, IslandRole.VISITOR);
+    }
+
+    /**
+     * 플레이어가 권한을 가지고 있는지 확인
+     */
+    public boolean hasPermission(@NotNull UUID playerUuid, @NotNull IslandPermission permission) {
+        return (roleMasks[getRole(playerUuid).ordinal()] & permission.getMask()) != 0;
+    }
+
+    private static void putRole(@NotNull Map<UUID, IslandRole> roles, @Nullable String uuid, @NotNull IslandRole role) {
+        UUID playerUuid = parseUuid(uuid);
+        if (playerUuid != null) {
+            roles.put(playerUuid, role);
+        }
+    }
+
+    /**
+     * UUID 문자열 변환 (잘못된 값이면 null)
+     */
+    @Nullable
+    static UUID parseUuid(@Nullable String uuid) {
+        if (uuid == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(uuid);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.febrie.rpg.island.permission;
+
+import com.febrie.rpg.dto.island.IslandPermissionDTO;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Predicate;
+
+/**
+ * 섬 권한 종류
+ * 각 권한은 역할별 권한 설정(RolePermissions)의 어느 항목으로 허용되는지와 비트 위치를 가짐
+ *
+ * @author Febrie
+ */
+public enum IslandPermission {
+    BUILD(IslandPermissionDTO.RolePermissions::canBuild),
+    USE_ITEMS(IslandPermissionDTO.RolePermissions::canInteract),
+    OPEN_CONTAINERS(IslandPermissionDTO.RolePermissions::canInteract),
+    INVITE_MEMBERS(IslandPermissionDTO.RolePermissions::canInvite),
+    KICK_MEMBERS(IslandPermissionDTO.RolePermissions::canKick),
+    MANAGE_WORKERS(IslandPermissionDTO.RolePermissions::canManageWorkers),
+    MODIFY_SPAWNS(IslandPermissionDTO.RolePermissions::canSetSpawn),
+    CHANGE_SETTINGS(IslandPermissionDTO.RolePermissions::canManagePermissions),
+    VIEW_VISITORS(IslandPermissionDTO.RolePermissions::canViewVisitors),
+    UPGRADE_ISLAND(IslandPermissionDTO.RolePermissions::canUpgrade);
+
+    /**
+     * 모든 권한 비트
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    private final Predicate<IslandPermissionDTO.RolePermissions> grantedBy;
+    private final int mask;
+
+    IslandPermission(@NotNull Predicate<IslandPermissionDTO.RolePermissions> grantedBy) {
+        this.grantedBy = grantedBy;
+        this.mask = 1 << ordinal();
+    }
+
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * 역할별 권한 설정을 권한 비트로 변환
+     */
+    public static int toMask(@NotNull IslandPermissionDTO.RolePermissions permissions) {
+        int mask = 0;
+        for (IslandPermission permission : values()) {
+            if (permission.grantedBy.test(permissions)) {
+                mask |= permission.mask;
+            }
+        }
+        return mask;
+    }
+}
@@ -1,161 +1,140 @@
 package com.febrie.rpg.island.permission;
 
 import com.febrie.rpg.dto.island.*;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 섬 권한 처리기
  * 플레이어의 역할에 따른 권한 확인
+ * 섬마다 미리 계산한 접근 구조(IslandAccess)를 사용하므로 확인 한 번은 해시 조회 두 번과 비트 검사
  *
  * @author Febrie, CoffeeTory
  */
 public class IslandPermissionHandler {
     
+    // 섬 ID -> 접근 구조 (섬장 / 멤버십 / 권한 설정이 바뀐 섬 데이터가 들어오면 다시 만듦)
+    private static final Cache<String, IslandAccess> accessCache = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterAccess(30, TimeUnit.MINUTES)
+            .build();
+    
+    /**
+     * 섬의 접근 구조 가져오기 (없거나 섬 데이터가 바뀌었으면 새로 만듦)
+     */
+    @NotNull
+    public static IslandAccess getAccess(@NotNull IslandDTO island) {
+        String islandId = island.core().islandId();
+        IslandAccess access = accessCache.getIfPresent(islandId);
+        if (access == null || !access.isCompiledFrom(island)) {
+            access = IslandAccess.compile(island);
+            accessCache.put(islandId, access);
+        }
+        return access;
+    }
+    
+    /**
+     * 섬 접근 구조 제거 (섬 삭제 시)
+     */
+    public static void invalidate(@NotNull String islandId) {
+        accessCache.invalidate(islandId);
+    }
+    
     /**
      * 플레이어가 특정 권한을 가지고 있는지 확인
      */
-    public static boolean hasPermission(@NotNull IslandDTO island, @NotNull Player player, @NotNull String permission) {
-        return hasPermission(island, player.getUniqueId().toString(), permission);
+    public static boolean hasPermission(@NotNull IslandDTO island, @NotNull Player player, @NotNull IslandPermission permission) {
+        return hasPermission(island, player.getUniqueId(), permission);
     }
     
     /**
      * 플레이어가 특정 권한을 가지고 있는지 확인
      */
-    public static boolean hasPermission(@NotNull IslandDTO island, @NotNull String playerUuid, @NotNull String permission) {
-        IslandRole role = getPlayerRole(island, playerUuid);
-        if (role == null) {
-            return false;
-        }
-        
-        // 섬장은 모든 권한 보유
-        if (role == IslandRole.OWNER) {
-            return true;
-        }
-        
-        // 권한 설정에서 역할별 권한 확인
-        IslandPermissionDTO permissions = island.configuration().permissions();
-        IslandPermissionDTO.RolePermissions rolePerms = permissions.rolePermissions().get(role.name());
-        
-        if (rolePerms == null) {
-            return false;
-        }
-        
-        // 권한 확인
-        return switch (permission) {
-            case "BUILD" -> rolePerms.canBuild();
-            case "USE_ITEMS" -> rolePerms.canInteract();
-            case "OPEN_CONTAINERS" -> rolePerms.canInteract();
-            case "INVITE_MEMBERS" -> rolePerms.canInvite();
-            case "KICK_MEMBERS" -> rolePerms.canKick();
-            case "MANAGE_WORKERS" -> rolePerms.canManageWorkers();
-            case "MODIFY_SPAWNS" -> rolePerms.canSetSpawn();
-            case "CHANGE_SETTINGS" -> rolePerms.canManagePermissions();
-            case "VIEW_VISITORS" -> rolePerms.canViewVisitors();
-            default -> false;
-        };
+    public static boolean hasPermission(@NotNull IslandDTO island, @NotNull UUID playerUuid, @NotNull IslandPermission permission) {
+        return getAccess(island).hasPermission(playerUuid, permission);
     }
     
     /**
      * 플레이어의 섬 역할 가져오기
      */
-    @Nullable
+    @NotNull
     public static IslandRole getPlayerRole(@NotNull IslandDTO island, @NotNull Player player) {
-        return getPlayerRole(island, player.getUniqueId().toString());
+        return getAccess(island).getRole(player.getUniqueId());
     }
     
     /**
      * 플레이어의 섬 역할 가져오기
      */
-    @Nullable
+    @NotNull
     public static IslandRole getPlayerRole(@NotNull IslandDTO island, @NotNull String playerUuid) {
-        // 섬장 확인
-        if (island.core().ownerUuid().equals(playerUuid)) {
-            return IslandRole.OWNER;
-        }
-        
-        // 섬원 확인
-        for (IslandMemberDTO member : island.membership().members()) {
-            if (member.uuid().equals(playerUuid)) {
-                return member.isCoOwner() ? IslandRole.CO_OWNER : IslandRole.MEMBER;
-            }
-        }
-        
-        // 알바 확인
-        for (IslandWorkerDTO worker : island.membership().workers()) {
-            if (worker.uuid().equals(playerUuid)) {
-                return IslandRole.WORKER;
-            }
-        }
-        
-        // 방문자
-        return IslandRole.VISITOR;
+        UUID uuid = IslandAccess.parseUuid(playerUuid);
+        return uuid != null ? getAccess(island).getRole(uuid) : IslandRole.VISITOR;
     }
     
     /**
      * 플레이어가 섬원인지 확인 (섬장 포함)
      */
     public static boolean isMember(@NotNull IslandDTO island, @NotNull Player player) {
-        return isMember(island, player.getUniqueId().toString());
+        return isMemberRole(getPlayerRole(island, player));
     }
     
     /**
      * 플레이어가 섬원인지 확인 (섬장 포함)
      */
     public static boolean isMember(@NotNull IslandDTO island, @NotNull String playerUuid) {
-        // 섬장 확인
-        if (island.core().ownerUuid().equals(playerUuid)) {
-            return true;
-        }
-        
-        // 섬원 확인
-        return island.membership().members().stream()
-                .anyMatch(member -> member.uuid().equals(playerUuid));
+        return isMemberRole(getPlayerRole(island, playerUuid));
     }
     
     /**
      * 플레이어가 알바인지 확인
      */
     public static boolean isWorker(@NotNull IslandDTO island, @NotNull Player player) {
-        return isWorker(island, player.getUniqueId().toString());
+        return getPlayerRole(island, player) == IslandRole.WORKER;
     }
     
     /**
      * 플레이어가 알바인지 확인
      */
     public static boolean isWorker(@NotNull IslandDTO island, @NotNull String playerUuid) {
-        return island.membership().workers().stream()
-                .anyMatch(worker -> worker.uuid().equals(playerUuid));
+        return getPlayerRole(island, playerUuid) == IslandRole.WORKER;
     }
     
     /**
      * 플레이어가 섬장인지 확인
      */
     public static boolean isOwner(@NotNull IslandDTO island, @NotNull Player player) {
-        return island.core().ownerUuid().equals(player.getUniqueId().toString());
+        return getPlayerRole(island, player) == IslandRole.OWNER;
     }
     
     /**
      * 플레이어가 부섬장인지 확인
      */
     public static boolean isCoOwner(@NotNull IslandDTO island, @NotNull Player player) {
-        return isCoOwner(island, player.getUniqueId().toString());
+        return getPlayerRole(island, player) == IslandRole.CO_OWNER;
     }
     
     /**
      * 플레이어가 부섬장인지 확인
      */
     public static boolean isCoOwner(@NotNull IslandDTO island, @NotNull String playerUuid) {
-        return island.membership().members().stream()
-                .anyMatch(member -> member.uuid().equals(playerUuid) && member.isCoOwner());
+        return getPlayerRole(island, playerUuid) == IslandRole.CO_OWNER;
     }
     
     /**
      * 플레이어가 섬장 또는 부섬장인지 확인
      */
     public static boolean isOwnerOrCoOwner(@NotNull IslandDTO island, @NotNull Player player) {
-        return isOwner(island, player) || isCoOwner(island, player);
+        IslandRole role = getPlayerRole(island, player);
+        return role == IslandRole.OWNER || role == IslandRole.CO_OWNER;
+    }
+    
+    private static boolean isMemberRole(@NotNull IslandRole role) {
+        return role == IslandRole.OWNER || role == IslandRole.CO_OWNER || role == IslandRole.MEMBER;
     }
     
     /**
@@ -357,6 +357,24 @@ public class IslandWorldManager {
         return world != null && world.getName().equals(ISLAND_WORLD_NAME);
     }
 
+    /**
+     * 좌표가 속한 섬 칸의 중심 좌표 (섬은 ISLAND_SPACING 간격 격자에 배치됨)
+     */
+    public static int toGridCenter(int coordinate) {
+        return toGridIndex(coordinate) * ISLAND_SPACING;
+    }
+
+    /**
+     * 좌표가 속한 섬 칸의 키 (칸 X 번호 상위 32비트 + 칸 Z 번호 하위 32비트)
+     */
+    public static long toCellKey(int x, int z) {
+        return ((long) toGridIndex(x) << 32) | (toGridIndex(z) & 0xFFFFFFFFL);
+    }
+
+    private static int toGridIndex(int coordinate) {
+        return Math.floorDiv(coordinate + ISLAND_SPACING / 2, ISLAND_SPACING);
+    }
+
     /**
      * 섬 삭제
      */
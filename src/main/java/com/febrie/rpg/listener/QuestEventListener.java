@@ -3,8 +3,11 @@ package com.febrie.rpg.listener;
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.quest.event.CurrencyPaymentEvent;
 import com.febrie.rpg.quest.event.PlayerLevelUpEvent;
+import com.febrie.rpg.quest.manager.QuestInterestRegistry;
+import com.febrie.rpg.quest.manager.QuestInterestRegistry.MaterialChannel;
 import com.febrie.rpg.quest.manager.QuestManager;
 import com.febrie.rpg.quest.service.QuestProgressService;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
@@ -15,13 +18,17 @@ import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.CraftItemEvent;
 import org.bukkit.event.player.PlayerFishEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.world.WorldLoadEvent;
 import org.jetbrains.annotations.NotNull;
 
 /**
  * 퀘스트 시스템을 위한 이벤트 리스너
  * 다양한 이벤트를 처리하여 퀘스트 목표 진행을 체크
  * - NPC 상호작용은 NPCInteractListener에서 처리
- * - 위치 방문은 LocationCheckTask에서 처리
+ * - 위치 방문은 블록 경계 이동 시 지역 방문 공간 인덱스로 처리
+ * - 관심 대상 레지스트리로 아무도 진행 중이지 않은 Material / EntityType 이벤트는 즉시 반환
  *
  * @author Febrie
  */
@@ -30,11 +37,13 @@ public class QuestEventListener implements Listener {
     private final RPGMain plugin;
     private final QuestManager questManager;
     private final QuestProgressService progressService;
+    private final QuestInterestRegistry interests;
 
     public QuestEventListener(@NotNull RPGMain plugin) {
         this.plugin = plugin;
         this.questManager = plugin.getQuestManager();
-        this.progressService = new QuestProgressService(plugin);
+        this.progressService = questManager.getProgressService();
+        this.interests = questManager.getObjectiveIndex().getInterests();
     }
     
     /**
@@ -42,6 +51,8 @@ public class QuestEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onEntityDeath(EntityDeathEvent event) {
+        if (!interests.isInterested(event.getEntityType())) return;
+
         Player killer = event.getEntity().getKiller();
         if (killer != null) {
             progressService.handleEntityDeath(event, killer);
@@ -53,6 +64,8 @@ public class QuestEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
+        if (!interests.isInterested(MaterialChannel.BLOCK_BREAK, event.getBlock().getType())) return;
+
         progressService.handleBlockBreak(event);
     }
     
@@ -61,6 +74,8 @@ public class QuestEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockPlace(BlockPlaceEvent event) {
+        if (!interests.isInterested(MaterialChannel.BLOCK_PLACE, event.getBlock().getType())) return;
+
         progressService.handleBlockPlace(event);
     }
     
@@ -69,6 +84,8 @@ public class QuestEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onItemPickup(EntityPickupItemEvent event) {
+        if (!interests.isInterested(MaterialChannel.ITEM_PICKUP, event.getItem().getItemStack().getType())) return;
+
         progressService.handleItemPickup(event);
     }
     
@@ -77,6 +94,8 @@ public class QuestEventListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onCraftItem(CraftItemEvent event) {
+        if (!interests.isInterested(MaterialChannel.CRAFT_ITEM, event.getRecipe().getResult().getType())) return;
+
         progressService.handleCraftItem(event);
     }
     
@@ -90,6 +109,43 @@ public class QuestEventListener implements Listener {
         }
     }
     
+    /**
+     * 플레이어 이동 이벤트 - VisitLocation
+     * 블록 경계를 넘은 경우에만 처리
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerMove(PlayerMoveEvent event) {
+        handleMovement(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+    
+    /**
+     * 플레이어 텔레포트 이벤트 - VisitLocation
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        handleMovement(event.getPlayer(), event.getFrom(), event.getTo());
+    }
+    
+    /**
+     * 월드 로드 이벤트 - 해당 월드의 WorldGuard 영역 반영을 위해 방문 인덱스 재구성
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        questManager.rebuildVisitTargetIndex();
+    }
+    
+    /**
+     * 블록 경계 이동 처리
+     */
+    private void handleMovement(@NotNull Player player, @NotNull Location from, @NotNull Location to) {
+        if (from.getBlockX() == to.getBlockX() && from.getBlockY() == to.getBlockY()
+                && from.getBlockZ() == to.getBlockZ() && from.getWorld() == to.getWorld()) {
+            return;
+        }
+        
+        progressService.handleLocationCheck(player, to);
+    }
+    
     /**
      * 화폐 지불 이벤트 - PayCurrency (커스텀 이벤트)
      */
@@ -0,0 +1,37 @@
+package com.febrie.rpg.player;
+
+/**
+ * RPGPlayer의 변경 추적 단위
+ * 변경된 항목을 비트마스크로 기록하여 주기 저장 시 바뀐 필드만 기록
+ * (재화는 Wallet에서 통화별로 따로 추적)
+ *
+ * @author Febrie
+ */
+public enum PlayerDataField {
+    JOB,
+    EXPERIENCE,
+    STAT_POINTS,
+    STATS,
+    TALENTS,
+    PLAYTIME,
+    MOBS_KILLED,
+    PLAYERS_KILLED,
+    DEATHS,
+    ISLAND;
+
+    private final long bit = 1L << ordinal();
+
+    /**
+     * 비트마스크 값
+     */
+    public long bit() {
+        return bit;
+    }
+
+    /**
+     * 마스크에 포함되어 있는지 확인
+     */
+    public boolean isSet(long mask) {
+        return (mask & bit) != 0;
+    }
+}
@@ -0,0 +1,255 @@
+package com.febrie.rpg.player;
+
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.FirestoreIoExecutor;
+import com.febrie.rpg.database.cache.LocalDocumentStore;
+import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
+import com.febrie.rpg.database.service.impl.PlayerIslandDataService;
+import com.febrie.rpg.database.service.impl.QuestFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
+import com.febrie.rpg.database.storage.FirestoreDocumentStorage;
+import com.febrie.rpg.database.storage.StoredDocument;
+import com.febrie.rpg.dto.island.PlayerIslandDataDTO;
+import com.febrie.rpg.dto.player.PlayerDataDTO;
+import com.febrie.rpg.dto.quest.PlayerQuestDTO;
+import com.febrie.rpg.economy.CurrencyLedger;
+import com.febrie.rpg.social.FriendManager;
+import com.febrie.rpg.social.MailManager;
+import com.febrie.rpg.util.LogUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.cloud.firestore.DocumentReference;
+import com.google.cloud.firestore.DocumentSnapshot;
+import com.google.cloud.firestore.Firestore;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 접속 전 플레이어 데이터 미리 불러오기
+ * AsyncPlayerPreLoginEvent에서 Player / PlayerQuest / PlayerIslandData 문서를 getAll 한 번으로 함께 읽고,
+ * 우편 / 친구 목록 조회도 동시에 시작하여 접속 처리 시 저장소 왕복 없이 플레이어를 구성할 수 있게 함
+ * - 로컬 문서 캐시({@link LocalDocumentStore})가 있으면 수정 시각만 확인하고 바뀐 문서만 전체 조회
+ * - 내장 저장소 백엔드에서는 세 문서를 저장소에서 각각 읽음
+ * - 직전 접속의 재화 정산이 커밋 중이면 끝난 뒤에 문서를 읽음
+ * - 조회는 {@link PlayerLoadScheduler}를 거쳐 동시 조회 수가 제한되고 우선순위 순서로 시작됨
+ * - 결과는 접속 처리에서 {@link #take}로 한 번만 가져감
+ * - 접속하지 않은 플레이어의 결과는 일정 시간 후 만료
+ *
+ * @author Febrie
+ */
+public final class PlayerDataPrefetcher {
+
+    /**
+     * 접속 전에 읽어 둔 플레이어 데이터 (문서가 없는 항목은 null)
+     * 문서를 읽었지만 파싱하지 못하면 빈 데이터로 바뀌어 저장 시 기존 데이터를 덮어쓰지 않도록 로드 자체가 실패함
+     */
+    public record PrefetchedPlayerData(
+            @NotNull UUID playerId,
+            @Nullable PlayerDataDTO player,
+            @Nullable PlayerQuestDTO quests,
+            @Nullable PlayerIslandDataDTO island
+    ) {
+    }
+
+    /**
+     * 저장된 문서를 파싱하지 못함 (다시 읽어도 같으므로 재시도하지 않음)
+     */
+    static final class CorruptDocumentException extends IllegalStateException {
+        CorruptDocumentException(@NotNull String path, @NotNull Throwable cause) {
+            super("Failed to parse prefetched document " + path + ": " + cause.getMessage(), cause);
+        }
+    }
+
+    // 미리 불러온 결과 보관 시간 (접속하지 않은 경우 만료, 대기열에서 기다리는 시간 포함)
+    private static final long RESULT_EXPIRE_SECONDS = 300;
+    // I/O 통계 채널 이름
+    private static final String IO_CHANNEL = "PlayerPrefetch";
+
+    private final DocumentStorage storage;
+    // 한 번에 여러 문서 조회 / 로컬 문서 캐시용 (Firestore 백엔드일 때만)
+    @Nullable
+    private final Firestore firestore;
+    @Nullable
+    private final FirestoreIoExecutor.Channel ioChannel;
+    private final PlayerLoadScheduler scheduler;
+    private final Cache<UUID, CompletableFuture<PrefetchedPlayerData>> results = Caffeine.newBuilder()
+            .expireAfterWrite(RESULT_EXPIRE_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    public PlayerDataPrefetcher(@NotNull RPGMain plugin, @NotNull DocumentStorage storage,
+                                int maxConcurrentLoads, int maxLoadAttempts, long retryDelayTicks) {
+        this.storage = storage;
+        if (storage instanceof FirestoreDocumentStorage firestoreStorage) {
+            this.firestore = firestoreStorage.getFirestore();
+            this.ioChannel = firestoreStorage.getIoExecutor().channel(IO_CHANNEL);
+        } else {
+            this.firestore = null;
+            this.ioChannel = null;
+        }
+        this.scheduler = new PlayerLoadScheduler(plugin, this::fetch, maxConcurrentLoads, maxLoadAttempts, retryDelayTicks);
+    }
+
+    /**
+     * 미리 불러오기 요청 (이미 요청되어 있으면 기존 작업 반환)
+     */
+    @NotNull
+    public CompletableFuture<PrefetchedPlayerData> prefetch(@NotNull UUID playerId,
+                                                            @NotNull PlayerLoadScheduler.LoadPriority priority) {
+        return results.get(playerId, id -> scheduler.submit(id, priority));
+    }
+
+    /**
+     * 로드 대기 순번 (1부터, 대기 중이 아니면 0)
+     */
+    public int getQueuePosition(@NotNull UUID playerId) {
+        return scheduler.getQueuePosition(playerId);
+    }
+
+    /**
+     * 로드 대기열 통계
+     */
+    @NotNull
+    public PlayerLoadScheduler.LoadQueueStats getLoadStats() {
+        return scheduler.getStats();
+    }
+
+    /**
+     * 미리 불러온 결과 가져오기 (가져간 뒤에는 제거됨)
+     *
+     * @return 미리 불러오기를 하지 않았거나 만료되었으면 null
+     */
+    @Nullable
+    public CompletableFuture<PrefetchedPlayerData> take(@NotNull UUID playerId) {
+        return results.asMap().remove(playerId);
+    }
+
+    /**
+     * 미리 불러온 결과를 가져오고, 없으면 바로 로드 요청 (결과는 보관하지 않음)
+     */
+    @NotNull
+    public CompletableFuture<PrefetchedPlayerData> takeOrLoad(@NotNull UUID playerId,
+                                                              @NotNull PlayerLoadScheduler.LoadPriority priority) {
+        CompletableFuture<PrefetchedPlayerData> prefetched = take(playerId);
+        return prefetched != null ? prefetched : scheduler.submit(playerId, priority);
+    }
+
+    /**
+     * 미리 불러온 결과 버리기 (로그인이 거부된 경우)
+     */
+    public void discard(@NotNull UUID playerId) {
+        results.invalidate(playerId);
+    }
+
+    private CompletableFuture<PrefetchedPlayerData> fetch(@NotNull UUID playerId) {
+        String id = playerId.toString();
+
+        // 우편 / 친구 목록은 쿼리이므로 각 매니저 캐시에 따로 적재 (문서 조회와 동시에 진행)
+        MailManager mailManager = MailManager.getInstance();
+        if (mailManager != null) {
+            mailManager.prefetch(playerId);
+        }
+        FriendManager friendManager = FriendManager.getInstance();
+        if (friendManager != null) {
+            friendManager.prefetch(playerId);
+        }
+
+        List<String> collections = List.of(
+                PlayerFirestoreService.COLLECTION_NAME,
+                QuestFirestoreService.COLLECTION_NAME,
+                PlayerIslandDataService.COLLECTION_NAME
+        );
+
+        // 직전 접속의 재화 정산이 커밋 중이면 끝난 뒤에 읽음 (커밋 전 문서를 읽으면 지갑 보정에서 증감량이 빠짐)
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        CompletableFuture<Void> settled = ledger != null ? ledger.awaitSettled(playerId) : CompletableFuture.completedFuture(null);
+
+        CompletableFuture<List<Map<String, Object>>> documents;
+        if (firestore != null && ioChannel != null) {
+            List<DocumentReference> references = new ArrayList<>(collections.size());
+            for (String collection : collections) {
+                references.add(firestore.collection(collection).document(id));
+            }
+            // 로컬 문서 캐시가 있으면 수정 시각만 확인하고 바뀐 문서만 받음 (디스크를 읽으므로 정산 스레드가 아닌 I/O 채널에서)
+            LocalDocumentStore store = LocalDocumentStore.getInstance();
+            documents = settled.thenComposeAsync(ignored -> store != null
+                    ? store.getAll(firestore, references)
+                    : getAll(firestore, ioChannel, references), ioChannel);
+        } else {
+            documents = settled.thenCompose(ignored -> getEach(collections, id));
+        }
+
+        // 로그인 스레드에서 기다리므로 메인 스레드를 거치지 않고 바로 완료
+        return documents.handle((data, e) -> {
+            if (e != null) {
+                LogUtil.warning("플레이어 데이터 미리 불러오기 실패 [" + playerId + "]: " + e.getMessage());
+                throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+            }
+            return new PrefetchedPlayerData(
+                    playerId,
+                    parse(collections.get(0) + "/" + id, data.get(0), PlayerDataDTO::fromMap),
+                    parse(collections.get(1) + "/" + id, data.get(1), PlayerQuestDTO::fromMap),
+                    parse(collections.get(2) + "/" + id, data.get(2), PlayerIslandDataDTO::fromMap)
+            );
+        });
+    }
+
+    /**
+     * 문서 여러 개를 한 번에 조회 (없는 문서는 null)
+     */
+    @NotNull
+    private static CompletableFuture<List<Map<String, Object>>> getAll(@NotNull Firestore firestore,
+                                                                       @NotNull FirestoreIoExecutor.Channel ioChannel,
+                                                                       @NotNull List<DocumentReference> references) {
+        return ioChannel.bridge(firestore.getAll(references.toArray(new DocumentReference[0]))).thenApply(snapshots -> {
+            List<Map<String, Object>> data = new ArrayList<>(snapshots.size());
+            for (DocumentSnapshot snapshot : snapshots) {
+                data.add(snapshot.exists() ? snapshot.getData() : null);
+            }
+            return data;
+        });
+    }
+
+    /**
+     * 컬렉션마다 같은 ID의 문서를 동시에 조회 (없는 문서는 null)
+     */
+    @NotNull
+    private CompletableFuture<List<Map<String, Object>>> getEach(@NotNull List<String> collections, @NotNull String id) {
+        List<CompletableFuture<StoredDocument>> reads = new ArrayList<>(collections.size());
+        for (String collection : collections) {
+            reads.add(storage.get(collection, id));
+        }
+        return CompletableFuture.allOf(reads.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<Map<String, Object>> data = new ArrayList<>(reads.size());
+            for (CompletableFuture<StoredDocument> read : reads) {
+                StoredDocument document = read.join();
+                data.add(document != null ? document.data() : null);
+            }
+            return data;
+        });
+    }
+
+    /**
+     * 문서 파싱 (문서가 없으면 null, 파싱에 실패하면 {@link CorruptDocumentException})
+     */
+    @Nullable
+    private static <T> T parse(@NotNull String path, @Nullable Map<String, Object> data,
+                               @NotNull Function<Map<String, Object>, T> parser) {
+        if (data == null) return null;
+
+        try {
+            return parser.apply(data);
+        } catch (Exception e) {
+            LogUtil.warning("미리 불러온 문서 파싱 실패 [" + path + "]: " + e.getMessage());
+            throw new CorruptDocumentException(path, e);
+        }
+    }
+}
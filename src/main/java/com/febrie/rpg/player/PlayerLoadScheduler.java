@@ -0,0 +1,266 @@
+package com.febrie.rpg.player;
+
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.player.PlayerDataPrefetcher.PrefetchedPlayerData;
+import com.febrie.rpg.util.LogUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 플레이어 데이터 로드 스케줄러
+ * 재시작 직후 접속이 몰려도 Firestore 동시 조회 수를 제한하고, 대기 중인 로드는 우선순위 순서로 처리
+ * - 우선순위: 기존 플레이어 → 관리자 → 신규 플레이어 (같은 우선순위는 요청 순서)
+ * - 실패한 로드는 지수적으로 늘어나는 지연 후 같은 우선순위로 다시 대기열에 넣어 정해진 횟수만큼 재시도
+ *   (저장소 장애 시 실패한 로드가 곧바로 다시 시작되어 다른 접속의 자리를 빼앗지 않도록, 문서 파싱 실패는 재시도하지 않음)
+ * - 대기 순번과 대기 시간 통계 제공
+ *
+ * @author Febrie
+ */
+public final class PlayerLoadScheduler {
+
+    /**
+     * 로드 우선순위 (선언 순서가 높은 우선순위)
+     */
+    public enum LoadPriority {
+        RETURNING,
+        STAFF,
+        NEW
+    }
+
+    /**
+     * 대기열 통계
+     *
+     * @param queued        대기 중인 로드 수
+     * @param inFlight      진행 중인 로드 수
+     * @param completed     완료된 로드 수
+     * @param failed        재시도 후에도 실패한 로드 수
+     * @param averageWaitMs 평균 대기 시간 (밀리초)
+     * @param maxWaitMs     최대 대기 시간 (밀리초)
+     */
+    public record LoadQueueStats(int queued, int inFlight, long completed, long failed,
+                                 long averageWaitMs, long maxWaitMs) {
+    }
+
+    /**
+     * 대기 중인 로드 요청
+     */
+    private static final class LoadRequest implements Comparable<LoadRequest> {
+        private final UUID playerId;
+        private final LoadPriority priority;
+        private final long sequence;
+        private final long enqueuedAt = System.currentTimeMillis();
+        private final CompletableFuture<PrefetchedPlayerData> result = new CompletableFuture<>();
+        private int attempts;
+
+        private LoadRequest(@NotNull UUID playerId, @NotNull LoadPriority priority, long sequence) {
+            this.playerId = playerId;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(@NotNull LoadRequest other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    // 한 번에 이만큼 이상 몰렸다가 대기열이 비면 통계 출력
+    private static final int BURST_REPORT_THRESHOLD = 20;
+    // 재시도 지연 상한 (틱)
+    private static final long MAX_RETRY_DELAY_TICKS = 20L * 30;
+
+    private final RPGMain plugin;
+    private final Function<UUID, CompletableFuture<PrefetchedPlayerData>> loader;
+    private final int maxConcurrent;
+    private final int maxAttempts;
+    private final long retryDelayTicks;
+
+    // 아래 상태는 모두 this로 동기화
+    private final PriorityQueue<LoadRequest> queue = new PriorityQueue<>();
+    private int inFlight;
+    // 재시도 지연 중인 로드 수
+    private int delayed;
+    private long sequence;
+    private long completed;
+    private long failed;
+    private long totalWaitMs;
+    private long maxWaitMs;
+    private long started;
+    private long startedSinceReport;
+
+    /**
+     * @param retryDelayTicks 첫 재시도 지연 (틱, 이후 시도마다 두 배)
+     */
+    public PlayerLoadScheduler(@NotNull RPGMain plugin,
+                               @NotNull Function<UUID, CompletableFuture<PrefetchedPlayerData>> loader,
+                               int maxConcurrent, int maxAttempts, long retryDelayTicks) {
+        this.plugin = plugin;
+        this.loader = loader;
+        this.maxConcurrent = Math.max(1, maxConcurrent);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelayTicks = Math.max(1L, retryDelayTicks);
+    }
+
+    /**
+     * 로드 요청 (동시 조회 수 여유가 있으면 바로 시작)
+     */
+    @NotNull
+    public CompletableFuture<PrefetchedPlayerData> submit(@NotNull UUID playerId, @NotNull LoadPriority priority) {
+        LoadRequest request;
+        synchronized (this) {
+            request = new LoadRequest(playerId, priority, sequence++);
+            queue.add(request);
+        }
+        dispatch();
+        return request.result;
+    }
+
+    /**
+     * 대기 순번 (1부터, 대기 중이 아니면 0)
+     */
+    public synchronized int getQueuePosition(@NotNull UUID playerId) {
+        LoadRequest target = null;
+        for (LoadRequest request : queue) {
+            if (request.playerId.equals(playerId)) {
+                target = request;
+                break;
+            }
+        }
+        if (target == null) return 0;
+
+        int position = 1;
+        for (LoadRequest request : queue) {
+            if (request.compareTo(target) < 0) {
+                position++;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * 대기열 통계
+     */
+    @NotNull
+    public synchronized LoadQueueStats getStats() {
+        long averageWaitMs = started > 0 ? totalWaitMs / started : 0L;
+        return new LoadQueueStats(queue.size(), inFlight, completed, failed, averageWaitMs, maxWaitMs);
+    }
+
+    /**
+     * 여유가 있는 만큼 대기열에서 꺼내 시작
+     */
+    private void dispatch() {
+        while (true) {
+            LoadRequest request;
+            synchronized (this) {
+                if (inFlight >= maxConcurrent || queue.isEmpty()) return;
+                request = queue.poll();
+                inFlight++;
+                if (request.attempts == 0) {
+                    long waitMs = System.currentTimeMillis() - request.enqueuedAt;
+                    started++;
+                    startedSinceReport++;
+                    totalWaitMs += waitMs;
+                    maxWaitMs = Math.max(maxWaitMs, waitMs);
+                }
+            }
+            start(request);
+        }
+    }
+
+    private void start(@NotNull LoadRequest request) {
+        request.attempts++;
+        CompletableFuture<PrefetchedPlayerData> future;
+        try {
+            future = loader.apply(request.playerId);
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        future.whenComplete((data, ex) -> {
+            boolean retry = false;
+            LoadQueueStats burst = null;
+            synchronized (this) {
+                inFlight--;
+                if (ex == null) {
+                    completed++;
+                } else if (request.attempts < maxAttempts && isRetryable(ex)) {
+                    delayed++;
+                    retry = true;
+                } else {
+                    failed++;
+                }
+                if (inFlight == 0 && delayed == 0 && queue.isEmpty() && startedSinceReport >= BURST_REPORT_THRESHOLD) {
+                    startedSinceReport = 0;
+                    burst = getStats();
+                }
+            }
+            if (burst != null) {
+                LogUtil.info("플레이어 로드 대기열 처리 완료 (완료: " + burst.completed() + ", 실패: " + burst.failed()
+                        + ", 평균 대기: " + burst.averageWaitMs() + "ms, 최대 대기: " + burst.maxWaitMs() + "ms)");
+            }
+
+            if (ex == null) {
+                request.result.complete(data);
+            } else if (retry) {
+                long delayTicks = getRetryDelayTicks(request.attempts);
+                LogUtil.warning("플레이어 데이터 로드 재시도 (" + request.attempts + "/" + maxAttempts + ", "
+                        + delayTicks + "틱 후) [" + request.playerId + "]");
+                scheduleRetry(request, delayTicks, ex);
+            } else {
+                request.result.completeExceptionally(ex);
+            }
+            dispatch();
+        });
+    }
+
+    /**
+     * 재시도 지연 (첫 재시도는 설정값, 이후 시도마다 두 배, 상한 있음)
+     *
+     * @param attempts 지금까지 시도한 횟수 (1 이상)
+     */
+    private long getRetryDelayTicks(int attempts) {
+        int shift = Math.min(attempts - 1, 16);
+        return Math.min(retryDelayTicks << shift, MAX_RETRY_DELAY_TICKS);
+    }
+
+    /**
+     * 지연 후 대기열에 다시 넣기 (플러그인이 비활성화되어 예약할 수 없으면 실패로 완료)
+     */
+    private void scheduleRetry(@NotNull LoadRequest request, long delayTicks, @NotNull Throwable failure) {
+        try {
+            Bukkit.getScheduler().runTaskLater(plugin, () -> {
+                synchronized (this) {
+                    delayed--;
+                    queue.add(request);
+                }
+                dispatch();
+            }, delayTicks);
+        } catch (IllegalPluginAccessException e) {
+            synchronized (this) {
+                delayed--;
+                failed++;
+            }
+            request.result.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * 다시 읽으면 성공할 수 있는 실패인지 확인 (손상된 문서는 다시 읽어도 같음)
+     */
+    private static boolean isRetryable(@NotNull Throwable failure) {
+        for (Throwable current = failure; current != null; current = current.getCause()) {
+            if (current instanceof PlayerDataPrefetcher.CorruptDocumentException) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
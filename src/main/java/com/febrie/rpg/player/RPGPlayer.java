@@ -1,5 +1,8 @@
 package com.febrie.rpg.player;
 
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
+import com.febrie.rpg.economy.CurrencyLedger;
 import com.febrie.rpg.economy.Wallet;
 import com.febrie.rpg.job.JobType;
 import com.febrie.rpg.level.LevelSystem;
@@ -19,6 +22,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 플레이어의 RPG 데이터를 관리하는 클래스
@@ -37,7 +41,7 @@ public class RPGPlayer {
     private int statPoints = 0;
     private final Stat.StatHolder stats = new Stat.StatHolder();
     private final Talent.TalentHolder talents = new Talent.TalentHolder();
-    private final Wallet wallet = new Wallet();
+    private final Wallet wallet;
 
     // 추가 데이터
     private long totalPlaytime = 0;
@@ -50,7 +54,8 @@ public class RPGPlayer {
 
     // 세션 정보
     private long sessionStartTime = System.currentTimeMillis();
-    private boolean dataModified = false;
+    // 마지막 저장 이후 변경된 항목 (PlayerDataField 비트마스크)
+    private final AtomicLong dirtyFields = new AtomicLong();
     
     // 플레이어 설정
     private PlayerSettings playerSettings;
@@ -66,6 +71,7 @@ public class RPGPlayer {
     public RPGPlayer(@NotNull Player player) {
         this.playerId = player.getUniqueId();
         this.bukkitPlayer = player;
+        this.wallet = new Wallet(playerId);
         // PDC 로드 제거 - 데이터는 RPGPlayerManager가 Firebase에서 로드하여 설정
         
         // PlayerSettings 초기화 (NamespacedKey는 RPGMain에서 생성)
@@ -85,7 +91,7 @@ public class RPGPlayer {
         }
 
         this.job = job;
-        markModified();
+        markModified(PlayerDataField.JOB);
         return true;
     }
 
@@ -112,7 +118,7 @@ public class RPGPlayer {
             onLevelUp(oldLevel, newLevel);
         }
 
-        markModified();
+        markModified(PlayerDataField.EXPERIENCE);
     }
 
     /**
@@ -129,7 +135,9 @@ public class RPGPlayer {
         long newTens = newLevel / 10;
         if (newTens > oldTens) {
             talents.addPoints((int) (newTens - oldTens));
+            markModified(PlayerDataField.TALENTS);
         }
+        markModified(PlayerDataField.STAT_POINTS);
 
         // 레벨업 메시지
         bukkitPlayer.sendMessage(Component.translatable("level-up", 
@@ -148,7 +156,8 @@ public class RPGPlayer {
         if (stats.increaseStat(stat, amount)) {
             statPoints -= amount;
             updatePlayerAttributes();
-            markModified();
+            markModified(PlayerDataField.STATS);
+            markModified(PlayerDataField.STAT_POINTS);
             return true;
         }
 
@@ -180,39 +189,72 @@ public class RPGPlayer {
     /**
      * 데이터 수정 표시
      */
-    private void markModified() {
-        dataModified = true;
+    private void markModified(@NotNull PlayerDataField field) {
+        long bit = field.bit();
+        dirtyFields.getAndUpdate(mask -> mask | bit);
     }
 
     /**
-     * 데이터 수정 여부 확인 및 리셋
+     * 마지막 저장 이후 변경된 데이터가 있는지 확인 (변경 표시는 유지)
      */
-    public boolean isDataModified() {
-        boolean modified = dataModified;
-        dataModified = false;
-        return modified;
+    public boolean hasDirtyData() {
+        return dirtyFields.get() != 0;
+    }
+
+    /**
+     * 마지막 저장 이후 변경된 필드만 담은 부분 문서를 만들고 변경 표시 초기화
+     * 병합 저장(SetOptions.merge())용 중첩 맵이며, Player 문서에 저장되지 않는 항목
+     * (스탯, 특성, 처치/사망 수, 섬)과 재화(CurrencyLedger가 정산)는 포함하지 않음
+     *
+     * @return 부분 문서 (변경된 필드가 없으면 빈 맵)
+     */
+    @NotNull
+    public Map<String, Object> drainDirtyData() {
+        long mask = dirtyFields.getAndSet(0);
+        Map<String, Object> data = new HashMap<>();
+
+        Map<String, Object> profile = new HashMap<>();
+        if (PlayerDataField.JOB.isSet(mask) || PlayerDataField.EXPERIENCE.isSet(mask)) {
+            profile.put("level", getLevel());
+            profile.put("exp", experience);
+            profile.put("totalExp", experience);
+        }
+        if (PlayerDataField.PLAYTIME.isSet(mask)) {
+            profile.put("lastPlayed", System.currentTimeMillis());
+        }
+        if (!profile.isEmpty()) {
+            data.put("profile", profile);
+        }
+        return data;
+    }
+
+    /**
+     * 변경 표시 초기화 (저장된 데이터를 불러온 직후 호출)
+     */
+    public void clearDirtyData() {
+        dirtyFields.set(0);
     }
 
     // 킬/데스 통계 메서드
     public void incrementMobKills() {
         mobsKilled++;
-        markModified();
+        markModified(PlayerDataField.MOBS_KILLED);
     }
 
     public void incrementPlayerKills() {
         playersKilled++;
-        markModified();
+        markModified(PlayerDataField.PLAYERS_KILLED);
     }
 
     public void incrementDeaths() {
         deaths++;
-        markModified();
+        markModified(PlayerDataField.DEATHS);
     }
 
     // 플레이타임 업데이트
     public void updatePlaytime(long additionalTime) {
         totalPlaytime += additionalTime;
-        markModified();
+        markModified(PlayerDataField.PLAYTIME);
     }
 
     /**
@@ -255,7 +297,7 @@ public class RPGPlayer {
         
         this.experience = experience;
         updateCachedLevelInfo();
-        markModified();
+        markModified(PlayerDataField.EXPERIENCE);
     }
 
     public int getLevel() {
@@ -298,7 +340,7 @@ public class RPGPlayer {
 
     public void setStatPoints(int statPoints) {
         this.statPoints = statPoints;
-        markModified();
+        markModified(PlayerDataField.STAT_POINTS);
     }
 
     @NotNull
@@ -346,7 +388,7 @@ public class RPGPlayer {
 
     public void setTotalPlaytime(long totalPlaytime) {
         this.totalPlaytime = totalPlaytime;
-        markModified();
+        markModified(PlayerDataField.PLAYTIME);
     }
 
     public int getMobsKilled() {
@@ -355,7 +397,7 @@ public class RPGPlayer {
 
     public void setMobsKilled(int mobsKilled) {
         this.mobsKilled = mobsKilled;
-        markModified();
+        markModified(PlayerDataField.MOBS_KILLED);
     }
 
     public int getPlayersKilled() {
@@ -364,7 +406,7 @@ public class RPGPlayer {
 
     public void setPlayersKilled(int playersKilled) {
         this.playersKilled = playersKilled;
-        markModified();
+        markModified(PlayerDataField.PLAYERS_KILLED);
     }
 
     public int getDeaths() {
@@ -373,7 +415,7 @@ public class RPGPlayer {
 
     public void setDeaths(int deaths) {
         this.deaths = deaths;
-        markModified();
+        markModified(PlayerDataField.DEATHS);
     }
 
     /**
@@ -417,7 +459,7 @@ public class RPGPlayer {
      */
     public void setIslandId(@Nullable String islandId) {
         this.islandId = islandId;
-        markModified();
+        markModified(PlayerDataField.ISLAND);
     }
     
     /**
@@ -466,29 +508,55 @@ public class RPGPlayer {
     
     /**
      * 중요 데이터 즉시 저장 (재화 변경 등)
+     * SyncManager가 없는 저장소(내장 저장소)는 재화 원장 정산 후 프로필을 저장소에 직접 병합 저장
+     * 저장할 곳이 없으면 예외로 완료 (저장되지 않았음을 호출자가 알 수 있도록)
      */
     @NotNull
     public CompletableFuture<Void> saveImmediate() {
-        if (syncManager == null) {
-            LogUtil.warning("SyncManager가 설정되지 않음: " + playerId);
-            return CompletableFuture.completedFuture(null);
+        if (syncManager != null) {
+            return syncManager.saveOnLogout(this);
+        }
+        
+        PlayerFirestoreService playerService = getPlayerService();
+        if (playerService == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("No storage to save player " + playerId));
         }
         
-        return syncManager.saveOnLogout(this);
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        CompletableFuture<Boolean> settled = ledger != null
+                ? ledger.settle(playerId)
+                : CompletableFuture.completedFuture(true);
+        PlayerProfileDTO profile = toDTO().profile();
+        return settled.thenCompose(ignored -> playerService.saveProfileOrFail(playerId, profile));
     }
     
     /**
      * 닉네임 변경 (즉시 저장)
+     * SyncManager가 없는 저장소(내장 저장소)는 저장소에 직접 병합 저장
      */
     @NotNull
     public CompletableFuture<Void> changeNickname(@NotNull String newNickname) {
-        if (syncManager == null) {
-            LogUtil.warning("SyncManager가 설정되지 않음: " + playerId);
-            return CompletableFuture.completedFuture(null);
+        CompletableFuture<Void> saved;
+        if (syncManager != null) {
+            saved = syncManager.updateNickname(this, newNickname);
+        } else {
+            PlayerFirestoreService playerService = getPlayerService();
+            if (playerService == null) {
+                return CompletableFuture.failedFuture(new IllegalStateException("No storage to save nickname of player " + playerId));
+            }
+            Map<String, Object> profile = new HashMap<>();
+            profile.put("name", newNickname);
+            profile.put("lastUpdate", System.currentTimeMillis());
+            saved = playerService.mergeProfileFieldsOrFail(playerId, profile);
         }
         
-        return syncManager.updateNickname(this, newNickname)
-            .thenRun(() -> LogUtil.info("닉네임 변경 완료: " + playerId + " -> " + newNickname));
+        return saved.thenRun(() -> LogUtil.info("닉네임 변경 완료: " + playerId + " -> " + newNickname));
+    }
+    
+    @Nullable
+    private static PlayerFirestoreService getPlayerService() {
+        RPGMain plugin = RPGMain.getInstance();
+        return plugin != null ? plugin.getPlayerFirestoreService() : null;
     }
     
     /**
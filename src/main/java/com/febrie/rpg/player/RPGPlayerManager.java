@@ -1,10 +1,11 @@
 package com.febrie.rpg.player;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.helper.ShutdownFlusher;
 import com.febrie.rpg.database.service.impl.PlayerFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
 import com.febrie.rpg.database.sync.DataSyncManager;
 import com.febrie.rpg.database.task.BatchSaveTask;
-import com.febrie.rpg.dto.island.PlayerIslandDataDTO;
 import com.febrie.rpg.dto.player.PlayerDataDTO;
 import com.febrie.rpg.dto.player.PlayerDTO;
 import com.febrie.rpg.dto.player.PlayerProfileDTO;
@@ -12,22 +13,32 @@ import com.febrie.rpg.dto.player.ProgressDTO;
 import com.febrie.rpg.dto.player.StatsDTO;
 import com.febrie.rpg.dto.player.TalentDTO;
 import com.febrie.rpg.dto.player.WalletDTO;
+import com.febrie.rpg.economy.CurrencyLedger;
 import com.febrie.rpg.job.JobType;
 import com.febrie.rpg.level.LevelSystem;
+import com.febrie.rpg.quest.manager.QuestManager;
 import com.febrie.rpg.util.LogUtil;
+import com.febrie.rpg.util.UnifiedColorUtil;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerKickEvent;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.TimeUnit;
 
@@ -44,12 +55,23 @@ public class RPGPlayerManager implements Listener {
     private final PlayerFirestoreService playerService;
     private final DataSyncManager syncManager;
     private final BatchSaveTask batchSaveTask;
+    @Nullable
+    private final PlayerDataPrefetcher prefetcher;
     private final Map<UUID, RPGPlayer> players = new ConcurrentHashMap<>();
 
     // 저장 쿨다운 관리 - AtomicLong으로 thread-safe 보장
     private final Map<UUID, AtomicLong> lastSaveTime = new ConcurrentHashMap<>();
     private static final long SAVE_COOLDOWN = 30000; // 30초
 
+    // 접속 로드 기본값 (config.yml data.login)
+    private static final int DEFAULT_MAX_CONCURRENT_LOADS = 16;
+    private static final int DEFAULT_MAX_LOAD_ATTEMPTS = 3;
+    private static final long DEFAULT_LOAD_RETRY_DELAY_TICKS = 10;
+    private static final long DEFAULT_PRE_LOGIN_WAIT_SECONDS = 5;
+    // 로드 대기 순번 안내 간격 (틱)
+    private static final long LOAD_FEEDBACK_INTERVAL_TICKS = 20L;
+    private final long preLoginWaitSeconds;
+
     private RPGPlayerManager(@NotNull RPGMain plugin, @Nullable PlayerFirestoreService playerService) {
         this.plugin = plugin;
         this.playerService = playerService;
@@ -63,6 +85,15 @@ public class RPGPlayerManager implements Listener {
             this.syncManager = null;
             this.batchSaveTask = null;
         }
+        DocumentStorage storage = plugin.getFirestoreManager().getStorage();
+        this.prefetcher = storage != null && playerService != null
+                ? new PlayerDataPrefetcher(plugin, storage,
+                        plugin.getConfig().getInt("data.login.max-concurrent-loads", DEFAULT_MAX_CONCURRENT_LOADS),
+                        plugin.getConfig().getInt("data.login.max-load-attempts", DEFAULT_MAX_LOAD_ATTEMPTS),
+                        plugin.getConfig().getLong("data.login.retry-delay-ticks", DEFAULT_LOAD_RETRY_DELAY_TICKS))
+                : null;
+        this.preLoginWaitSeconds = Math.max(0L, plugin.getConfig().getLong("data.login.pre-login-wait-seconds",
+                DEFAULT_PRE_LOGIN_WAIT_SECONDS));
         
         if (playerService == null) {
         }
@@ -99,28 +130,64 @@ public class RPGPlayerManager implements Listener {
                 .sum();
     }
 
+    /**
+     * 로그인 전 데이터 미리 불러오기 (로그인 스레드)
+     * 접속 처리가 Firestore 왕복 없이 진행되도록 문서를 한 번에 읽어 두며,
+     * 읽는 동안 로그인 스레드를 잡아 두어 접속 시점에는 대부분 이미 완료되어 있음
+     * (접속이 몰리면 로드 대기열에서 기존 플레이어 → 관리자 → 신규 플레이어 순서로 처리)
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(@NotNull AsyncPlayerPreLoginEvent event) {
+        if (prefetcher == null) return;
+
+        UUID uuid = event.getUniqueId();
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            prefetcher.discard(uuid);
+            return;
+        }
+
+        try {
+            prefetcher.prefetch(uuid, getLoadPriority(uuid)).get(preLoginWaitSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 시간 초과 시에도 결과는 남아 있어 접속 처리에서 이어서 기다림
+            LogUtil.debug("로그인 전 데이터 미리 불러오기 대기 종료: " + event.getName() + " - " + e.getMessage());
+        }
+    }
+
+    /**
+     * 로드 우선순위 결정 (로그인 스레드에서 호출 가능)
+     */
+    @NotNull
+    private static PlayerLoadScheduler.LoadPriority getLoadPriority(@NotNull UUID uuid) {
+        OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(uuid);
+        if (offlinePlayer.hasPlayedBefore()) {
+            return PlayerLoadScheduler.LoadPriority.RETURNING;
+        }
+        return offlinePlayer.isOp() ? PlayerLoadScheduler.LoadPriority.STAFF : PlayerLoadScheduler.LoadPriority.NEW;
+    }
+
+    /**
+     * 접속 로드 대기열 통계 (Firestore가 없으면 null)
+     */
+    @Nullable
+    public PlayerLoadScheduler.LoadQueueStats getLoadQueueStats() {
+        return prefetcher != null ? prefetcher.getLoadStats() : null;
+    }
+
     /**
      * 플레이어 접속 시 데이터 로드
      */
     @EventHandler(priority = EventPriority.LOWEST)
     public void onPlayerJoin(@NotNull PlayerJoinEvent event) {
         Player player = event.getPlayer();
-        String uuid = player.getUniqueId().toString();
-        
-        // RPG 데이터 로드
-        loadPlayerAsync(player);
         
-        // 섬 데이터는 이미 캐시에 있음 - 확인만
+        // 섬 데이터 / 소속 섬 로드 (퇴장할 때까지 캐시에 고정, 미리 불러온 섬 데이터가 고정 영역에 들어가도록 먼저 처리)
         if (plugin.getIslandManager() != null) {
-            PlayerIslandDataDTO islandData = plugin.getIslandManager()
-                .getPlayerIslandDataFromCache(uuid);
-            
-            if (islandData != null) {
-                LogUtil.debug("플레이어 " + player.getName() + " 섬 데이터 캐시 적중");
-            } else {
-                LogUtil.debug("플레이어 " + player.getName() + " 섬 데이터 없음");
-            }
+            plugin.getIslandManager().handlePlayerJoin(player);
         }
+        
+        // RPG 데이터 로드
+        loadPlayerAsync(player);
     }
 
     /**
@@ -147,13 +214,9 @@ public class RPGPlayerManager implements Listener {
         RPGPlayer rpgPlayer = players.remove(uuid);
         
         // QuestManager 데이터 언로드 (저장 포함)
-        try {
-            com.febrie.rpg.quest.manager.QuestManager questManager = com.febrie.rpg.quest.manager.QuestManager.getInstance();
-            if (questManager != null) {
-                questManager.unloadPlayerData(uuid);
-                questManager.clearPlayerCache(uuid);
-            }
-        } catch (IllegalStateException e) {
+        if (QuestManager.isInitialized()) {
+            QuestManager.getInstance().unloadPlayerData(uuid);
+        } else {
             LogUtil.warning("QuestManager가 초기화되지 않음 - 퀘스트 데이터 언로드 스킵: " + player.getName());
         }
         
@@ -195,73 +258,130 @@ public class RPGPlayerManager implements Listener {
 
     /**
      * 플레이어 데이터 비동기 로드 (PlayerService에서 이동)
+     * 로그인 전에 미리 불러온 데이터가 있으면 Firestore 조회 없이 구성하고,
+     * 없으면 로드 대기열을 거쳐 조회 (Firestore가 없으면 신규 플레이어로 시작)
      */
     private void loadPlayerAsync(@NotNull Player player) {
-        String uuid = player.getUniqueId().toString();
-
-        CompletableFuture.supplyAsync(() -> {
-            try {
-                // Firestore에서 데이터 로드
-                if (playerService == null) {
-                    return createNewPlayer(player);
-                }
-                
-                PlayerDataDTO playerData = playerService.getByUuid(player.getUniqueId()).get(5, TimeUnit.SECONDS);
-                
-                if (playerData == null || playerData.profile().lastPlayed() == 0) {
-                    // 신규 플레이어
-                    return createNewPlayer(player);
-                }
+        if (prefetcher == null) {
+            registerPlayer(player, createNewPlayer(player));
+            return;
+        }
 
-                // PlayerDataDTO에서 각 DTO 추출
-                // 현재 PlayerDataDTO는 profile과 wallet만 포함하므로
-                // 다른 데이터는 기본값으로 생성
-                PlayerDTO playerDTO = new PlayerDTO(
-                    playerData.profile().uuid().toString(),
-                    playerData.profile().name(),
-                    playerData.profile().lastPlayed(),
-                    0L,  // totalPlaytime - 기본값
-                    null,  // job - 기본값
-                    false  // isAdmin - 기본값
-                );
-                StatsDTO statsDTO = new StatsDTO();  // 기본값
-                TalentDTO talentDTO = new TalentDTO();  // 기본값
-                ProgressDTO progressDTO = new ProgressDTO();  // 기본값
-                WalletDTO walletDTO = playerData.wallet();
-
-                // RPGPlayer 생성 및 DTO 데이터 적용
-                RPGPlayer rpgPlayer = new RPGPlayer(player);
-                applyDTOsToPlayer(rpgPlayer, playerDTO, statsDTO, talentDTO, progressDTO, walletDTO);
-
-                return rpgPlayer;
+        UUID uuid = player.getUniqueId();
+        CompletableFuture<PlayerDataPrefetcher.PrefetchedPlayerData> loading =
+                prefetcher.takeOrLoad(uuid, getLoadPriority(uuid));
+        if (loading.isDone() && !loading.isCompletedExceptionally() && Bukkit.isPrimaryThread()) {
+            applyPrefetched(player, loading.join());
+            return;
+        }
 
-            } catch (Exception e) {
-                LogUtil.error("플레이어 데이터 로드 실패: " + player.getName(), e);
-                // 오프라인 모드로 폴백
-                return new RPGPlayer(player);
-            }
-        }).thenAccept(rpgPlayer -> {
-            // DataSyncManager 설정
-            if (syncManager != null) {
-                rpgPlayer.setSyncManager(syncManager);
+        // 대기열에서 기다리는 동안 순번 안내
+        BukkitTask feedback = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int position = prefetcher.getQueuePosition(uuid);
+            Component message = position > 0
+                    ? Component.text("플레이어 데이터 불러오는 중... (대기 순번 " + position + ")", UnifiedColorUtil.YELLOW)
+                    : Component.text("플레이어 데이터 불러오는 중...", UnifiedColorUtil.YELLOW);
+            player.sendActionBar(message);
+        }, 0L, LOAD_FEEDBACK_INTERVAL_TICKS);
+
+        loading.whenComplete((data, ex) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            feedback.cancel();
+            if (!player.isOnline()) return;
+            if (ex != null) {
+                failLoad(player, ex);
+            } else {
+                player.sendActionBar(Component.empty());
+                applyPrefetched(player, data);
             }
-            players.put(player.getUniqueId(), rpgPlayer);
-            
-            // 퀘스트 데이터 로드
+        }));
+    }
+
+    /**
+     * 미리 불러온 데이터로 플레이어 구성 (메인 스레드)
+     * 구성에 실패하면 플레이어를 등록하지 않고 접속을 끊어, 빈 데이터가 저장되지 않도록 함
+     */
+    private void applyPrefetched(@NotNull Player player, @NotNull PlayerDataPrefetcher.PrefetchedPlayerData data) {
+        RPGPlayer rpgPlayer;
+        try {
+            rpgPlayer = buildPlayer(player, data.player());
+        } catch (Exception e) {
+            failLoad(player, e);
+            return;
+        }
+
+        // 퀘스트 데이터 적용 (플레이어 등록 전에 적용하여 실패 시 아무것도 저장되지 않게 함)
+        if (QuestManager.isInitialized()) {
+            QuestManager questManager = QuestManager.getInstance();
             try {
-                com.febrie.rpg.quest.manager.QuestManager questManager = com.febrie.rpg.quest.manager.QuestManager.getInstance();
-                if (questManager != null) {
-                    questManager.loadPlayerData(player.getUniqueId()).thenRun(() -> {
-                        LogUtil.debug("퀘스트 데이터 로드 완료: " + player.getName());
-                    }).exceptionally(ex -> {
-                        LogUtil.error("퀘스트 데이터 로드 실패: " + player.getName(), ex);
-                        return null;
-                    });
-                }
-            } catch (IllegalStateException e) {
-                LogUtil.warning("QuestManager가 초기화되지 않음 - 퀘스트 데이터 로드 스킵: " + player.getName());
+                questManager.loadPlayerData(player, data.quests());
+            } catch (Exception e) {
+                questManager.discardPlayerData(player.getUniqueId());
+                failLoad(player, e);
+                return;
             }
-        });
+        } else {
+            LogUtil.warning("QuestManager가 초기화되지 않음 - 퀘스트 데이터 로드 스킵: " + player.getName());
+        }
+
+        registerPlayer(player, rpgPlayer);
+
+        // 섬 데이터 캐시 적재
+        if (data.island() != null && plugin.getIslandManager() != null) {
+            plugin.getIslandManager().updatePlayerCache(player.getUniqueId().toString(), data.island());
+        }
+    }
+
+    /**
+     * 데이터 로드 실패 처리 (메인 스레드)
+     * 빈 데이터로 시작하면 저장 시 기존 데이터를 덮어쓸 수 있으므로 접속을 끊음
+     */
+    private void failLoad(@NotNull Player player, @NotNull Throwable cause) {
+        LogUtil.error("플레이어 데이터 로드 실패: " + player.getName(), cause);
+        player.kick(Component.text("플레이어 데이터를 불러오지 못했습니다. 잠시 후 다시 접속해 주세요.", UnifiedColorUtil.ERROR));
+    }
+
+    /**
+     * 불러온 Player 문서로 RPGPlayer 구성 (문서가 없으면 신규 플레이어)
+     */
+    @NotNull
+    private RPGPlayer buildPlayer(@NotNull Player player, @Nullable PlayerDataDTO playerData) {
+        if (playerData == null || playerData.profile().lastPlayed() == 0) {
+            // 신규 플레이어
+            return createNewPlayer(player);
+        }
+
+        // PlayerDataDTO에서 각 DTO 추출
+        // 현재 PlayerDataDTO는 profile과 wallet만 포함하므로
+        // 다른 데이터는 기본값으로 생성
+        PlayerDTO playerDTO = new PlayerDTO(
+            playerData.profile().uuid().toString(),
+            playerData.profile().name(),
+            playerData.profile().lastPlayed(),
+            0L,  // totalPlaytime - 기본값
+            null,  // job - 기본값
+            false  // isAdmin - 기본값
+        );
+        StatsDTO statsDTO = new StatsDTO();  // 기본값
+        TalentDTO talentDTO = new TalentDTO();  // 기본값
+        ProgressDTO progressDTO = new ProgressDTO();  // 기본값
+        WalletDTO walletDTO = playerData.wallet();
+
+        // RPGPlayer 생성 및 DTO 데이터 적용
+        RPGPlayer rpgPlayer = new RPGPlayer(player);
+        applyDTOsToPlayer(rpgPlayer, playerDTO, statsDTO, talentDTO, progressDTO, walletDTO);
+
+        return rpgPlayer;
+    }
+
+    /**
+     * 구성된 RPGPlayer 등록
+     */
+    private void registerPlayer(@NotNull Player player, @NotNull RPGPlayer rpgPlayer) {
+        // DataSyncManager 설정
+        if (syncManager != null) {
+            rpgPlayer.setSyncManager(syncManager);
+        }
+        players.put(player.getUniqueId(), rpgPlayer);
     }
 
     /**
@@ -291,6 +411,9 @@ public class RPGPlayerManager implements Listener {
         );
         WalletDTO walletDTO = new WalletDTO();
 
+        // 초기 재화 적용 (Firestore에 저장되는 초기 문서와 같은 값에서 시작해야 정산 증감이 맞음)
+        rpgPlayer.getWallet().applyFromDTO(walletDTO);
+
         // Firestore에 초기 데이터 저장 (비동기)
         if (playerService != null) {
             PlayerDataDTO newPlayerData = PlayerDataDTO.createNew(
@@ -347,6 +470,9 @@ public class RPGPlayerManager implements Listener {
 
         // 재화 적용
         rpgPlayer.getWallet().applyFromDTO(walletDTO);
+
+        // 불러온 값은 저장된 값과 같으므로 변경 표시 초기화
+        rpgPlayer.clearDirtyData();
     }
 
     /**
@@ -380,12 +506,12 @@ public class RPGPlayerManager implements Listener {
             lastSaveTime.computeIfAbsent(uuid, k -> new AtomicLong(0)).set(System.currentTimeMillis());
         }
 
-        // PlayerDataDTO 생성
+        // PlayerDataDTO 생성 (재화는 CurrencyLedger가 정산하므로 프로필만 저장)
         PlayerDataDTO playerData = createPlayerDataDTO(rpgPlayer);
 
         if (playerService != null) {
             LogUtil.info("플레이어 데이터 비동기 저장 시도: " + uuid);
-            return playerService.save(uuid.toString(), playerData)
+            return playerService.saveProfileOrFail(uuid, playerData.profile())
                 .thenApply(result -> {
                     LogUtil.info("플레이어 데이터 비동기 저장 성공: " + uuid);
                     return true;
@@ -407,12 +533,12 @@ public class RPGPlayerManager implements Listener {
         UUID uuid = rpgPlayer.getPlayerId();
         
         try {
-            // PlayerDataDTO 생성
+            // PlayerDataDTO 생성 (재화는 CurrencyLedger가 정산하므로 프로필만 저장)
             PlayerDataDTO playerData = createPlayerDataDTO(rpgPlayer);
 
             if (playerService != null) {
                 LogUtil.info("플레이어 데이터 동기 저장 시도: " + uuid);
-                playerService.save(uuid.toString(), playerData)
+                playerService.saveProfileOrFail(uuid, playerData.profile())
                     .get(10, TimeUnit.SECONDS);
                 LogUtil.info("플레이어 데이터 동기 저장 성공: " + uuid);
                 return true;
@@ -606,6 +732,39 @@ public class RPGPlayerManager implements Listener {
         return players.size();
     }
     
+    /**
+     * 종료 저장
+     * 플레이어 프로필, 퀘스트 변경, 배치 대기열을 모아 병렬로 저장하고 그동안 재화 원장을 함께 정산
+     * 전체 제한 시간 안에 저장하지 못한 문서는 저장 실패 보관소에 남아 다음 시작 시 재전송
+     * (재화는 원장 항목이 저널에 남아 다음 시작 시 재적용)
+     */
+    private void flushOnShutdown() {
+        ShutdownFlusher flusher = syncManager.beginShutdownFlush(players.values());
+        if (QuestManager.isInitialized()) {
+            QuestManager.getInstance().stageShutdownFlush(flusher);
+        }
+
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
+        CompletableFuture<Boolean> settled = ledger != null
+                ? ledger.settleAll()
+                : CompletableFuture.completedFuture(true);
+
+        flusher.flush();
+
+        try {
+            long remainingMs = Math.max(0L, flusher.getDeadlineMillis() - System.currentTimeMillis());
+            if (!settled.get(remainingMs, TimeUnit.MILLISECONDS)) {
+                LogUtil.warning("종료 저장 중 재화 원장 정산 실패 (원장 종료 시 다시 시도)");
+            }
+        } catch (TimeoutException e) {
+            LogUtil.warning("종료 저장 제한 시간 내에 재화 원장 정산이 끝나지 않았습니다. (저널에서 복구 예정)");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LogUtil.error("종료 저장 중 재화 원장 정산 오류", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+    
     /**
      * 서버 종료 시 모든 데이터 저장
      */
@@ -617,22 +776,16 @@ public class RPGPlayerManager implements Listener {
             batchSaveTask.stop();
         }
         
-        // 모든 플레이어 데이터 즉시 저장
-        List<CompletableFuture<Void>> saveFutures = new ArrayList<>();
-        for (RPGPlayer player : players.values()) {
-            if (syncManager != null) {
-                saveFutures.add(syncManager.saveOnLogout(player));
-            }
-        }
-        
-        // 모든 저장 완료 대기
-        CompletableFuture.allOf(saveFutures.toArray(new CompletableFuture<?>[0]))
-            .orTimeout(10, TimeUnit.SECONDS)
-            .join();
-            
-        // DataSyncManager 종료
         if (syncManager != null) {
+            // 플레이어 / 퀘스트 / 배치 대기열을 모아 한 번에 저장
+            flushOnShutdown();
+            // DataSyncManager 종료 (저장 실패 보관소 닫기 포함)
             syncManager.shutdown();
+        } else if (playerService != null) {
+            // 배치 저장 경로가 없는 저장소(내장 저장소)는 플레이어마다 직접 저장
+            for (RPGPlayer rpgPlayer : players.values()) {
+                savePlayerDataSync(rpgPlayer);
+            }
         }
         
         players.clear();
@@ -460,6 +460,20 @@ public abstract class Quest {
         return completionLimit;
     }
 
+    /**
+     * 선행 퀘스트 목록
+     */
+    public @NotNull Set<QuestID> getPrerequisiteQuests() {
+        return Collections.unmodifiableSet(prerequisiteQuests);
+    }
+
+    /**
+     * 양자택일 퀘스트 목록
+     */
+    public @NotNull Set<QuestID> getExclusiveQuests() {
+        return Collections.unmodifiableSet(exclusiveQuests);
+    }
+
     /**
      * 보상 지급 방식
      */
@@ -0,0 +1,178 @@
+package com.febrie.rpg.quest.manager;
+
+import com.febrie.rpg.quest.Quest;
+import com.febrie.rpg.quest.objective.ObjectiveType;
+import com.febrie.rpg.quest.objective.QuestObjective;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntPredicate;
+
+/**
+ * 플레이어별 목표 타입 인덱스
+ * ObjectiveType -> (퀘스트 인스턴스, 목표) 참조 목록을 유지하여
+ * 이벤트 처리 시 해당 타입의 목표가 없는 퀘스트는 건너뛸 수 있도록 함
+ * - 순차 진행 퀘스트: 현재 단계의 목표만 등록
+ * - 자유 진행 퀘스트: 미완료 목표 전체 등록
+ * - 등록된 목표는 서버 전체 관심 대상 레지스트리에 함께 반영
+ *
+ * @author Febrie
+ */
+public class PlayerObjectiveIndex {
+
+    /**
+     * 인덱스에 등록된 목표 참조
+     *
+     * @param instanceId 퀘스트 인스턴스 ID
+     * @param quest      퀘스트 정의
+     * @param objective  목표
+     * @param ordinal    퀘스트 정의 내 목표 순번
+     */
+    public record ObjectiveRef(@NotNull String instanceId, @NotNull Quest quest,
+                               @NotNull QuestObjective objective, int ordinal) {
+    }
+
+    private final Map<UUID, PlayerEntry> entries = new ConcurrentHashMap<>();
+    private final QuestInterestRegistry interests = new QuestInterestRegistry();
+
+    /**
+     * 플레이어별 인덱스 (타입별 목록은 불변 리스트로 교체)
+     */
+    private static final class PlayerEntry {
+        private final Map<ObjectiveType, List<ObjectiveRef>> byType = new EnumMap<>(ObjectiveType.class);
+
+        synchronized List<ObjectiveRef> get(@NotNull ObjectiveType type) {
+            List<ObjectiveRef> refs = byType.get(type);
+            return refs != null ? refs : List.of();
+        }
+
+        synchronized void removeInstance(@NotNull String instanceId, @NotNull QuestInterestRegistry interests) {
+            byType.replaceAll((type, refs) -> {
+                boolean contains = false;
+                for (ObjectiveRef ref : refs) {
+                    if (ref.instanceId().equals(instanceId)) {
+                        contains = true;
+                        break;
+                    }
+                }
+                if (!contains) return refs;
+
+                List<ObjectiveRef> filtered = new ArrayList<>(refs.size());
+                for (ObjectiveRef ref : refs) {
+                    if (!ref.instanceId().equals(instanceId)) {
+                        filtered.add(ref);
+                    } else {
+                        interests.unregister(ref.objective());
+                    }
+                }
+                return List.copyOf(filtered);
+            });
+            byType.values().removeIf(List::isEmpty);
+        }
+
+        synchronized void add(@NotNull ObjectiveRef ref, @NotNull QuestInterestRegistry interests) {
+            ObjectiveType type = ref.objective().getType();
+            List<ObjectiveRef> current = byType.get(type);
+            List<ObjectiveRef> updated = new ArrayList<>(current != null ? current.size() + 1 : 1);
+            if (current != null) {
+                updated.addAll(current);
+            }
+            updated.add(ref);
+            byType.put(type, List.copyOf(updated));
+            interests.register(ref.objective());
+        }
+
+        synchronized void unregisterAll(@NotNull QuestInterestRegistry interests) {
+            byType.values().forEach(refs -> refs.forEach(ref -> interests.unregister(ref.objective())));
+            byType.clear();
+        }
+
+        synchronized boolean isEmpty() {
+            return byType.isEmpty();
+        }
+    }
+
+    /**
+     * 서버 전체 관심 대상 레지스트리 반환
+     */
+    @NotNull
+    public QuestInterestRegistry getInterests() {
+        return interests;
+    }
+
+    /**
+     * 특정 타입의 목표 참조 목록 조회 (없으면 빈 리스트, 할당 없음)
+     */
+    @NotNull
+    public List<ObjectiveRef> get(@NotNull UUID playerId, @NotNull ObjectiveType type) {
+        PlayerEntry entry = entries.get(playerId);
+        return entry != null ? entry.get(type) : List.of();
+    }
+
+    /**
+     * 특정 타입의 목표가 하나라도 있는지 확인
+     */
+    public boolean has(@NotNull UUID playerId, @NotNull ObjectiveType type) {
+        return !get(playerId, type).isEmpty();
+    }
+
+    /**
+     * 퀘스트 인스턴스 (재)등록
+     *
+     * @param playerId   플레이어 UUID
+     * @param instanceId 퀘스트 인스턴스 ID
+     * @param quest      퀘스트 정의
+     * @param completed  목표 순번별 완료 여부
+     */
+    public void indexQuest(@NotNull UUID playerId, @NotNull String instanceId,
+                           @NotNull Quest quest, @NotNull IntPredicate completed) {
+        PlayerEntry entry = entries.computeIfAbsent(playerId, id -> new PlayerEntry());
+        entry.removeInstance(instanceId, interests);
+
+        List<QuestObjective> objectives = quest.getObjectives();
+        for (int i = 0; i < objectives.size(); i++) {
+            if (completed.test(i)) continue;
+
+            entry.add(new ObjectiveRef(instanceId, quest, objectives.get(i), i), interests);
+
+            // 순차 진행 - 첫 번째 미완료 목표가 현재 단계
+            if (quest.isSequential()) break;
+        }
+    }
+
+    /**
+     * 퀘스트 인스턴스 제거 (완료/취소 시)
+     */
+    public void removeQuest(@NotNull UUID playerId, @NotNull String instanceId) {
+        PlayerEntry entry = entries.get(playerId);
+        if (entry == null) return;
+
+        entry.removeInstance(instanceId, interests);
+        if (entry.isEmpty()) {
+            entries.remove(playerId, entry);
+        }
+    }
+
+    /**
+     * 플레이어 인덱스 전체 제거
+     */
+    public void removePlayer(@NotNull UUID playerId) {
+        PlayerEntry entry = entries.remove(playerId);
+        if (entry != null) {
+            entry.unregisterAll(interests);
+        }
+    }
+
+    /**
+     * 전체 인덱스 초기화
+     */
+    public void clear() {
+        entries.clear();
+        interests.clear();
+    }
+}
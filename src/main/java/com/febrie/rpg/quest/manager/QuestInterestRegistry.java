@@ -0,0 +1,125 @@
+package com.febrie.rpg.quest.manager;
+
+import com.febrie.rpg.quest.objective.QuestObjective;
+import com.febrie.rpg.quest.objective.impl.BreakBlockObjective;
+import com.febrie.rpg.quest.objective.impl.CollectItemObjective;
+import com.febrie.rpg.quest.objective.impl.CraftItemObjective;
+import com.febrie.rpg.quest.objective.impl.HarvestObjective;
+import com.febrie.rpg.quest.objective.impl.KillMobObjective;
+import com.febrie.rpg.quest.objective.impl.KillPlayerObjective;
+import com.febrie.rpg.quest.objective.impl.PlaceBlockObjective;
+import org.bukkit.Material;
+import org.bukkit.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 서버 전체 퀘스트 관심 대상 레지스트리
+ * 온라인 플레이어의 진행 가능한 목표가 참조하는 Material / EntityType의 참조 카운트를 유지하여
+ * 리스너가 아무도 관심 없는 이벤트를 플레이어별 처리 없이 O(1)로 걸러낼 수 있도록 함
+ * - PlayerObjectiveIndex에 목표가 등록/제거될 때 함께 갱신
+ * - 카운트는 ordinal 인덱스 배열로 관리하여 조회 시 잠금과 할당 없음
+ *
+ * @author Febrie
+ */
+public class QuestInterestRegistry {
+
+    /**
+     * Material 기반 이벤트 채널
+     */
+    public enum MaterialChannel {
+        BLOCK_BREAK,
+        BLOCK_PLACE,
+        ITEM_PICKUP,
+        CRAFT_ITEM
+    }
+
+    private static final Material[] MATERIALS = Material.values();
+    private static final EntityType[] ENTITY_TYPES = EntityType.values();
+
+    private final Map<MaterialChannel, AtomicIntegerArray> materialCounts = new EnumMap<>(MaterialChannel.class);
+    private final AtomicIntegerArray entityCounts = new AtomicIntegerArray(ENTITY_TYPES.length);
+
+    public QuestInterestRegistry() {
+        for (MaterialChannel channel : MaterialChannel.values()) {
+            materialCounts.put(channel, new AtomicIntegerArray(MATERIALS.length));
+        }
+    }
+
+    /**
+     * 해당 채널에서 Material에 관심 있는 목표가 있는지 확인
+     */
+    public boolean isInterested(@NotNull MaterialChannel channel, @NotNull Material material) {
+        return materialCounts.get(channel).get(material.ordinal()) > 0;
+    }
+
+    /**
+     * EntityType 처치에 관심 있는 목표가 있는지 확인
+     */
+    public boolean isInterested(@NotNull EntityType entityType) {
+        return entityCounts.get(entityType.ordinal()) > 0;
+    }
+
+    /**
+     * 목표 등록 (참조 카운트 증가)
+     */
+    void register(@NotNull QuestObjective objective) {
+        adjust(objective, 1);
+    }
+
+    /**
+     * 목표 해제 (참조 카운트 감소)
+     */
+    void unregister(@NotNull QuestObjective objective) {
+        adjust(objective, -1);
+    }
+
+    /**
+     * 전체 카운트 초기화
+     */
+    void clear() {
+        materialCounts.values().forEach(counts -> {
+            for (int i = 0; i < counts.length(); i++) {
+                counts.set(i, 0);
+            }
+        });
+        for (int i = 0; i < entityCounts.length(); i++) {
+            entityCounts.set(i, 0);
+        }
+    }
+
+    /**
+     * 목표 타입에 따른 관심 대상 카운트 조정
+     * 관심 대상이 없는 목표 타입(NPC, 위치, 낚시 등)은 무시
+     */
+    private void adjust(@NotNull QuestObjective objective, int delta) {
+        if (objective instanceof BreakBlockObjective breakBlock) {
+            adjust(MaterialChannel.BLOCK_BREAK, breakBlock.getBlockType(), delta);
+        } else if (objective instanceof HarvestObjective harvest) {
+            adjust(MaterialChannel.BLOCK_BREAK, harvest.getCropType(), delta);
+        } else if (objective instanceof PlaceBlockObjective placeBlock) {
+            adjust(MaterialChannel.BLOCK_PLACE, placeBlock.getMaterial(), delta);
+        } else if (objective instanceof CollectItemObjective collectItem) {
+            adjust(MaterialChannel.ITEM_PICKUP, collectItem.getItemType(), delta);
+        } else if (objective instanceof CraftItemObjective craftItem) {
+            adjust(MaterialChannel.CRAFT_ITEM, craftItem.getItemType(), delta);
+        } else if (objective instanceof KillMobObjective killMob) {
+            adjust(entityCounts, killMob.getTargetType().ordinal(), delta);
+        } else if (objective instanceof KillPlayerObjective) {
+            adjust(entityCounts, EntityType.PLAYER.ordinal(), delta);
+        }
+    }
+
+    private void adjust(@NotNull MaterialChannel channel, @Nullable Material material, int delta) {
+        if (material == null) return;
+        adjust(materialCounts.get(channel), material.ordinal(), delta);
+    }
+
+    private static void adjust(@NotNull AtomicIntegerArray counts, int index, int delta) {
+        counts.updateAndGet(index, count -> Math.max(0, count + delta));
+    }
+}
@@ -1,7 +1,12 @@
 package com.febrie.rpg.quest.manager;
 
 import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.database.cache.LocalDocumentStore;
+import com.febrie.rpg.database.helper.ShutdownFlusher;
+import com.febrie.rpg.database.journal.JournalRecord;
+import com.febrie.rpg.database.journal.WriteAheadJournal;
 import com.febrie.rpg.database.service.impl.QuestFirestoreService;
+import com.febrie.rpg.database.storage.StorageFieldPath;
 import com.febrie.rpg.dto.quest.PlayerQuestDTO;
 import com.febrie.rpg.quest.Quest;
 import com.febrie.rpg.quest.QuestCategory;
@@ -9,25 +14,28 @@ import com.febrie.rpg.quest.QuestID;
 import com.febrie.rpg.dto.quest.ActiveQuestDTO;
 import com.febrie.rpg.dto.quest.ClaimedQuestDTO;
 import com.febrie.rpg.dto.quest.CompletedQuestDTO;
+import com.febrie.rpg.dto.quest.ObjectiveProgressDTO;
+import com.febrie.rpg.dto.quest.QuestHistoryDTO;
 import com.febrie.rpg.quest.objective.QuestObjective;
+import com.febrie.rpg.quest.progress.ActiveQuestState;
 import com.febrie.rpg.quest.progress.ObjectiveProgress;
 import com.febrie.rpg.quest.progress.QuestProgress;
+import com.febrie.rpg.quest.registry.QuestDependencyGraph;
 import com.febrie.rpg.quest.registry.QuestRegistry;
 import com.febrie.rpg.quest.reward.MixedReward;
 import com.febrie.rpg.quest.reward.impl.BasicReward;
 import com.febrie.rpg.quest.service.QuestProgressService;
-import com.febrie.rpg.quest.task.LocationCheckTask;
+import com.febrie.rpg.quest.service.QuestRotationService;
 import com.febrie.rpg.quest.util.QuestUtil;
 import com.febrie.rpg.util.LangManager;
 import com.febrie.rpg.util.UnifiedColorUtil;
+import com.febrie.rpg.util.UnifiedTimeUtil;
 import com.febrie.rpg.util.lang.quest.QuestCommonLangKey;
 import com.febrie.rpg.util.SoundUtil;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.event.Event;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,6 +43,7 @@ import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -47,22 +56,30 @@ public class QuestManager {
 
     private static QuestManager instance;
 
+    // 퀘스트별로 남길 최근 보상 수령 기록 수 기본값
+    private static final int DEFAULT_CLAIMED_KEEP_RECENT = 5;
+    // 보상 수령 기록 압축 간격 기본값 (분 단위)
+    private static final int DEFAULT_CLAIMED_COMPACT_INTERVAL_MINUTES = 30;
+
     private final RPGMain plugin;
     private final QuestFirestoreService questService;
 
     // 고정 퀘스트 맵 - enum으로 관리
     private final Map<QuestID, Quest> quests = new EnumMap<>(QuestID.class);
 
+    // 선행 / 양자택일 관계 그래프 (퀘스트 생성 시 구성, 리로드 시 교체)
+    private volatile QuestDependencyGraph dependencyGraph = QuestDependencyGraph.empty();
+
     // 플레이어별 퀘스트 데이터 캐시 (진행도 관리)
     private final Map<UUID, PlayerQuestData> playerDataCache = new ConcurrentHashMap<>();
     private QuestProgressService progressService;
+    private QuestRotationService rotationService;
 
     // 저장 대기열
     private final Set<UUID> pendingSaves = ConcurrentHashMap.newKeySet();
 
-    // 지역 방문 체크 태스크
-    private LocationCheckTask locationCheckTask;
-    private BukkitTask locationCheckScheduler;
+    // 지역 방문 목표 공간 인덱스 (불변, 리로드 시 교체)
+    private volatile VisitTargetIndex visitTargetIndex = VisitTargetIndex.empty();
     
     // NPC 상호작용 목표 인덱스 (NPC ID -> 퀘스트 목표 참조)
     private final Map<String, Set<NPCObjectiveRef>> npcObjectiveIndex = new ConcurrentHashMap<>();
@@ -70,6 +87,9 @@ public class QuestManager {
     // 플레이어별 활성 NPC 목표 캐시 (플레이어 UUID -> NPC ID -> 퀘스트 인스턴스 ID)
     private final Map<UUID, Map<String, Set<String>>> playerNPCObjectives = new ConcurrentHashMap<>();
 
+    // 플레이어별 목표 타입 인덱스 (ObjectiveType -> 진행 가능한 목표 참조)
+    private final PlayerObjectiveIndex objectiveIndex = new PlayerObjectiveIndex();
+
     /**
      * NPC 목표 참조 클래스
      */
@@ -106,13 +126,71 @@ public class QuestManager {
      * 플레이어별 퀘스트 데이터 (진행도 포함)
      */
     private static class PlayerQuestData {
-        private final Map<String, ActiveQuestDTO> activeQuests = new ConcurrentHashMap<>();
+        // 진행 중인 퀘스트의 가변 진행 상태 (DTO는 저장 시점에만 생성)
+        private final Map<String, ActiveQuestState> activeQuests = new ConcurrentHashMap<>();
+        // 현재 등록되지 않은 퀘스트의 저장 데이터 (유실 방지를 위해 그대로 보존)
+        private final Map<String, ActiveQuestDTO> unresolvedQuests = new ConcurrentHashMap<>();
         private final Map<String, CompletedQuestDTO> completedQuests = new ConcurrentHashMap<>();
         private final Map<String, ClaimedQuestDTO> claimedQuests = new ConcurrentHashMap<>();
+        // 오래된 보상 수령 기록의 퀘스트별 집계 (키: QuestID 이름)
+        private final Map<String, QuestHistoryDTO> questHistory = new ConcurrentHashMap<>();
+        // 한 번 이상 완료한 퀘스트 비트셋 (완료 + 보상 수령 + 집계, QuestID.ordinal() 기준)
+        private final long[] completedBits = QuestDependencyGraph.newBitSet();
+        // 퀘스트별 총 완료 횟수 (QuestID.ordinal() 기준)
+        private final int[] completionCounts = new int[QuestID.values().length];
+        // 일일 / 주간 퀘스트의 현재 초기화 주기 내 완료 횟수 (QuestID.ordinal() 기준)
+        private final int[] periodCompletions = new int[QuestID.values().length];
+        // 마지막으로 적용된 일일 / 주간 초기화 세대
+        private long dailyResetEpoch;
+        private long weeklyResetEpoch;
         private long lastUpdated; // long (primitive)
+        // 퀘스트 추가/제거, 완료/수령 목록 변경 등 문서 구조가 바뀌어 전체 저장이 필요한지 여부
+        // (진행도만 바뀐 경우 필드 단위로 저장)
+        private volatile boolean structureDirty;
 
         PlayerQuestData() {
             this.lastUpdated = System.currentTimeMillis();
+            this.dailyResetEpoch = UnifiedTimeUtil.dailyEpoch(lastUpdated);
+            this.weeklyResetEpoch = UnifiedTimeUtil.weeklyEpoch(lastUpdated);
+        }
+
+        /**
+         * 완료 / 보상 수령 목록과 집계에서 완료 비트셋과 완료 횟수 재구성
+         * (완료 / 보상 수령 기록은 인스턴스 하나당 1회)
+         */
+        void rebuildCompletionIndex() {
+            Arrays.fill(completedBits, 0L);
+            Arrays.fill(completionCounts, 0);
+            completedQuests.values().forEach(c -> addCompletions(c.questId(), 1));
+            claimedQuests.values().forEach(c -> addCompletions(c.questId(), 1));
+            questHistory.values().forEach(h -> addCompletions(h.questId(), h.count()));
+        }
+
+        /**
+         * 퀘스트 완료 반영
+         */
+        void recordCompletion(@NotNull QuestID questId) {
+            QuestDependencyGraph.set(completedBits, questId);
+            completionCounts[questId.ordinal()]++;
+            periodCompletions[questId.ordinal()]++;
+        }
+
+        /**
+         * 퀘스트 총 완료 횟수
+         */
+        int getCompletionCount(@NotNull QuestID questId) {
+            return completionCounts[questId.ordinal()];
+        }
+
+        private void addCompletions(@NotNull String questId, int count) {
+            if (count <= 0) return;
+            try {
+                QuestID id = QuestID.valueOf(questId);
+                QuestDependencyGraph.set(completedBits, id);
+                completionCounts[id.ordinal()] += count;
+            } catch (IllegalArgumentException ignored) {
+                // 제거된 퀘스트 ID
+            }
         }
     }
 
@@ -128,6 +206,7 @@ public class QuestManager {
         
         // Progress Service 초기화
         this.progressService = new QuestProgressService(plugin);
+        this.rotationService = new QuestRotationService(plugin, this);
     }
 
     /**
@@ -137,8 +216,15 @@ public class QuestManager {
         // 자동 저장 스케줄러 시작
         startAutoSaveScheduler();
 
-        // 지역 방문 체크 스케줄러 시작
-        startLocationCheckScheduler();
+        // 보상 수령 기록 압축 스케줄러 시작
+        startClaimedCompactionScheduler();
+
+        // 일일 / 주간 퀘스트 초기화 스케줄러 시작
+        rotationService.start();
+
+        // 지역 방문 목표 공간 인덱스 생성 및 영역 변경 감지 스케줄러 시작
+        rebuildVisitTargetIndex();
+        startRegionRefreshScheduler();
     }
 
     /**
@@ -148,6 +234,7 @@ public class QuestManager {
         // QuestRegistry에서 모든 퀘스트 생성 및 등록
         Map<QuestID, Quest> allQuests = QuestRegistry.createAllQuests();
         quests.putAll(allQuests);
+        dependencyGraph = QuestRegistry.getDependencyGraph();
 
     }
 
@@ -163,10 +250,15 @@ public class QuestManager {
         // 퀘스트 재초기화
         initializeQuests();
 
-        // 지역 체크 태스크 캐시 정리 (위치 관련 목표가 변경될 수 있으므로)
-        if (locationCheckTask != null) {
-            locationCheckTask.clearAllCaches();
-        }
+        // 지역 방문 목표 공간 인덱스 재구성 (위치 관련 목표가 변경될 수 있으므로)
+        rebuildVisitTargetIndex();
+
+        // 진행 상태와 목표 인덱스는 이전 Quest 정의를 기준으로 하므로 재구성
+        objectiveIndex.clear();
+        playerDataCache.forEach((playerId, data) -> {
+            rebindActiveQuests(data);
+            rebuildObjectiveIndexForPlayer(playerId, data);
+        });
 
         plugin.getLogger().info("퀘스트 데이터 리로드 완료! 총 " + quests.size() + "개의 퀘스트가 로드되었습니다.");
     }
@@ -177,7 +269,7 @@ public class QuestManager {
      */
     public static void initialize(@NotNull RPGMain plugin, @Nullable QuestFirestoreService questService) {
         if (instance == null) {
-            // instance를 먼저 설정하여 LocationCheckTask가 참조할 수 있도록 함
+            // instance를 먼저 설정하여 스케줄러 작업이 참조할 수 있도록 함
             instance = new QuestManager(plugin, questService);
             // instance 설정 후 스케줄러 시작
             instance.startSchedulers();
@@ -194,6 +286,13 @@ public class QuestManager {
         return instance;
     }
 
+    /**
+     * 초기화 여부 ({@link #getInstance}가 예외 없이 반환하는지)
+     */
+    public static boolean isInitialized() {
+        return instance != null;
+    }
+
     /**
      * 등록된 퀘스트 조회
      */
@@ -234,22 +333,42 @@ public class QuestManager {
     }
     
     /**
-     * 활성 퀘스트 업데이트 (QuestProgressService에서 호출)
+     * 목표 타입 인덱스 반환
      */
-    public void updateActiveQuest(@NotNull UUID playerId, @NotNull String instanceId, @NotNull ActiveQuestDTO updatedData) {
-        PlayerQuestData playerData = getPlayerData(playerId);
-        playerData.activeQuests.put(instanceId, updatedData);
-        playerData.lastUpdated = System.currentTimeMillis();
-        markForSave(playerId);
+    @NotNull
+    public PlayerObjectiveIndex getObjectiveIndex() {
+        return objectiveIndex;
     }
     
     /**
-     * 플레이어의 활성 퀘스트 목록
+     * 활성 퀘스트의 가변 진행 상태 조회 (이벤트 처리 경로용, 복사 없음)
+     */
+    @Nullable
+    public ActiveQuestState getActiveQuestState(@NotNull UUID playerId, @NotNull String instanceId) {
+        PlayerQuestData data = playerDataCache.get(playerId);
+        return data != null ? data.activeQuests.get(instanceId) : null;
+    }
+
+    /**
+     * 목표 완료 반영 (QuestProgressService에서 호출)
+     * 완료된 목표를 인덱스에서 제외하고, 순차 진행 퀘스트는 다음 단계를 등록
+     */
+    public void onObjectiveCompleted(@NotNull UUID playerId, @NotNull String instanceId) {
+        ActiveQuestState state = getActiveQuestState(playerId, instanceId);
+        if (state != null) {
+            indexActiveQuest(playerId, instanceId, state);
+        }
+    }
+
+    /**
+     * 플레이어의 활성 퀘스트 목록 (현재 진행 상태의 스냅샷)
      */
     @NotNull
     public Map<String, ActiveQuestDTO> getActiveQuests(@NotNull UUID playerId) {
         PlayerQuestData data = getPlayerData(playerId);
-        return new HashMap<>(data.activeQuests);
+        Map<String, ActiveQuestDTO> result = new HashMap<>(data.unresolvedQuests);
+        data.activeQuests.forEach((instanceId, state) -> result.put(instanceId, state.toDTO()));
+        return result;
     }
 
     /**
@@ -275,31 +394,60 @@ public class QuestManager {
      */
     @Nullable
     public QuestProgress getQuestProgress(@NotNull UUID playerId, @NotNull String instanceId) {
-        PlayerQuestData data = getPlayerData(playerId);
-        ActiveQuestDTO activeData = data.activeQuests.get(instanceId);
-        if (activeData == null) return null;
-        
-        // ActiveQuestDTO에서 QuestProgress 생성
-        QuestID questId = QuestID.valueOf(activeData.questId());
-        Map<String, ObjectiveProgress> progress = new HashMap<>();
-        activeData.progress().forEach((key, value) -> progress.put(key, ObjectiveProgress.from(value, playerId)));
-        return new QuestProgress(questId, playerId, progress);
+        ActiveQuestState state = getActiveQuestState(playerId, instanceId);
+        return state != null ? state.toQuestProgress(playerId) : null;
     }
 
     /**
      * 특정 퀘스트 완료 여부
      */
     public boolean hasCompletedQuest(@NotNull UUID playerId, @NotNull QuestID questId) {
+        return QuestDependencyGraph.contains(getPlayerData(playerId).completedBits, questId);
+    }
+
+    /**
+     * 선행 / 양자택일 조건상 퀘스트를 시작할 수 있는지 확인
+     */
+    public boolean isQuestUnlocked(@NotNull UUID playerId, @NotNull QuestID questId) {
+        return dependencyGraph.isUnlocked(questId, getPlayerData(playerId).completedBits);
+    }
+
+    /**
+     * 지금 시작할 수 있는 모든 퀘스트 (선행 / 양자택일, 진행 중 여부, 완료 횟수 제한 기준 - 레벨 조건 제외)
+     * 퀘스트 목록 GUI용
+     */
+    @NotNull
+    public List<Quest> getStartableQuests(@NotNull UUID playerId) {
         PlayerQuestData data = getPlayerData(playerId);
-        return QuestManagerHelper.hasCompletedQuest(data.completedQuests, data.claimedQuests, questId);
+        List<Quest> result = new ArrayList<>();
+
+        for (QuestID questId : dependencyGraph.getUnlockedQuests(data.completedBits)) {
+            Quest quest = quests.get(questId);
+            if (quest == null || hasActiveQuest(data, questId)) continue;
+
+            int completionLimit = quest.getCompletionLimit();
+            if (completionLimit == 0) continue;
+            if (completionLimit > 0 && getLimitedCompletionCount(data, quest) >= completionLimit) continue;
+            result.add(quest);
+        }
+        return result;
     }
 
     /**
      * 특정 퀘스트 진행 중 여부
      */
     public boolean hasActiveQuest(@NotNull UUID playerId, @NotNull QuestID questId) {
-        PlayerQuestData data = getPlayerData(playerId);
-        return QuestManagerHelper.hasActiveQuest(data.activeQuests, questId);
+        return hasActiveQuest(getPlayerData(playerId), questId);
+    }
+
+    /**
+     * 특정 퀘스트 진행 중 여부 (내부용)
+     */
+    private boolean hasActiveQuest(@NotNull PlayerQuestData data, @NotNull QuestID questId) {
+        for (ActiveQuestState state : data.activeQuests.values()) {
+            if (state.getQuestId() == questId) return true;
+        }
+        return false;
     }
 
     /**
@@ -310,7 +458,7 @@ public class QuestManager {
         PlayerQuestData playerData = getPlayerData(playerId);
 
         // 이미 진행 중인지 확인
-        if (QuestManagerHelper.hasActiveQuest(playerData.activeQuests, questId)) {
+        if (hasActiveQuest(playerData, questId)) {
             plugin.getLogger().info("퀘스트 시작 실패 [" + player.getName() + "]: " + questId.name() + " - 이미 진행 중");
             return false;
         }
@@ -321,9 +469,8 @@ public class QuestManager {
             return false;
         }
 
-        // 완료 제한 확인
-        int totalCompletions = QuestManagerHelper.getTotalCompletionCount(
-                playerData.completedQuests, playerData.claimedQuests, questId);
+        // 완료 제한 확인 (일일 / 주간 퀘스트는 현재 초기화 주기 내 완료 횟수 기준)
+        int totalCompletions = getLimitedCompletionCount(playerData, quest);
         int completionLimit = quest.getCompletionLimit();
         
         // 완료 불가 퀘스트
@@ -344,179 +491,72 @@ public class QuestManager {
             return false;
         }
 
-        // 완료한 퀘스트 ID 목록 생성
-        Set<QuestID> completedQuestIds = new HashSet<>();
-        playerData.completedQuests.values().forEach(c -> {
-            try {
-                completedQuestIds.add(QuestID.valueOf(c.questId()));
-            } catch (IllegalArgumentException ignored) {}
-        });
-        playerData.claimedQuests.values().forEach(c -> {
-            try {
-                completedQuestIds.add(QuestID.valueOf(c.questId()));
-            } catch (IllegalArgumentException ignored) {}
-        });
-        
         // 선행 퀘스트 확인
-        if (!quest.arePrerequisitesComplete(completedQuestIds)) {
+        if (!dependencyGraph.arePrerequisitesComplete(questId, playerData.completedBits)) {
             plugin.getLogger().info("퀘스트 시작 실패 [" + player.getName() + "]: " + questId.name() + " - 선행 퀘스트 미완료");
             return false;
         }
 
         // 양자택일 퀘스트 확인
-        if (quest.hasCompletedExclusiveQuests(completedQuestIds)) {
+        if (dependencyGraph.hasCompletedExclusiveQuests(questId, playerData.completedBits)) {
             plugin.getLogger().info("퀘스트 시작 실패 [" + player.getName() + "]: " + questId.name() + " - 양자택일 퀘스트 이미 완료");
             return false;
         }
 
         // 퀘스트 진행도 생성 - 각 플레이어마다 고유한 instanceId 생성
         String instanceId = UUID.randomUUID().toString();
-        QuestProgress progress = quest.createProgress(playerId);
-        ActiveQuestDTO activeData = ActiveQuestDTO.create(
-            questId.name(),
-            instanceId,
-            progress.getObjectives()
-        );
-        playerData.activeQuests.put(instanceId, activeData);
+        ActiveQuestState state = ActiveQuestState.create(quest, instanceId);
+        playerData.activeQuests.put(instanceId, state);
         playerData.lastUpdated = System.currentTimeMillis();
 
         // NPC 목표 인덱스 등록
         registerNPCObjectives(playerId, instanceId, quest);
+
+        // 목표 타입 인덱스 등록
+        indexActiveQuest(playerId, instanceId, state);
         
         // 저장 예약
         markForSave(playerId);
 
 
         // 퀘스트 시작 알림
-        QuestUtil.notifyQuestStart(player, quest, progress, plugin);
+        QuestUtil.notifyQuestStart(player, quest, state.toQuestProgress(playerId), plugin);
+
+        // 이미 방문 목표 지역 안에서 시작한 경우 이동을 기다리지 않고 바로 처리
+        progressService.handleLocationCheck(player, player.getLocation());
         
         plugin.getLogger().info("퀘스트 시작 완료 [" + player.getName() + "]: " + questId.name() + " (Instance: " + instanceId + ")");
         return true;
     }
 
     /**
-     * 퀘스트 목표 진행
+     * 퀘스트 취소
      */
-    public void progressObjective(@NotNull Event event, @NotNull Player player) {
-        UUID playerId = player.getUniqueId();
+    public boolean cancelQuest(@NotNull UUID playerId, @NotNull String instanceId) {
         PlayerQuestData playerData = getPlayerData(playerId);
-        boolean dataChanged = false;
+        ActiveQuestState state = playerData.activeQuests.remove(instanceId);
 
-        for (Map.Entry<String, ActiveQuestDTO> entry : playerData.activeQuests.entrySet()) {
-            String instanceId = entry.getKey();
-            ActiveQuestDTO activeData = entry.getValue();
-            Quest quest = getQuest(QuestID.valueOf(activeData.questId()));
-            if (quest == null) continue;
-            
-            // DTO에서 QuestProgress 복원
-            Map<String, ObjectiveProgress> progressMap = new HashMap<>();
-            activeData.progress().forEach((key, value) -> progressMap.put(key, ObjectiveProgress.from(value, playerId)));
-            QuestProgress questProgress = new QuestProgress(QuestID.valueOf(activeData.questId()), playerId, progressMap);
-
-            List<String> objectivesToProgress = new ArrayList<>();
-
-            if (quest.isSequential()) {
-                // 순차 진행 - 현재 목표만
-                int currentIndex = questProgress.getCurrentObjectiveIndex();
-                if (currentIndex < quest.getObjectives().size()) {
-                    objectivesToProgress.add(quest.getObjectives().get(currentIndex).getId());
-                }
-            } else {
-                // 자유 진행 - 모든 미완료 목표
-                objectivesToProgress = quest.getObjectives().stream().map(QuestObjective::getId).filter(id -> !questProgress.isObjectiveComplete(id)).collect(Collectors.toList());
+        if (state == null) {
+            // 등록되지 않은 퀘스트의 보존 데이터 취소
+            if (playerData.unresolvedQuests.remove(instanceId) != null) {
+                markForSave(playerId);
+                return true;
             }
+            return false;
+        }
 
-            // 각 목표에 대해 진행도 체크
-            for (String objectiveId : objectivesToProgress) {
-                var objective = quest.getObjectives().stream().filter(obj -> obj.getId().equals(objectiveId)).findFirst().orElse(null);
-
-                if (objective == null) continue;
-
-                if (objective.canProgress(event, player)) {
-                    int increment = objective.calculateIncrement(event, player);
-                    if (increment > 0) {
-                        ObjectiveProgress objProgress = questProgress.getObjective(objectiveId);
-                        if (objProgress != null) {
-                            objProgress.increment(increment);
-
-                            // 목표 완료 체크
-                            if (objective.isComplete(objProgress)) {
-                                // 목표 완료 알림
-                                QuestUtil.notifyObjectiveComplete(player, quest, questProgress, objective, plugin);
-
-                                // 순차 진행인 경우 다음 목표로
-                                if (quest.isSequential()) {
-                                    questProgress.setCurrentObjectiveIndex(questProgress.getCurrentObjectiveIndex() + 1);
-                                }
-                            }
+        objectiveIndex.removeQuest(playerId, instanceId);
 
-                            dataChanged = true;
-                        }
-                    }
-                }
-            }
-
-            // 진행도가 변경된 경우 새로운 DTO 생성
-            if (dataChanged) {
-                ActiveQuestDTO updatedData = ActiveQuestDTO.create(
-                    activeData.questId(),
-                    activeData.instanceId(),
-                    questProgress.getObjectives()
-                );
-                playerData.activeQuests.put(instanceId, updatedData);
-            }
-            
-            // 퀘스트 완료 체크
-            if (isQuestComplete(quest, questProgress)) {
-                completeQuest(player, instanceId);
-                dataChanged = true;
-            }
+        // NPC 인덱스 정리
+        Quest quest = getQuest(state.getQuestId());
+        if (quest != null) {
+            unregisterNPCObjectives(playerId, instanceId, quest);
         }
 
-        if (dataChanged) {
-            playerData.lastUpdated = System.currentTimeMillis();
-            markForSave(playerId);
-        }
-    }
+        // 저장 예약
+        markForSave(playerId);
 
-    /**
-     * 퀘스트 취소
-     */
-    public boolean cancelQuest(@NotNull UUID playerId, @NotNull String instanceId) {
-        PlayerQuestData playerData = getPlayerData(playerId);
-        ActiveQuestDTO activeData = playerData.activeQuests.get(instanceId);
-        
-        if (activeData == null) {
-            return false;
-        }
-        
-        try {
-            QuestID questId = QuestID.valueOf(activeData.questId());
-            Quest quest = getQuest(questId);
-            
-            // 퀘스트 제거
-            playerData.activeQuests.remove(instanceId);
-            
-            // NPC 인덱스 정리
-            if (quest != null) {
-                unregisterNPCObjectives(playerId, instanceId, quest);
-            }
-            
-            // 저장 예약
-            markForSave(playerId);
-            
-            return true;
-        } catch (IllegalArgumentException e) {
-            plugin.getLogger().warning("잘못된 퀘스트 ID로 취소 시도: " + activeData.questId());
-            return false;
-        }
-    }
-    
-    /**
-     * 퀘스트 완료 여부 확인
-     */
-    private boolean isQuestComplete(@NotNull Quest quest, @NotNull QuestProgress progress) {
-        return progress.areAllObjectivesComplete();
+        return true;
     }
 
     /**
@@ -525,17 +565,14 @@ public class QuestManager {
     public void completeQuest(@NotNull Player player, @NotNull String instanceId) {
         UUID playerId = player.getUniqueId();
         PlayerQuestData playerData = getPlayerData(playerId);
-        ActiveQuestDTO activeData = playerData.activeQuests.get(instanceId);
-        if (activeData == null) return;
-        
-        // ActiveQuestDTO에서 QuestProgress 생성
-        Map<String, ObjectiveProgress> progressMap = new HashMap<>();
-        activeData.progress().forEach((key, value) -> progressMap.put(key, ObjectiveProgress.from(value, playerId)));
-        QuestProgress progress = new QuestProgress(QuestID.valueOf(activeData.questId()), playerId, progressMap);
-        QuestID questId = QuestID.valueOf(activeData.questId());
-
-        // 진행중 목록에서 제거
-        playerData.activeQuests.remove(instanceId);
+
+        // 진행중 목록에서 제거 (동시 호출 시 한 번만 완료 처리)
+        ActiveQuestState state = playerData.activeQuests.remove(instanceId);
+        if (state == null) return;
+        objectiveIndex.removeQuest(playerId, instanceId);
+
+        QuestProgress progress = state.toQuestProgress(playerId);
+        QuestID questId = state.getQuestId();
         
         // NPC 목표 인덱스 제거
         Quest quest = getQuest(questId);
@@ -544,8 +581,7 @@ public class QuestManager {
         }
 
         // 총 완료 횟수 계산
-        int totalCompletions = QuestManagerHelper.getTotalCompletionCount(
-                playerData.completedQuests, playerData.claimedQuests, questId);
+        int totalCompletions = playerData.getCompletionCount(questId);
         int newCompletionCount = totalCompletions + 1;
         
         // 보상 아이템 개수 확인
@@ -564,6 +600,7 @@ public class QuestManager {
                 totalItemCount
         );
         playerData.completedQuests.put(instanceId, completed);
+        playerData.recordCompletion(questId);
 
         // 저장 예약
         markForSave(playerId);
@@ -586,39 +623,103 @@ public class QuestManager {
             return CompletableFuture.completedFuture(null);
         }
 
-        return questService.getPlayerQuests(playerId).thenAccept(dto -> {
-            PlayerQuestData data = new PlayerQuestData();
+        // 실패 시 빈 데이터를 캐시에 넣으면 다음 저장이 기존 문서를 덮어쓰므로 캐시하지 않음 (저장 대상에서 제외)
+        return questService.getPlayerQuests(playerId).thenAccept(dto -> applyLoadedData(playerId, dto)).exceptionally(ex -> {
+            plugin.getLogger().severe("퀘스트 데이터 로드 실패 [" + playerId + "]: " + ex.getMessage());
+            discardPlayerData(playerId);
+            return null;
+        });
+    }
 
-            // 활성 퀘스트 변환
-            data.activeQuests.putAll(dto.activeQuests());
+    /**
+     * 플레이어 데이터 로드 (접속 전에 미리 불러온 문서 사용, Firestore 조회 없음)
+     * 모든 목표를 달성한 채 저장된 퀘스트는 여기서 완료 처리
+     *
+     * @param dto 미리 불러온 퀘스트 문서 (문서가 없었으면 null - 파싱에 실패한 문서는 여기까지 오지 않음)
+     */
+    public void loadPlayerData(@NotNull Player player, @Nullable PlayerQuestDTO dto) {
+        UUID playerId = player.getUniqueId();
+        applyLoadedData(playerId, dto != null ? dto : new PlayerQuestDTO(playerId.toString()));
+        completeFinishedQuests(player);
+    }
 
-            // 완료된 퀘스트 변환 (보상 미수령)
-            data.completedQuests.putAll(dto.completedQuests());
+    /**
+     * 모든 목표를 달성했지만 완료 처리되지 않은 퀘스트 완료
+     * (퇴장 / 종료 중 반영된 진행도로 마지막 목표가 끝난 경우 - 완료된 목표는 인덱스에 없어 이후 이벤트로는 완료되지 않음)
+     */
+    private void completeFinishedQuests(@NotNull Player player) {
+        PlayerQuestData playerData = playerDataCache.get(player.getUniqueId());
+        if (playerData == null) return;
+
+        List<String> finished = new ArrayList<>();
+        playerData.activeQuests.forEach((instanceId, state) -> {
+            if (state.areAllCompleted()) {
+                finished.add(instanceId);
+            }
+        });
+        finished.forEach(instanceId -> completeQuest(player, instanceId));
+    }
 
-            // 보상 수령 완료 퀘스트 변환
-            data.claimedQuests.putAll(dto.claimedQuests());
+    /**
+     * 불러온 퀘스트 문서를 메모리 상태로 변환하여 적용
+     */
+    private void applyLoadedData(@NotNull UUID playerId, @NotNull PlayerQuestDTO dto) {
+        PlayerQuestData data = new PlayerQuestData();
 
-            data.lastUpdated = dto.lastUpdated();
-            playerDataCache.put(playerId, data);
-            
-            // 활성 퀘스트의 NPC 목표 인덱스 재구성
-            rebuildNPCIndexForPlayer(playerId, data);
-
-            plugin.getLogger().info("퀘스트 데이터 로드 완료 [" + playerId + "]: " + 
-                "활성 퀘스트 " + data.activeQuests.size() + "개, " + 
-                "완료 퀘스트 " + data.completedQuests.size() + "개, " +
-                "보상 수령 완료 " + data.claimedQuests.size() + "개");
-        }).exceptionally(ex -> {
-            plugin.getLogger().severe("퀘스트 데이터 로드 실패 [" + playerId + "]: " + ex.getMessage());
-            playerDataCache.put(playerId, new PlayerQuestData());
-            return null;
+        // 활성 퀘스트 변환 (저장 데이터 -> 가변 진행 상태)
+        dto.activeQuests().forEach((instanceId, activeData) -> {
+            Quest quest = resolveQuest(activeData.questId());
+            if (quest != null) {
+                data.activeQuests.put(instanceId, ActiveQuestState.fromDTO(quest, activeData));
+            } else {
+                data.unresolvedQuests.put(instanceId, activeData);
+            }
         });
+
+        // 완료된 퀘스트 변환 (보상 미수령)
+        data.completedQuests.putAll(dto.completedQuests());
+
+        // 보상 수령 완료 퀘스트 변환
+        data.claimedQuests.putAll(dto.claimedQuests());
+        data.questHistory.putAll(dto.questHistory());
+
+        // 오래된 보상 수령 기록 압축 (압축된 경우 다음 저장 시 전체 문서로 기록)
+        int folded = QuestManagerHelper.compactClaimedQuests(data.claimedQuests, data.questHistory,
+                getClaimedKeepRecent(), currentPeriodClaims());
+        data.rebuildCompletionIndex();
+
+        // 접속하지 않은 동안 지난 일일 / 주간 초기화 적용 (문서의 초기화 세대 기준)
+        data.dailyResetEpoch = dto.dailyResetEpoch();
+        data.weeklyResetEpoch = dto.weeklyResetEpoch();
+        long now = System.currentTimeMillis();
+        boolean expired = resetPeriods(playerId, data, UnifiedTimeUtil.dailyEpoch(now), UnifiedTimeUtil.weeklyEpoch(now));
+        rebuildPeriodCompletions(data);
+
+        data.lastUpdated = dto.lastUpdated();
+        playerDataCache.put(playerId, data);
+        if (folded > 0 || expired) {
+            markForSave(playerId);
+        }
+        
+        // 활성 퀘스트의 NPC 목표 인덱스 재구성
+        rebuildNPCIndexForPlayer(playerId, data);
+        
+        // 활성 퀘스트의 목표 타입 인덱스 재구성
+        rebuildObjectiveIndexForPlayer(playerId, data);
+
+        plugin.getLogger().info("퀘스트 데이터 로드 완료 [" + playerId + "]: " + 
+            "활성 퀘스트 " + data.activeQuests.size() + "개, " + 
+            "완료 퀘스트 " + data.completedQuests.size() + "개, " +
+            "보상 수령 완료 " + data.claimedQuests.size() + "개");
     }
 
     /**
      * 플레이어 데이터 언로드 (로그아웃 시)
      */
     public void unloadPlayerData(@NotNull UUID playerId) {
+        // 이번 틱에 누적된 목표 진행도를 캐시에서 제거하기 전에 반영
+        progressService.flushPendingProgress(playerId);
+
         // 데이터 저장
         if (pendingSaves.contains(playerId)) {
             savePlayerData(playerId);
@@ -626,12 +727,23 @@ public class QuestManager {
         
         // NPC 인덱스 정리
         cleanupPlayerNPCIndex(playerId);
+        objectiveIndex.removePlayer(playerId);
         
         // 캐시에서 제거
         playerDataCache.remove(playerId);
         pendingSaves.remove(playerId);
     }
     
+    /**
+     * 플레이어 데이터를 저장하지 않고 제거 (로드 실패 시 - 일부만 적용된 상태가 저장되지 않도록)
+     */
+    public void discardPlayerData(@NotNull UUID playerId) {
+        cleanupPlayerNPCIndex(playerId);
+        objectiveIndex.removePlayer(playerId);
+        playerDataCache.remove(playerId);
+        pendingSaves.remove(playerId);
+    }
+
     /**
      * 플레이어의 NPC 인덱스 정리
      */
@@ -653,11 +765,17 @@ public class QuestManager {
      */
     @NotNull
     private PlayerQuestDTO convertToDTO(@NotNull UUID playerId, @NotNull PlayerQuestData data) {
+        Map<String, ActiveQuestDTO> activeQuests = new HashMap<>(data.unresolvedQuests);
+        data.activeQuests.forEach((instanceId, state) -> activeQuests.put(instanceId, state.toDTO()));
+
         PlayerQuestDTO dto = new PlayerQuestDTO(
             playerId.toString(),
-            new HashMap<>(data.activeQuests),
+            activeQuests,
             new HashMap<>(data.completedQuests),
             new HashMap<>(data.claimedQuests),
+            new HashMap<>(data.questHistory),
+            data.dailyResetEpoch,
+            data.weeklyResetEpoch,
             data.lastUpdated
         );
         
@@ -675,35 +793,134 @@ public class QuestManager {
      */
     public void savePlayerData(@NotNull UUID playerId) {
         PlayerQuestData data = playerDataCache.get(playerId);
+        // 저장 중 새로 발생한 변경은 다시 예약되도록 먼저 제거
+        pendingSaves.remove(playerId);
         if (data == null) {
-            pendingSaves.remove(playerId);
             return;
         }
 
-        // DTO로 변환
-        PlayerQuestDTO dto = convertToDTO(playerId, data);
-
-        // QuestFirestoreService를 사용하여 저장
-        if (questService != null) {
-            questService.savePlayerQuests(playerId, dto).thenRun(() -> {
-                pendingSaves.remove(playerId);
-                plugin.getLogger().info("퀘스트 데이터 저장 완료: " + playerId);
-            }).exceptionally(throwable -> {
-                plugin.getLogger().severe("퀘스트 데이터 저장 실패 [" + playerId + "]: " + throwable.getMessage());
-                // 실패한 경우 다시 저장 대기열에 추가
-                pendingSaves.add(playerId);
-                return null;
-            });
-        } else {
+        if (questService == null) {
             plugin.getLogger().warning("QuestFirestoreService가 null입니다. 퀘스트 데이터를 저장할 수 없습니다.");
-            pendingSaves.remove(playerId);
+            return;
+        }
+
+        writePlayerData(playerId, data).thenRun(() ->
+                plugin.getLogger().info("퀘스트 데이터 저장 완료: " + playerId)
+        ).exceptionally(throwable -> {
+            plugin.getLogger().severe("퀘스트 데이터 저장 실패 [" + playerId + "]: " + throwable.getMessage());
+            // 실패한 경우 다시 저장 대기열에 추가
+            pendingSaves.add(playerId);
+            return null;
+        });
+    }
+
+    /**
+     * 플레이어 데이터 기록
+     * 문서 구조가 바뀐 경우 전체 문서를, 진행도만 바뀐 경우 바뀐 목표 필드만 기록
+     * 실패 시 다음 저장은 전체 문서로 기록 (누락된 필드 단위 변경 복구)
+     */
+    @NotNull
+    private CompletableFuture<Void> writePlayerData(@NotNull UUID playerId, @NotNull PlayerQuestData data) {
+        // 스냅샷 직전의 저널 순번 (저장 성공 시 그 이전 레코드 확인 처리)
+        WriteAheadJournal journal = WriteAheadJournal.getInstance();
+        long journalSequence = journal != null ? journal.currentSequence() : 0L;
+
+        CompletableFuture<Void> write;
+
+        if (data.structureDirty) {
+            data.structureDirty = false;
+            data.activeQuests.values().forEach(ActiveQuestState::clearDirty);
+            write = questService.savePlayerQuests(playerId, convertToDTO(playerId, data));
+        } else {
+            Map<StorageFieldPath, Object> fields = collectProgressFields(data);
+            if (fields.isEmpty()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            write = questService.updateFields(playerId, fields);
         }
+
+        return write.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                data.structureDirty = true;
+            } else if (journal != null) {
+                journal.acknowledge(playerId, JournalRecord.Type.QUEST_PROGRESS, journalSequence);
+            }
+        });
+    }
+
+    /**
+     * 마지막 저장 이후 바뀐 목표의 필드 단위 변경 목록
+     * activeQuests.<instanceId>.progress.<objectiveId>.{progress, completed, lastUpdated}
+     */
+    @NotNull
+    private Map<StorageFieldPath, Object> collectProgressFields(@NotNull PlayerQuestData data) {
+        Map<StorageFieldPath, Object> fields = new HashMap<>();
+
+        data.activeQuests.forEach((instanceId, state) -> {
+            for (ObjectiveProgressDTO objective : state.drainDirtyObjectives()) {
+                String objectiveId = objective.objectiveId();
+                fields.put(QuestFirestoreService.objectiveField(instanceId, objectiveId, "progress"), objective.progress());
+                fields.put(QuestFirestoreService.objectiveField(instanceId, objectiveId, "completed"), objective.completed());
+                fields.put(QuestFirestoreService.objectiveField(instanceId, objectiveId, "lastUpdated"), objective.lastUpdated());
+            }
+        });
+
+        if (!fields.isEmpty()) {
+            fields.put(QuestFirestoreService.lastUpdatedField(), data.lastUpdated);
+        }
+        return fields;
     }
 
     /**
-     * 저장 예약
+     * 마지막 저장 이후 바뀐 목표만 담은 병합 저장용 부분 문서 ({@link #collectProgressFields}의 중첩 맵 형태)
+     */
+    @NotNull
+    private Map<String, Object> collectProgressDocument(@NotNull PlayerQuestData data) {
+        Map<String, Object> document = new HashMap<>();
+
+        data.activeQuests.forEach((instanceId, state) -> {
+            for (ObjectiveProgressDTO objective : state.drainDirtyObjectives()) {
+                QuestFirestoreService.putObjective(document, instanceId, objective);
+            }
+        });
+
+        if (!document.isEmpty()) {
+            QuestFirestoreService.putLastUpdated(document, data.lastUpdated);
+        }
+        return document;
+    }
+
+    /**
+     * 목표 진행도 변경을 로컬 저널에 기록 (다음 저장 전 비정상 종료 시 복구용)
+     */
+    public void journalProgress(@NotNull UUID playerId, @NotNull ActiveQuestState state, int ordinal) {
+        WriteAheadJournal journal = WriteAheadJournal.getInstance();
+        if (journal != null) {
+            journal.append(JournalRecord.questProgress(playerId, state.getInstanceId(), state.getObjectiveId(ordinal),
+                    state.getValue(ordinal), state.isCompleted(ordinal)));
+        }
+    }
+
+    /**
+     * 저장 예약 (문서 구조 변경 - 다음 저장 시 전체 문서 기록)
      */
     public void markForSave(@NotNull UUID playerId) {
+        PlayerQuestData data = playerDataCache.get(playerId);
+        if (data != null) {
+            data.lastUpdated = System.currentTimeMillis();
+            data.structureDirty = true;
+        }
+        pendingSaves.add(playerId);
+    }
+
+    /**
+     * 저장 예약 (활성 퀘스트 목표 진행도만 변경 - 다음 저장 시 바뀐 필드만 기록)
+     */
+    public void markProgressForSave(@NotNull UUID playerId) {
+        PlayerQuestData data = playerDataCache.get(playerId);
+        if (data != null) {
+            data.lastUpdated = System.currentTimeMillis();
+        }
         pendingSaves.add(playerId);
     }
 
@@ -712,26 +929,11 @@ public class QuestManager {
      * NPCInteractListener에서 호출됨
      */
     public boolean checkQuestCompletion(@NotNull UUID playerId, @NotNull String instanceId) {
-        PlayerQuestData playerData = getPlayerData(playerId);
-        ActiveQuestDTO activeData = playerData.activeQuests.get(instanceId);
-        if (activeData == null) return false;
-
-        QuestID questId = QuestID.valueOf(activeData.questId());
-        Quest quest = getQuest(questId);
-        if (quest == null) return false;
-
-        // ActiveQuestDTO에서 QuestProgress 생성
-        Map<String, ObjectiveProgress> progressMap = new HashMap<>();
-        activeData.progress().forEach((key, value) -> progressMap.put(key, ObjectiveProgress.from(value, playerId)));
-        QuestProgress progress = new QuestProgress(questId, playerId, progressMap);
+        ActiveQuestState state = getActiveQuestState(playerId, instanceId);
+        if (state == null) return false;
 
         // 모든 목표가 완료되었는지 확인
-        boolean allObjectivesComplete = quest.getObjectives().stream().allMatch(obj -> {
-            ObjectiveProgress objProgress = progress.getObjective(obj.getId());
-            return objProgress != null && objProgress.isCompleted();
-        });
-
-        if (allObjectivesComplete) {
+        if (state.areAllCompleted()) {
             // 퀘스트 완료 처리
             Player player = Bukkit.getPlayer(playerId);
             if (player != null) {
@@ -762,41 +964,245 @@ public class QuestManager {
     }
 
     /**
-     * 지역 방문 체크 스케줄러 시작
+     * 완료 제한 판정용 완료 횟수
+     * 일일 / 주간 퀘스트는 현재 초기화 주기 내 완료 횟수, 그 외에는 총 완료 횟수
      */
-    private void startLocationCheckScheduler() {
-        locationCheckTask = new LocationCheckTask(plugin);
-        // 3초마다 실행 (60틱 = 3초)
-        locationCheckScheduler = Bukkit.getScheduler().runTaskTimer(plugin, locationCheckTask, 60L, 60L);
+    private int getLimitedCompletionCount(@NotNull PlayerQuestData data, @NotNull Quest quest) {
+        if (quest.isDaily() || quest.isWeekly()) {
+            return data.periodCompletions[quest.getId().ordinal()];
+        }
+        return data.getCompletionCount(quest.getId());
     }
 
     /**
-     * 플레이어 퇴장 시 캐시 정리
+     * 일일 / 주간 초기화 적용 (QuestRotationService에서 접속 중인 플레이어마다 호출, 메인 스레드)
+     * 이미 해당 세대가 적용된 플레이어는 아무것도 하지 않음
      */
-    public void clearPlayerCache(@NotNull UUID playerId) {
-        // LocationCheckTask 캐시 정리
-        if (locationCheckTask != null) {
-            locationCheckTask.clearPlayerCache(playerId);
+    public void applyPeriodReset(@NotNull UUID playerId, long dailyEpoch, long weeklyEpoch) {
+        PlayerQuestData data = playerDataCache.get(playerId);
+        if (data == null) return;
+
+        if (resetPeriods(playerId, data, dailyEpoch, weeklyEpoch)) {
+            markForSave(playerId);
         }
+        rebuildPeriodCompletions(data);
     }
-    
+
+    /**
+     * 지난 초기화 주기에 시작해 완료하지 못한 일일 / 주간 퀘스트를 만료시키고 초기화 세대 갱신
+     * (완료 후 보상 미수령 퀘스트는 유지)
+     *
+     * @return 만료된 퀘스트가 있는지 여부
+     */
+    private boolean resetPeriods(@NotNull UUID playerId, @NotNull PlayerQuestData data, long dailyEpoch, long weeklyEpoch) {
+        boolean dailyReset = data.dailyResetEpoch < dailyEpoch;
+        boolean weeklyReset = data.weeklyResetEpoch < weeklyEpoch;
+        if (!dailyReset && !weeklyReset) return false;
+
+        long dailyStart = UnifiedTimeUtil.startOfDailyEpoch(dailyEpoch);
+        long weeklyStart = UnifiedTimeUtil.startOfWeeklyEpoch(weeklyEpoch);
+        boolean expired = false;
+
+        Iterator<Map.Entry<String, ActiveQuestState>> iterator = data.activeQuests.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, ActiveQuestState> entry = iterator.next();
+            ActiveQuestState state = entry.getValue();
+            Quest quest = getQuest(state.getQuestId());
+            if (quest == null) continue;
+
+            boolean expiredDaily = dailyReset && quest.isDaily() && state.getStartedAt() < dailyStart;
+            boolean expiredWeekly = weeklyReset && quest.isWeekly() && state.getStartedAt() < weeklyStart;
+            if (!expiredDaily && !expiredWeekly) continue;
+
+            iterator.remove();
+            objectiveIndex.removeQuest(playerId, entry.getKey());
+            unregisterNPCObjectives(playerId, entry.getKey(), quest);
+            expired = true;
+        }
+
+        data.dailyResetEpoch = Math.max(data.dailyResetEpoch, dailyEpoch);
+        data.weeklyResetEpoch = Math.max(data.weeklyResetEpoch, weeklyEpoch);
+        return expired;
+    }
+
+    /**
+     * 현재 초기화 주기 내 일일 / 주간 퀘스트 완료 횟수 재구성 (완료 / 보상 수령 기록의 완료 시각 기준)
+     */
+    private void rebuildPeriodCompletions(@NotNull PlayerQuestData data) {
+        Arrays.fill(data.periodCompletions, 0);
+        long dailyStart = UnifiedTimeUtil.startOfDailyEpoch(data.dailyResetEpoch);
+        long weeklyStart = UnifiedTimeUtil.startOfWeeklyEpoch(data.weeklyResetEpoch);
+
+        data.completedQuests.values().forEach(c -> countPeriodCompletion(data, c.questId(), c.completedAt(), dailyStart, weeklyStart));
+        data.claimedQuests.values().forEach(c -> countPeriodCompletion(data, c.questId(), c.completedAt(), dailyStart, weeklyStart));
+    }
+
+    private void countPeriodCompletion(@NotNull PlayerQuestData data, @NotNull String questIdName, long completedAt,
+                                       long dailyStart, long weeklyStart) {
+        Quest quest = findPeriodQuest(questIdName, completedAt, dailyStart, weeklyStart);
+        if (quest != null) {
+            data.periodCompletions[quest.getId().ordinal()]++;
+        }
+    }
+
+    /**
+     * 완료 시각이 현재 일일 / 주간 기간에 속하는 일일 / 주간 퀘스트 (아니면 null)
+     */
+    @Nullable
+    private Quest findPeriodQuest(@NotNull String questIdName, long completedAt, long dailyStart, long weeklyStart) {
+        Quest quest;
+        try {
+            quest = getQuest(QuestID.valueOf(questIdName));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (quest == null) return null;
+
+        boolean inPeriod = (quest.isDaily() && completedAt >= dailyStart) || (quest.isWeekly() && completedAt >= weeklyStart);
+        return inPeriod ? quest : null;
+    }
+
+    /**
+     * 보상 수령 기록 압축에서 제외할 기록 (현재 일일 / 주간 기간의 완료 기록)
+     * 집계로 합쳐지면 기간 완료 횟수({@link #rebuildPeriodCompletions})에서 빠져 제한을 넘길 수 있음
+     */
+    @NotNull
+    private Predicate<ClaimedQuestDTO> currentPeriodClaims() {
+        long now = System.currentTimeMillis();
+        long dailyStart = UnifiedTimeUtil.startOfDailyEpoch(UnifiedTimeUtil.dailyEpoch(now));
+        long weeklyStart = UnifiedTimeUtil.startOfWeeklyEpoch(UnifiedTimeUtil.weeklyEpoch(now));
+        return claimed -> findPeriodQuest(claimed.questId(), claimed.completedAt(), dailyStart, weeklyStart) != null;
+    }
+
+    /**
+     * 보상 수령 기록 압축 스케줄러
+     * 접속 중 반복 / 일일 퀘스트를 계속 완료하는 플레이어의 기록도 주기적으로 집계에 합침 (메인 스레드)
+     */
+    private void startClaimedCompactionScheduler() {
+        int intervalMinutes = Math.max(1, plugin.getConfig().getInt("quest.claimed-history.compact-interval-minutes",
+                DEFAULT_CLAIMED_COMPACT_INTERVAL_MINUTES));
+        long intervalTicks = 20L * 60 * intervalMinutes;
+
+        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            int keepRecent = getClaimedKeepRecent();
+            Predicate<ClaimedQuestDTO> retain = currentPeriodClaims();
+            playerDataCache.forEach((playerId, data) -> {
+                if (QuestManagerHelper.compactClaimedQuests(data.claimedQuests, data.questHistory, keepRecent, retain) > 0) {
+                    markForSave(playerId);
+                }
+            });
+        }, intervalTicks, intervalTicks);
+    }
+
+    /**
+     * 퀘스트별로 남길 최근 보상 수령 기록 수
+     */
+    private int getClaimedKeepRecent() {
+        return Math.max(1, plugin.getConfig().getInt("quest.claimed-history.keep-recent", DEFAULT_CLAIMED_KEEP_RECENT));
+    }
+
+    /**
+     * 지역 방문 목표 공간 인덱스 재구성
+     * 퀘스트 리로드, 월드 로드 시 호출 (메인 스레드)
+     */
+    public void rebuildVisitTargetIndex() {
+        RegionSnapshot.refresh(quests.values());
+        visitTargetIndex = VisitTargetIndex.build(quests.values(), RegionSnapshot.current());
+    }
+
+    /**
+     * WorldGuard 영역 변경 감지 스케줄러
+     * 퀘스트 관련 영역의 형태가 바뀐 경우에만 스냅샷과 공간 인덱스를 교체
+     */
+    private void startRegionRefreshScheduler() {
+        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (RegionSnapshot.refresh(quests.values())) {
+                visitTargetIndex = VisitTargetIndex.build(quests.values(), RegionSnapshot.current());
+                plugin.getLogger().info("퀘스트 영역 스냅샷 갱신 (버전 " + RegionSnapshot.current().getVersion() + ")");
+            }
+        }, 20L * 30, 20L * 30); // 30초마다
+    }
+
+    /**
+     * 지역 방문 목표 공간 인덱스 반환
+     */
+    @NotNull
+    public VisitTargetIndex getVisitTargetIndex() {
+        return visitTargetIndex;
+    }
+
+    /**
+     * 종료 저장에 퀘스트 변경 추가 (서버 종료 시 {@link #shutdown} 전에 호출)
+     * 문서 구조가 바뀐 경우 전체 교체, 진행도만 바뀐 경우 바뀐 목표만 병합 저장으로 모음
+     * 저장에 성공하면 저널을 확인 처리하고, 보관소로 넘어가면 저널과 보관소에서 다음 시작 시 복구
+     */
+    public void stageShutdownFlush(@NotNull ShutdownFlusher flusher) {
+        // 이번 틱에 누적된 목표 진행도 반영
+        progressService.flushPendingProgress();
+
+        WriteAheadJournal journal = WriteAheadJournal.getInstance();
+        long journalSequence = journal != null ? journal.currentSequence() : 0L;
+
+        Set<UUID> allPlayers = new HashSet<>(playerDataCache.keySet());
+        allPlayers.addAll(pendingSaves);
+
+        int staged = 0;
+        for (UUID playerId : allPlayers) {
+            PlayerQuestData data = playerDataCache.get(playerId);
+            if (data == null) {
+                continue;
+            }
+
+            if (data.structureDirty) {
+                data.structureDirty = false;
+                data.activeQuests.values().forEach(ActiveQuestState::clearDirty);
+                Map<String, Object> document = convertToDTO(playerId, data).toMap();
+                // 전체 교체 저장은 문서 전체를 알고 있으므로 로컬 문서 캐시에도 기록
+                flusher.stage(QuestFirestoreService.COLLECTION_NAME, playerId.toString(), document, true, updateTime -> {
+                    acknowledge(journal, playerId, journalSequence);
+                    LocalDocumentStore store = LocalDocumentStore.getInstance();
+                    if (store != null) {
+                        store.put(QuestFirestoreService.COLLECTION_NAME, playerId.toString(), document, updateTime);
+                    }
+                });
+            } else {
+                Map<String, Object> document = collectProgressDocument(data);
+                if (document.isEmpty()) {
+                    continue;
+                }
+                flusher.stage(QuestFirestoreService.COLLECTION_NAME, playerId.toString(), document, false,
+                        updateTime -> acknowledge(journal, playerId, journalSequence));
+            }
+            staged++;
+        }
+        pendingSaves.clear();
+
+        plugin.getLogger().info("퀘스트 데이터 종료 저장 추가: " + staged + "명");
+    }
+
+    private static void acknowledge(@Nullable WriteAheadJournal journal, @NotNull UUID playerId, long journalSequence) {
+        if (journal != null) {
+            journal.acknowledge(playerId, JournalRecord.Type.QUEST_PROGRESS, journalSequence);
+        }
+    }
+
     /**
      * 매니저 종료
      */
     public void shutdown() {
         plugin.getLogger().info("QuestManager 종료 중...");
 
-        // 지역 체크 스케줄러 중지
-        if (locationCheckScheduler != null && !locationCheckScheduler.isCancelled()) {
-            locationCheckScheduler.cancel();
-        }
+        // 이번 틱에 누적된 목표 진행도 반영
+        progressService.flushPendingProgress();
 
-        // 지역 체크 태스크 캐시 정리
-        if (locationCheckTask != null) {
-            locationCheckTask.clearAllCaches();
-        }
+        // 일일 / 주간 퀘스트 초기화 스케줄러 중지
+        rotationService.stop();
+
+        // 지역 방문 목표 공간 인덱스 및 영역 스냅샷 해제
+        visitTargetIndex = VisitTargetIndex.empty();
+        RegionSnapshot.reset();
 
-        // 모든 데이터를 동기적으로 저장
+        // 종료 저장(stageShutdownFlush)에 포함되지 않은 변경이 남아 있으면 여기서 저장
         plugin.getLogger().info("퀘스트 데이터 저장 중... (대기 중인 플레이어: " + pendingSaves.size() + "명)");
 
         // 캐시에 있는 모든 플레이어 데이터도 저장
@@ -808,11 +1214,8 @@ public class QuestManager {
         for (UUID playerId : allPlayers) {
             PlayerQuestData data = playerDataCache.get(playerId);
             if (data != null && questService != null) {
-                // DTO로 변환 (마지막 업데이트 시간 갱신)
-                data.lastUpdated = System.currentTimeMillis();
-                PlayerQuestDTO dto = convertToDTO(playerId, data);
-
-                CompletableFuture<Void> saveFuture = questService.savePlayerQuests(playerId, dto).thenRun(() -> plugin.getLogger().info("퀘스트 데이터 저장 완료: " + playerId)).exceptionally(throwable -> {
+                // 바뀐 내용만 기록 (구조 변경 시 전체 문서)
+                CompletableFuture<Void> saveFuture = writePlayerData(playerId, data).thenRun(() -> plugin.getLogger().info("퀘스트 데이터 저장 완료: " + playerId)).exceptionally(throwable -> {
                     plugin.getLogger().severe("퀘스트 데이터 저장 실패: " + playerId + " - " + throwable.getMessage());
                     return null;
                 });
@@ -834,6 +1237,7 @@ public class QuestManager {
         pendingSaves.clear();
         npcObjectiveIndex.clear();
         playerNPCObjectives.clear();
+        objectiveIndex.clear();
 
         plugin.getLogger().info("QuestManager 종료 완료.");
     }
@@ -1015,21 +1419,23 @@ public class QuestManager {
      */
     void updateQuestProgress(@NotNull UUID playerId, @NotNull String instanceId, @NotNull QuestProgress progress) {
         PlayerQuestData playerData = getPlayerData(playerId);
-        ActiveQuestDTO activeData = playerData.activeQuests.get(instanceId);
-        
-        if (activeData == null) {
+        ActiveQuestState state = playerData.activeQuests.get(instanceId);
+
+        if (state == null) {
             return;
         }
-        
-        // QuestProgress를 ActiveQuestDTO로 변환하여 저장
-        ActiveQuestDTO updatedData = ActiveQuestDTO.create(
-            activeData.questId(),
-            instanceId,
-            progress.getObjectives()
-        );
-        
-        playerData.activeQuests.put(instanceId, updatedData);
+
+        // QuestProgress의 값을 진행 상태에 반영
+        progress.getObjectives().forEach((objectiveId, objProgress) -> {
+            int ordinal = state.ordinalOf(objectiveId);
+            if (ordinal >= 0) {
+                state.set(ordinal, objProgress.getCurrentValue());
+                journalProgress(playerId, state, ordinal);
+            }
+        });
+
         playerData.lastUpdated = System.currentTimeMillis();
+        indexActiveQuest(playerId, instanceId, state);
     }
     
     /**
@@ -1059,22 +1465,67 @@ public class QuestManager {
         playerNPCObjectives.remove(playerId);
         
         // 플레이어의 모든 활성 퀘스트 인덱싱
-        for (Map.Entry<String, ActiveQuestDTO> entry : data.activeQuests.entrySet()) {
-            String instanceId = entry.getKey();
-            ActiveQuestDTO activeData = entry.getValue();
-            
-            try {
-                QuestID questId = QuestID.valueOf(activeData.questId());
-                Quest quest = getQuest(questId);
-                if (quest != null) {
-                    registerNPCObjectives(playerId, instanceId, quest);
-                }
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("잘못된 퀘스트 ID: " + activeData.questId());
+        data.activeQuests.forEach((instanceId, state) -> {
+            Quest quest = getQuest(state.getQuestId());
+            if (quest != null) {
+                registerNPCObjectives(playerId, instanceId, quest);
             }
+        });
+    }
+    
+    /**
+     * 활성 퀘스트를 목표 타입 인덱스에 (재)등록
+     */
+    private void indexActiveQuest(@NotNull UUID playerId, @NotNull String instanceId, @NotNull ActiveQuestState state) {
+        Quest quest = getQuest(state.getQuestId());
+        if (quest == null) {
+            objectiveIndex.removeQuest(playerId, instanceId);
+            return;
+        }
+
+        objectiveIndex.indexQuest(playerId, instanceId, quest, state::isCompleted);
+    }
+
+    /**
+     * 저장된 퀘스트 ID로 등록된 퀘스트 조회
+     */
+    @Nullable
+    private Quest resolveQuest(@NotNull String questId) {
+        try {
+            return getQuest(QuestID.valueOf(questId));
+        } catch (IllegalArgumentException e) {
+            plugin.getLogger().warning("잘못된 퀘스트 ID: " + questId);
+            return null;
         }
     }
     
+    /**
+     * 진행 상태를 현재 퀘스트 정의에 맞게 재생성 (퀘스트 리로드 시)
+     */
+    private void rebindActiveQuests(@NotNull PlayerQuestData data) {
+        Map<String, ActiveQuestDTO> snapshot = new HashMap<>(data.unresolvedQuests);
+        data.activeQuests.forEach((instanceId, state) -> snapshot.put(instanceId, state.toDTO()));
+
+        data.activeQuests.clear();
+        data.unresolvedQuests.clear();
+        snapshot.forEach((instanceId, activeData) -> {
+            Quest quest = resolveQuest(activeData.questId());
+            if (quest != null) {
+                data.activeQuests.put(instanceId, ActiveQuestState.fromDTO(quest, activeData));
+            } else {
+                data.unresolvedQuests.put(instanceId, activeData);
+            }
+        });
+    }
+
+    /**
+     * 플레이어의 목표 타입 인덱스 재구성 (데이터 로드 / 퀘스트 리로드 시)
+     */
+    private void rebuildObjectiveIndexForPlayer(@NotNull UUID playerId, @NotNull PlayerQuestData data) {
+        objectiveIndex.removePlayer(playerId);
+        data.activeQuests.forEach((instanceId, state) -> indexActiveQuest(playerId, instanceId, state));
+    }
+    
     /**
      * NPC 목표 인덱스 제거 (퀘스트 완료/취소 시)
      */
@@ -1125,115 +1576,83 @@ public class QuestManager {
         
         PlayerQuestData playerData = getPlayerData(playerId);
         boolean anyProgressMade = false;
-        
+
         // 관련된 모든 퀘스트 처리
         for (String instanceId : new ArrayList<>(relatedInstances)) {
-            ActiveQuestDTO activeData = playerData.activeQuests.get(instanceId);
-            if (activeData == null) continue;
-            
-            Quest quest = getQuest(QuestID.valueOf(activeData.questId()));
+            ActiveQuestState state = playerData.activeQuests.get(instanceId);
+            if (state == null) continue;
+
+            Quest quest = getQuest(state.getQuestId());
             if (quest == null) continue;
-            
-            // QuestProgress 복원
-            Map<String, ObjectiveProgress> progressMap = new HashMap<>();
-            activeData.progress().forEach((key, value) -> 
-                progressMap.put(key, ObjectiveProgress.from(value, playerId)));
-            QuestProgress progress = new QuestProgress(QuestID.valueOf(activeData.questId()), playerId, progressMap);
-            
+
             // 해당 NPC와 관련된 목표 처리
-            boolean questProgressMade = processNPCObjectives(player, quest, progress, npcId, instanceId);
-            
-            if (questProgressMade) {
+            if (processNPCObjectives(player, quest, state, npcId, instanceId)) {
                 anyProgressMade = true;
-                
-                // 진행도를 DTO로 다시 변환하여 저장
-                playerData.activeQuests.put(instanceId, ActiveQuestDTO.create(
-                    activeData.questId(),
-                    instanceId,
-                    progress.getObjectives()
-                ));
             }
         }
-        
+
         if (anyProgressMade) {
-            playerData.lastUpdated = System.currentTimeMillis();
-            markForSave(playerId);
+            markProgressForSave(playerId);
         }
     }
-    
+
     /**
      * NPC 관련 목표 처리 (내부 메서드)
      */
-    private boolean processNPCObjectives(@NotNull Player player, @NotNull Quest quest, 
-                                        @NotNull QuestProgress progress, @NotNull String npcId,
+    private boolean processNPCObjectives(@NotNull Player player, @NotNull Quest quest,
+                                        @NotNull ActiveQuestState state, @NotNull String npcId,
                                         @NotNull String instanceId) {
         boolean progressMade = false;
-        
-        // 순차/자유 진행 모드 확인
-        List<QuestObjective> objectivesToCheck = new ArrayList<>();
-        
-        if (quest.isSequential()) {
-            int currentIndex = progress.getCurrentObjectiveIndex();
-            if (currentIndex < quest.getObjectives().size()) {
-                objectivesToCheck.add(quest.getObjectives().get(currentIndex));
-            }
-        } else {
-            // 자유 진행 - 모든 미완료 목표
-            for (QuestObjective obj : quest.getObjectives()) {
-                ObjectiveProgress objProgress = progress.getObjective(obj.getId());
-                if (objProgress != null && !objProgress.isCompleted()) {
-                    objectivesToCheck.add(obj);
-                }
-            }
-        }
-        
+        List<QuestObjective> objectives = quest.getObjectives();
+
+        // 순차 진행 - 현재 목표만, 자유 진행 - 모든 미완료 목표
+        int from = quest.isSequential() ? state.getCurrentStep() : 0;
+        int to = quest.isSequential() ? Math.min(from + 1, objectives.size()) : objectives.size();
+
         // NPC 목표 처리
-        for (QuestObjective objective : objectivesToCheck) {
-            if (objective instanceof com.febrie.rpg.quest.objective.impl.InteractNPCObjective npcObjective) {
-                if (npcObjective.getNpcId().equals(npcId)) {
-                    ObjectiveProgress objProgress = progress.getObjective(objective.getId());
-                    if (objProgress != null && !objProgress.isCompleted()) {
-                        // 진행도 증가
-                        objProgress.increment(1);
-                        progressMade = true;
-                        
-                        // 완료 체크
-                        if (objProgress.isCompleted()) {
-                            handleObjectiveCompletion(player, quest, objective, progress, instanceId);
-                        } else {
-                            // 진행도 알림
-                            notifyObjectiveProgress(player, quest, objective, objProgress);
-                        }
-                    }
+        for (int ordinal = from; ordinal < to; ordinal++) {
+            if (state.isCompleted(ordinal)) continue;
+
+            QuestObjective objective = objectives.get(ordinal);
+            if (objective instanceof com.febrie.rpg.quest.objective.impl.InteractNPCObjective npcObjective
+                    && npcObjective.getNpcId().equals(npcId)) {
+                // 진행도 증가
+                progressMade = true;
+
+                // 완료 체크
+                boolean completed = state.increment(ordinal, 1);
+                journalProgress(player.getUniqueId(), state, ordinal);
+                if (completed) {
+                    handleObjectiveCompletion(player, quest, objective, instanceId);
+                } else {
+                    // 진행도 알림
+                    notifyObjectiveProgress(player, quest, objective, state.toObjectiveProgress(ordinal, player.getUniqueId()));
                 }
             }
         }
-        
+
         return progressMade;
     }
-    
+
     /**
      * 목표 완료 처리
      */
-    private void handleObjectiveCompletion(@NotNull Player player, @NotNull Quest quest, 
-                                          @NotNull QuestObjective objective, @NotNull QuestProgress progress,
-                                          @NotNull String instanceId) {
+    private void handleObjectiveCompletion(@NotNull Player player, @NotNull Quest quest,
+                                          @NotNull QuestObjective objective, @NotNull String instanceId) {
         // 완료 알림
         Component objectiveDesc = quest.getObjectiveDescription(objective, player);
         Component message = Component.text("✓ ", UnifiedColorUtil.SUCCESS)
                 .append(objectiveDesc.color(UnifiedColorUtil.SUCCESS));
         player.sendMessage(message);
         SoundUtil.playSuccessSound(player);
-        
-        // 순차 진행인 경우 다음 목표로
-        if (quest.isSequential()) {
-            progress.setCurrentObjectiveIndex(progress.getCurrentObjectiveIndex() + 1);
-        }
-        
+
+        // 순차 진행인 경우 다음 목표로 (인덱스 갱신)
+        onObjectiveCompleted(player.getUniqueId(), instanceId);
+
         // 퀘스트 전체 완료 체크
         checkQuestCompletion(player.getUniqueId(), instanceId);
     }
-    
+
     /**
      * 목표 진행도 알림
      */
@@ -1277,15 +1696,20 @@ public class QuestManager {
         
         // 모든 활성 퀘스트 취소
         playerData.activeQuests.clear();
+        playerData.unresolvedQuests.clear();
         
         // 모든 완료된 퀘스트 제거
         playerData.completedQuests.clear();
         
         // 모든 보상 받은 퀘스트 제거
         playerData.claimedQuests.clear();
+        playerData.questHistory.clear();
+        playerData.rebuildCompletionIndex();
+        rebuildPeriodCompletions(playerData);
         
         // NPC 인덱스 초기화
         npcObjectiveIndex.clear();
+        objectiveIndex.removePlayer(playerId);
         
         // 저장 예약
         markForSave(playerId);
@@ -1298,8 +1722,11 @@ public class QuestManager {
         PlayerQuestData playerData = getPlayerData(playerId);
         
         // 활성 퀘스트에서 제거
-        playerData.activeQuests.entrySet().removeIf(entry -> 
-            entry.getValue().questId().equals(questId.name()));
+        playerData.activeQuests.entrySet().removeIf(entry -> {
+            if (entry.getValue().getQuestId() != questId) return false;
+            objectiveIndex.removeQuest(playerId, entry.getKey());
+            return true;
+        });
         
         // 완료된 퀘스트에서 제거
         playerData.completedQuests.entrySet().removeIf(entry -> 
@@ -1308,6 +1735,9 @@ public class QuestManager {
         // 보상 받은 퀘스트에서 제거
         playerData.claimedQuests.entrySet().removeIf(entry -> 
             entry.getValue().questId().equals(questId.name()));
+        playerData.questHistory.remove(questId.name());
+        playerData.rebuildCompletionIndex();
+        rebuildPeriodCompletions(playerData);
         
         // 저장 예약
         markForSave(playerId);
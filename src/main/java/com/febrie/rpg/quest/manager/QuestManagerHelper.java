@@ -4,10 +4,16 @@ import com.febrie.rpg.quest.QuestID;
 import com.febrie.rpg.dto.quest.ActiveQuestDTO;
 import com.febrie.rpg.dto.quest.ClaimedQuestDTO;
 import com.febrie.rpg.dto.quest.CompletedQuestDTO;
+import com.febrie.rpg.dto.quest.QuestHistoryDTO;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 
 /**
  * QuestManager용 헬퍼 메서드들
@@ -76,27 +82,44 @@ public class QuestManagerHelper {
     }
     
     /**
-     * 퀘스트의 총 완료 횟수 계산
+     * 보상 수령 기록 압축
+     * 퀘스트별로 최근 keepRecent개의 인스턴스 기록만 남기고, 나머지는 퀘스트별 집계(questHistory)에 합침
+     * 집계에는 완료 횟수만 남으므로, 일일 / 주간 완료 횟수 계산에 필요한 기록(retain)은 합치지 않음
+     *
+     * @param keepRecent 퀘스트별로 남길 최근 기록 수 (1 이상)
+     * @param retain     개수와 관계없이 남길 기록 (현재 일일 / 주간 기간의 완료 기록)
+     * @return 집계로 합쳐진 기록 수
      */
-    public static int getTotalCompletionCount(@NotNull Map<String, CompletedQuestDTO> completedQuests,
-                                             @NotNull Map<String, ClaimedQuestDTO> claimedQuests,
-                                             @NotNull QuestID questId) {
-        int count = 0;
-        
-        // 현재 완료된 퀘스트
-        CompletedQuestDTO completed = findCompletedQuest(completedQuests, questId);
-        if (completed != null) {
-            count += completed.completionCount();
-        }
-        
-        // 과거에 보상까지 받은 퀘스트들
-        for (ClaimedQuestDTO claimed : claimedQuests.values()) {
-            if (claimed.questId().equals(questId.name())) {
-                count += claimed.completionCount();
+    public static int compactClaimedQuests(@NotNull Map<String, ClaimedQuestDTO> claimedQuests,
+                                           @NotNull Map<String, QuestHistoryDTO> questHistory,
+                                           int keepRecent,
+                                           @NotNull Predicate<ClaimedQuestDTO> retain) {
+        int limit = Math.max(1, keepRecent);
+        if (claimedQuests.size() <= limit) return 0;
+
+        // 퀘스트 ID -> 인스턴스 ID 목록
+        Map<String, List<String>> byQuest = new HashMap<>();
+        claimedQuests.forEach((instanceId, claimed) ->
+                byQuest.computeIfAbsent(claimed.questId(), id -> new ArrayList<>()).add(instanceId));
+
+        int folded = 0;
+        for (Map.Entry<String, List<String>> entry : byQuest.entrySet()) {
+            List<String> instanceIds = entry.getValue();
+            if (instanceIds.size() <= limit) continue;
+
+            // 최근 수령 순으로 정렬 후 오래된 기록을 집계에 합침
+            instanceIds.sort(Comparator.comparingLong((String id) -> claimedQuests.get(id).claimedAt()).reversed());
+            for (String instanceId : instanceIds.subList(limit, instanceIds.size())) {
+                ClaimedQuestDTO claimed = claimedQuests.get(instanceId);
+                if (claimed == null || retain.test(claimed)) continue;
+                claimedQuests.remove(instanceId);
+
+                questHistory.merge(entry.getKey(), QuestHistoryDTO.from(claimed),
+                        (existing, added) -> existing.merge(claimed));
+                folded++;
             }
         }
-        
-        return count;
+        return folded;
     }
     
     /**
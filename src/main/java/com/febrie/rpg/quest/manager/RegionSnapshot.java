@@ -0,0 +1,262 @@
+package com.febrie.rpg.quest.manager;
+
+import com.febrie.rpg.quest.Quest;
+import com.febrie.rpg.quest.objective.QuestObjective;
+import com.febrie.rpg.quest.objective.impl.VisitLocationObjective;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector2;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.WorldGuard;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.GlobalProtectedRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedPolygonalRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 퀘스트 관련 WorldGuard 영역의 불변 스냅샷 (버전 관리)
+ * 방문 목표가 참조하는 영역의 형태(경계 상자 / 다각형)만 복사해 두어
+ * 비동기 작업자도 WorldGuard의 RegionManager를 건드리지 않고 잠금 없이 조회할 수 있도록 함
+ * - 생성은 메인 스레드에서만 (퀘스트 리로드, 월드 로드, 주기적 변경 감지)
+ * - 영역 형태가 바뀐 경우에만 새 버전으로 교체
+ *
+ * @author Febrie
+ */
+public final class RegionSnapshot {
+
+    private static final RegionSnapshot EMPTY = new RegionSnapshot(0L, Map.of());
+    private static final AtomicReference<RegionSnapshot> CURRENT = new AtomicReference<>(EMPTY);
+
+    /**
+     * 영역 형태 (월드별 복사본)
+     * 다각형 영역은 꼭짓점 배열을, 그 외 영역은 경계 상자만 사용
+     */
+    public record RegionShape(@NotNull String regionId, @NotNull UUID worldId,
+                              int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                              @Nullable int[] polygonX, @Nullable int[] polygonZ) {
+
+        /**
+         * 블록 좌표 포함 여부
+         */
+        public boolean contains(int x, int y, int z) {
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+                return false;
+            }
+            return polygonX == null || polygonContains(x, z);
+        }
+
+        /**
+         * 다각형 포함 여부 (경계 포함, WorldGuard 다각형 판정과 동일한 방식)
+         */
+        private boolean polygonContains(int targetX, int targetZ) {
+            int[] px = Objects.requireNonNull(polygonX);
+            int[] pz = Objects.requireNonNull(polygonZ);
+            int count = px.length;
+            if (count < 3) return false;
+
+            boolean inside = false;
+            int xOld = px[count - 1];
+            int zOld = pz[count - 1];
+
+            for (int i = 0; i < count; i++) {
+                int xNew = px[i];
+                int zNew = pz[i];
+                if (xNew == targetX && zNew == targetZ) {
+                    return true;
+                }
+
+                int x1, z1, x2, z2;
+                if (xNew > xOld) {
+                    x1 = xOld; x2 = xNew; z1 = zOld; z2 = zNew;
+                } else {
+                    x1 = xNew; x2 = xOld; z1 = zNew; z2 = zOld;
+                }
+
+                if (x1 <= targetX && targetX <= x2) {
+                    long cross = ((long) targetZ - z1) * (x2 - x1) - ((long) z2 - z1) * (targetX - x1);
+                    if (cross == 0) {
+                        if ((z1 <= targetZ) == (targetZ <= z2)) return true;
+                    } else if (cross < 0 && x1 != targetX) {
+                        inside = !inside;
+                    }
+                }
+
+                xOld = xNew;
+                zOld = zNew;
+            }
+            return inside;
+        }
+
+        /**
+         * 형태 동일 여부 (변경 감지용)
+         */
+        boolean sameGeometry(@NotNull RegionShape other) {
+            return regionId.equals(other.regionId) && worldId.equals(other.worldId)
+                    && minX == other.minX && minY == other.minY && minZ == other.minZ
+                    && maxX == other.maxX && maxY == other.maxY && maxZ == other.maxZ
+                    && Arrays.equals(polygonX, other.polygonX) && Arrays.equals(polygonZ, other.polygonZ);
+        }
+    }
+
+    private final long version;
+    // 소문자 영역 이름 -> 월드별 형태 목록
+    private final Map<String, List<RegionShape>> regions;
+
+    private RegionSnapshot(long version, @NotNull Map<String, List<RegionShape>> regions) {
+        this.version = version;
+        this.regions = regions;
+    }
+
+    /**
+     * 현재 스냅샷 (어느 스레드에서나 호출 가능)
+     */
+    @NotNull
+    public static RegionSnapshot current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 등록된 퀘스트 기준으로 스냅샷 갱신 (메인 스레드에서 호출)
+     *
+     * @return 영역 형태가 바뀌어 새 버전이 게시되었는지 여부
+     */
+    public static boolean refresh(@NotNull Collection<Quest> quests) {
+        Map<String, List<RegionShape>> captured = capture(quests);
+        RegionSnapshot previous = CURRENT.get();
+        if (previous.sameGeometry(captured)) {
+            return false;
+        }
+
+        CURRENT.set(new RegionSnapshot(previous.version + 1, captured));
+        return true;
+    }
+
+    /**
+     * 스냅샷 초기화 (종료 시)
+     */
+    public static void reset() {
+        CURRENT.set(EMPTY);
+    }
+
+    /**
+     * 스냅샷 버전 (갱신될 때마다 증가)
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 영역 이름의 월드별 형태 목록 (없으면 빈 리스트)
+     */
+    @NotNull
+    public List<RegionShape> getShapes(@NotNull String regionName) {
+        return regions.getOrDefault(regionName.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * 특정 월드의 블록 좌표가 영역 안에 있는지 확인
+     */
+    public boolean contains(@NotNull String regionName, @NotNull UUID worldId, int x, int y, int z) {
+        for (RegionShape shape : getShapes(regionName)) {
+            if (shape.worldId().equals(worldId) && shape.contains(x, y, z)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean sameGeometry(@NotNull Map<String, List<RegionShape>> other) {
+        if (!regions.keySet().equals(other.keySet())) return false;
+
+        for (Map.Entry<String, List<RegionShape>> entry : regions.entrySet()) {
+            List<RegionShape> mine = entry.getValue();
+            List<RegionShape> theirs = other.get(entry.getKey());
+            if (mine.size() != theirs.size()) return false;
+            for (int i = 0; i < mine.size(); i++) {
+                if (!mine.get(i).sameGeometry(theirs.get(i))) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 방문 목표가 참조하는 영역의 형태를 WorldGuard에서 복사
+     */
+    @NotNull
+    private static Map<String, List<RegionShape>> capture(@NotNull Collection<Quest> quests) {
+        if (Bukkit.getPluginManager().getPlugin("WorldGuard") == null) {
+            return Map.of();
+        }
+
+        // 정렬된 이름 목록 (변경 감지 시 순서 고정)
+        Set<String> regionNames = new TreeSet<>();
+        for (Quest quest : quests) {
+            for (QuestObjective objective : quest.getObjectives()) {
+                if (objective instanceof VisitLocationObjective visit
+                        && visit.getLocationType() == VisitLocationObjective.LocationType.WORLDGUARD_REGION
+                        && visit.getRegionName() != null) {
+                    regionNames.add(visit.getRegionName().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        if (regionNames.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, List<RegionShape>> captured = new HashMap<>();
+        for (World world : Bukkit.getWorlds()) {
+            RegionManager regionManager = WorldGuard.getInstance().getPlatform().getRegionContainer()
+                    .get(BukkitAdapter.adapt(world));
+            if (regionManager == null) continue;
+
+            for (String regionName : regionNames) {
+                ProtectedRegion region = regionManager.getRegion(regionName);
+                if (region == null || region instanceof GlobalProtectedRegion) continue;
+
+                captured.computeIfAbsent(regionName, name -> new ArrayList<>())
+                        .add(copyShape(region, world.getUID()));
+            }
+        }
+
+        Map<String, List<RegionShape>> frozen = new HashMap<>();
+        captured.forEach((name, shapes) -> frozen.put(name, List.copyOf(shapes)));
+        return Map.copyOf(frozen);
+    }
+
+    @NotNull
+    private static RegionShape copyShape(@NotNull ProtectedRegion region, @NotNull UUID worldId) {
+        BlockVector3 min = region.getMinimumPoint();
+        BlockVector3 max = region.getMaximumPoint();
+
+        int[] polygonX = null;
+        int[] polygonZ = null;
+        if (region instanceof ProtectedPolygonalRegion) {
+            List<BlockVector2> points = region.getPoints();
+            polygonX = new int[points.size()];
+            polygonZ = new int[points.size()];
+            for (int i = 0; i < points.size(); i++) {
+                polygonX[i] = points.get(i).x();
+                polygonZ[i] = points.get(i).z();
+            }
+        }
+
+        return new RegionShape(region.getId(), worldId, min.x(), min.y(), min.z(), max.x(), max.y(), max.z(),
+                polygonX, polygonZ);
+    }
+}
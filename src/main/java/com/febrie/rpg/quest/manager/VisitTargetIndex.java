@@ -0,0 +1,213 @@
+package com.febrie.rpg.quest.manager;
+
+import com.febrie.rpg.quest.Quest;
+import com.febrie.rpg.quest.objective.QuestObjective;
+import com.febrie.rpg.quest.objective.impl.VisitLocationObjective;
+import com.febrie.rpg.quest.manager.RegionSnapshot.RegionShape;
+import com.febrie.rpg.util.LogUtil;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 지역 방문 목표의 청크 단위 공간 인덱스 (불변)
+ * 등록된 퀘스트의 모든 VisitLocationObjective 대상(좌표 반경 / WorldGuard 영역 경계 상자)을
+ * 월드 -> 청크 키 -> 대상 목록으로 색인하여, 플레이어가 블록 경계를 넘을 때
+ * 해당 청크의 대상만 검사하도록 함
+ * - WorldGuard 영역은 RegionSnapshot의 복사본을 사용하므로 어느 스레드에서나 조회 가능
+ * - 퀘스트 리로드 / 영역 스냅샷 갱신 시 새 인스턴스로 교체
+ *
+ * @author Febrie
+ */
+public final class VisitTargetIndex {
+
+    /**
+     * 한 대상이 개별 청크로 등록될 수 있는 최대 청크 수
+     * 이보다 큰 영역은 월드 단위 목록에 등록하여 인덱스 크기를 제한
+     */
+    private static final int MAX_CHUNKS_PER_TARGET = 1024;
+
+    private static final VisitTargetIndex EMPTY = new VisitTargetIndex(Map.of(), Map.of());
+
+    /**
+     * 방문 대상 (경계 상자 + 정밀 판정)
+     *
+     * @param objective 방문 목표
+     * @param region    WorldGuard 영역 형태 (좌표 기반이면 null)
+     */
+    public record VisitTarget(@NotNull VisitLocationObjective objective, @NotNull UUID worldId,
+                              int minX, int minY, int minZ, int maxX, int maxY, int maxZ,
+                              double centerX, double centerY, double centerZ, double radiusSquared,
+                              @Nullable RegionShape region) {
+
+        /**
+         * 블록 좌표가 대상 범위 안에 있는지 확인
+         */
+        public boolean contains(@NotNull Location location) {
+            int x = location.getBlockX();
+            int y = location.getBlockY();
+            int z = location.getBlockZ();
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+                return false;
+            }
+
+            if (region != null) {
+                return region.contains(x, y, z);
+            }
+
+            double dx = location.getX() - centerX;
+            double dy = location.getY() - centerY;
+            double dz = location.getZ() - centerZ;
+            return dx * dx + dy * dy + dz * dz <= radiusSquared;
+        }
+    }
+
+    // 월드 -> 청크 키 -> 대상 목록
+    private final Map<UUID, Map<Long, List<VisitTarget>>> chunkTargets;
+    // 월드 -> 청크 단위로 나누기에는 너무 큰 대상 목록
+    private final Map<UUID, List<VisitTarget>> largeTargets;
+
+    private VisitTargetIndex(@NotNull Map<UUID, Map<Long, List<VisitTarget>>> chunkTargets,
+                             @NotNull Map<UUID, List<VisitTarget>> largeTargets) {
+        this.chunkTargets = chunkTargets;
+        this.largeTargets = largeTargets;
+    }
+
+    /**
+     * 빈 인덱스
+     */
+    @NotNull
+    public static VisitTargetIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 등록된 퀘스트와 영역 스냅샷에서 인덱스 생성
+     */
+    @NotNull
+    public static VisitTargetIndex build(@NotNull Collection<Quest> quests, @NotNull RegionSnapshot regions) {
+        Map<UUID, Map<Long, List<VisitTarget>>> chunkTargets = new HashMap<>();
+        Map<UUID, List<VisitTarget>> largeTargets = new HashMap<>();
+
+        for (Quest quest : quests) {
+            for (QuestObjective objective : quest.getObjectives()) {
+                if (!(objective instanceof VisitLocationObjective visitObjective)) continue;
+
+                for (VisitTarget target : createTargets(visitObjective, regions)) {
+                    addTarget(chunkTargets, largeTargets, target);
+                }
+            }
+        }
+
+        if (chunkTargets.isEmpty() && largeTargets.isEmpty()) {
+            return EMPTY;
+        }
+
+        // 불변 구조로 고정
+        Map<UUID, Map<Long, List<VisitTarget>>> frozenChunks = new HashMap<>();
+        chunkTargets.forEach((worldId, chunks) -> {
+            Map<Long, List<VisitTarget>> frozen = new HashMap<>();
+            chunks.forEach((key, targets) -> frozen.put(key, List.copyOf(targets)));
+            frozenChunks.put(worldId, Map.copyOf(frozen));
+        });
+        Map<UUID, List<VisitTarget>> frozenLarge = new HashMap<>();
+        largeTargets.forEach((worldId, targets) -> frozenLarge.put(worldId, List.copyOf(targets)));
+
+        return new VisitTargetIndex(Map.copyOf(frozenChunks), Map.copyOf(frozenLarge));
+    }
+
+    /**
+     * 위치가 속한 청크의 방문 대상 후보 목록 (경계 상자 검사 전, 없으면 빈 리스트)
+     */
+    @NotNull
+    public List<VisitTarget> getCandidates(@NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) return List.of();
+
+        UUID worldId = world.getUID();
+        List<VisitTarget> large = largeTargets.getOrDefault(worldId, List.of());
+
+        Map<Long, List<VisitTarget>> chunks = chunkTargets.get(worldId);
+        List<VisitTarget> inChunk = chunks != null
+                ? chunks.getOrDefault(chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4), List.of())
+                : List.of();
+
+        if (large.isEmpty()) return inChunk;
+        if (inChunk.isEmpty()) return large;
+
+        List<VisitTarget> merged = new ArrayList<>(inChunk.size() + large.size());
+        merged.addAll(inChunk);
+        merged.addAll(large);
+        return merged;
+    }
+
+    /**
+     * 방문 목표의 대상 생성 (WorldGuard 영역은 스냅샷에 있는 모든 월드의 형태에 대해 생성)
+     */
+    @NotNull
+    private static List<VisitTarget> createTargets(@NotNull VisitLocationObjective objective,
+                                                   @NotNull RegionSnapshot regions) {
+        List<VisitTarget> targets = new ArrayList<>();
+
+        if (objective.getLocationType() == VisitLocationObjective.LocationType.COORDINATE) {
+            Location center = objective.getTargetLocation();
+            if (center == null || center.getWorld() == null) return targets;
+
+            double radius = objective.getRadius();
+            targets.add(new VisitTarget(objective, center.getWorld().getUID(),
+                    (int) Math.floor(center.getX() - radius), (int) Math.floor(center.getY() - radius),
+                    (int) Math.floor(center.getZ() - radius), (int) Math.floor(center.getX() + radius),
+                    (int) Math.floor(center.getY() + radius), (int) Math.floor(center.getZ() + radius),
+                    center.getX(), center.getY(), center.getZ(), radius * radius, null));
+            return targets;
+        }
+
+        String regionName = objective.getRegionName();
+        if (regionName == null) return targets;
+
+        for (RegionShape shape : regions.getShapes(regionName)) {
+            targets.add(new VisitTarget(objective, shape.worldId(),
+                    shape.minX(), shape.minY(), shape.minZ(), shape.maxX(), shape.maxY(), shape.maxZ(),
+                    0, 0, 0, 0, shape));
+        }
+
+        if (targets.isEmpty()) {
+            LogUtil.warning("[VisitTargetIndex] WorldGuard region not found for objective " + objective.getId() + ": " + regionName);
+        }
+        return targets;
+    }
+
+    private static void addTarget(@NotNull Map<UUID, Map<Long, List<VisitTarget>>> chunkTargets,
+                                  @NotNull Map<UUID, List<VisitTarget>> largeTargets,
+                                  @NotNull VisitTarget target) {
+        int minChunkX = target.minX() >> 4;
+        int maxChunkX = target.maxX() >> 4;
+        int minChunkZ = target.minZ() >> 4;
+        int maxChunkZ = target.maxZ() >> 4;
+
+        long chunkCount = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (chunkCount > MAX_CHUNKS_PER_TARGET) {
+            largeTargets.computeIfAbsent(target.worldId(), id -> new ArrayList<>()).add(target);
+            return;
+        }
+
+        Map<Long, List<VisitTarget>> chunks = chunkTargets.computeIfAbsent(target.worldId(), id -> new HashMap<>());
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                chunks.computeIfAbsent(chunkKey(chunkX, chunkZ), key -> new ArrayList<>()).add(target);
+            }
+        }
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+}
@@ -4,11 +4,6 @@ import com.febrie.rpg.quest.objective.BaseObjective;
 import com.febrie.rpg.util.LogUtil;
 import com.febrie.rpg.quest.objective.ObjectiveType;
 import com.febrie.rpg.quest.progress.ObjectiveProgress;
-import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldguard.WorldGuard;
-import com.sk89q.worldguard.protection.managers.RegionManager;
-import com.sk89q.worldguard.protection.regions.ProtectedRegion;
-import com.sk89q.worldguard.protection.regions.RegionContainer;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
@@ -16,7 +11,7 @@ import org.bukkit.event.Event;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
+import java.util.Objects;
 
 /**
  * 지역 방문 퀘스트 목표
@@ -30,7 +25,7 @@ import java.util.*;
  * Location spawnLocation = world.getSpawnLocation();
  * new VisitLocationObjective("visit_spawn", spawnLocation, 10.0, "스폰 지점")
  * 
- * 참고: LocationCheckTask에서 3초마다 자동으로 위치를 체크함
+ * 참고: 플레이어가 블록 경계를 넘을 때 VisitTargetIndex로 방문 여부를 체크함
  *
  * @author Febrie
  */
@@ -46,9 +41,6 @@ public class VisitLocationObjective extends BaseObjective {
     
     // 방문 타입
     private final LocationType locationType;
-    
-    // 플레이어가 이미 영역에 있었는지 추적 (첫 진입만 카운트)
-    private final Set<UUID> playersInLocation = new HashSet<>();
 
     /**
      * 방문 타입
@@ -110,74 +102,18 @@ public class VisitLocationObjective extends BaseObjective {
         return locationName + " " + getProgressString(progress);
     }
 
-    /**
-     * 플레이어가 현재 목표 위치에 있는지 확인
-     * LocationCheckTask에서 호출됨
-     */
-    public boolean checkLocation(@NotNull Player player, @NotNull Location location) {
-        UUID playerId = player.getUniqueId();
-        boolean inTargetLocation = false;
-
-        // 타입에 따른 처리
-        if (locationType == LocationType.WORLDGUARD_REGION) {
-            // WorldGuard 영역 확인
-            Set<String> currentRegions = getRegionsAt(location);
-            inTargetLocation = currentRegions.stream()
-                    .anyMatch(region -> region.equalsIgnoreCase(regionName));
-        } else {
-            // 좌표 기반 확인
-            if (!location.getWorld().equals(targetLocation.getWorld())) {
-                return false;
-            }
-            inTargetLocation = location.distance(targetLocation) <= radius;
-        }
-
-        // 이전에 위치에 있었는지 확인
-        boolean wasInLocation = playersInLocation.contains(playerId);
-        
-        if (inTargetLocation && !wasInLocation) {
-            // 처음으로 위치에 진입
-            playersInLocation.add(playerId);
-            return true;
-        } else if (!inTargetLocation && wasInLocation) {
-            // 위치를 떠남
-            playersInLocation.remove(playerId);
-        }
-        
-        return false;
-    }
-    
     @Override
     public boolean canProgress(@NotNull Event event, @NotNull Player player) {
-        // LocationCheckTask에서만 호출되므로 직접 체크하지 않음
+        // 이동 이벤트에서 VisitTargetIndex로 처리되므로 직접 체크하지 않음
         return false;
     }
 
     @Override
     public int calculateIncrement(@NotNull Event event, @NotNull Player player) {
-        // LocationCheckTask에서만 호출되므로 0 반환
+        // 이동 이벤트에서 VisitTargetIndex로 처리되므로 0 반환
         return 0;
     }
 
-    /**
-     * 위치의 WorldGuard 영역 목록 가져오기
-     */
-    private Set<String> getRegionsAt(@NotNull Location location) {
-        Set<String> regionSet = new HashSet<>();
-
-        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
-        RegionManager regionManager = container.get(BukkitAdapter.adapt(location.getWorld()));
-
-        if (regionManager != null) {
-            var regions = regionManager.getApplicableRegions(BukkitAdapter.asBlockVector(location));
-            for (ProtectedRegion region : regions) {
-                regionSet.add(region.getId());
-            }
-        }
-
-        return regionSet;
-    }
-
     @Override
     protected @NotNull String serializeData() {
         if (locationType == LocationType.WORLDGUARD_REGION) {
@@ -213,13 +149,6 @@ public class VisitLocationObjective extends BaseObjective {
         return locationType;
     }
 
-    /**
-     * 플레이어 캐시 정리 (메모리 관리용)
-     */
-    public void clearPlayerCache(@NotNull UUID playerId) {
-        playersInLocation.remove(playerId);
-    }
-    
     /**
      * 빌더 클래스
      */
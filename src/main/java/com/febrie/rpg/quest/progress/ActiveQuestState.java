@@ -0,0 +1,284 @@
+package com.febrie.rpg.quest.progress;
+
+import com.febrie.rpg.dto.quest.ActiveQuestDTO;
+import com.febrie.rpg.dto.quest.ObjectiveProgressDTO;
+import com.febrie.rpg.quest.Quest;
+import com.febrie.rpg.quest.QuestID;
+import com.febrie.rpg.quest.objective.QuestObjective;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 진행 중인 퀘스트의 가변 진행 상태
+ * 목표 순번(퀘스트 정의 내 인덱스)별 현재 값 배열과 완료 비트마스크로 구성되며,
+ * 이벤트 처리 시 제자리에서 갱신됨
+ * - ActiveQuestDTO / ObjectiveProgressDTO는 저장 시점에만 생성
+ * - QuestProgress / ObjectiveProgress는 GUI, 알림 등 조회용 스냅샷으로만 생성
+ * - 마지막 저장 이후 바뀐 목표를 비트마스크로 추적하여 필드 단위 저장에 사용
+ *
+ * @author Febrie
+ */
+public class ActiveQuestState {
+
+    /**
+     * 완료 비트마스크로 표현 가능한 최대 목표 수
+     */
+    public static final int MAX_OBJECTIVES = Long.SIZE;
+
+    private final QuestID questId;
+    private final String instanceId;
+    private final long startedAt;
+
+    // 퀘스트 정의에서 가져온 목표 정보 (순번 기준)
+    private final String[] objectiveIds;
+    private final int[] requiredValues;
+
+    // 가변 진행 상태
+    private final int[] currentValues;
+    private final long[] updatedAt;
+    private long completedMask;
+    private final long fullMask;
+    // 마지막 저장 이후 값이 바뀐 목표
+    private long dirtyMask;
+
+    private ActiveQuestState(@NotNull QuestID questId, @NotNull String instanceId, long startedAt,
+                             @NotNull List<QuestObjective> objectives) {
+        if (objectives.size() > MAX_OBJECTIVES) {
+            throw new IllegalArgumentException("Too many objectives for quest " + questId + ": " + objectives.size());
+        }
+
+        this.questId = questId;
+        this.instanceId = instanceId;
+        this.startedAt = startedAt;
+
+        int size = objectives.size();
+        this.objectiveIds = new String[size];
+        this.requiredValues = new int[size];
+        this.currentValues = new int[size];
+        this.updatedAt = new long[size];
+        for (int i = 0; i < size; i++) {
+            QuestObjective objective = objectives.get(i);
+            objectiveIds[i] = objective.getId();
+            requiredValues[i] = objective.getRequiredAmount();
+            updatedAt[i] = startedAt;
+        }
+        this.fullMask = size == MAX_OBJECTIVES ? -1L : (1L << size) - 1;
+    }
+
+    /**
+     * 새로운 퀘스트 진행 상태 생성
+     */
+    @NotNull
+    public static ActiveQuestState create(@NotNull Quest quest, @NotNull String instanceId) {
+        return new ActiveQuestState(quest.getId(), instanceId, System.currentTimeMillis(), quest.getObjectives());
+    }
+
+    /**
+     * 저장된 DTO에서 진행 상태 복원
+     * 퀘스트 정의에 없는 목표는 무시되고, 저장되지 않은 목표는 0부터 시작
+     */
+    @NotNull
+    public static ActiveQuestState fromDTO(@NotNull Quest quest, @NotNull ActiveQuestDTO dto) {
+        ActiveQuestState state = new ActiveQuestState(quest.getId(), dto.instanceId(), dto.startedAt(), quest.getObjectives());
+
+        Map<String, ObjectiveProgressDTO> progress = dto.progress();
+        for (int i = 0; i < state.objectiveIds.length; i++) {
+            ObjectiveProgressDTO objective = progress.get(state.objectiveIds[i]);
+            if (objective == null) continue;
+
+            state.currentValues[i] = Math.min(Math.max(objective.progress(), 0), state.requiredValues[i]);
+            state.updatedAt[i] = objective.lastUpdated();
+            if (objective.completed() || state.currentValues[i] >= state.requiredValues[i]) {
+                state.completedMask |= 1L << i;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * 목표 진행도 증가
+     *
+     * @param ordinal 목표 순번
+     * @param amount  증가량
+     * @return 이번 증가로 목표가 완료되었는지 여부
+     */
+    public synchronized boolean increment(int ordinal, int amount) {
+        if (amount <= 0 || isCompleted(ordinal)) return false;
+
+        long headroom = (long) requiredValues[ordinal] - currentValues[ordinal];
+        currentValues[ordinal] += (int) Math.min(amount, headroom);
+        updatedAt[ordinal] = System.currentTimeMillis();
+        dirtyMask |= 1L << ordinal;
+
+        if (currentValues[ordinal] >= requiredValues[ordinal]) {
+            completedMask |= 1L << ordinal;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 목표 진행도 설정 (목표치보다 낮은 값이면 완료 상태 해제)
+     *
+     * @param ordinal 목표 순번
+     * @param value   새로운 값
+     * @return 이번 설정으로 목표가 완료되었는지 여부
+     */
+    public synchronized boolean set(int ordinal, int value) {
+        boolean wasCompleted = isCompleted(ordinal);
+        currentValues[ordinal] = Math.min(Math.max(value, 0), requiredValues[ordinal]);
+        updatedAt[ordinal] = System.currentTimeMillis();
+        dirtyMask |= 1L << ordinal;
+
+        if (currentValues[ordinal] >= requiredValues[ordinal]) {
+            completedMask |= 1L << ordinal;
+            return !wasCompleted;
+        }
+        // 목표치 아래로 되돌리면 완료 상태도 해제
+        completedMask &= ~(1L << ordinal);
+        return false;
+    }
+
+    /**
+     * 특정 목표 완료 여부
+     */
+    public boolean isCompleted(int ordinal) {
+        return (completedMask & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * 모든 목표 완료 여부
+     */
+    public boolean areAllCompleted() {
+        return completedMask == fullMask;
+    }
+
+    /**
+     * 완료된 목표 수
+     */
+    public int getCompletedCount() {
+        return Long.bitCount(completedMask);
+    }
+
+    /**
+     * 첫 번째 미완료 목표 순번 (순차 진행의 현재 단계, 모두 완료 시 목표 수)
+     */
+    public int getCurrentStep() {
+        return Math.min(Long.numberOfTrailingZeros(~completedMask), objectiveIds.length);
+    }
+
+    /**
+     * 목표 ID로 순번 조회
+     *
+     * @return 순번 (없으면 -1)
+     */
+    public int ordinalOf(@NotNull String objectiveId) {
+        for (int i = 0; i < objectiveIds.length; i++) {
+            if (objectiveIds[i].equals(objectiveId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Getters
+    @NotNull
+    public QuestID getQuestId() {
+        return questId;
+    }
+
+    @NotNull
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public int getObjectiveCount() {
+        return objectiveIds.length;
+    }
+
+    @NotNull
+    public String getObjectiveId(int ordinal) {
+        return objectiveIds[ordinal];
+    }
+
+    public int getValue(int ordinal) {
+        return currentValues[ordinal];
+    }
+
+    public int getRequiredValue(int ordinal) {
+        return requiredValues[ordinal];
+    }
+
+    /**
+     * 조회용 ObjectiveProgress 스냅샷 생성
+     */
+    @NotNull
+    public synchronized ObjectiveProgress toObjectiveProgress(int ordinal, @NotNull UUID playerId) {
+        boolean completed = isCompleted(ordinal);
+        return new ObjectiveProgress(objectiveIds[ordinal], playerId, currentValues[ordinal], requiredValues[ordinal],
+                completed, startedAt, completed ? updatedAt[ordinal] : 0L);
+    }
+
+    /**
+     * 조회용 QuestProgress 스냅샷 생성
+     */
+    @NotNull
+    public synchronized QuestProgress toQuestProgress(@NotNull UUID playerId) {
+        Map<String, ObjectiveProgress> objectives = new HashMap<>();
+        long lastUpdated = startedAt;
+        for (int i = 0; i < objectiveIds.length; i++) {
+            objectives.put(objectiveIds[i], toObjectiveProgress(i, playerId));
+            lastUpdated = Math.max(lastUpdated, updatedAt[i]);
+        }
+        return new QuestProgress(questId, playerId, objectives, QuestProgress.QuestState.ACTIVE, getCurrentStep(),
+                Instant.ofEpochMilli(startedAt), null, Instant.ofEpochMilli(lastUpdated));
+    }
+
+    /**
+     * 저장용 DTO 생성
+     */
+    @NotNull
+    public synchronized ActiveQuestDTO toDTO() {
+        Map<String, ObjectiveProgressDTO> progress = new HashMap<>();
+        for (int i = 0; i < objectiveIds.length; i++) {
+            progress.put(objectiveIds[i], new ObjectiveProgressDTO(objectiveIds[i], isCompleted(i),
+                    currentValues[i], requiredValues[i], updatedAt[i]));
+        }
+        return new ActiveQuestDTO(questId.name(), instanceId, progress, startedAt);
+    }
+
+    /**
+     * 마지막 저장 이후 바뀐 목표의 저장용 DTO 목록을 반환하고 변경 표시 초기화
+     * 필드 단위 저장에 사용 (바뀐 목표가 없으면 빈 리스트)
+     */
+    @NotNull
+    public synchronized List<ObjectiveProgressDTO> drainDirtyObjectives() {
+        if (dirtyMask == 0) return List.of();
+
+        List<ObjectiveProgressDTO> dirty = new ArrayList<>(Long.bitCount(dirtyMask));
+        for (long mask = dirtyMask; mask != 0; mask &= mask - 1) {
+            int i = Long.numberOfTrailingZeros(mask);
+            dirty.add(new ObjectiveProgressDTO(objectiveIds[i], isCompleted(i), currentValues[i], requiredValues[i],
+                    updatedAt[i]));
+        }
+        dirtyMask = 0;
+        return dirty;
+    }
+
+    /**
+     * 변경 표시 초기화 (문서 전체 저장 시)
+     */
+    public synchronized void clearDirty() {
+        dirtyMask = 0;
+    }
+}
@@ -0,0 +1,220 @@
+package com.febrie.rpg.quest.registry;
+
+import com.febrie.rpg.quest.Quest;
+import com.febrie.rpg.quest.QuestID;
+import com.febrie.rpg.util.LogUtil;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 퀘스트 선행 / 양자택일 관계 그래프 (불변)
+ * 각 퀘스트의 선행 퀘스트와 양자택일 퀘스트를 QuestID.ordinal() 기준 long[] 비트셋으로 미리 계산하여
+ * 플레이어의 완료 비트셋과 워드 단위 AND 연산만으로 시작 가능 여부를 판정
+ * - 퀘스트 생성(QuestRegistry.createAllQuests) 시 한 번 구성
+ * - 플레이어 완료 비트셋은 {@link #newBitSet()}로 생성하고 {@link #set}/{@link #clear}로 갱신
+ *
+ * @author Febrie
+ */
+public final class QuestDependencyGraph {
+
+    private static final QuestID[] QUEST_IDS = QuestID.values();
+
+    /**
+     * 비트셋 워드 수 (QuestID 개수 기준)
+     */
+    private static final int WORDS = (QUEST_IDS.length + 63) >>> 6;
+
+    private static final QuestDependencyGraph EMPTY = new QuestDependencyGraph(new long[QUEST_IDS.length][], new long[QUEST_IDS.length][], new long[WORDS]);
+
+    // ordinal -> 선행 퀘스트 비트셋 (없으면 null)
+    private final long[][] prerequisites;
+    // ordinal -> 양자택일 퀘스트 비트셋 (없으면 null)
+    private final long[][] exclusives;
+    // 등록된 퀘스트 비트셋
+    private final long[] registered;
+
+    private QuestDependencyGraph(long[][] prerequisites, long[][] exclusives, long[] registered) {
+        this.prerequisites = prerequisites;
+        this.exclusives = exclusives;
+        this.registered = registered;
+    }
+
+    /**
+     * 빈 그래프 (관계 없음)
+     */
+    @NotNull
+    public static QuestDependencyGraph empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 생성된 퀘스트에서 그래프 구성
+     */
+    @NotNull
+    public static QuestDependencyGraph build(@NotNull Map<QuestID, Quest> quests) {
+        long[][] prerequisites = new long[QUEST_IDS.length][];
+        long[][] exclusives = new long[QUEST_IDS.length][];
+        long[] registered = new long[WORDS];
+
+        for (Map.Entry<QuestID, Quest> entry : quests.entrySet()) {
+            int ordinal = entry.getKey().ordinal();
+            Quest quest = entry.getValue();
+            set(registered, entry.getKey());
+            prerequisites[ordinal] = toBitSet(quest.getPrerequisiteQuests());
+            exclusives[ordinal] = toBitSet(quest.getExclusiveQuests());
+        }
+
+        QuestDependencyGraph graph = new QuestDependencyGraph(prerequisites, exclusives, registered);
+        graph.validate();
+        return graph;
+    }
+
+    /**
+     * 빈 완료 비트셋 생성
+     */
+    public static long @NotNull [] newBitSet() {
+        return new long[WORDS];
+    }
+
+    /**
+     * 비트셋에 퀘스트 추가
+     */
+    public static void set(long @NotNull [] bits, @NotNull QuestID questId) {
+        int ordinal = questId.ordinal();
+        bits[ordinal >>> 6] |= 1L << ordinal;
+    }
+
+    /**
+     * 비트셋에서 퀘스트 제거
+     */
+    public static void clear(long @NotNull [] bits, @NotNull QuestID questId) {
+        int ordinal = questId.ordinal();
+        bits[ordinal >>> 6] &= ~(1L << ordinal);
+    }
+
+    /**
+     * 비트셋에 퀘스트가 포함되어 있는지 확인
+     */
+    public static boolean contains(long @NotNull [] bits, @NotNull QuestID questId) {
+        int ordinal = questId.ordinal();
+        return (bits[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * 선행 퀘스트가 모두 완료되었는지 확인
+     *
+     * @param completed 플레이어 완료 비트셋
+     */
+    public boolean arePrerequisitesComplete(@NotNull QuestID questId, long @NotNull [] completed) {
+        long[] required = prerequisites[questId.ordinal()];
+        if (required == null) return true;
+
+        for (int i = 0; i < WORDS; i++) {
+            if ((required[i] & ~completed[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * 양자택일 퀘스트 중 완료된 것이 있는지 확인
+     *
+     * @param completed 플레이어 완료 비트셋
+     */
+    public boolean hasCompletedExclusiveQuests(@NotNull QuestID questId, long @NotNull [] completed) {
+        long[] exclusive = exclusives[questId.ordinal()];
+        if (exclusive == null) return false;
+
+        for (int i = 0; i < WORDS; i++) {
+            if ((exclusive[i] & completed[i]) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 선행 / 양자택일 조건상 시작 가능한지 확인
+     */
+    public boolean isUnlocked(@NotNull QuestID questId, long @NotNull [] completed) {
+        return contains(registered, questId)
+                && arePrerequisitesComplete(questId, completed)
+                && !hasCompletedExclusiveQuests(questId, completed);
+    }
+
+    /**
+     * 선행 / 양자택일 조건상 시작 가능한 모든 퀘스트
+     * (레벨, 완료 횟수 제한, 진행 중 여부는 호출 측에서 확인)
+     */
+    @NotNull
+    public Set<QuestID> getUnlockedQuests(long @NotNull [] completed) {
+        Set<QuestID> result = EnumSet.noneOf(QuestID.class);
+        for (int word = 0; word < WORDS; word++) {
+            long bits = registered[word];
+            while (bits != 0) {
+                int ordinal = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                QuestID questId = QUEST_IDS[ordinal];
+                if (arePrerequisitesComplete(questId, completed) && !hasCompletedExclusiveQuests(questId, completed)) {
+                    result.add(questId);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 선행 관계 순환 및 미등록 선행 퀘스트 검사 (경고만 출력)
+     */
+    private void validate() {
+        for (QuestID questId : QUEST_IDS) {
+            long[] required = prerequisites[questId.ordinal()];
+            if (required == null) continue;
+
+            for (int i = 0; i < WORDS; i++) {
+                if ((required[i] & ~registered[i]) != 0) {
+                    LogUtil.warning("[QuestDependencyGraph] " + questId.name() + " 의 선행 퀘스트 중 등록되지 않은 퀘스트가 있어 시작할 수 없습니다.");
+                    break;
+                }
+            }
+        }
+
+        // 깊이 우선 탐색으로 순환 검출 (0: 미방문, 1: 탐색 중, 2: 완료)
+        byte[] state = new byte[QUEST_IDS.length];
+        for (QuestID questId : QUEST_IDS) {
+            if (state[questId.ordinal()] == 0 && hasCycle(questId.ordinal(), state)) {
+                LogUtil.warning("[QuestDependencyGraph] 선행 퀘스트 순환이 감지되었습니다: " + questId.name());
+            }
+        }
+    }
+
+    private boolean hasCycle(int ordinal, byte[] state) {
+        state[ordinal] = 1;
+        long[] required = prerequisites[ordinal];
+        if (required != null) {
+            for (int word = 0; word < WORDS; word++) {
+                long bits = required[word];
+                while (bits != 0) {
+                    int next = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    bits &= bits - 1;
+
+                    if (state[next] == 1) return true;
+                    if (state[next] == 0 && hasCycle(next, state)) return true;
+                }
+            }
+        }
+        state[ordinal] = 2;
+        return false;
+    }
+
+    private static long[] toBitSet(@NotNull Set<QuestID> questIds) {
+        if (questIds.isEmpty()) return null;
+
+        long[] bits = new long[WORDS];
+        for (QuestID questId : questIds) {
+            set(bits, questId);
+        }
+        return bits;
+    }
+}
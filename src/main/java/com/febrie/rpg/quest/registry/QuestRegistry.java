@@ -52,6 +52,8 @@ public class QuestRegistry {
 
     private static final QuestRegistry INSTANCE = new QuestRegistry();
     private static final Map<QuestID, Supplier<Quest>> questSuppliers = new EnumMap<>(QuestID.class);
+    // 마지막으로 생성된 퀘스트의 선행 / 양자택일 관계 그래프
+    private static volatile QuestDependencyGraph dependencyGraph = QuestDependencyGraph.empty();
     
     /**
      * 싱글톤 인스턴스 반환
@@ -227,9 +229,18 @@ public class QuestRegistry {
                 LogUtil.error("퀘스트 생성 실패: " + entry.getKey().name(), e);
             }
         }
+        dependencyGraph = QuestDependencyGraph.build(allQuests);
         return allQuests;
     }
 
+    /**
+     * 마지막으로 생성된 퀘스트의 선행 / 양자택일 관계 그래프
+     */
+    @NotNull
+    public static QuestDependencyGraph getDependencyGraph() {
+        return dependencyGraph;
+    }
+
     /**
      * 구현된 퀘스트 수 반환
      */
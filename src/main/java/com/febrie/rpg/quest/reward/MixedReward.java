@@ -55,7 +55,7 @@ public class MixedReward implements QuestReward {
             RPGPlayerManager playerManager = RPGMain.getInstance().getRPGPlayerManager();
             RPGPlayer rpgPlayer = playerManager.getPlayer(player);
             if (rpgPlayer != null) {
-                rpgPlayer.getWallet().add(CurrencyType.GOLD, money);
+                rpgPlayer.getWallet().add(CurrencyType.GOLD, money, "quest_reward");
                 player.sendMessage(Component.text("+ " + money + " 코인", UnifiedColorUtil.GOLD));
             }
         }
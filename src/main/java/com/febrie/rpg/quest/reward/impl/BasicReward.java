@@ -52,7 +52,7 @@ public class BasicReward implements QuestReward {
 
         // 재화 지급
         for (Map.Entry<CurrencyType, Long> entry : currencies.entrySet()) {
-            rpgPlayer.getWallet().add(entry.getKey(), entry.getValue());
+            rpgPlayer.getWallet().add(entry.getKey(), entry.getValue(), "quest_reward");
         }
 
         // 경험치 지급
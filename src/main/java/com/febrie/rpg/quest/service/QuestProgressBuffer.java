@@ -0,0 +1,82 @@
+package com.febrie.rpg.quest.service;
+
+import com.destroystokyo.paper.event.server.ServerTickEndEvent;
+import com.febrie.rpg.quest.manager.PlayerObjectiveIndex.ObjectiveRef;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 틱 단위 목표 진행도 누적 버퍼
+ * 한 틱 동안 발생한 (플레이어, 퀘스트 인스턴스, 목표) -> 증가량을 합산해 두었다가
+ * 같은 틱이 끝날 때(ServerTickEndEvent) 한 번만 반영하여, 광역 스킬 / 대량 채집 시 목표당 한 번의 반영·완료 체크·알림만 발생하도록 함
+ * - 메인 스레드 전용 (Bukkit 이벤트 스레드)
+ * - 리스너로 등록되어야 함 (RPGMain에서 등록)
+ *
+ * @author Febrie
+ */
+public final class QuestProgressBuffer implements Listener {
+
+    /**
+     * 누적된 증가량 반영 콜백
+     */
+    @FunctionalInterface
+    public interface FlushHandler {
+        void flush(@NotNull UUID playerId, @NotNull Map<ObjectiveRef, Integer> increments);
+    }
+
+    private final FlushHandler handler;
+
+    // 플레이어 -> 목표 참조 -> 누적 증가량 (삽입 순서 유지)
+    private Map<UUID, Map<ObjectiveRef, Integer>> pending = new HashMap<>();
+
+    public QuestProgressBuffer(@NotNull FlushHandler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * 증가량 누적 (이번 틱이 끝날 때 반영)
+     */
+    public void add(@NotNull UUID playerId, @NotNull ObjectiveRef ref, int increment) {
+        if (increment <= 0) return;
+
+        pending.computeIfAbsent(playerId, id -> new LinkedHashMap<>()).merge(ref, increment, Integer::sum);
+    }
+
+    /**
+     * 틱 종료 시 이번 틱에 누적된 증가량 반영
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onTickEnd(@NotNull ServerTickEndEvent event) {
+        flush();
+    }
+
+    /**
+     * 누적된 증가량 즉시 반영 (틱 종료 또는 종료 시 호출)
+     */
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        // 반영 중 새로 누적되는 증가량은 다음 틱으로 넘김
+        Map<UUID, Map<ObjectiveRef, Integer>> batch = pending;
+        pending = new HashMap<>();
+
+        batch.forEach(handler::flush);
+    }
+
+    /**
+     * 특정 플레이어의 누적된 증가량만 즉시 반영 (퇴장 시 데이터 언로드 전 호출)
+     */
+    public void flush(@NotNull UUID playerId) {
+        Map<ObjectiveRef, Integer> increments = pending.remove(playerId);
+        if (increments != null) {
+            handler.flush(playerId, increments);
+        }
+    }
+}
@@ -1,17 +1,16 @@
 package com.febrie.rpg.quest.service;
 
 import com.febrie.rpg.RPGMain;
-import com.febrie.rpg.quest.Quest;
-import com.febrie.rpg.quest.QuestID;
+import com.febrie.rpg.quest.manager.PlayerObjectiveIndex;
+import com.febrie.rpg.quest.manager.PlayerObjectiveIndex.ObjectiveRef;
+import com.febrie.rpg.quest.objective.ObjectiveType;
 import com.febrie.rpg.quest.objective.QuestObjective;
-import com.febrie.rpg.quest.progress.QuestProgress;
-import com.febrie.rpg.dto.quest.ActiveQuestDTO;
-import com.febrie.rpg.quest.progress.ObjectiveProgress;
+import com.febrie.rpg.quest.progress.ActiveQuestState;
 import com.febrie.rpg.quest.manager.QuestManager;
-import com.febrie.rpg.quest.objective.impl.*;
+import com.febrie.rpg.quest.manager.VisitTargetIndex.VisitTarget;
 import com.febrie.rpg.quest.util.QuestUtil;
+import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.block.BlockBreakEvent;
@@ -24,10 +23,10 @@ import org.bukkit.event.player.PlayerInteractEntityEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * 퀘스트 진행도 처리를 중앙화한 서비스
  * 모든 14개 목표 타입의 진행도 업데이트를 통합 관리
@@ -40,27 +39,29 @@ public final class QuestProgressService {
     
     private final RPGMain plugin;
     
+    // 틱 단위 증가량 누적 버퍼 (이벤트 폭주 시 목표당 한 번만 반영)
+    private final QuestProgressBuffer progressBuffer;
+    
     public QuestProgressService(@NotNull RPGMain plugin) {
         this.plugin = plugin;
+        this.progressBuffer = new QuestProgressBuffer(this::applyBufferedProgress);
     }
     
     /**
-     * 목표 처리기 인터페이스
+     * 틱 단위 증가량 누적 버퍼 (리스너 등록용)
      */
-    @FunctionalInterface
-    private interface ObjectiveProcessor {
-        boolean process(QuestObjective objective, Event event, Player player);
+    @NotNull
+    public QuestProgressBuffer getProgressBuffer() {
+        return progressBuffer;
     }
     
-    /**
-     * 퀘스트 진행 데이터
-     */
-    private record QuestProcessingData(
-        String instanceId,
-        Quest quest,
-        QuestProgress progress,
-        List<String> objectivesToCheck
-    ) {}
+    // 이벤트별 관련 목표 타입 (호출마다 배열을 만들지 않도록 상수로 유지)
+    private static final ObjectiveType[] ENTITY_DEATH_TYPES = {ObjectiveType.KILL_MOB, ObjectiveType.KILL_PLAYER};
+    private static final ObjectiveType[] BLOCK_BREAK_TYPES = {ObjectiveType.BREAK_BLOCK, ObjectiveType.HARVEST};
+    private static final ObjectiveType[] ITEM_PICKUP_TYPES = {ObjectiveType.COLLECT_ITEM};
+    private static final ObjectiveType[] CRAFT_ITEM_TYPES = {ObjectiveType.CRAFT_ITEM};
+    private static final ObjectiveType[] BLOCK_PLACE_TYPES = {ObjectiveType.PLACE_BLOCK};
+    private static final ObjectiveType[] FISHING_TYPES = {ObjectiveType.FISHING};
     
     // ==================== Bukkit 이벤트 처리 ====================
     
@@ -68,29 +69,14 @@ public final class QuestProgressService {
      * EntityDeathEvent 처리 - KillMob, KillPlayer
      */
     public void handleEntityDeath(@NotNull EntityDeathEvent event, @NotNull Player killer) {
-        processEvent(killer, event, (objective, evt, player) -> {
-            if (objective instanceof KillMobObjective killMob) {
-                return killMob.canProgress(evt, player);
-            } else if (objective instanceof KillPlayerObjective killPlayer) {
-                LivingEntity entity = ((EntityDeathEvent) evt).getEntity();
-                return entity instanceof Player && killPlayer.canProgress(evt, player);
-            }
-            return false;
-        });
+        processEvent(killer, event, ENTITY_DEATH_TYPES);
     }
     
     /**
      * BlockBreakEvent 처리 - BreakBlock, Harvest
      */
     public void handleBlockBreak(@NotNull BlockBreakEvent event) {
-        processEvent(event.getPlayer(), event, (objective, evt, player) -> {
-            if (objective instanceof BreakBlockObjective breakBlock) {
-                return breakBlock.canProgress(evt, player);
-            } else if (objective instanceof HarvestObjective harvest) {
-                return harvest.canProgress(evt, player);
-            }
-            return false;
-        });
+        processEvent(event.getPlayer(), event, BLOCK_BREAK_TYPES);
     }
     
     /**
@@ -99,10 +85,7 @@ public final class QuestProgressService {
     public void handleItemPickup(@NotNull EntityPickupItemEvent event) {
         if (!(event.getEntity() instanceof Player player)) return;
         
-        processEvent(player, event, (objective, evt, p) -> 
-            objective instanceof CollectItemObjective collectItem && 
-            collectItem.canProgress(evt, p)
-        );
+        processEvent(player, event, ITEM_PICKUP_TYPES);
     }
     
     /**
@@ -111,20 +94,14 @@ public final class QuestProgressService {
     public void handleCraftItem(@NotNull CraftItemEvent event) {
         if (!(event.getWhoClicked() instanceof Player player)) return;
         
-        processEvent(player, event, (objective, evt, p) ->
-            objective instanceof CraftItemObjective craftItem && 
-            craftItem.canProgress(evt, p)
-        );
+        processEvent(player, event, CRAFT_ITEM_TYPES);
     }
     
     /**
      * BlockPlaceEvent 처리 - PlaceBlock
      */
     public void handleBlockPlace(@NotNull BlockPlaceEvent event) {
-        processEvent(event.getPlayer(), event, (objective, evt, player) ->
-            objective instanceof PlaceBlockObjective placeBlock && 
-            placeBlock.canProgress(evt, player)
-        );
+        processEvent(event.getPlayer(), event, BLOCK_PLACE_TYPES);
     }
     
     /**
@@ -133,10 +110,7 @@ public final class QuestProgressService {
     public void handleFishing(@NotNull PlayerFishEvent event) {
         if (event.getState() != PlayerFishEvent.State.CAUGHT_FISH) return;
         
-        processEvent(event.getPlayer(), event, (objective, evt, player) ->
-            objective instanceof FishingObjective fishing && 
-            fishing.canProgress(evt, player)
-        );
+        processEvent(event.getPlayer(), event, FISHING_TYPES);
     }
     
     /**
@@ -149,42 +123,32 @@ public final class QuestProgressService {
     // ==================== 특수 처리 ====================
     
     /**
-     * 위치 방문 체크 (LocationCheckTask에서 호출)
+     * 위치 방문 체크 (플레이어가 블록 경계를 넘을 때 QuestEventListener에서 호출)
+     * 진행 가능한 방문 목표가 없거나 현재 청크에 방문 대상이 없으면 즉시 반환
      */
     public void handleLocationCheck(@NotNull Player player, @NotNull Location location) {
         UUID playerId = player.getUniqueId();
-        Map<String, ActiveQuestDTO> activeQuests = QuestManager.getInstance().getActiveQuests(playerId);
-        if (activeQuests.isEmpty()) return;
+        QuestManager questManager = QuestManager.getInstance();
+        List<ObjectiveRef> refs = questManager.getObjectiveIndex().get(playerId, ObjectiveType.VISIT_LOCATION);
+        if (refs.isEmpty()) return;
+        
+        List<VisitTarget> candidates = questManager.getVisitTargetIndex().getCandidates(location);
+        if (candidates.isEmpty()) return;
         
         boolean anyProgressMade = false;
         
-        for (QuestProcessingData data : prepareQuestData(playerId, activeQuests)) {
-            boolean progressMade = false;
+        for (VisitTarget target : candidates) {
+            if (!target.contains(location)) continue;
             
-            for (String objectiveId : data.objectivesToCheck()) {
-                QuestObjective objective = getObjective(data.quest(), objectiveId);
-                if (objective instanceof VisitLocationObjective visitLocation) {
-                    if (visitLocation.checkLocation(player, location)) {
-                        ObjectiveProgress objProgress = data.progress().getObjective(objectiveId);
-                        if (objProgress != null && !objective.isComplete(objProgress)) {
-                            // 진행도 증가를 updateObjectiveProgress 내부에서 처리
-                            if (updateObjectiveProgress(player, data.instanceId(), objectiveId, 
-                                    1, data.quest(), data.progress())) {
-                                progressMade = true;
-                            }
-                        }
-                    }
+            for (ObjectiveRef ref : refs) {
+                if (ref.objective() == target.objective() && applyProgress(playerId, player, ref, 1)) {
+                    anyProgressMade = true;
                 }
             }
-            
-            if (progressMade) {
-                saveProgress(playerId, data.instanceId(), data.progress());
-                anyProgressMade = true;
-            }
         }
         
         if (anyProgressMade) {
-            QuestManager.getInstance().markForSave(playerId);
+            questManager.markProgressForSave(playerId);
         }
     }
     
@@ -200,184 +164,100 @@ public final class QuestProgressService {
     
     /**
      * 이벤트 처리 공통 메소드
+     * 목표 타입 인덱스에서 관련 목표만 조회하며, 해당 목표가 없으면 할당 없이 즉시 반환
+     * 증가량은 틱 버퍼에 누적되어 틱이 끝날 때 목표당 한 번 반영됨
      */
     private void processEvent(@NotNull Player player, @NotNull Event event, 
-                              @NotNull ObjectiveProcessor processor) {
+                              @NotNull ObjectiveType... types) {
         UUID playerId = player.getUniqueId();
-        Map<String, ActiveQuestDTO> activeQuests = QuestManager.getInstance().getActiveQuests(playerId);
-        if (activeQuests.isEmpty()) return;
+        PlayerObjectiveIndex index = QuestManager.getInstance().getObjectiveIndex();
+        
+        for (ObjectiveType type : types) {
+            List<ObjectiveRef> refs = index.get(playerId, type);
+            if (refs.isEmpty()) continue;
+            
+            for (ObjectiveRef ref : refs) {
+                QuestObjective objective = ref.objective();
+                if (!objective.canProgress(event, player)) continue;
+                
+                progressBuffer.add(playerId, ref, objective.calculateIncrement(event, player));
+            }
+        }
+    }
+    
+    /**
+     * 누적된 증가량 반영 (틱 버퍼에서 호출)
+     * 목표당 한 번의 진행 반영과 완료 체크, 플레이어당 한 번의 저장 예약
+     */
+    private void applyBufferedProgress(@NotNull UUID playerId, @NotNull Map<ObjectiveRef, Integer> increments) {
+        // 퇴장 / 종료 중이라 플레이어가 없어도 진행도는 반영 (알림 생략, 퀘스트 완료는 다음 접속 시 처리)
+        Player player = Bukkit.getPlayer(playerId);
         
         boolean anyProgressMade = false;
         
-        for (QuestProcessingData data : prepareQuestData(playerId, activeQuests)) {
-            boolean progressMade = processQuestObjectives(
-                data, event, player, processor
-            );
-            
-            if (progressMade) {
-                saveProgress(playerId, data.instanceId(), data.progress());
+        for (Map.Entry<ObjectiveRef, Integer> entry : increments.entrySet()) {
+            if (applyProgress(playerId, player, entry.getKey(), entry.getValue())) {
                 anyProgressMade = true;
             }
         }
         
         if (anyProgressMade) {
-            QuestManager.getInstance().markForSave(playerId);
+            QuestManager.getInstance().markProgressForSave(playerId);
         }
     }
     
     /**
-     * 퀘스트 데이터 준비
+     * 대기 중인 누적 증가량 즉시 반영 (종료 / 저장 직전 호출)
      */
-    private List<QuestProcessingData> prepareQuestData(@NotNull UUID playerId, 
-                                                       @NotNull Map<String, ActiveQuestDTO> activeQuests) {
-        List<QuestProcessingData> result = new ArrayList<>();
-        
-        for (Map.Entry<String, ActiveQuestDTO> entry : activeQuests.entrySet()) {
-            String instanceId = entry.getKey();
-            ActiveQuestDTO activeData = entry.getValue();
-            
-            Quest quest = getQuest(activeData.questId());
-            if (quest == null) continue;
-            
-            // ActiveQuestDTO에서 QuestProgress 생성
-            Map<String, ObjectiveProgress> progressMap = new HashMap<>();
-            activeData.progress().forEach((key, value) -> 
-                progressMap.put(key, ObjectiveProgress.from(value, playerId)));
-            QuestProgress progress = new QuestProgress(
-                QuestID.valueOf(activeData.questId()), playerId, progressMap
-            );
-            
-            List<String> objectivesToCheck = getObjectivesToProgress(quest, progress);
-            
-            result.add(new QuestProcessingData(instanceId, quest, progress, objectivesToCheck));
-        }
-        
-        return result;
+    public void flushPendingProgress() {
+        progressBuffer.flush();
     }
     
     /**
-     * 퀘스트 목표 처리
+     * 특정 플레이어의 대기 중인 누적 증가량 즉시 반영 (퇴장 시 데이터 언로드 전 호출)
      */
-    private boolean processQuestObjectives(@NotNull QuestProcessingData data,
-                                          @NotNull Event event,
-                                          @NotNull Player player,
-                                          @NotNull ObjectiveProcessor processor) {
-        boolean progressMade = false;
-        
-        for (String objectiveId : data.objectivesToCheck()) {
-            QuestObjective objective = getObjective(data.quest(), objectiveId);
-            if (objective == null) continue;
-            
-            if (processor.process(objective, event, player)) {
-                int increment = objective.calculateIncrement(event, player);
-                if (updateObjectiveProgress(player, data.instanceId(), objectiveId, 
-                        increment, data.quest(), data.progress())) {
-                    progressMade = true;
-                }
-            }
-        }
-        
-        return progressMade;
+    public void flushPendingProgress(@NotNull UUID playerId) {
+        progressBuffer.flush(playerId);
     }
     
     // ==================== 헬퍼 메서드 ====================
     
     /**
      * 목표 진행도 업데이트
+     * 활성 퀘스트의 진행 상태를 제자리에서 갱신하고, 목표 완료 시에만 알림용 스냅샷 생성
+     *
+     * @param player 접속 중인 플레이어 (null이면 진행도만 반영 - 퀘스트 완료는 다음 접속 시 데이터 로드에서 처리)
      */
-    private boolean updateObjectiveProgress(@NotNull Player player, @NotNull String instanceId, 
-                                           @NotNull String objectiveId, int increment,
-                                           @NotNull Quest quest, @NotNull QuestProgress progress) {
-        ObjectiveProgress objProgress = progress.getObjective(objectiveId);
-        if (objProgress == null) return false;
+    private boolean applyProgress(@NotNull UUID playerId, @Nullable Player player, @NotNull ObjectiveRef ref, int increment) {
+        if (increment <= 0) return false;
         
-        QuestObjective objective = getObjective(quest, objectiveId);
-        if (objective == null) return false;
+        QuestManager questManager = QuestManager.getInstance();
+        
+        ActiveQuestState state = questManager.getActiveQuestState(playerId, ref.instanceId());
+        if (state == null) return false;
         
         // 이미 완료된 목표는 스킵
-        if (objective.isComplete(objProgress)) return false;
+        int ordinal = ref.ordinal();
+        if (state.isCompleted(ordinal)) return false;
         
-        // 진행도 증가
-        if (increment > 0) {
-            objProgress.increment(increment);
-        }
+        // 진행도 증가 - 완료되지 않았다면 할당 없이 종료
+        boolean completed = state.increment(ordinal, increment);
+        questManager.journalProgress(playerId, state, ordinal);
+        if (!completed) return true;
         
-        // 목표 완료 체크
-        if (objective.isComplete(objProgress)) {
-            // 진행 알림
-            QuestUtil.notifyObjectiveComplete(player, quest, progress, objective, plugin);
-            
-            // 순차 진행인 경우 다음 목표로
-            if (quest.isSequential()) {
-                progress.setCurrentObjectiveIndex(progress.getCurrentObjectiveIndex() + 1);
-            }
-            
-            // 퀘스트 완료 체크
-            if (progress.areAllObjectivesComplete()) {
-                QuestManager.getInstance().completeQuest(player, instanceId);
-            }
-        }
+        // 완료된 목표를 인덱스에서 제외 (순차 진행은 다음 단계 등록)
+        questManager.onObjectiveCompleted(playerId, ref.instanceId());
+        if (player == null) return true;
         
-        return true;
-    }
-    
-    /**
-     * 처리할 목표 목록 결정 (순차/자유 진행)
-     */
-    private List<String> getObjectivesToProgress(@NotNull Quest quest, @NotNull QuestProgress progress) {
-        if (quest.isSequential()) {
-            // 순차 진행 - 현재 목표만
-            int currentIndex = progress.getCurrentObjectiveIndex();
-            if (currentIndex < quest.getObjectives().size()) {
-                return List.of(quest.getObjectives().get(currentIndex).getId());
-            }
-            return List.of();
-        } else {
-            // 자유 진행 - 모든 미완료 목표
-            return quest.getObjectives().stream()
-                .map(QuestObjective::getId)
-                .filter(id -> !progress.isObjectiveComplete(id))
-                .collect(Collectors.toList());
-        }
-    }
-    
-    /**
-     * 퀘스트 가져오기
-     */
-    @Nullable
-    private Quest getQuest(@NotNull String questId) {
-        try {
-            QuestID id = QuestID.valueOf(questId);
-            return QuestManager.getInstance().getQuest(id);
-        } catch (IllegalArgumentException e) {
-            return null;
+        // 진행 알림
+        QuestUtil.notifyObjectiveComplete(player, ref.quest(), state.toQuestProgress(playerId), ref.objective(), plugin);
+        
+        // 퀘스트 완료 체크
+        if (state.areAllCompleted()) {
+            questManager.completeQuest(player, ref.instanceId());
         }
-    }
-    
-    /**
-     * 목표 가져오기
-     */
-    @Nullable
-    private QuestObjective getObjective(@NotNull Quest quest, @NotNull String objectiveId) {
-        return quest.getObjectives().stream()
-            .filter(obj -> obj.getId().equals(objectiveId))
-            .findFirst()
-            .orElse(null);
-    }
-    
-    /**
-     * 진행도 저장
-     */
-    private void saveProgress(@NotNull UUID playerId, @NotNull String instanceId, @NotNull QuestProgress progress) {
-        // ActiveQuestDTO로 변환하여 저장
-        ActiveQuestDTO updatedData = ActiveQuestDTO.create(
-            progress.getQuestId().name(),
-            instanceId,
-            progress.getObjectives()
-        );
         
-        // QuestManager를 통해 업데이트
-        QuestManager.getInstance().updateActiveQuest(playerId, instanceId, updatedData);
+        return true;
     }
     
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+package com.febrie.rpg.quest.service;
+
+import com.febrie.rpg.RPGMain;
+import com.febrie.rpg.quest.manager.QuestManager;
+import com.febrie.rpg.util.UnifiedTimeUtil;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 일일 / 주간 퀘스트 초기화 스케줄러
+ * 서버 시간대(UnifiedTimeUtil) 기준 초기화 경계를 감지하면 접속 중인 플레이어를 틱마다 일정 수씩 나누어 초기화
+ * - 접속하지 않은 플레이어는 퀘스트 문서의 초기화 세대를 비교하여 로드 시 초기화 (전체 플레이어 일괄 처리 없음)
+ * - 메인 스레드 전용
+ *
+ * @author Febrie
+ */
+public final class QuestRotationService {
+
+    /**
+     * 초기화 경계 확인 간격 (틱)
+     */
+    private static final long CHECK_INTERVAL_TICKS = 20L;
+
+    /**
+     * 한 틱에 초기화할 플레이어 수
+     */
+    private static final int RESET_BATCH_SIZE = 20;
+
+    private final RPGMain plugin;
+    private final QuestManager questManager;
+
+    private long dailyEpoch;
+    private long weeklyEpoch;
+    private BukkitTask checkTask;
+    private BukkitTask resetTask;
+
+    public QuestRotationService(@NotNull RPGMain plugin, @NotNull QuestManager questManager) {
+        this.plugin = plugin;
+        this.questManager = questManager;
+        long now = System.currentTimeMillis();
+        this.dailyEpoch = UnifiedTimeUtil.dailyEpoch(now);
+        this.weeklyEpoch = UnifiedTimeUtil.weeklyEpoch(now);
+    }
+
+    /**
+     * 초기화 경계 감지 시작
+     */
+    public void start() {
+        if (checkTask != null) return;
+        checkTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkBoundary, CHECK_INTERVAL_TICKS, CHECK_INTERVAL_TICKS);
+    }
+
+    /**
+     * 스케줄러 중지
+     */
+    public void stop() {
+        if (checkTask != null) {
+            checkTask.cancel();
+            checkTask = null;
+        }
+        if (resetTask != null) {
+            resetTask.cancel();
+            resetTask = null;
+        }
+    }
+
+    /**
+     * 초기화 경계를 넘었는지 확인하고, 넘었으면 접속 중인 플레이어 초기화 예약
+     */
+    private void checkBoundary() {
+        long now = System.currentTimeMillis();
+        long currentDaily = UnifiedTimeUtil.dailyEpoch(now);
+        long currentWeekly = UnifiedTimeUtil.weeklyEpoch(now);
+        if (currentDaily == dailyEpoch && currentWeekly == weeklyEpoch) return;
+
+        dailyEpoch = currentDaily;
+        weeklyEpoch = currentWeekly;
+
+        List<UUID> targets = new ArrayList<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            targets.add(player.getUniqueId());
+        }
+        plugin.getLogger().info("일일/주간 퀘스트 초기화 시작 (세대 " + currentDaily + "/" + currentWeekly
+                + ", 접속 중 " + targets.size() + "명)");
+
+        // 이전 초기화가 끝나지 않았어도 새 세대 기준으로 처음부터 다시 진행 (세대 비교로 중복 초기화 없음)
+        if (resetTask != null) {
+            resetTask.cancel();
+        }
+        resetTask = Bukkit.getScheduler().runTaskTimer(plugin, new ResetBatch(targets, currentDaily, currentWeekly), 1L, 1L);
+    }
+
+    /**
+     * 틱마다 RESET_BATCH_SIZE명씩 초기화하는 작업
+     */
+    private final class ResetBatch implements Runnable {
+
+        private final List<UUID> targets;
+        private final long daily;
+        private final long weekly;
+        private int cursor;
+
+        private ResetBatch(@NotNull List<UUID> targets, long daily, long weekly) {
+            this.targets = targets;
+            this.daily = daily;
+            this.weekly = weekly;
+        }
+
+        @Override
+        public void run() {
+            int end = Math.min(cursor + RESET_BATCH_SIZE, targets.size());
+            for (; cursor < end; cursor++) {
+                questManager.applyPeriodReset(targets.get(cursor), daily, weekly);
+            }
+
+            if (cursor >= targets.size()) {
+                resetTask.cancel();
+                resetTask = null;
+                plugin.getLogger().info("일일/주간 퀘스트 초기화 완료 (" + targets.size() + "명)");
+            }
+        }
+    }
+}
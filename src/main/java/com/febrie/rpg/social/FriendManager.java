@@ -4,13 +4,13 @@ import com.febrie.rpg.util.lang.GeneralLangKey;
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.cache.UnifiedCacheManager;
 import com.febrie.rpg.database.service.impl.FriendshipFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
 import com.febrie.rpg.dto.social.FriendRequestDTO;
 import com.febrie.rpg.dto.social.FriendshipDTO;
 import com.febrie.rpg.util.LangManager;
 import com.febrie.rpg.util.LogUtil;
 import com.febrie.rpg.util.lang.MessageLangKey;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.firestore.Firestore;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
@@ -46,8 +46,8 @@ public class FriendManager {
 
     public FriendManager(@NotNull RPGMain plugin) {
         this.plugin = plugin;
-        Firestore firestore = plugin.getFirestoreManager().getFirestore();
-        this.friendshipService = new FriendshipFirestoreService(plugin, firestore);
+        DocumentStorage storage = plugin.getFirestoreManager().getStorage();
+        this.friendshipService = new FriendshipFirestoreService(plugin, storage);
         this.cacheManager = UnifiedCacheManager.getInstance();
         
         // Caffeine 캐시 초기화
@@ -171,6 +171,20 @@ public class FriendManager {
         return CompletableFuture.completedFuture(cached != null ? new HashSet<>(cached) : new HashSet<>());
     }
 
+    /**
+     * 친구 목록 미리 불러오기 (접속 전 캐시 적재, 이미 캐시에 있으면 무시)
+     */
+    public void prefetch(@NotNull UUID playerId) {
+        if (friendsCache.getIfPresent(playerId) != null) return;
+
+        friendshipService.getFriendships(playerId)
+            .thenAccept(friendships -> friendsCache.put(playerId, new HashSet<>(friendships)))
+            .exceptionally(ex -> {
+                LogUtil.warning("친구 목록 미리 불러오기 실패 [" + playerId + "]: " + ex.getMessage());
+                return null;
+            });
+    }
+
     /**
      * 두 플레이어가 친구인지 확인
      */
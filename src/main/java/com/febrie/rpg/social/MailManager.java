@@ -3,12 +3,12 @@ package com.febrie.rpg.social;
 import com.febrie.rpg.RPGMain;
 import com.febrie.rpg.cache.UnifiedCacheManager;
 import com.febrie.rpg.database.service.impl.MailFirestoreService;
+import com.febrie.rpg.database.storage.DocumentStorage;
 import com.febrie.rpg.dto.social.MailDTO;
 import com.febrie.rpg.util.LangManager;
 import com.febrie.rpg.util.LogUtil;
 import com.febrie.rpg.util.lang.MessageLangKey;
 import com.github.benmanes.caffeine.cache.Cache;
-import com.google.cloud.firestore.Firestore;
 import com.google.gson.Gson;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -52,8 +52,8 @@ public class MailManager {
 
     public MailManager(@NotNull RPGMain plugin) {
         this.plugin = plugin;
-        Firestore firestore = plugin.getFirestoreManager().getFirestore();
-        this.mailService = new MailFirestoreService(plugin, firestore);
+        DocumentStorage storage = plugin.getFirestoreManager().getStorage();
+        this.mailService = new MailFirestoreService(plugin, storage);
         this.cacheManager = UnifiedCacheManager.getInstance();
         
         // Caffeine 캐시 초기화
@@ -174,6 +174,20 @@ public class MailManager {
         return CompletableFuture.completedFuture(filtered);
     }
 
+    /**
+     * 우편 목록 미리 불러오기 (접속 전 캐시 적재, 이미 캐시에 있으면 무시)
+     */
+    public void prefetch(@NotNull UUID playerId) {
+        if (mailCache.getIfPresent(playerId) != null) return;
+
+        mailService.getReceivedMails(playerId)
+            .thenAccept(mails -> mailCache.put(playerId, mails))
+            .exceptionally(ex -> {
+                LogUtil.warning("우편 목록 미리 불러오기 실패 [" + playerId + "]: " + ex.getMessage());
+                return null;
+            });
+    }
+
     /**
      * 우편 읽기 (읽음 상태로 변경)
      */
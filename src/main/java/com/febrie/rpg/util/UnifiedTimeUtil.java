@@ -248,4 +248,33 @@ public class UnifiedTimeUtil {
     public static Instant startOfMonth() {
         return LocalDate.now(DEFAULT_ZONE).withDayOfMonth(1).atStartOfDay(DEFAULT_ZONE).toInstant();
     }
-}
\ No newline at end of file
+
+    /**
+     * 일일 초기화 세대 (서버 시간대 기준 1970-01-01부터의 일 수)
+     */
+    public static long dailyEpoch(long millis) {
+        return Instant.ofEpochMilli(millis).atZone(DEFAULT_ZONE).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * 주간 초기화 세대 (서버 시간대 기준 월요일 시작 주 번호)
+     */
+    public static long weeklyEpoch(long millis) {
+        // 1970-01-01은 목요일이므로 3일을 더해 월요일 경계에 맞춤
+        return Math.floorDiv(dailyEpoch(millis) + 3, 7);
+    }
+
+    /**
+     * 일일 초기화 세대의 시작 시간 (밀리초)
+     */
+    public static long startOfDailyEpoch(long epoch) {
+        return LocalDate.ofEpochDay(epoch).atStartOfDay(DEFAULT_ZONE).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 주간 초기화 세대의 시작 시간 (밀리초, 월요일 0시)
+     */
+    public static long startOfWeeklyEpoch(long epoch) {
+        return startOfDailyEpoch(epoch * 7 - 3);
+    }
+}